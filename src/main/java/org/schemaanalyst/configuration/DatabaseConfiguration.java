@@ -86,6 +86,10 @@ public class DatabaseConfiguration extends Configuration {
      * The Derby port.
      */
     private String derby_port;
+    /**
+     * The number of idle database interactors kept for reuse by each pool.
+     */
+    private int pool_size = 4;
 
     /**
      * Construct using the default Properties file location.
@@ -273,4 +277,13 @@ public class DatabaseConfiguration extends Configuration {
     public String getDerbyPort() {
         return derby_port;
     }
+
+    /**
+     * The number of idle database interactors kept for reuse by each pool.
+     *
+     * @return the pool_size
+     */
+    public int getPoolSize() {
+        return pool_size;
+    }
 }
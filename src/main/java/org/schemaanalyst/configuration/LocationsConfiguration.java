@@ -46,6 +46,15 @@ public class LocationsConfiguration extends Configuration {
      * The results folder, for storing experiment results.
      */
     private String results_dir;
+    /**
+     * The test suite cache folder, for storing generated test suites for reuse.
+     */
+    private String testsuite_cache_dir = "testsuitecache";
+    /**
+     * The journal folder, for storing mutant verdicts so that interrupted
+     * mutation analysis runs can be resumed.
+     */
+    private String journal_dir = "journal";
     /**
      * The folder where the original SQL for each schema is located.
      */
@@ -163,6 +172,25 @@ public class LocationsConfiguration extends Configuration {
         return results_dir;
     }
 
+    /**
+     * The test suite cache folder, for storing generated test suites for reuse.
+     *
+     * @return the testsuite_cache_dir
+     */
+    public String getTestSuiteCacheDir() {
+        return testsuite_cache_dir;
+    }
+
+    /**
+     * The journal folder, for storing mutant verdicts so that interrupted
+     * mutation analysis runs can be resumed.
+     *
+     * @return the journal_dir
+     */
+    public String getJournalDir() {
+        return journal_dir;
+    }
+
     /**
      * The folder where the original SQL for each schema is located.
      *
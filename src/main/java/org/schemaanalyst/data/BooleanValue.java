@@ -32,6 +32,15 @@ public class BooleanValue extends Value {
         return duplicate;
     }
 
+    @Override
+    public boolean copyValueInPlace(Value source) {
+        if (getClass() != source.getClass()) {
+            return false;
+        }
+        value = ((BooleanValue) source).value;
+        return true;
+    }
+
     @Override
     public int compareTo(Value other) {
         throw new DataException("Cannot compare BooleanValues");
@@ -54,6 +54,29 @@ public class Cell implements Serializable {
         return value;
     }
 
+    /**
+     * Copies the value of another cell into this cell, reusing this cell's
+     * value object rather than duplicating the other cell's value where
+     * possible.
+     * @param source The cell whose value is to be copied.
+     */
+    public void copyValueInPlace(Cell source) {
+        if (source.value == null) {
+            if (value != null) {
+                setNull(true);
+            }
+            return;
+        }
+
+        // reuse the value this cell had before it was set to NULL, if any
+        Value target = (value == null) ? lastValue : value;
+        if (target != null && target.copyValueInPlace(source.value)) {
+            value = target;
+        } else {
+            value = source.value.duplicate();
+        }
+    }
+
     public Cell duplicate() {
         Cell duplicate = new Cell(column, valueFactory);
         if (isNull()) {
@@ -16,11 +16,16 @@ public class Data implements Serializable {
 
     private static final long serialVersionUID = 2897215621399301020L;
 
-    public static class Duplicator implements org.schemaanalyst.util.Duplicator<Data> {
+    public static class Duplicator implements org.schemaanalyst.util.InPlaceDuplicator<Data> {
         @Override
         public Data duplicate(Data data) {
             return data.duplicate();
         }
+
+        @Override
+        public boolean copyInPlace(Data source, Data target) {
+            return target.copyValuesInPlace(source);
+        }
     }
     
     protected Map<Table, List<Row>> data;
@@ -285,6 +290,50 @@ public class Data implements Serializable {
         }
     }
 
+    /**
+     * Copies the values from another data object with the same tables, rows
+     * and columns into this, reusing the value objects of this data object
+     * rather than duplicating those of the other, where possible.
+     * @param source The data object whose values are to be copied.
+     * @return True if the values were copied, false if the data objects do
+     * not have the same tables, rows and columns, in which case this data
+     * object is unchanged.
+     */
+    public boolean copyValuesInPlace(Data source) {
+        if (!hasSameRows(source)) {
+            return false;
+        }
+
+        for (Map.Entry<Table, List<Row>> entry : data.entrySet()) {
+            List<Row> targetRows = entry.getValue();
+            List<Row> sourceRows = source.data.get(entry.getKey());
+            for (int i = 0; i < targetRows.size(); i++) {
+                targetRows.get(i).copyValuesInPlace(sourceRows.get(i));
+            }
+        }
+        return true;
+    }
+
+    private boolean hasSameRows(Data other) {
+        if (data.size() != other.data.size()) {
+            return false;
+        }
+
+        for (Map.Entry<Table, List<Row>> entry : data.entrySet()) {
+            List<Row> rows = entry.getValue();
+            List<Row> otherRows = other.data.get(entry.getKey());
+            if (otherRows == null || rows.size() != otherRows.size()) {
+                return false;
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                if (!rows.get(i).hasSameColumns(otherRows.get(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Duplicates this data instance.
      */
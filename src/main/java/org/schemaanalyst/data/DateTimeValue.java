@@ -70,6 +70,18 @@ public class DateTimeValue extends DateValue {
         return duplicate;
     }
 
+    @Override
+    public boolean copyValueInPlace(Value source) {
+        if (!super.copyValueInPlace(source)) {
+            return false;
+        }
+        DateTimeValue dateTimeSource = (DateTimeValue) source;
+        hour.copyValueInPlace(dateTimeSource.hour);
+        minute.copyValueInPlace(dateTimeSource.minute);
+        second.copyValueInPlace(dateTimeSource.second);
+        return true;
+    }
+
     @Override
     public int compareTo(Value v) {
         if (getClass() != v.getClass()) {
@@ -69,6 +69,18 @@ public class DateValue extends Value
         return duplicate;
     }
 
+    @Override
+    public boolean copyValueInPlace(Value source) {
+        if (getClass() != source.getClass()) {
+            return false;
+        }
+        DateValue dateSource = (DateValue) source;
+        year.copyValueInPlace(dateSource.year);
+        month.copyValueInPlace(dateSource.month);
+        day.copyValueInPlace(dateSource.day);
+        return true;
+    }
+
     @Override
     public int compareTo(Value v) {
         if (getClass() != v.getClass()) {
@@ -0,0 +1,125 @@
+package org.schemaanalyst.data;
+
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A data instance that keeps hash indexes of the rows of its tables by the
+ * values of tuples of their columns, for looking up the rows that match some
+ * other row without comparing it with every row of the table.
+ *
+ * An index is made the first time it is asked for, and is then kept up to
+ * date as rows are added. The values of the rows must not be changed once
+ * they have been added, as the indexes would not be updated.
+ */
+public class IndexedData extends Data {
+
+    private static final long serialVersionUID = -6052830930342478119L;
+
+    private transient Map<Table, Map<List<Column>, ColumnsIndex>> indexes;
+
+    /**
+     * Constructor.
+     */
+    public IndexedData() {
+        super();
+    }
+
+    /**
+     * Constructor that adds the rows of another data instance.
+     * @param data The data whose rows are to be added.
+     */
+    public IndexedData(Data data) {
+        super();
+        appendData(data);
+    }
+
+    @Override
+    public Row addRow(Table table, Row row) {
+        super.addRow(table, row);
+        Map<List<Column>, ColumnsIndex> tableIndexes = getIndexes().get(table);
+        if (tableIndexes != null) {
+            for (ColumnsIndex columnsIndex : tableIndexes.values()) {
+                columnsIndex.add(row);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Returns the rows of a table whose values for a list of columns equal
+     * the values of another row, in the sense of {@link RowIndex}.
+     * @param table The table whose rows are to be looked up.
+     * @param columns The columns of the table to match.
+     * @param row The row whose values are to be looked up.
+     * @param rowColumns The columns of the row, in the order corresponding to
+     * the columns of the table.
+     * @return The matching rows, which are empty if the row has a NULL value
+     * for one of its columns.
+     */
+    public List<Row> getMatchingRows(Table table, List<Column> columns, Row row, List<Column> rowColumns) {
+        return getColumnsIndex(table, columns).index.get(row, rowColumns);
+    }
+
+    /**
+     * Returns the rows of a table that cannot be looked up by the values of a
+     * list of columns, because they have a NULL value for one of them.
+     * @param table The table.
+     * @param columns The columns of the table.
+     * @return The rows that are not indexed.
+     */
+    public List<Row> getUnindexedRows(Table table, List<Column> columns) {
+        return Collections.unmodifiableList(getColumnsIndex(table, columns).unindexedRows);
+    }
+
+    private ColumnsIndex getColumnsIndex(Table table, List<Column> columns) {
+        Map<List<Column>, ColumnsIndex> tableIndexes = getIndexes().get(table);
+        if (tableIndexes == null) {
+            tableIndexes = new HashMap<>();
+            indexes.put(table, tableIndexes);
+        }
+
+        ColumnsIndex columnsIndex = tableIndexes.get(columns);
+        if (columnsIndex == null) {
+            columnsIndex = new ColumnsIndex(columns);
+            List<Row> rows = data.get(table);
+            if (rows != null) {
+                for (Row row : rows) {
+                    columnsIndex.add(row);
+                }
+            }
+            tableIndexes.put(new ArrayList<>(columns), columnsIndex);
+        }
+        return columnsIndex;
+    }
+
+    private Map<Table, Map<List<Column>, ColumnsIndex>> getIndexes() {
+        if (indexes == null) {
+            indexes = new HashMap<>();
+        }
+        return indexes;
+    }
+
+    private static class ColumnsIndex {
+
+        RowIndex index;
+        List<Row> unindexedRows;
+
+        ColumnsIndex(List<Column> columns) {
+            index = new RowIndex(new ArrayList<>(columns));
+            unindexedRows = new ArrayList<>();
+        }
+
+        void add(Row row) {
+            if (!index.add(row)) {
+                unindexedRows.add(row);
+            }
+        }
+    }
+}
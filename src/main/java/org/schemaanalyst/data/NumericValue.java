@@ -83,6 +83,18 @@ public class NumericValue extends Value {
         return duplicate;
     }
 
+    @Override
+    public boolean copyValueInPlace(Value source) {
+        if (getClass() != source.getClass()) {
+            return false;
+        }
+        NumericValue numericSource = (NumericValue) source;
+        value = numericSource.value;
+        min = numericSource.min;
+        max = numericSource.max;
+        return true;
+    }
+
     @Override
     public int compareTo(Value v) {
         if (getClass() != v.getClass()) {
@@ -77,6 +77,14 @@ public class Row implements Serializable {
         return cells;
     }
 
+    public List<Value> getValues() {
+        List<Value> values = new ArrayList<>();
+        for (Cell cell : cells) {
+            values.add(cell.getValue());
+        }
+        return values;
+    }
+
     public Cell getCell(Column column) {
         for (Cell cell : cells) {
             if (column.equals(cell.getColumn())) {
@@ -113,6 +121,35 @@ public class Row implements Serializable {
         }
     }
 
+    /**
+     * Copies the values from another row with the same columns, in the same
+     * order, into this row, reusing this row's value objects where possible.
+     * @param source The row whose values are to be copied.
+     */
+    public void copyValuesInPlace(Row source) {
+        for (int i = 0; i < cells.size(); i++) {
+            cells.get(i).copyValueInPlace(source.cells.get(i));
+        }
+    }
+
+    /**
+     * Checks whether another row has the same columns as this row, in the
+     * same order.
+     * @param other The other row.
+     * @return True if the rows have the same columns.
+     */
+    public boolean hasSameColumns(Row other) {
+        if (cells.size() != other.cells.size()) {
+            return false;
+        }
+        for (int i = 0; i < cells.size(); i++) {
+            if (!cells.get(i).getColumn().equals(other.cells.get(i).getColumn())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Row duplicate() {
         List<Cell> duplicateCells = new ArrayList<>();
         for (Cell cell : this.cells) {
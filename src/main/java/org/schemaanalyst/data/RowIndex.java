@@ -0,0 +1,175 @@
+package org.schemaanalyst.data;
+
+import org.schemaanalyst.sqlrepresentation.Column;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hash index of rows by the values of a tuple of their columns, used to
+ * look up the rows whose values for those columns are exactly equal to
+ * the values of some other row.
+ *
+ * Two values are considered equal if they would be equal under the
+ * EQUALS operator of the value comparisons used for data generation, i.e.
+ * numeric values are compared using {@link java.math.BigDecimal#equals},
+ * and compound values are compared element-wise. Rows with a NULL value in
+ * any of the indexed columns, or without one of the indexed columns, are
+ * not indexed.
+ */
+public class RowIndex {
+
+    private List<Column> columns;
+    private Map<List<Object>, List<Row>> index;
+
+    /**
+     * Constructor.
+     * @param columns The columns whose values rows are indexed by.
+     */
+    public RowIndex(List<Column> columns) {
+        this.columns = columns;
+        this.index = new HashMap<>();
+    }
+
+    /**
+     * Adds a row to the index.
+     * @param row The row to add.
+     * @return True if the row was added, false if it had a NULL value for, or
+     * did not have, one of the indexed columns.
+     */
+    public boolean add(Row row) {
+        for (Column column : columns) {
+            if (!row.hasColumn(column)) {
+                return false;
+            }
+        }
+
+        List<Object> key = createKey(row, columns);
+        if (key == null) {
+            return false;
+        }
+
+        List<Row> rows = index.get(key);
+        if (rows == null) {
+            rows = new ArrayList<>(1);
+            index.put(key, rows);
+        }
+        rows.add(row);
+        return true;
+    }
+
+    /**
+     * Adds a list of rows to the index.
+     * @param rows The rows to add.
+     */
+    public void addAll(List<Row> rows) {
+        for (Row row : rows) {
+            add(row);
+        }
+    }
+
+    /**
+     * Returns the indexed rows whose values for the indexed columns equal the
+     * values of another row for a (corresponding) list of its columns.
+     * @param row The row whose values are to be looked up.
+     * @param rowColumns The columns of the row, in the order corresponding to
+     * the indexed columns.
+     * @return The list of matching rows, which is empty if there are none or
+     * if the row has a NULL value for one of the columns.
+     */
+    public List<Row> get(Row row, List<Column> rowColumns) {
+        List<Object> key = createKey(row, rowColumns);
+        if (key != null) {
+            List<Row> rows = index.get(key);
+            if (rows != null) {
+                return rows;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Checks whether a row can be looked up in an index, i.e. whether it has
+     * a non-NULL value of an indexable type for each of a list of its columns.
+     * @param row The row.
+     * @param rowColumns The columns of the row that would be looked up.
+     * @return True if the row can be looked up.
+     */
+    public static boolean canLookUp(Row row, List<Column> rowColumns) {
+        return createKey(row, rowColumns) != null;
+    }
+
+    /**
+     * Checks whether the values of two lists of columns are of types that can
+     * be indexed and compared against one another using a RowIndex -- i.e.,
+     * whether each pair of corresponding columns has the same data type.
+     * @param columns The first list of columns.
+     * @param otherColumns The second list of columns.
+     * @return True if corresponding columns have the same data type.
+     */
+    public static boolean areIndexable(List<Column> columns, List<Column> otherColumns) {
+        if (columns.size() != otherColumns.size()) {
+            return false;
+        }
+
+        Iterator<Column> otherColumnsIterator = otherColumns.iterator();
+        for (Column column : columns) {
+            Column otherColumn = otherColumnsIterator.next();
+            if (column.getDataType() == null || otherColumn.getDataType() == null
+                    || !column.getDataType().getClass().equals(otherColumn.getDataType().getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Object> createKey(Row row, List<Column> columns) {
+        List<Object> key = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            Object valueKey = createKey(row.getCell(column).getValue());
+            if (valueKey == null) {
+                return null;
+            }
+            key.add(valueKey);
+        }
+        return key;
+    }
+
+    /**
+     * Creates a key for a value, which is equal to the key of another value
+     * if and only if the values are equal in the sense described above.
+     * @param value The value.
+     * @return The key, or null if the value cannot be keyed (i.e., is NULL or
+     * of an unknown type).
+     */
+    public static Object createKey(Value value) {
+        if (value instanceof NumericValue) {
+            return ((NumericValue) value).get();
+        }
+
+        if (value instanceof BooleanValue) {
+            return ((BooleanValue) value).get();
+        }
+
+        if (value instanceof CompoundValue) {
+            List<Value> elements = ((CompoundValue) value).getElements();
+            List<Object> key = new ArrayList<>(elements.size() + 1);
+            // distinguish e.g. dates from strings with the same elements
+            key.add(value.getClass());
+            for (Value element : elements) {
+                Object elementKey = createKey(element);
+                if (elementKey == null) {
+                    return null;
+                }
+                key.add(elementKey);
+            }
+            return key;
+        }
+
+        return null;
+    }
+}
@@ -1,21 +1,39 @@
 package org.schemaanalyst.data;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * A string value. The characters of the string are packed into an array of
+ * code points. They can also be accessed and modified as NumericValues
+ * (e.g., through {@link #getCharacter(int)} or {@link #getElements()}), which
+ * are views of the string's characters rather than separate objects.
+ */
 public class StringValue extends Value implements CompoundValue {
 
-    private static final long serialVersionUID = -2565741196272855452L;
+    private static final long serialVersionUID = -3394071372545519734L;
     public static final int UPPER_A_CHAR = 65;
     public static final int LOWER_A_CHAR = 97;
     public static final int LOWER_Z_CHAR = 122;
     public static final int NO_MAX_LENGTH = -1;
 
+    protected static final int INITIAL_CAPACITY = 8;
+
     protected int maxLength = NO_MAX_LENGTH;
     protected int characterDefault = LOWER_A_CHAR;
     protected int characterMin = UPPER_A_CHAR;
     protected int characterMax = LOWER_Z_CHAR;
-    protected List<NumericValue> characters = new ArrayList<>();
+
+    // the first length elements of the array are the string's characters
+    protected int[] characters = new int[INITIAL_CAPACITY];
+    protected int length = 0;
+
+    // the NumericValue views of the characters, created when first needed,
+    // and the string, cached until the characters next change
+    protected transient List<CharacterValue> characterValues;
+    protected transient String string;
 
     public StringValue() {
     }
@@ -34,28 +52,44 @@ public class StringValue extends Value implements CompoundValue {
     }
 
     public String get() {
-        StringBuilder sb = new StringBuilder();
-        for (Value value : characters) {
-            NumericValue singularValue = (NumericValue) value;
-            int character = singularValue.get().intValue();
-            sb.appendCodePoint(character);
+        if (string == null) {
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.appendCodePoint(characters[i]);
+            }
+            string = sb.toString();
         }
-        return sb.toString();
+        return string;
     }
 
     @Override
     public List<Value> getElements() {
-        List<Value> elements = new ArrayList<>();
-        elements.addAll(characters);
+        List<Value> elements = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            elements.add(getCharacter(i));
+        }
         return elements;
     }
 
     public NumericValue getCharacter(int index) {
-        return characters.get(index);
+        checkIndex(index);
+
+        if (characterValues == null) {
+            characterValues = new ArrayList<>();
+        }
+        while (characterValues.size() <= index) {
+            characterValues.add(new CharacterValue(this, characterValues.size()));
+        }
+        return characterValues.get(index);
+    }
+
+    public int getCharacterCodePoint(int index) {
+        checkIndex(index);
+        return characters[index];
     }
 
     public int getLength() {
-        return characters.size();
+        return length;
     }
 
     public int getMaxLength() {
@@ -72,7 +106,7 @@ public class StringValue extends Value implements CompoundValue {
     }
 
     public void set(String string) {
-        characters.clear();
+        clearCharacters();
 
         int length = string.length();
         if (maxLength != NO_MAX_LENGTH && maxLength < length) {
@@ -80,26 +114,41 @@ public class StringValue extends Value implements CompoundValue {
         }
 
         for (int i = 0; i < length; i++) {
-            NumericValue character = createCharacter(string.codePointAt(i));
-            characters.add(character);
+            addCharacter(clamp(string.codePointAt(i)));
         }
     }
 
     public void setCharacter(int index, NumericValue value) {
-        characters.set(index, value);
+        setCharacterCodePoint(index, value.get().intValue());
+    }
+
+    public void setCharacterCodePoint(int index, int codePoint) {
+        checkIndex(index);
+        characters[index] = codePoint;
+        string = null;
     }
 
     public void clearCharacters() {
-        characters.clear();
+        length = 0;
+        string = null;
     }
 
     public boolean addCharacter() {
-        return addCharacter(createCharacter(characterDefault));
+        return addCharacter(characterDefault);
     }
 
     public boolean addCharacter(NumericValue character) {
+        return addCharacter(clamp(character.get().intValue()));
+    }
+
+    public boolean addCharacter(int codePoint) {
         if (maxLength == NO_MAX_LENGTH || getLength() < maxLength) {
-            characters.add(character);
+            if (length == characters.length) {
+                characters = Arrays.copyOf(characters, length * 2);
+            }
+            characters[length] = codePoint;
+            length++;
+            string = null;
             return true;
         }
         return false;
@@ -107,15 +156,22 @@ public class StringValue extends Value implements CompoundValue {
 
     public boolean removeCharacter() {
         if (getLength() > 0) {
-            characters.remove(getLength() - 1);
+            length--;
+            string = null;
             return true;
         }
         return false;
     }
 
-    protected NumericValue createCharacter(int character) {
-        NumericValue characterValue = new NumericValue(character, characterMin, characterMax);
-        return characterValue;
+    // bounds a code point by the character range of the string
+    private int clamp(int codePoint) {
+        return Math.max(characterMin, Math.min(characterMax, codePoint));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
     }
 
     @Override
@@ -130,12 +186,31 @@ public class StringValue extends Value implements CompoundValue {
         duplicate.characterDefault = characterDefault;
         duplicate.characterMin = characterMin;
         duplicate.characterMax = characterMax;
+        duplicate.characters = Arrays.copyOf(characters, Math.max(length, INITIAL_CAPACITY));
+        duplicate.length = length;
+        duplicate.string = string;
+        return duplicate;
+    }
 
-        for (NumericValue character : characters) {
-            duplicate.characters.add(character.duplicate());
+    @Override
+    public boolean copyValueInPlace(Value source) {
+        if (getClass() != source.getClass()) {
+            return false;
         }
-
-        return duplicate;
+        StringValue stringSource = (StringValue) source;
+        maxLength = stringSource.maxLength;
+        characterDefault = stringSource.characterDefault;
+        characterMin = stringSource.characterMin;
+        characterMax = stringSource.characterMax;
+
+        // only allocate if the source string is longer than the capacity
+        if (characters.length < stringSource.length) {
+            characters = new int[stringSource.characters.length];
+        }
+        System.arraycopy(stringSource.characters, 0, characters, 0, stringSource.length);
+        length = stringSource.length;
+        string = stringSource.string;
+        return true;
     }
 
     @Override
@@ -144,10 +219,9 @@ public class StringValue extends Value implements CompoundValue {
             throw new DataException(
                     "Cannot compare StringValues to a " + v.getClass());
         }
-
         return get().compareTo(((StringValue) v).get());
     }
-    
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -155,8 +229,9 @@ public class StringValue extends Value implements CompoundValue {
         result = prime * result + characterDefault;
         result = prime * result + characterMax;
         result = prime * result + characterMin;
-        result = prime * result
-                + ((characters == null) ? 0 : characters.hashCode());
+        for (int i = 0; i < length; i++) {
+            result = prime * result + characters[i];
+        }
         result = prime * result + maxLength;
         return result;
     }
@@ -176,11 +251,12 @@ public class StringValue extends Value implements CompoundValue {
             return false;
         if (characterMin != other.characterMin)
             return false;
-        if (characters == null) {
-            if (other.characters != null)
-                return false;
-        } else if (!characters.equals(other.characters))
+        if (length != other.length)
             return false;
+        for (int i = 0; i < length; i++) {
+            if (characters[i] != other.characters[i])
+                return false;
+        }
         return maxLength == other.maxLength;
     }
 
@@ -188,4 +264,109 @@ public class StringValue extends Value implements CompoundValue {
     public String toString() {
         return "'" + get() + "'";
     }
+
+    /**
+     * A view of one of the characters of a string as a NumericValue, whose
+     * value is the code point of the character, bounded by the character range
+     * of the string. Reading and writing the value reads and writes the
+     * string's character directly.
+     */
+    protected static class CharacterValue extends NumericValue {
+
+        private static final long serialVersionUID = 3011540573658312016L;
+
+        // the code points of most characters, so that they are not
+        // allocated every time a character is read
+        private static final int NUM_CACHED_CODE_POINTS = 256;
+        private static final BigDecimal[] CODE_POINTS = new BigDecimal[NUM_CACHED_CODE_POINTS];
+
+        static {
+            for (int i = 0; i < NUM_CACHED_CODE_POINTS; i++) {
+                CODE_POINTS[i] = BigDecimal.valueOf(i);
+            }
+        }
+
+        private StringValue string;
+        private int index;
+
+        CharacterValue(StringValue string, int index) {
+            this.string = string;
+            this.index = index;
+        }
+
+        private static BigDecimal toBigDecimal(int codePoint) {
+            return (codePoint >= 0 && codePoint < NUM_CACHED_CODE_POINTS)
+                    ? CODE_POINTS[codePoint]
+                    : BigDecimal.valueOf(codePoint);
+        }
+
+        @Override
+        public BigDecimal get() {
+            return toBigDecimal(string.getCharacterCodePoint(index));
+        }
+
+        @Override
+        public void set(BigDecimal value) {
+            int codePoint;
+            if (value.compareTo(toBigDecimal(string.characterMin)) < 0) {
+                codePoint = string.characterMin;
+            } else if (value.compareTo(toBigDecimal(string.characterMax)) > 0) {
+                codePoint = string.characterMax;
+            } else {
+                codePoint = value.intValue();
+            }
+            string.setCharacterCodePoint(index, codePoint);
+        }
+
+        @Override
+        public BigDecimal getStepSize() {
+            return BigDecimal.ONE;
+        }
+
+        @Override
+        public NumericValue duplicate() {
+            NumericValue duplicate = new NumericValue();
+            duplicate.value = get();
+            duplicate.min = toBigDecimal(string.characterMin);
+            duplicate.max = toBigDecimal(string.characterMax);
+            return duplicate;
+        }
+
+        @Override
+        public boolean copyValueInPlace(Value source) {
+            if (!(source instanceof NumericValue)) {
+                return false;
+            }
+            set(((NumericValue) source).get());
+            return true;
+        }
+
+        @Override
+        public int compareTo(Value v) {
+            if (!(v instanceof NumericValue)) {
+                throw new DataException(
+                        "Cannot compare NumericValues to a " + v.getClass());
+            }
+            return get().compareTo(((NumericValue) v).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return get().hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof CharacterValue))
+                return false;
+            return get().equals(((CharacterValue) obj).get());
+        }
+
+        @Override
+        public String toString() {
+            return get().toPlainString();
+        }
+    }
 }
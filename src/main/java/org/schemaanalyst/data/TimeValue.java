@@ -67,6 +67,18 @@ public class TimeValue extends Value implements CompoundValue {
         return duplicate;
     }
 
+    @Override
+    public boolean copyValueInPlace(Value source) {
+        if (getClass() != source.getClass()) {
+            return false;
+        }
+        TimeValue timeSource = (TimeValue) source;
+        hour.copyValueInPlace(timeSource.hour);
+        minute.copyValueInPlace(timeSource.minute);
+        second.copyValueInPlace(timeSource.second);
+        return true;
+    }
+
     @Override
     public int compareTo(Value v) {
         if (getClass() != v.getClass()) {
@@ -10,6 +10,17 @@ public abstract class Value implements Comparable<Value>, Serializable {
 
     public abstract Value duplicate();
 
+    /**
+     * Copies another value into this value, reusing the objects making up
+     * this value rather than allocating new ones where possible.
+     * @param source The value to copy.
+     * @return True if the value was copied, false if the source value is not
+     * of the same type as this value, in which case this value is unchanged.
+     */
+    public boolean copyValueInPlace(Value source) {
+        return false;
+    }
+
     @Override
     public abstract int compareTo(Value v);
 }
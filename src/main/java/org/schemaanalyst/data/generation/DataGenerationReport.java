@@ -1,9 +1,13 @@
 package org.schemaanalyst.data.generation;
 
+import java.io.Serializable;
+
 /**
  * Created by phil on 23/07/2014.
  */
-public class DataGenerationReport {
+public class DataGenerationReport implements Serializable {
+
+    private static final long serialVersionUID = 8350317734016209912L;
 
     private boolean success;
     private int numEvaluations;
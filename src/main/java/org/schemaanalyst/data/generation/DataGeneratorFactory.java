@@ -11,6 +11,9 @@ import org.schemaanalyst.data.generation.cellvaluegeneration.RandomCellValueGene
 import org.schemaanalyst.data.generation.cellvaluegeneration.ValueInitializationProfile;
 import org.schemaanalyst.data.generation.random.RandomDataGenerator;
 import org.schemaanalyst.data.generation.search.AlternatingValueSearch;
+import org.schemaanalyst.data.generation.search.DataEvaluationCache;
+import org.schemaanalyst.data.generation.search.ParallelAlternatingValueSearch;
+import org.schemaanalyst.data.generation.search.ParallelSearchBasedDataGenerator;
 import org.schemaanalyst.data.generation.search.Search;
 import org.schemaanalyst.data.generation.search.SearchBasedDataGenerator;
 import org.schemaanalyst.data.generation.search.termination.CombinedTerminationCriterion;
@@ -23,6 +26,8 @@ import org.schemaanalyst.util.random.SimpleRandom;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created by phil on 14/03/2014.
@@ -30,6 +35,15 @@ import java.lang.reflect.Method;
  */
 public class DataGeneratorFactory {
 
+    private static final int EVALUATION_CACHE_SIZE = 1000;
+
+    /**
+     * The number of restart chains of the "parallelAvs" generator, which is
+     * fixed (rather than the number of processors) so that a seed gives the
+     * same chain seeds on every machine.
+     */
+    public static final int PARALLEL_AVS_CHAINS = 4;
+
     public static DataGenerator instantiate(String dataGeneratorName,
                                             long randomSeed,
                                             int maxEvaluations) {
@@ -110,6 +124,12 @@ public class DataGeneratorFactory {
                 new RandomCellInitializer(randomCellValueGenerator));
     }
 
+    public static SearchBasedDataGenerator avsDefaultsCachedGenerator(long randomSeed, int maxEvaluations, Schema schema) {
+        SearchBasedDataGenerator dataGenerator = avsDefaultsGenerator(randomSeed, maxEvaluations, schema);
+        dataGenerator.getSearch().setEvaluationCache(new DataEvaluationCache(EVALUATION_CACHE_SIZE));
+        return dataGenerator;
+    }
+
     public static SearchBasedDataGenerator avsGenerator(long randomSeed, int maxEvaluations, Schema schema) {
         Random random = makeRandomNumberGenerator(randomSeed);
         RandomCellValueGenerator randomCellValueGenerator = makeRandomCellValueGenerator(random, schema);
@@ -122,6 +142,30 @@ public class DataGeneratorFactory {
                 randomCellInitializer);
     }
 
+    public static ParallelSearchBasedDataGenerator parallelAvsGenerator(long randomSeed, int maxEvaluations, Schema schema) {
+        return makeParallelAlternatingValueSearch(randomSeed, maxEvaluations, schema, PARALLEL_AVS_CHAINS);
+    }
+
+    public static ParallelSearchBasedDataGenerator makeParallelAlternatingValueSearch(
+            long randomSeed,
+            int maxEvaluations,
+            Schema schema,
+            int numChains) {
+
+        // each restart chain has its own random number generator
+        List<AlternatingValueSearch> chains = new ArrayList<>();
+
+        for (int i = 0; i < numChains; i++) {
+            Random random = makeRandomNumberGenerator(randomSeed + i);
+            RandomCellValueGenerator randomCellValueGenerator = makeRandomCellValueGenerator(random, schema);
+            RandomCellInitializer randomCellInitializer = new RandomCellInitializer(randomCellValueGenerator);
+
+            chains.add(new AlternatingValueSearch(random, randomCellInitializer, randomCellInitializer));
+        }
+
+        return new ParallelSearchBasedDataGenerator(new ParallelAlternatingValueSearch(chains, maxEvaluations));
+    }
+
     public static RandomDataGenerator randomGenerator(long randomSeed, int maxEvaluations, Schema schema) {
         Random random = makeRandomNumberGenerator(randomSeed);
         RandomCellValueGenerator randomCellValueGenerator = makeRandomCellValueGenerator(random, schema);
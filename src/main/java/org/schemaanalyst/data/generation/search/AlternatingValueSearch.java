@@ -2,17 +2,23 @@ package org.schemaanalyst.data.generation.search;
 
 import org.schemaanalyst.data.*;
 import org.schemaanalyst.data.generation.cellinitialization.CellInitializer;
+import org.schemaanalyst.data.generation.search.objective.IncrementalObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.util.random.Random;
 
 import java.math.BigDecimal;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 public class AlternatingValueSearch extends Search<Data> {
 
     protected static final int ACCELERATION_BASE = 2;
+    // values of at most 18 digits and moves of at most 2^59 can be added as longs
+    protected static final int MAX_LONG_MOVE_PRECISION = 18, MAX_LONG_MOVE_STEP = 59;
     protected Random random;
     protected CellInitializer startInitialiser;
     protected CellInitializer restartInitialiser;
@@ -21,6 +27,13 @@ public class AlternatingValueSearch extends Search<Data> {
     protected ObjectiveValue lastObjVal;
     protected boolean makeNullMoves;
 
+    // incremental evaluation -- the objective function is told which row
+    // each move modified, so that it only recomputes what depends on it
+    protected boolean incrementalEvaluation = true;
+    protected IncrementalObjectiveFunction<Row> incrementalObjFun;
+    protected Map<Cell, Row> cellRows;
+    protected Row currentRow;
+
     public AlternatingValueSearch(Random random,
                                   CellInitializer startInitializer,
                                   CellInitializer restartInitializer) {
@@ -39,14 +52,29 @@ public class AlternatingValueSearch extends Search<Data> {
         this.makeNullMoves = makeNullMoves;
     }
 
+    /**
+     * Sets whether the objective function, if it supports it, should be
+     * evaluated incrementally, i.e. by only recomputing the parts of it that
+     * depend on the row of the cell modified by each move. Incremental
+     * evaluation yields the same objective values as full evaluation, and so
+     * does not change the course of the search. It is switched on by default.
+     *
+     * @param incrementalEvaluation Whether to evaluate incrementally.
+     */
+    public void setIncrementalEvaluation(boolean incrementalEvaluation) {
+        this.incrementalEvaluation = incrementalEvaluation;
+    }
+
     @Override
     public void search(Data data) {
         // set up
         this.data = data;
         cells = data.getCells();
+        startIncrementalEvaluation();
 
         // start
         startInitialiser.initialize(data);
+        resetIncrementalEvaluation();
         lastObjVal = null;
         evaluate();
 
@@ -61,13 +89,60 @@ public class AlternatingValueSearch extends Search<Data> {
 
             if (!terminationCriterion.satisfied()) {
                 restartInitialiser.initialize(data);
+                resetIncrementalEvaluation();
                 lastObjVal = null;
                 evaluate();
             }
         }
+
+        finishIncrementalEvaluation();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void startIncrementalEvaluation() {
+        incrementalObjFun = null;
+        currentRow = null;
+
+        if (incrementalEvaluation && objFun instanceof IncrementalObjectiveFunction) {
+            incrementalObjFun = (IncrementalObjectiveFunction<Row>) objFun;
+            incrementalObjFun.setIncremental(true);
+
+            cellRows = new IdentityHashMap<>();
+            for (Table table : data.getTables()) {
+                for (Row row : data.getRows(table)) {
+                    for (Cell cell : row.getCells()) {
+                        cellRows.put(cell, row);
+                    }
+                }
+            }
+        }
+    }
+
+    protected void resetIncrementalEvaluation() {
+        if (incrementalObjFun != null) {
+            incrementalObjFun.reset();
+        }
+    }
+
+    protected void rowModified(Row row) {
+        if (incrementalObjFun != null && row != null) {
+            incrementalObjFun.componentModified(row);
+        }
+    }
+
+    protected void finishIncrementalEvaluation() {
+        if (incrementalObjFun != null) {
+            incrementalObjFun.setIncremental(false);
+            incrementalObjFun = null;
+            cellRows = null;
+            currentRow = null;
+        }
     }
 
     protected boolean evaluate() {
+        // every move modifies (a value in) the cell currently being searched
+        rowModified(currentRow);
+
         ObjectiveValue nextObjVal = evaluate(data);
 
         boolean improvement = (lastObjVal == null || nextObjVal.betterThan(lastObjVal));
@@ -104,6 +179,10 @@ public class AlternatingValueSearch extends Search<Data> {
     protected boolean valueSearch(Cell cell) {
         boolean improvement = false;
 
+        if (cellRows != null) {
+            currentRow = cellRows.get(cell);
+        }
+
         if (makeNullMoves || (!makeNullMoves && cell.isNull())) {
             improvement = invertNullMove(cell);
         }
@@ -114,6 +193,10 @@ public class AlternatingValueSearch extends Search<Data> {
             }
         }
 
+        // the last move may have been undone since it was evaluated
+        rowModified(currentRow);
+        currentRow = null;
+
         return improvement;
     }
 
@@ -274,7 +357,7 @@ public class AlternatingValueSearch extends Search<Data> {
 
             if (numElements > 0) {
                 // save last character first
-                NumericValue lastCharacter = value.getCharacter(value.getLength() - 1);
+                int lastCharacter = value.getCharacterCodePoint(value.getLength() - 1);
 
                 if (value.removeCharacter()) {
                     improvement = evaluate();
@@ -343,6 +426,14 @@ public class AlternatingValueSearch extends Search<Data> {
     }
 
     protected BigDecimal calculateNewNumericValue(int direction, int step, BigDecimal originalValue) {
+        // fast path for integers, where the move can be made using a long
+        // without overflowing (with ACCELERATION_BASE being 2) -- giving the
+        // same value as the general case
+        if (originalValue.scale() == 0 && originalValue.precision() <= MAX_LONG_MOVE_PRECISION && step >= 0
+                && step <= MAX_LONG_MOVE_STEP) {
+            return BigDecimal.valueOf(originalValue.longValue() + direction * (1L << step));
+        }
+
         BigDecimal stepSize = new BigDecimal(ACCELERATION_BASE).pow(step);
         BigDecimal scaledStepSize = stepSize.scaleByPowerOfTen(-originalValue.scale());
         BigDecimal move = new BigDecimal(direction).multiply(scaledStepSize);
@@ -0,0 +1,41 @@
+package org.schemaanalyst.data.generation.search;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A counter that can be safely shared between, and updated by, several
+ * threads, for example, by searches running in parallel.
+ */
+public class AtomicCounter extends Counter {
+
+    private AtomicInteger atomicCounter;
+
+    public AtomicCounter(String name) {
+        super(name);
+    }
+
+    @Override
+    public void reset() {
+        // called by the superclass constructor
+        if (atomicCounter == null) {
+            atomicCounter = new AtomicInteger();
+        } else {
+            atomicCounter.set(0);
+        }
+    }
+
+    @Override
+    public void decrement() {
+        atomicCounter.decrementAndGet();
+    }
+
+    @Override
+    public void increment() {
+        atomicCounter.incrementAndGet();
+    }
+
+    @Override
+    public int getValue() {
+        return atomicCounter.get();
+    }
+}
@@ -28,6 +28,6 @@ public class Counter {
 
     @Override
     public String toString() {
-        return name + ": " + counter;
+        return name + ": " + getValue();
     }
 }
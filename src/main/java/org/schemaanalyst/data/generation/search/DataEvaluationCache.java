@@ -0,0 +1,46 @@
+package org.schemaanalyst.data.generation.search;
+
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.RowIndex;
+import org.schemaanalyst.sqlrepresentation.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An evaluation cache for data, which keys data by the values of all its
+ * cells. The data searched should keep the same rows for as long as the
+ * cache is used, as is the case during a search.
+ */
+public class DataEvaluationCache extends EvaluationCache<Data> {
+
+    // stands in for NULL values in keys
+    private static final Object NULL_KEY = new Object();
+
+    public DataEvaluationCache(int maxSize) {
+        super(maxSize);
+    }
+
+    @Override
+    public Object createKey(Data data) {
+        List<Object> key = new ArrayList<>();
+        for (Table table : data.getTables()) {
+            for (Row row : data.getRows(table)) {
+                for (Cell cell : row.getCells()) {
+                    if (cell.isNull()) {
+                        key.add(NULL_KEY);
+                    } else {
+                        Object valueKey = RowIndex.createKey(cell.getValue());
+                        if (valueKey == null) {
+                            return null;
+                        }
+                        key.add(valueKey);
+                    }
+                }
+            }
+        }
+        return key;
+    }
+}
@@ -0,0 +1,106 @@
+package org.schemaanalyst.data.generation.search;
+
+import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the objective values of candidate solutions, so that a
+ * search revisiting a candidate solution does not need to evaluate it again.
+ * When full, the least recently used entry is evicted.
+ *
+ * Candidate solutions are looked up by a key that must be equal for two
+ * candidate solutions if and only if they have the same objective value
+ * (e.g., because they have exactly the same values), as created by
+ * {@link #createKey}.
+ *
+ * @param <T> The type of candidate solution.
+ */
+public abstract class EvaluationCache<T> {
+
+    private int maxSize;
+    private Map<Object, ObjectiveValue> entries;
+    private int numHits, numMisses;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize The maximum number of objective values to cache.
+     */
+    public EvaluationCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new SearchException("The size of an evaluation cache must be at least 1, not " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Object, ObjectiveValue>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, ObjectiveValue> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates the key for a candidate solution.
+     *
+     * @param candidateSolution The candidate solution.
+     * @return The key, or null if the candidate solution cannot be cached.
+     */
+    public abstract Object createKey(T candidateSolution);
+
+    /**
+     * Returns the cached objective value for a key, counting a hit or a miss.
+     *
+     * @param key The key of a candidate solution, as returned by
+     * {@link #createKey}.
+     * @return The objective value, or null if it is not cached.
+     */
+    public ObjectiveValue get(Object key) {
+        ObjectiveValue objVal = entries.get(key);
+        if (objVal == null) {
+            numMisses++;
+        } else {
+            numHits++;
+        }
+        return objVal;
+    }
+
+    /**
+     * Caches the objective value for a key.
+     *
+     * @param key The key of a candidate solution, as returned by
+     * {@link #createKey}.
+     * @param objVal The objective value of the candidate solution.
+     */
+    public void put(Object key, ObjectiveValue objVal) {
+        entries.put(key, objVal);
+    }
+
+    /**
+     * Empties the cache and resets its hit and miss counts, e.g. because the
+     * objective function has changed.
+     */
+    public void clear() {
+        entries.clear();
+        numHits = 0;
+        numMisses = 0;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    public int getNumHits() {
+        return numHits;
+    }
+
+    public int getNumMisses() {
+        return numMisses;
+    }
+}
@@ -0,0 +1,228 @@
+package org.schemaanalyst.data.generation.search;
+
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.termination.CombinedTerminationCriterion;
+import org.schemaanalyst.data.generation.search.termination.CounterTerminationCriterion;
+import org.schemaanalyst.data.generation.search.termination.TerminationCriterion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A multi-start variant of the Alternating Variable Method, which runs a
+ * number of independent AVS restart "chains" on separate threads, each on
+ * its own copy of the data. The chains share one evaluation budget, and all
+ * of them are stopped as soon as one of them finds an optimal solution.
+ *
+ * Each chain needs its own objective function, as objective functions are
+ * not safe to use from more than one thread -- see
+ * {@link #setObjectiveFunctions(List)}. Since the chains run concurrently,
+ * which chain finds a solution first (and therefore the solution found) may
+ * vary from run to run, and the evaluation budget may be exceeded by up to
+ * one evaluation per chain.
+ *
+ * The chains of every search run on one shared pool of daemon threads, one
+ * per processor, rather than on threads of their own, so that searches run
+ * in parallel (e.g. for different test requirements) do not multiply the
+ * number of threads. Chains that are queued behind others start once a
+ * thread is free, and stop at once if another chain has already finished.
+ */
+public class ParallelAlternatingValueSearch extends Search<Data> {
+
+    private static ExecutorService sharedExecutor;
+
+    protected List<AlternatingValueSearch> chains;
+    protected int maxEvaluations;
+    protected List<ObjectiveFunction<Data>> objFuns;
+
+    /**
+     * Constructor.
+     *
+     * @param chains The searches to run in parallel, each of which should have
+     * its own random number generator and cell initializers. Their termination
+     * criteria and counters are replaced by those of this search.
+     * @param maxEvaluations The maximum number of evaluations for all the
+     * chains together.
+     */
+    public ParallelAlternatingValueSearch(List<AlternatingValueSearch> chains, int maxEvaluations) {
+        super(new Data.Duplicator());
+        this.chains = chains;
+        this.maxEvaluations = maxEvaluations;
+
+        evaluationsCounter = new AtomicCounter("Number of evaluations");
+        restartsCounter = new AtomicCounter("Number of restarts");
+
+        for (AlternatingValueSearch chain : chains) {
+            chain.evaluationsCounter = evaluationsCounter;
+            chain.restartsCounter = restartsCounter;
+        }
+    }
+
+    /**
+     * Returns the number of chains run in parallel.
+     *
+     * @return The number of chains.
+     */
+    public int getNumChains() {
+        return chains.size();
+    }
+
+    /**
+     * Sets the objective functions for the chains, which must be separate
+     * instances of the same objective function, one for each chain.
+     *
+     * @param objectiveFunctions The objective functions, one per chain.
+     */
+    public void setObjectiveFunctions(List<ObjectiveFunction<Data>> objectiveFunctions) {
+        if (objectiveFunctions.size() != chains.size()) {
+            throw new SearchException("Expected " + chains.size() + " objective functions, one for each chain, "
+                    + "but got " + objectiveFunctions.size());
+        }
+        this.objFun = objectiveFunctions.get(0);
+        this.objFuns = objectiveFunctions;
+    }
+
+    /**
+     * Sets the objective function. Since the objective function may only be
+     * used by one chain, this is only possible if there is only one chain.
+     *
+     * @param objectiveFunction The objective function to be used.
+     */
+    @Override
+    public void setObjectiveFunction(ObjectiveFunction<Data> objectiveFunction) {
+        List<ObjectiveFunction<Data>> objectiveFunctions = new ArrayList<>();
+        objectiveFunctions.add(objectiveFunction);
+        setObjectiveFunctions(objectiveFunctions);
+    }
+
+    @Override
+    public void search(Data data) {
+        final AtomicBoolean finished = new AtomicBoolean(false);
+        List<Data> chainData = new ArrayList<>();
+
+        for (int i = 0; i < chains.size(); i++) {
+            final AlternatingValueSearch chain = chains.get(i);
+            chain.setObjectiveFunction(objFuns.get(i));
+            chain.initialize();
+            chainData.add(data.duplicate());
+
+            // stop when the budget is spent, or when any chain is optimal
+            chain.setTerminationCriterion(new CombinedTerminationCriterion(
+                    new CounterTerminationCriterion(evaluationsCounter, maxEvaluations),
+                    new TerminationCriterion() {
+                        @Override
+                        public boolean satisfied() {
+                            if (finished.get()) {
+                                return true;
+                            }
+                            ObjectiveValue chainBestObjVal = chain.getBestObjectiveValue();
+                            if (chainBestObjVal != null && chainBestObjVal.isOptimal()) {
+                                finished.set(true);
+                                return true;
+                            }
+                            return false;
+                        }
+                    }));
+        }
+
+        // chain.initialize() resets the shared counters
+        evaluationsCounter.reset();
+        restartsCounter.reset();
+
+        runChains(chainData, finished);
+
+        // take the best solution, preferring earlier chains on ties
+        bestObjVal = null;
+        bestCandidateSolution = null;
+        for (AlternatingValueSearch chain : chains) {
+            ObjectiveValue chainBestObjVal = chain.getBestObjectiveValue();
+            if (chainBestObjVal != null && (bestObjVal == null || chainBestObjVal.betterThan(bestObjVal))) {
+                bestObjVal = chainBestObjVal;
+                bestCandidateSolution = chain.getBestCandidateSolution();
+            }
+        }
+
+        if (bestCandidateSolution != null) {
+            data.copyValues(bestCandidateSolution);
+        }
+    }
+
+    protected void runChains(List<Data> chainData, AtomicBoolean finished) {
+        if (chains.size() == 1) {
+            chains.get(0).search(chainData.get(0));
+            return;
+        }
+
+        ExecutorService executor = getSharedExecutor();
+        List<Future<?>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < chains.size(); i++) {
+                final AlternatingValueSearch chain = chains.get(i);
+                final Data data = chainData.get(i);
+
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        try {
+                            chain.search(data);
+                        } catch (RuntimeException e) {
+                            // stop the other chains
+                            finished.set(true);
+                            throw e;
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchException("Interrupted while waiting for search chains to finish");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SearchException("Search chain failed: " + cause);
+        } finally {
+            // stop any chains still running or queued
+            finished.set(true);
+        }
+    }
+
+    /**
+     * Gets the pool that the chains of every search run on, creating it the
+     * first time it is needed.
+     *
+     * @return The pool
+     */
+    protected static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(),
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            // the pool is never shut down, so must not keep the JVM alive
+                            Thread thread = new Thread(runnable, "parallel-avs-chain");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return sharedExecutor;
+    }
+}
@@ -0,0 +1,32 @@
+package org.schemaanalyst.data.generation.search;
+
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
+import org.schemaanalyst.data.generation.search.objective.predicate.PredicateObjectiveFunctionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A search-based data generator for a {@link ParallelAlternatingValueSearch},
+ * which creates a separate objective function for each of its chains.
+ */
+public class ParallelSearchBasedDataGenerator extends SearchBasedDataGenerator {
+
+    private ParallelAlternatingValueSearch parallelSearch;
+
+    public ParallelSearchBasedDataGenerator(ParallelAlternatingValueSearch search) {
+        super(search);
+        this.parallelSearch = search;
+    }
+
+    @Override
+    protected void setObjectiveFunction(Predicate predicate, Data state) {
+        List<ObjectiveFunction<Data>> objectiveFunctions = new ArrayList<>();
+        for (int i = 0; i < parallelSearch.getNumChains(); i++) {
+            objectiveFunctions.add(PredicateObjectiveFunctionFactory.createObjectiveFunction(predicate, state));
+        }
+        parallelSearch.setObjectiveFunctions(objectiveFunctions);
+    }
+}
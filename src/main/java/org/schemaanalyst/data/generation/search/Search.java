@@ -4,6 +4,7 @@ import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
 import org.schemaanalyst.data.generation.search.termination.TerminationCriterion;
 import org.schemaanalyst.util.Duplicator;
+import org.schemaanalyst.util.InPlaceDuplicator;
 
 /**
  * Abstract class for representing a generation
@@ -19,6 +20,7 @@ public abstract class Search<T> {
     protected ObjectiveValue bestObjVal;
     protected T bestCandidateSolution;
     protected TerminationCriterion terminationCriterion;
+    protected EvaluationCache<T> evaluationCache;
 
     /**
      * Constructor
@@ -49,6 +51,30 @@ public abstract class Search<T> {
      */
     public void setObjectiveFunction(ObjectiveFunction<T> objectiveFunction) {
         this.objFun = objectiveFunction;
+        if (evaluationCache != null) {
+            evaluationCache.clear();
+        }
+    }
+
+    /**
+     * Sets a cache of the objective values of candidate solutions, so that
+     * candidate solutions revisited by the generation are not evaluated
+     * again. Cached evaluations still count as evaluations. By default, there
+     * is no cache.
+     *
+     * @param evaluationCache The cache to be used, or null for no cache.
+     */
+    public void setEvaluationCache(EvaluationCache<T> evaluationCache) {
+        this.evaluationCache = evaluationCache;
+    }
+
+    /**
+     * Returns the cache of objective values used by the generation.
+     *
+     * @return The cache of objective values, or null if there is none.
+     */
+    public EvaluationCache<T> getEvaluationCache() {
+        return evaluationCache;
     }
 
     /**
@@ -57,6 +83,9 @@ public abstract class Search<T> {
     public void initialize() {
         evaluationsCounter.reset();
         restartsCounter.reset();
+        if (evaluationCache != null) {
+            evaluationCache.clear();
+        }
         bestCandidateSolution = null;
         bestObjVal = null;
     }
@@ -76,17 +105,49 @@ public abstract class Search<T> {
      * evaluation.
      */
     protected ObjectiveValue evaluate(T candidateSolution) {
-        ObjectiveValue objVal = objFun.evaluate(candidateSolution);
+        ObjectiveValue objVal = null;
+        Object key = null;
+
+        if (evaluationCache != null) {
+            key = evaluationCache.createKey(candidateSolution);
+            if (key != null) {
+                objVal = evaluationCache.get(key);
+            }
+        }
+
+        if (objVal == null) {
+            objVal = objFun.evaluate(candidateSolution);
+            if (key != null) {
+                evaluationCache.put(key, objVal);
+            }
+        }
 
         if (bestObjVal == null || objVal.betterThan(bestObjVal)) {
             bestObjVal = objVal;
-            bestCandidateSolution = duplicator.duplicate(candidateSolution);
+            snapshotBestCandidateSolution(candidateSolution);
         }
 
         evaluationsCounter.increment();
         return objVal;
     }
 
+    /**
+     * Records a copy of a candidate solution as the best found so far. Where
+     * the duplicator supports it, the values of the candidate solution are
+     * copied into the previous best candidate solution, rather than
+     * allocating a new copy at every improvement.
+     *
+     * @param candidateSolution The new best candidate solution.
+     */
+    @SuppressWarnings("unchecked")
+    protected void snapshotBestCandidateSolution(T candidateSolution) {
+        if (bestCandidateSolution == null
+                || !(duplicator instanceof InPlaceDuplicator)
+                || !((InPlaceDuplicator<T>) duplicator).copyInPlace(candidateSolution, bestCandidateSolution)) {
+            bestCandidateSolution = duplicator.duplicate(candidateSolution);
+        }
+    }
+
     /**
      * Returns the best objective value found by the generation so far.
      *
@@ -98,7 +159,8 @@ public abstract class Search<T> {
 
     /**
      * Returns the candidate solution with the best objective value found by the
-     * generation so far.
+     * generation so far. The candidate solution returned may be updated in
+     * place as the generation finds better ones.
      *
      * @return The candidate solution with the best objective value found by the
      * generation so far.
@@ -9,13 +9,37 @@ import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
 public class SearchBasedDataGenerationReport extends DataGenerationReport {
 
     private ObjectiveValue bestObjectiveValue;
+    private int numCacheHits, numCacheMisses;
 
     public SearchBasedDataGenerationReport(boolean success, int numEvaluations, ObjectiveValue bestObjectiveValue) {
+        this(success, numEvaluations, bestObjectiveValue, 0, 0);
+    }
+
+    public SearchBasedDataGenerationReport(boolean success, int numEvaluations, ObjectiveValue bestObjectiveValue,
+                                           int numCacheHits, int numCacheMisses) {
         super(success, numEvaluations);
         this.bestObjectiveValue = bestObjectiveValue;
+        this.numCacheHits = numCacheHits;
+        this.numCacheMisses = numCacheMisses;
     }
 
     public ObjectiveValue getBestObjectiveValue() {
         return bestObjectiveValue;
     }
+
+    /**
+     * Returns the number of evaluations whose objective value was found in
+     * the search's evaluation cache, i.e. that were saved by the cache.
+     */
+    public int getNumCacheHits() {
+        return numCacheHits;
+    }
+
+    /**
+     * Returns the number of evaluations whose objective value was looked up
+     * in, but not found in, the search's evaluation cache.
+     */
+    public int getNumCacheMisses() {
+        return numCacheMisses;
+    }
 }
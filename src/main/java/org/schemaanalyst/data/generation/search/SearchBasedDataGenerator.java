@@ -11,16 +11,20 @@ import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
  */
 public class SearchBasedDataGenerator extends DataGenerator {
 
-    private Search<Data> search;
+    protected Search<Data> search;
 
     public SearchBasedDataGenerator(Search search) {
         this.search = search;
     }
 
+    public Search<Data> getSearch() {
+        return search;
+    }
+
     @Override
     public SearchBasedDataGenerationReport generateData(Data data, Data state, Predicate predicate) {
 
-        search.setObjectiveFunction(PredicateObjectiveFunctionFactory.createObjectiveFunction(predicate, state));
+        setObjectiveFunction(predicate, state);
         search.initialize();
         search.search(data);
 
@@ -32,9 +36,17 @@ public class SearchBasedDataGenerator extends DataGenerator {
             data.copyValues(search.getBestCandidateSolution());
         }
 
+        EvaluationCache<Data> evaluationCache = search.getEvaluationCache();
+
         return new SearchBasedDataGenerationReport(
                 success,
                 numEvaluations,
-                bestObjectiveValue);
+                bestObjectiveValue,
+                evaluationCache == null ? 0 : evaluationCache.getNumHits(),
+                evaluationCache == null ? 0 : evaluationCache.getNumMisses());
+    }
+
+    protected void setObjectiveFunction(Predicate predicate, Data state) {
+        search.setObjectiveFunction(PredicateObjectiveFunctionFactory.createObjectiveFunction(predicate, state));
     }
 }
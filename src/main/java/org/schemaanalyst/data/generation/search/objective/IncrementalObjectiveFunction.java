@@ -0,0 +1,41 @@
+package org.schemaanalyst.data.generation.search.objective;
+
+/**
+ * An objective function that can keep partial results between evaluations
+ * of the same (in-place modified) candidate solution, recomputing only the
+ * parts that depend on components of the candidate solution that have been
+ * modified since the last evaluation.
+ *
+ * Incremental evaluation is switched off by default, in which case every
+ * evaluation is computed from scratch. When it is switched on, whoever
+ * modifies the candidate solution is responsible for reporting every
+ * modification through {@link #componentModified(Object)}, or for calling
+ * {@link #reset()} when the candidate solution changes wholesale.
+ *
+ * @param <C> The type of component (e.g. a row of data) that partial results
+ * are kept for.
+ */
+public interface IncrementalObjectiveFunction<C> {
+
+    /**
+     * Switches incremental evaluation on or off. Switching it either way
+     * discards any partial results currently held.
+     *
+     * @param incremental Whether partial results should be kept between
+     * evaluations.
+     */
+    void setIncremental(boolean incremental);
+
+    /**
+     * Discards any partial results that depend on a component of the
+     * candidate solution.
+     *
+     * @param component The component that has been modified.
+     */
+    void componentModified(C component);
+
+    /**
+     * Discards all partial results.
+     */
+    void reset();
+}
@@ -1,15 +1,30 @@
 package org.schemaanalyst.data.generation.search.objective;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
 
-public class ObjectiveValue implements Comparable<ObjectiveValue> {
+public class ObjectiveValue implements Comparable<ObjectiveValue>, Serializable {
+
+    private static final long serialVersionUID = -6120857413379518320L;
 
     public static final BigDecimal OPTIMAL = ZERO, WORST = ONE;
     protected static final BigDecimal A = WORST, B = ONE;
     protected static final int PRECISION = 20;
+
+    // normalized values of the smallest integers, which are the most common
+    // distances, so that they do not need to be divided out every time
+    protected static final int NUM_NORMALIZED_INTEGERS = 1024;
+    protected static final BigDecimal[] NORMALIZED_INTEGERS = new BigDecimal[NUM_NORMALIZED_INTEGERS];
+
+    static {
+        for (int i = 0; i < NUM_NORMALIZED_INTEGERS; i++) {
+            NORMALIZED_INTEGERS[i] = normalize(BigDecimal.valueOf(i));
+        }
+    }
+
     protected BigDecimal value = WORST;
     protected String description;
 
@@ -37,7 +52,16 @@ public class ObjectiveValue implements Comparable<ObjectiveValue> {
     }
 
     public void normalizeAndSetValue(BigDecimal value) {
-        setValue(A.subtract(A.divide(B.add(value), PRECISION, BigDecimal.ROUND_FLOOR)));
+        if (value.scale() == 0 && value.signum() >= 0 && value.precision() <= 4
+                && value.intValue() < NUM_NORMALIZED_INTEGERS) {
+            setValue(NORMALIZED_INTEGERS[value.intValue()]);
+        } else {
+            setValue(normalize(value));
+        }
+    }
+
+    protected static BigDecimal normalize(BigDecimal value) {
+        return A.subtract(A.divide(B.add(value), PRECISION, BigDecimal.ROUND_FLOOR));
     }
 
     public void setValueToOptimal() {
@@ -1,6 +1,8 @@
 package org.schemaanalyst.data.generation.search.objective.predicate;
 
 import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.generation.search.objective.IncrementalObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.MultiObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
@@ -13,7 +15,8 @@ import java.util.List;
 /**
  * Created by phil on 24/07/2014.
  */
-public abstract class ComposedPredicateObjectiveFunction extends ObjectiveFunction<Data> {
+public abstract class ComposedPredicateObjectiveFunction extends ObjectiveFunction<Data>
+        implements IncrementalObjectiveFunction<Row> {
 
     private static final int AND_PREDICATE_WEIGHT = 1;
     private static final int EXPRESSION_PREDICATE_WEIGHT = 1;
@@ -93,4 +96,31 @@ public abstract class ComposedPredicateObjectiveFunction extends ObjectiveFuncti
         return objVal;
     }
 
+    @Override
+    public void setIncremental(boolean incremental) {
+        for (ObjectiveFunction<Data> objFun : objectiveFunctions) {
+            if (objFun instanceof IncrementalObjectiveFunction) {
+                ((IncrementalObjectiveFunction<?>) objFun).setIncremental(incremental);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void componentModified(Row row) {
+        for (ObjectiveFunction<Data> objFun : objectiveFunctions) {
+            if (objFun instanceof IncrementalObjectiveFunction) {
+                ((IncrementalObjectiveFunction<Row>) objFun).componentModified(row);
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        for (ObjectiveFunction<Data> objFun : objectiveFunctions) {
+            if (objFun instanceof IncrementalObjectiveFunction) {
+                ((IncrementalObjectiveFunction<?>) objFun).reset();
+            }
+        }
+    }
 }
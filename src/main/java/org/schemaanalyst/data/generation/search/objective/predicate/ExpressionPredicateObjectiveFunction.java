@@ -2,20 +2,25 @@ package org.schemaanalyst.data.generation.search.objective.predicate;
 
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.generation.search.objective.IncrementalObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.SumOfMultiObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.row.ExpressionRowObjectiveFunctionFactory;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.ExpressionPredicate;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by phil on 24/01/2014.
  */
-public class ExpressionPredicateObjectiveFunction extends ObjectiveFunction<Data> {
+public class ExpressionPredicateObjectiveFunction extends ObjectiveFunction<Data>
+        implements IncrementalObjectiveFunction<Row> {
 
     private ExpressionPredicate expressionPredicate;
+    private Map<Row, ObjectiveValue> rowObjVals;
 
     public ExpressionPredicateObjectiveFunction(ExpressionPredicate expressionPredicate) {
         this.expressionPredicate = expressionPredicate;
@@ -30,12 +35,20 @@ public class ExpressionPredicateObjectiveFunction extends ObjectiveFunction<Data
             SumOfMultiObjectiveValue objVal = new SumOfMultiObjectiveValue(description);
 
             for (Row row : rows) {
-                objVal.add(
-                        new ExpressionRowObjectiveFunctionFactory(
-                                expressionPredicate.getExpression(),
-                                expressionPredicate.getTruthValue(),
-                                true).create().evaluate(row)
-                );
+                ObjectiveValue rowObjVal = (rowObjVals == null) ? null : rowObjVals.get(row);
+
+                if (rowObjVal == null) {
+                    rowObjVal = new ExpressionRowObjectiveFunctionFactory(
+                            expressionPredicate.getExpression(),
+                            expressionPredicate.getTruthValue(),
+                            true).create().evaluate(row);
+
+                    if (rowObjVals != null) {
+                        rowObjVals.put(row, rowObjVal);
+                    }
+                }
+
+                objVal.add(rowObjVal);
             }
 
             return objVal;
@@ -43,4 +56,23 @@ public class ExpressionPredicateObjectiveFunction extends ObjectiveFunction<Data
 
         return ObjectiveValue.worstObjectiveValue(description);
     }
+
+    @Override
+    public void setIncremental(boolean incremental) {
+        rowObjVals = incremental ? new IdentityHashMap<Row, ObjectiveValue>() : null;
+    }
+
+    @Override
+    public void componentModified(Row row) {
+        if (rowObjVals != null) {
+            rowObjVals.remove(row);
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (rowObjVals != null) {
+            rowObjVals.clear();
+        }
+    }
 }
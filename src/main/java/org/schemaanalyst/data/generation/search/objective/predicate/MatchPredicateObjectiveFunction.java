@@ -2,6 +2,7 @@ package org.schemaanalyst.data.generation.search.objective.predicate;
 
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.RowIndex;
 import org.schemaanalyst.data.Value;
 import org.schemaanalyst.data.generation.search.objective.*;
 import org.schemaanalyst.data.generation.search.objective.value.RelationalValueObjectiveFunction;
@@ -10,20 +11,37 @@ import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 /**
  * Created by phil on 24/01/2014.
  */
-public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
+public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data>
+        implements IncrementalObjectiveFunction<Row> {
 
     private MatchPredicate matchPredicate;
     private Data state;
     private Table table, referenceTable;
     private boolean forAll;
 
+    // indexed evaluation -- rows are only compared with the compare rows
+    // that their index columns exactly match, where this gives the same
+    // objective value as comparing them with every compare row
+    private boolean indexed;
+    private boolean matchAny;
+    private List<Column> indexColumns, indexReferenceColumns;
+    private RowIndex stateIndex;
+    private List<Row> unindexedStateRows;
+
+    // row comparisons kept between evaluations in incremental mode, indexed
+    // first by the row of the table, then by the compare row
+    private Map<Row, Map<Row, ObjectiveValue>> comparisonObjVals;
+
     public MatchPredicateObjectiveFunction(MatchPredicate matchPredicate, Data state) {
         this.matchPredicate = matchPredicate;
         this.state = state;
@@ -32,6 +50,39 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
 
         // matches can hold for one row, non-matches need to hold for all rows
         this.forAll = matchPredicate.getNonMatchingColumns().size() > 0;
+
+        setIndexed(true);
+    }
+
+    /**
+     * Sets whether rows should be compared using hash indexes of the compare
+     * rows, rather than pairwise with every compare row. Indexed evaluation
+     * yields the same objective values as pairwise evaluation. It is only used
+     * for predicates where a row either needs to match one compare row (i.e.,
+     * that only have matching columns), or needs to not match all compare rows
+     * (i.e., that only have non-matching columns, any of which may not match).
+     * It is switched on by default.
+     *
+     * @param indexed Whether to use indexed evaluation, where possible.
+     */
+    public void setIndexed(boolean indexed) {
+        List<Column> matchingColumns = matchPredicate.getMatchingColumns();
+        List<Column> nonMatchingColumns = matchPredicate.getNonMatchingColumns();
+
+        this.matchAny = nonMatchingColumns.size() == 0;
+        this.indexColumns = matchAny ? matchingColumns : nonMatchingColumns;
+        this.indexReferenceColumns = matchAny
+                ? matchPredicate.getMatchingReferenceColumns()
+                : matchPredicate.getNonMatchingReferenceColumns();
+
+        boolean supported = matchAny
+                ? matchingColumns.size() > 0
+                : matchingColumns.size() == 0 &&
+                  (matchPredicate.getMode() == MatchPredicate.Mode.OR || nonMatchingColumns.size() == 1);
+
+        this.indexed = indexed && supported && RowIndex.areIndexable(indexColumns, indexReferenceColumns);
+        this.stateIndex = null;
+        this.unindexedStateRows = null;
     }
 
     @Override
@@ -43,24 +94,36 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
             SumOfMultiObjectiveValue objVal = new SumOfMultiObjectiveValue(description);
             ListIterator<Row> rowsIterator = rows.listIterator();
 
+            // data rows are indexed as they become compare rows
+            List<Row> dataRows = indexed ? data.getRows(referenceTable) : null;
+            RowIndex dataIndex = indexed ? new RowIndex(indexReferenceColumns) : null;
+            List<Row> unindexedDataRows = indexed ? new ArrayList<Row>() : null;
+            int numDataRowsIndexed = 0;
+
+            if (indexed && stateIndex == null) {
+                // the state does not change for the lifetime of the objective function
+                stateIndex = new RowIndex(indexReferenceColumns);
+                unindexedStateRows = new ArrayList<>();
+                addToIndex(state.getRows(referenceTable), state.getNumRows(referenceTable), 0, stateIndex, unindexedStateRows);
+            }
+
             while (rowsIterator.hasNext()) {
                 Row row = rowsIterator.next();
                 int index = rowsIterator.previousIndex();
-                List<Row> compareRows = getCompareRows(data, index);
-
-                if (compareRows.size() > 0) {
 
-                    // if the predicate holds for all rows, we need a SumOf...
-                    // else if it's for one row, we need a BestOf..
-                    MultiObjectiveValue rowObjVal = (forAll)
-                            ? new SumOfMultiObjectiveValue()
-                            : new BestOfMultiObjectiveValue();
+                if (indexed) {
+                    int numDataCompareRows = getNumDataCompareRows(data, index);
+                    numDataRowsIndexed = addToIndex(dataRows, numDataCompareRows, numDataRowsIndexed, dataIndex, unindexedDataRows);
 
-                    for (Row compareRow : compareRows) {
-                        rowObjVal.add(compareRows(row, compareRow));
+                    if (numDataCompareRows + state.getNumRows(referenceTable) > 0) {
+                        objVal.add(evaluateRowIndexed(data, index, row, dataIndex, unindexedDataRows));
                     }
+                } else {
+                    List<Row> compareRows = getCompareRows(data, index);
 
-                    objVal.add(rowObjVal);
+                    if (compareRows.size() > 0) {
+                        objVal.add(evaluateRow(row, compareRows));
+                    }
                 }
 
                 // // PM: Legacy code from when this used to be specified at a predicate level
@@ -77,6 +140,85 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
         return ObjectiveValue.worstObjectiveValue(description);
     }
 
+    private MultiObjectiveValue evaluateRow(Row row, List<Row> compareRows) {
+        // if the predicate holds for all rows, we need a SumOf...
+        // else if it's for one row, we need a BestOf..
+        MultiObjectiveValue rowObjVal = (forAll)
+                ? new SumOfMultiObjectiveValue()
+                : new BestOfMultiObjectiveValue();
+
+        for (Row compareRow : compareRows) {
+            rowObjVal.add(getComparisonObjectiveValue(row, compareRow));
+        }
+
+        return rowObjVal;
+    }
+
+    private MultiObjectiveValue evaluateRowIndexed(Data data, int index, Row row,
+                                                   RowIndex dataIndex, List<Row> unindexedDataRows) {
+        if (matchAny) {
+            // if the row exactly matches a compare row, the row is optimal
+            ObjectiveValue matchObjVal = findOptimalComparison(row, dataIndex.get(row, indexColumns));
+            if (matchObjVal == null) {
+                matchObjVal = findOptimalComparison(row, stateIndex.get(row, indexColumns));
+            }
+
+            if (matchObjVal != null) {
+                MultiObjectiveValue rowObjVal = new BestOfMultiObjectiveValue();
+                rowObjVal.add(matchObjVal);
+                return rowObjVal;
+            }
+
+            // ... else the distance to the nearest compare row is needed
+            return evaluateRow(row, getCompareRows(data, index));
+        }
+
+        // the row can only fail to not match compare rows with exactly the
+        // same values, or with values that could not be indexed, as the
+        // comparison with every other compare row is optimal
+        MultiObjectiveValue rowObjVal = new SumOfMultiObjectiveValue();
+        addComparisons(rowObjVal, row, dataIndex.get(row, indexColumns));
+        addComparisons(rowObjVal, row, unindexedDataRows);
+        addComparisons(rowObjVal, row, stateIndex.get(row, indexColumns));
+        addComparisons(rowObjVal, row, unindexedStateRows);
+        return rowObjVal;
+    }
+
+    private ObjectiveValue findOptimalComparison(Row row, List<Row> compareRows) {
+        for (Row compareRow : compareRows) {
+            ObjectiveValue objVal = getComparisonObjectiveValue(row, compareRow);
+            if (objVal.isOptimal()) {
+                return objVal;
+            }
+        }
+        return null;
+    }
+
+    private void addComparisons(MultiObjectiveValue rowObjVal, Row row, List<Row> compareRows) {
+        for (Row compareRow : compareRows) {
+            rowObjVal.add(getComparisonObjectiveValue(row, compareRow));
+        }
+    }
+
+    private int addToIndex(List<Row> rows, int numRows, int numRowsIndexed, RowIndex index, List<Row> unindexedRows) {
+        while (numRowsIndexed < numRows) {
+            Row row = rows.get(numRowsIndexed);
+            if (!index.add(row)) {
+                unindexedRows.add(row);
+            }
+            numRowsIndexed ++;
+        }
+        return numRowsIndexed;
+    }
+
+    private int getNumDataCompareRows(Data data, int index) {
+        if (table.equals(referenceTable)) {
+            // include the current record if this is an FK to the same table
+            return matchPredicate.colsAreRefCols() ? index : index + 1;
+        }
+        return data.getNumRows(referenceTable);
+    }
+
     private List<Row> getCompareRows(Data data, int index) {
         List<Row> compareRows = data.getRows(matchPredicate.getReferenceTable());
         if (table.equals(referenceTable)) {
@@ -90,6 +232,25 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
         return compareRows;
     }
 
+    private ObjectiveValue getComparisonObjectiveValue(Row row, Row compareRow) {
+        if (comparisonObjVals == null) {
+            return compareRows(row, compareRow);
+        }
+
+        Map<Row, ObjectiveValue> rowComparisonObjVals = comparisonObjVals.get(row);
+        if (rowComparisonObjVals == null) {
+            rowComparisonObjVals = new IdentityHashMap<>();
+            comparisonObjVals.put(row, rowComparisonObjVals);
+        }
+
+        ObjectiveValue objVal = rowComparisonObjVals.get(compareRow);
+        if (objVal == null) {
+            objVal = compareRows(row, compareRow);
+            rowComparisonObjVals.put(compareRow, objVal);
+        }
+        return objVal;
+    }
+
     private ObjectiveValue compareRows(Row row, Row compareRow) {
         MultiObjectiveValue objVal =
                 matchPredicate.getMode() == MatchPredicate.Mode.AND
@@ -148,4 +309,27 @@ public class MatchPredicateObjectiveFunction extends ObjectiveFunction<Data> {
             objVal.add(compareObjVal);
         }
     }
+
+    @Override
+    public void setIncremental(boolean incremental) {
+        comparisonObjVals = incremental ? new IdentityHashMap<Row, Map<Row, ObjectiveValue>>() : null;
+    }
+
+    @Override
+    public void componentModified(Row row) {
+        if (comparisonObjVals != null) {
+            // the row may have been compared either way round
+            comparisonObjVals.remove(row);
+            for (Map<Row, ObjectiveValue> rowComparisonObjVals : comparisonObjVals.values()) {
+                rowComparisonObjVals.remove(row);
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (comparisonObjVals != null) {
+            comparisonObjVals.clear();
+        }
+    }
 }
@@ -2,20 +2,25 @@ package org.schemaanalyst.data.generation.search.objective.predicate;
 
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.generation.search.objective.IncrementalObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.SumOfMultiObjectiveValue;
 import org.schemaanalyst.data.generation.search.objective.value.NullValueObjectiveFunction;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.NullPredicate;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by phil on 24/01/2014.
  */
-public class NullPredicateObjectiveFunction extends ObjectiveFunction<Data> {
+public class NullPredicateObjectiveFunction extends ObjectiveFunction<Data>
+        implements IncrementalObjectiveFunction<Row> {
 
     private NullPredicate nullPredicate;
+    private Map<Row, ObjectiveValue> rowObjVals;
 
     public NullPredicateObjectiveFunction(NullPredicate nullPredicate) {
         this.nullPredicate = nullPredicate;
@@ -30,15 +35,42 @@ public class NullPredicateObjectiveFunction extends ObjectiveFunction<Data> {
             SumOfMultiObjectiveValue objVal = new SumOfMultiObjectiveValue(description);
 
             for (Row row : rows) {
-                objVal.add(
-                        NullValueObjectiveFunction.compute(
-                                row.getCell(nullPredicate.getColumn()).getValue(),
-                                nullPredicate.getTruthValue())
-                );
+                ObjectiveValue rowObjVal = (rowObjVals == null) ? null : rowObjVals.get(row);
+
+                if (rowObjVal == null) {
+                    rowObjVal = NullValueObjectiveFunction.compute(
+                            row.getCell(nullPredicate.getColumn()).getValue(),
+                            nullPredicate.getTruthValue());
+
+                    if (rowObjVals != null) {
+                        rowObjVals.put(row, rowObjVal);
+                    }
+                }
+
+                objVal.add(rowObjVal);
             }
             return objVal;
         }
 
         return ObjectiveValue.worstObjectiveValue(description);
     }
+
+    @Override
+    public void setIncremental(boolean incremental) {
+        rowObjVals = incremental ? new IdentityHashMap<Row, ObjectiveValue>() : null;
+    }
+
+    @Override
+    public void componentModified(Row row) {
+        if (rowObjVals != null) {
+            rowObjVals.remove(row);
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (rowObjVals != null) {
+            rowObjVals.clear();
+        }
+    }
 }
@@ -14,6 +14,9 @@ import static java.math.BigDecimal.ZERO;
 public class RelationalNumericValueObjectiveFunction extends RelationalValueObjectiveFunction<NumericValue> {
 
     public static final BigDecimal K = ONE;    
+
+    // integers of at most 18 digits can be subtracted as longs
+    protected static final int MAX_LONG_PRECISION = 18;
     
     public RelationalNumericValueObjectiveFunction(RelationalOperator op, boolean allowNull) {
         super(op, allowNull);
@@ -31,7 +34,9 @@ public class RelationalNumericValueObjectiveFunction extends RelationalValueObje
                 if (lhsValue.equals(rhsValue)) {
                     distance = ZERO;
                 } else {
-                    distance = lhsValue.subtract(rhsValue).abs().add(K);
+                    distance = lhsValue.compareTo(rhsValue) > 0
+                            ? distance(lhsValue, rhsValue)
+                            : distance(rhsValue, lhsValue);
                 }
                 break;
 
@@ -47,7 +52,7 @@ public class RelationalNumericValueObjectiveFunction extends RelationalValueObje
                 if (lhsValue.compareTo(rhsValue) > 0) {
                     distance = ZERO;
                 } else {
-                    distance = rhsValue.subtract(lhsValue).add(K);
+                    distance = distance(rhsValue, lhsValue);
                 }
                 break;
 
@@ -55,7 +60,7 @@ public class RelationalNumericValueObjectiveFunction extends RelationalValueObje
                 if (lhsValue.compareTo(rhsValue) >= 0) {
                     distance = ZERO;
                 } else {
-                    distance = rhsValue.subtract(lhsValue).add(K);
+                    distance = distance(rhsValue, lhsValue);
                 }
                 break;
 
@@ -63,7 +68,7 @@ public class RelationalNumericValueObjectiveFunction extends RelationalValueObje
                 if (lhsValue.compareTo(rhsValue) < 0) {
                     distance = ZERO;
                 } else {
-                    distance = lhsValue.subtract(rhsValue).add(K);
+                    distance = distance(lhsValue, rhsValue);
                 }
                 break;
 
@@ -71,7 +76,7 @@ public class RelationalNumericValueObjectiveFunction extends RelationalValueObje
                 if (lhsValue.compareTo(rhsValue) <= 0) {
                     distance = ZERO;
                 } else {
-                    distance = lhsValue.subtract(rhsValue).add(K);
+                    distance = distance(lhsValue, rhsValue);
                 }
                 break;
 
@@ -82,4 +87,14 @@ public class RelationalNumericValueObjectiveFunction extends RelationalValueObje
         objVal.setValueUsingDistance(distance);
         return objVal;
     }
+
+    // computes value - otherValue + K, using longs for integers where this
+    // cannot overflow
+    protected static BigDecimal distance(BigDecimal value, BigDecimal otherValue) {
+        if (value.scale() == 0 && otherValue.scale() == 0
+                && value.precision() <= MAX_LONG_PRECISION && otherValue.precision() <= MAX_LONG_PRECISION) {
+            return BigDecimal.valueOf(value.longValue() - otherValue.longValue() + 1);
+        }
+        return value.subtract(otherValue).add(K);
+    }
 }
@@ -2,11 +2,19 @@ package org.schemaanalyst.dbms;
 
 import org.schemaanalyst.configuration.DatabaseConfiguration;
 import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.data.Value;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,6 +64,16 @@ public abstract class DatabaseInteractor {
      * The return code indicates a SELECT with a ResultSet.
      */
     protected static final boolean RESULT_SET = true;
+    /**
+     * The maximum number of prepared statements kept open for
+     * {@link #executeInsert(String, List)}.
+     */
+    protected static final int PREPARED_STATEMENT_CACHE_SIZE = 100;
+    /**
+     * The number of seconds to wait for the database when checking whether
+     * the connection is still valid.
+     */
+    protected static final int VALIDATION_TIMEOUT = 5;
     /**
      * The shared connection to the database
      */
@@ -72,6 +90,24 @@ public abstract class DatabaseInteractor {
      * Whether the connection has been made yet.
      */
     protected boolean initialized = false;
+    /**
+     * The binder for the values of prepared statements.
+     */
+    protected ValueBinder valueBinder = createValueBinder();
+    /**
+     * The prepared INSERT statements for the connection, by their SQL, in
+     * order of least recent use.
+     */
+    protected Map<String, PreparedInsert> preparedInserts;
+    /**
+     * The connection that the prepared INSERT statements were prepared for.
+     */
+    protected Connection preparedInsertsConnection;
+    /**
+     * Whether the statements being executed are in a transaction that will be
+     * rolled back by {@link #endIsolation()}.
+     */
+    protected boolean isolating = false;
     protected long totalInteractions = 0;
     protected long createInteractions = 0;
     protected long dropInteractions = 0;
@@ -120,7 +156,14 @@ public abstract class DatabaseInteractor {
             Statement statement = connection.createStatement();
             recordInteraction(command);
             synchronized (this) {
-                returnCount = statement.executeUpdate(command);
+                Savepoint savepoint = setStatementSavepoint();
+                try {
+                    returnCount = statement.executeUpdate(command);
+                } catch (SQLException e) {
+                    rollbackStatementSavepoint(savepoint);
+                    throw e;
+                }
+                releaseStatementSavepoint(savepoint);
             }
             LOGGER.log(Level.FINE, "Statement: {0}\n Result: {1}", new Object[]{command, returnCount});
         } catch (SQLException e) {
@@ -140,6 +183,166 @@ public abstract class DatabaseInteractor {
         return returnCount;
     }
 
+    /**
+     * Execute an INSERT statement with parameters against a database, binding
+     * the parameters to the given values. The statement is prepared the first
+     * time it is executed, and reused while it is one of the
+     * {@link #PREPARED_STATEMENT_CACHE_SIZE} most recently used statements,
+     * so that the DBMS does not need to parse it every time. The outcome is
+     * the same as for executing the statement with the values written in as
+     * literals with {@link #executeUpdate(String)}.
+     *
+     * @param insert The INSERT statement, with a parameter for each value
+     * (e.g., as written by
+     * {@link org.schemaanalyst.sqlwriter.SQLWriter#writePreparedInsertStatement})
+     * @param values The values, where null is SQL NULL
+     * @return The number of rows inserted, or 0 if the statement failed
+     */
+    public Integer executeInsert(String insert, List<Value> values) {
+        Integer returnCount = START;
+        try {
+            if (!initialized) {
+                initializeDatabaseConnection();
+            }
+            LOGGER.log(Level.FINER, "Executing statement: {0} with values {1}", new Object[]{insert, values});
+            synchronized (this) {
+                // the statement is known to be an INSERT
+                totalInteractions++;
+                insertInteractions++;
+
+                PreparedInsert preparedInsert = getPreparedInsert(insert);
+                bindValues(preparedInsert, values);
+                Savepoint savepoint = setStatementSavepoint();
+                try {
+                    returnCount = preparedInsert.statement.executeUpdate();
+                } catch (SQLException e) {
+                    rollbackStatementSavepoint(savepoint);
+                    throw e;
+                }
+                releaseStatementSavepoint(savepoint);
+            }
+            LOGGER.log(Level.FINE, "Statement: {0} with values {1}\n Result: {2}", new Object[]{insert, values, returnCount});
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Statement failed: " + insert + " with values " + values, e);
+
+            // some drivers do not allow a statement to be executed again
+            // after it has failed, so it is prepared afresh next time
+            discardPreparedInsert(insert);
+        }
+        return returnCount;
+    }
+
+    /**
+     * Binds values to the parameters of a prepared statement.
+     *
+     * @param preparedInsert The prepared statement
+     * @param values The values, one for each parameter in order
+     * @throws SQLException If a value could not be bound
+     */
+    protected void bindValues(PreparedInsert preparedInsert, List<Value> values) throws SQLException {
+        PreparedStatement statement = preparedInsert.statement;
+        statement.clearParameters();
+        for (int i = 0; i < values.size(); i++) {
+            Value value = values.get(i);
+            int sqlType = (value == null) ? preparedInsert.getParameterType(i + 1) : Types.NULL;
+            valueBinder.bindValue(statement, i + 1, value, sqlType);
+        }
+    }
+
+    /**
+     * Gets the prepared statement for the given SQL, preparing it if it is
+     * not already prepared for the current connection.
+     *
+     * @param sql The SQL
+     * @return The prepared statement
+     * @throws SQLException If the statement could not be prepared
+     */
+    protected PreparedInsert getPreparedInsert(String sql) throws SQLException {
+        if (preparedInserts == null || preparedInsertsConnection != connection) {
+            preparedInserts = new LinkedHashMap<String, PreparedInsert>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedInsert> eldest) {
+                    if (size() > PREPARED_STATEMENT_CACHE_SIZE) {
+                        eldest.getValue().close();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+            preparedInsertsConnection = connection;
+        }
+
+        PreparedInsert preparedInsert = preparedInserts.get(sql);
+        if (preparedInsert == null) {
+            preparedInsert = new PreparedInsert(connection.prepareStatement(sql));
+            preparedInserts.put(sql, preparedInsert);
+        }
+        return preparedInsert;
+    }
+
+    private synchronized void discardPreparedInsert(String sql) {
+        if (preparedInserts != null) {
+            PreparedInsert preparedInsert = preparedInserts.remove(sql);
+            if (preparedInsert != null) {
+                preparedInsert.close();
+            }
+        }
+    }
+
+    /**
+     * A prepared INSERT statement, along with the types of its parameters,
+     * which are only looked up when needed to bind a NULL.
+     */
+    protected static class PreparedInsert {
+
+        protected PreparedStatement statement;
+        protected int[] parameterTypes;
+
+        protected PreparedInsert(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        protected int getParameterType(int index) {
+            if (parameterTypes == null) {
+                parameterTypes = lookUpParameterTypes();
+            }
+            return (index <= parameterTypes.length) ? parameterTypes[index - 1] : Types.NULL;
+        }
+
+        private int[] lookUpParameterTypes() {
+            try {
+                ParameterMetaData metaData = statement.getParameterMetaData();
+                int[] types = new int[metaData.getParameterCount()];
+                for (int i = 0; i < types.length; i++) {
+                    types[i] = metaData.getParameterType(i + 1);
+                }
+                return types;
+            } catch (SQLException | RuntimeException e) {
+                // not all drivers can report parameter types
+                LOGGER.log(Level.FINE, "Parameter types unavailable", e);
+                return new int[0];
+            }
+        }
+
+        protected void close() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Closing prepared statement failed", e);
+            }
+        }
+    }
+
+    /**
+     * Creates the binder for the values of prepared statements, which
+     * subclasses may override for DBMSs that need values bound differently.
+     *
+     * @return The value binder
+     */
+    protected ValueBinder createValueBinder() {
+        return new ValueBinder();
+    }
+
     /**
      * Execute a command against a database. Most useful for commands that
      * return a code, such as whether or not a command worked or how many
@@ -317,6 +520,328 @@ public abstract class DatabaseInteractor {
         return returnCount;
     }
 
+    /**
+     * Executes a series of INSERT statements as a JDBC batch, returning the
+     * result of each statement, which is the same as if each were executed
+     * in turn with {@link #executeUpdate(String)}.
+     *
+     * <p>
+     * The batch is executed in a transaction. If a statement fails, the
+     * transaction is rolled back, the statements before it (as reported by
+     * the driver's update counts) are executed again as a batch and
+     * committed, the failed statement is executed on its own, and the
+     * remaining statements are executed as a new batch. Drivers that do not
+     * report the statements before the failure just cause more of the
+     * statements to be executed on their own.
+     * </p>
+     *
+     * @param inserts The INSERT statements to execute
+     * @return The result of each statement, i.e. the number of rows inserted,
+     * or 0 if the statement failed
+     */
+    public int[] executeInsertsAsBatch(List<String> inserts) {
+        int[] results = new int[inserts.size()];
+        int start = 0;
+        while (start < inserts.size()) {
+            int numSucceeded = executeBatchInTransaction(inserts.subList(start, inserts.size()), results, start);
+            start += numSucceeded;
+            if (start < inserts.size()) {
+                results[start] = executeUpdate(inserts.get(start));
+                start++;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Executes a batch of statements in a transaction, committing the
+     * statements up to the first that failed.
+     *
+     * @param commands The statements
+     * @param results The array to store the result of each statement in
+     * @param offset The index of the result of the first statement
+     * @return The number of statements, from the first, that succeeded and
+     * were committed
+     */
+    private int executeBatchInTransaction(List<String> commands, int[] results, int offset) {
+        int numSucceeded = 0;
+        try {
+            if (!initialized) {
+                initializeDatabaseConnection();
+            }
+            synchronized (this) {
+                LOGGER.log(Level.FINE, "Starting batch of {0} statements", commands.size());
+                // when isolating, the batch is undone to a savepoint instead,
+                // leaving the surrounding transaction open
+                boolean inTransaction = isolating;
+                Savepoint savepoint = null;
+                if (inTransaction) {
+                    savepoint = setSavepoint();
+                } else {
+                    connection.setAutoCommit(false);
+                }
+                try {
+                    int[] updateCounts;
+                    try {
+                        updateCounts = executeBatch(commands);
+                        numSucceeded = commands.size();
+                    } catch (BatchUpdateException e) {
+                        LOGGER.log(Level.FINE, "Batch failed: {0}", e.getMessage());
+                        rollback(savepoint);
+                        savepoint = null;
+                        updateCounts = e.getUpdateCounts();
+                        numSucceeded = countLeadingSuccesses(updateCounts);
+                        if (numSucceeded > 0) {
+                            executeBatch(commands.subList(0, numSucceeded));
+                        }
+                    }
+                    if (!inTransaction) {
+                        connection.commit();
+                    } else if (savepoint != null) {
+                        releaseSavepoint(savepoint);
+                    }
+                    for (int i = 0; i < numSucceeded; i++) {
+                        int updateCount = updateCounts[i];
+                        results[offset + i] = (updateCount == Statement.SUCCESS_NO_INFO) ? 1 : updateCount;
+                    }
+                } catch (SQLException e) {
+                    LOGGER.log(Level.FINE, "Batch failed", e);
+                    rollback(savepoint);
+                    numSucceeded = 0;
+                } finally {
+                    if (!inTransaction) {
+                        connection.setAutoCommit(true);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.INFO, "Batch failed: {0}", e.getMessage());
+            numSucceeded = 0;
+        }
+        return numSucceeded;
+    }
+
+    /**
+     * Rolls back to a savepoint, or the whole transaction if there is none.
+     *
+     * @param savepoint The savepoint, or null
+     * @throws SQLException If the rollback failed
+     */
+    private void rollback(Savepoint savepoint) throws SQLException {
+        if (savepoint != null) {
+            rollbackToSavepoint(savepoint);
+        } else {
+            connection.rollback();
+        }
+    }
+
+    private int[] executeBatch(List<String> commands) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String command : commands) {
+                LOGGER.log(Level.FINER, "Executing statement: {0} (in batch)", command);
+                statement.addBatch(command);
+            }
+            // only one "interaction" is made, classified by the first statement
+            recordInteraction(commands.get(0));
+            return statement.executeBatch();
+        }
+    }
+
+    private static int countLeadingSuccesses(int[] updateCounts) {
+        // an INSERT that succeeded inserted at least one row (some drivers,
+        // such as SQLite's, report a failed statement as inserting none)
+        int count = 0;
+        if (updateCounts != null) {
+            while (count < updateCounts.length
+                    && (updateCounts[count] > 0 || updateCounts[count] == Statement.SUCCESS_NO_INFO)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Whether test cases can be isolated from each other by executing their
+     * statements between {@link #beginIsolation()} and
+     * {@link #endIsolation()}, rather than deleting the rows they insert.
+     *
+     * @return Whether isolation by rolling back is supported
+     */
+    public boolean supportsIsolation() {
+        return true;
+    }
+
+    /**
+     * Whether each connection made by this interactor, or by a duplicate of
+     * it, is to a database of its own, as with an in-memory database, so that
+     * the tables created through one connection cannot be seen through the
+     * others.
+     *
+     * @return Whether each connection has its own database
+     */
+    public boolean hasPrivateDatabase() {
+        return false;
+    }
+
+    /**
+     * Whether a failed statement aborts the transaction it is in, as in
+     * Postgres, so that each statement executed while isolating needs a
+     * savepoint to roll back to if it fails.
+     *
+     * @return Whether a failed statement aborts the transaction
+     */
+    protected boolean failedStatementAbortsTransaction() {
+        return false;
+    }
+
+    /**
+     * Starts a transaction that the following statements are executed in,
+     * which is rolled back by {@link #endIsolation()} to undo their changes.
+     * The result of each statement is the same as if it were executed
+     * outside of a transaction. Statements that manage transactions
+     * themselves, such as {@link #executeUpdatesAsTransaction(Iterable)},
+     * should not be used while isolating.
+     */
+    public synchronized void beginIsolation() {
+        if (isolating) {
+            throw new DBMSException("Already isolating statements");
+        }
+        try {
+            if (!initialized) {
+                initializeDatabaseConnection();
+            }
+            connection.setAutoCommit(false);
+            isolating = true;
+        } catch (SQLException e) {
+            throw new DBMSException("Could not start transaction: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rolls back the changes made since {@link #beginIsolation()}.
+     */
+    public synchronized void endIsolation() {
+        if (!isolating) {
+            throw new DBMSException("Not isolating statements");
+        }
+        isolating = false;
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new DBMSException("Could not roll back transaction: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sets a savepoint before a statement if the statement is being isolated
+     * and would otherwise abort the transaction if it failed.
+     *
+     * @return The savepoint, or null if none is needed
+     * @throws SQLException If the savepoint could not be set
+     */
+    private Savepoint setStatementSavepoint() throws SQLException {
+        return (isolating && failedStatementAbortsTransaction()) ? setSavepoint() : null;
+    }
+
+    private void rollbackStatementSavepoint(Savepoint savepoint) throws SQLException {
+        if (savepoint != null) {
+            rollbackToSavepoint(savepoint);
+        }
+    }
+
+    private void releaseStatementSavepoint(Savepoint savepoint) throws SQLException {
+        if (savepoint != null) {
+            releaseSavepoint(savepoint);
+        }
+    }
+
+    /**
+     * Sets a savepoint in the current transaction.
+     *
+     * @return The savepoint
+     * @throws SQLException If the savepoint could not be set
+     */
+    protected Savepoint setSavepoint() throws SQLException {
+        return connection.setSavepoint();
+    }
+
+    /**
+     * Rolls back the current transaction to a savepoint. Some drivers, such
+     * as HyperSQL's, forget the savepoint afterwards, so it should not be used
+     * again.
+     *
+     * @param savepoint The savepoint
+     * @throws SQLException If the rollback failed
+     */
+    protected void rollbackToSavepoint(Savepoint savepoint) throws SQLException {
+        connection.rollback(savepoint);
+    }
+
+    /**
+     * Releases a savepoint, keeping the changes made since it was set.
+     *
+     * @param savepoint The savepoint
+     * @throws SQLException If the savepoint could not be released
+     */
+    protected void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        connection.releaseSavepoint(savepoint);
+    }
+
+    /**
+     * Checks whether the connection to the database can still be used, so
+     * that a broken connection can be replaced rather than used again. An
+     * interactor that has not connected yet is usable, as it connects when it
+     * is first used.
+     *
+     * @return Whether the connection is usable
+     */
+    public synchronized boolean isConnectionValid() {
+        if (!initialized) {
+            return true;
+        }
+        try {
+            if (connection == null || connection.isClosed()) {
+                return false;
+            }
+            try {
+                return connection.isValid(VALIDATION_TIMEOUT);
+            } catch (SQLException | AbstractMethodError e) {
+                // not all drivers can check the connection, in which case it
+                // is assumed to be usable while it is open
+                LOGGER.log(Level.FINE, "Connection validation unavailable", e);
+                return true;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Connection validation failed", e);
+            return false;
+        }
+    }
+
+    /**
+     * Closes the connection to the database, along with any prepared
+     * statements. The interactor connects again if it is used afterwards.
+     */
+    public synchronized void close() {
+        if (preparedInserts != null) {
+            for (PreparedInsert preparedInsert : preparedInserts.values()) {
+                preparedInsert.close();
+            }
+            preparedInserts = null;
+            preparedInsertsConnection = null;
+        }
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Closing connection failed", e);
+            }
+            connection = null;
+        }
+        isolating = false;
+        initialized = false;
+    }
+
     /**
      * @TODO This method should be removed and is for debugging only.
      * @return The number of tables in a database
@@ -0,0 +1,214 @@
+package org.schemaanalyst.dbms;
+
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * A pool of {@link DatabaseInteractor} objects for one database of a
+ * {@link DBMS}, so that their connections can be reused rather than made
+ * afresh each time an interactor is needed.
+ * </p>
+ *
+ * <p>
+ * An interactor is borrowed with {@link #borrow()} and is only used by the
+ * borrower until it is given back with {@link #giveBack(DatabaseInteractor)}.
+ * A new interactor is made if there is no idle interactor to lend, so
+ * borrowing never waits, and up to the size of the pool are kept idle for
+ * reuse, with any others being closed when they are given back. Before an
+ * idle interactor is lent its connection is checked, and it is replaced if
+ * the connection is broken.
+ * </p>
+ *
+ * <p>
+ * The pools returned by {@link #getPool(DBMS, String, DatabaseConfiguration,
+ * LocationsConfiguration)} are shared by everything in the JVM that uses the
+ * same DBMS, database name and connection settings, such as the host, port,
+ * user and whether the database is in memory. Borrowers should leave the
+ * database as they found it, e.g. by dropping any tables they create.
+ * </p>
+ */
+public class DatabaseInteractorPool {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseInteractorPool.class.getName());
+    private static final Map<String, DatabaseInteractorPool> POOLS = new HashMap<>();
+
+    private final DatabaseInteractor prototype;
+    private final int size;
+    private final Deque<DatabaseInteractor> idle = new ArrayDeque<>();
+    private final Set<DatabaseInteractor> borrowed = Collections.newSetFromMap(new IdentityHashMap<DatabaseInteractor, Boolean>());
+
+    /**
+     * Constructor.
+     *
+     * @param prototype The interactor duplicated to make the interactors of
+     * the pool, which is not lent itself
+     * @param size The number of idle interactors to keep for reuse
+     */
+    public DatabaseInteractorPool(DatabaseInteractor prototype, int size) {
+        if (prototype == null) {
+            throw new DBMSException("A database interactor pool needs an interactor to duplicate");
+        }
+        if (size < 0) {
+            throw new DBMSException("The size of a database interactor pool cannot be negative, was " + size);
+        }
+        this.prototype = prototype;
+        this.size = size;
+    }
+
+    /**
+     * Gets the shared pool for a database of a DBMS, creating it if this is
+     * the first time it is needed with these connection settings. The size of
+     * a new pool is given by {@link DatabaseConfiguration#getPoolSize()}.
+     *
+     * @param dbms The DBMS
+     * @param databaseName The name of the database to connect to
+     * @param databaseConfiguration The database configuration instance
+     * @param locationConfiguration The location configuration instance
+     * @return The pool
+     */
+    public static synchronized DatabaseInteractorPool getPool(DBMS dbms, String databaseName, DatabaseConfiguration databaseConfiguration, LocationsConfiguration locationConfiguration) {
+        String key = connectionKey(dbms, databaseName, databaseConfiguration, locationConfiguration);
+        DatabaseInteractorPool pool = POOLS.get(key);
+        if (pool == null) {
+            DatabaseInteractor prototype = dbms.getDatabaseInteractor(databaseName, databaseConfiguration, locationConfiguration);
+            pool = new DatabaseInteractorPool(prototype, databaseConfiguration.getPoolSize());
+            POOLS.put(key, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Gets the key of the shared pool for a database, made of the settings
+     * that the connections of the DBMS are made with.
+     */
+    private static String connectionKey(DBMS dbms, String databaseName, DatabaseConfiguration databaseConfiguration, LocationsConfiguration locationConfiguration) {
+        StringBuilder key = new StringBuilder(dbms.getName()).append("/").append(databaseName);
+        switch (dbms.getName()) {
+            case "SQLite":
+                key.append("/").append(locationConfiguration.getDatabaseDir())
+                        .append("/").append(databaseConfiguration.getSqlitePath())
+                        .append("/").append(databaseConfiguration.getSqliteInMemory());
+                break;
+            case "HyperSQL":
+                key.append("/").append(locationConfiguration.getDatabaseDir())
+                        .append("/").append(databaseConfiguration.getHsqldbPath())
+                        .append("/").append(databaseConfiguration.getHsqldbUsername())
+                        .append("/").append(databaseConfiguration.getHsqldb_in_memory());
+                break;
+            case "Postgres":
+                key.append("/").append(databaseConfiguration.getPostgresHost())
+                        .append("/").append(databaseConfiguration.getPostgresPort())
+                        .append("/").append(databaseConfiguration.getPostgresUsername())
+                        .append("/").append(databaseConfiguration.getPostgresDatabase());
+                break;
+            case "Derby":
+                key.append("/").append(locationConfiguration.getDatabaseDir())
+                        .append("/").append(databaseConfiguration.getDerbyHost())
+                        .append("/").append(databaseConfiguration.getDerbyPort())
+                        .append("/").append(databaseConfiguration.getDerbyPath());
+                break;
+            default:
+                break;
+        }
+        return key.toString();
+    }
+
+    /**
+     * Closes the idle interactors of every shared pool and forgets the pools.
+     */
+    public static synchronized void closeAll() {
+        for (DatabaseInteractorPool pool : POOLS.values()) {
+            pool.close();
+        }
+        POOLS.clear();
+    }
+
+    /**
+     * Borrows an interactor from the pool, reusing an idle one if its
+     * connection is still valid.
+     *
+     * @return The interactor
+     */
+    public synchronized DatabaseInteractor borrow() {
+        DatabaseInteractor interactor = null;
+        while (interactor == null && !idle.isEmpty()) {
+            interactor = idle.pop();
+            if (!interactor.isConnectionValid()) {
+                LOGGER.log(Level.INFO, "Replacing database interactor with a broken connection");
+                interactor.close();
+                interactor = null;
+            }
+        }
+        if (interactor == null) {
+            interactor = prototype.duplicate();
+        }
+        borrowed.add(interactor);
+        return interactor;
+    }
+
+    /**
+     * Gives back an interactor borrowed from the pool, after which the
+     * borrower must not use it again.
+     *
+     * @param interactor The interactor
+     */
+    public synchronized void giveBack(DatabaseInteractor interactor) {
+        if (!borrowed.remove(interactor)) {
+            throw new DBMSException("The database interactor was not borrowed from this pool");
+        }
+        if (idle.size() < size) {
+            idle.push(interactor);
+        } else {
+            interactor.close();
+        }
+    }
+
+    /**
+     * Closes the idle interactors of the pool. Borrowed interactors are not
+     * affected, and can still be given back.
+     */
+    public synchronized void close() {
+        for (DatabaseInteractor interactor : idle) {
+            interactor.close();
+        }
+        idle.clear();
+    }
+
+    /**
+     * Gets the number of interactors kept idle for reuse.
+     *
+     * @return The size of the pool
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of interactors currently idle in the pool.
+     *
+     * @return The number of idle interactors
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Gets the number of interactors currently borrowed from the pool.
+     *
+     * @return The number of borrowed interactors
+     */
+    public synchronized int getBorrowedCount() {
+        return borrowed.size();
+    }
+}
@@ -0,0 +1,202 @@
+package org.schemaanalyst.dbms;
+
+import org.schemaanalyst.data.*;
+import org.schemaanalyst.sqlwriter.ValueSQLWriter;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * <p>
+ * A ValueBinder sets the parameters of a {@link PreparedStatement} to
+ * {@link Value} objects, as the alternative to writing the values into the
+ * statement as SQL literals with a {@link ValueSQLWriter}.
+ * </p>
+ *
+ * <p>
+ * Each value is bound as the type the DBMS would give the equivalent literal,
+ * so that executing the prepared statement has the same outcome as executing
+ * the statement with literals. This class binds values as needed for most
+ * DBMSs, however specialised subclasses may be provided where DBMSs type
+ * literals differently.
+ * </p>
+ */
+public class ValueBinder {
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    protected ValueSQLWriter valueSQLWriter = new ValueSQLWriter();
+
+    /**
+     * Binds a value to a parameter of a prepared statement.
+     *
+     * @param statement The statement
+     * @param index The index of the parameter, starting at 1
+     * @param value The value, which may be null for SQL NULL
+     * @param sqlType The type of the parameter as a {@link Types} constant,
+     * as reported by the statement's parameter meta data, used when binding NULL
+     * @throws SQLException If the value could not be bound
+     */
+    public void bindValue(final PreparedStatement statement, final int index, Value value, int sqlType)
+            throws SQLException {
+
+        class ValueBinderVisitor implements ValueVisitor {
+
+            SQLException exception;
+
+            void bindValue(Value value) throws SQLException {
+                value.accept(this);
+                if (exception != null) {
+                    throw exception;
+                }
+            }
+
+            @Override
+            public void visit(BooleanValue value) {
+                try {
+                    bindBooleanValue(statement, index, value);
+                } catch (SQLException e) {
+                    exception = e;
+                }
+            }
+
+            @Override
+            public void visit(DateValue value) {
+                try {
+                    bindDateValue(statement, index, value);
+                } catch (SQLException e) {
+                    exception = e;
+                }
+            }
+
+            @Override
+            public void visit(DateTimeValue value) {
+                try {
+                    bindDateTimeValue(statement, index, value);
+                } catch (SQLException e) {
+                    exception = e;
+                }
+            }
+
+            @Override
+            public void visit(NumericValue value) {
+                try {
+                    bindNumericValue(statement, index, value);
+                } catch (SQLException e) {
+                    exception = e;
+                }
+            }
+
+            @Override
+            public void visit(StringValue value) {
+                try {
+                    bindStringValue(statement, index, value);
+                } catch (SQLException e) {
+                    exception = e;
+                }
+            }
+
+            @Override
+            public void visit(TimeValue value) {
+                try {
+                    bindTimeValue(statement, index, value);
+                } catch (SQLException e) {
+                    exception = e;
+                }
+            }
+
+            @Override
+            public void visit(TimestampValue value) {
+                try {
+                    bindTimestampValue(statement, index, value);
+                } catch (SQLException e) {
+                    exception = e;
+                }
+            }
+        }
+
+        if (value == null) {
+            bindNullValue(statement, index, sqlType);
+        } else {
+            new ValueBinderVisitor().bindValue(value);
+        }
+    }
+
+    public void bindNullValue(PreparedStatement statement, int index, int sqlType) throws SQLException {
+        statement.setNull(index, sqlType);
+    }
+
+    public void bindBooleanValue(PreparedStatement statement, int index, BooleanValue booleanValue) throws SQLException {
+        statement.setBoolean(index, booleanValue.get());
+    }
+
+    public void bindDateValue(PreparedStatement statement, int index, DateValue dateValue) throws SQLException {
+        bindStringLiteral(statement, index, valueSQLWriter.writeDateValue(dateValue));
+    }
+
+    public void bindDateTimeValue(PreparedStatement statement, int index, DateTimeValue dateTimeValue) throws SQLException {
+        bindStringLiteral(statement, index, valueSQLWriter.writeDateTimeValue(dateTimeValue));
+    }
+
+    public void bindNumericValue(PreparedStatement statement, int index, NumericValue numericValue) throws SQLException {
+        BigDecimal value = numericValue.get();
+        if (isIntegral(value)) {
+            statement.setLong(index, value.longValueExact());
+        } else {
+            statement.setBigDecimal(index, value);
+        }
+    }
+
+    public void bindStringValue(PreparedStatement statement, int index, StringValue stringValue) throws SQLException {
+        statement.setString(index, stringValue.get());
+    }
+
+    public void bindTimeValue(PreparedStatement statement, int index, TimeValue timeValue) throws SQLException {
+        bindStringLiteral(statement, index, valueSQLWriter.writeTimeValue(timeValue));
+    }
+
+    public void bindTimestampValue(PreparedStatement statement, int index, TimestampValue timestampValue) throws SQLException {
+        bindStringLiteral(statement, index, valueSQLWriter.writeTimestampValue(timestampValue));
+    }
+
+    /**
+     * Binds the string in a quoted SQL string literal, as written by the
+     * {@link ValueSQLWriter}, for values such as dates that are written as
+     * string literals and converted by the DBMS.
+     *
+     * @param statement The statement
+     * @param index The index of the parameter
+     * @param literal The quoted literal
+     * @throws SQLException If the string could not be bound
+     */
+    protected void bindStringLiteral(PreparedStatement statement, int index, String literal) throws SQLException {
+        statement.setString(index, unquote(literal));
+    }
+
+    /**
+     * Removes the quotes from a quoted SQL string literal.
+     *
+     * @param literal The literal, e.g. {@code '2000-01-01'}
+     * @return The string, e.g. {@code 2000-01-01}
+     */
+    protected static String unquote(String literal) {
+        if (literal.length() >= 2 && literal.startsWith("'") && literal.endsWith("'")) {
+            return literal.substring(1, literal.length() - 1).replace("''", "'");
+        }
+        return literal;
+    }
+
+    /**
+     * Returns whether a numeric value is written as an integer literal that
+     * fits into a long.
+     *
+     * @param value The value
+     * @return Whether the value is an integer that fits into a long
+     */
+    protected static boolean isIntegral(BigDecimal value) {
+        return value.scale() <= 0 && value.compareTo(MIN_LONG) >= 0 && value.compareTo(MAX_LONG) <= 0;
+    }
+}
@@ -77,6 +77,11 @@ public class HyperSQLDatabaseInteractor extends DatabaseInteractor {
         }
     }
 
+    @Override
+    public boolean hasPrivateDatabase() {
+        return databaseConfiguration.getHsqldb_in_memory();
+    }
+
     @Override
     public DatabaseInteractor duplicate() {
         return new HyperSQLDatabaseInteractor(databaseName, databaseConfiguration, locationConfiguration);
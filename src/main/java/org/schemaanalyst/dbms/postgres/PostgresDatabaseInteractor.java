@@ -3,6 +3,7 @@ package org.schemaanalyst.dbms.postgres;
 import org.schemaanalyst.configuration.DatabaseConfiguration;
 import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.ValueBinder;
 
 import java.sql.DriverManager;
 import java.sql.ResultSet;
@@ -80,6 +81,24 @@ public class PostgresDatabaseInteractor extends DatabaseInteractor {
         }
     }
 
+    @Override
+    protected ValueBinder createValueBinder() {
+        return new PostgresValueBinder();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Postgres ignores the remaining statements of a transaction after a
+     * statement fails, until it is rolled back.
+     * </p>
+     */
+    @Override
+    protected boolean failedStatementAbortsTransaction() {
+        return true;
+    }
+
     @Override
     public DatabaseInteractor duplicate() {
         return new PostgresDatabaseInteractor(databaseConfiguration, locationConfiguration);
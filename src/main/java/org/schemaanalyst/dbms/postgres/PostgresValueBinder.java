@@ -0,0 +1,24 @@
+package org.schemaanalyst.dbms.postgres;
+
+import org.schemaanalyst.data.Value;
+import org.schemaanalyst.dbms.ValueBinder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * <p>
+ * A {@link ValueBinder} that binds {@link Value} objects to the parameters of
+ * prepared statements for the Postgres DBMS. Values written as string literals
+ * (e.g., dates) are bound untyped, so that Postgres converts them to the type
+ * of their column, as it does for literals.
+ * </p>
+ */
+public class PostgresValueBinder extends ValueBinder {
+
+    @Override
+    protected void bindStringLiteral(PreparedStatement statement, int index, String literal) throws SQLException {
+        statement.setObject(index, unquote(literal), Types.OTHER);
+    }
+}
@@ -3,6 +3,7 @@ package org.schemaanalyst.dbms.sqlite;
 import org.schemaanalyst.configuration.DatabaseConfiguration;
 import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.ValueBinder;
 import org.sqlite.SQLiteConfig;
 
 import java.io.File;
@@ -11,6 +12,7 @@ import java.nio.file.Files;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -28,6 +30,10 @@ public class SQLiteDatabaseInteractor extends DatabaseInteractor {
      * The database name.
      */
     private String databaseName;
+    /**
+     * The number of savepoints set, used to name them.
+     */
+    private int savepointCount = 0;
 
     public SQLiteDatabaseInteractor(String databaseName, DatabaseConfiguration databaseConfiguration, LocationsConfiguration locationConfiguration) {
         super(databaseConfiguration, locationConfiguration);
@@ -93,6 +99,58 @@ public class SQLiteDatabaseInteractor extends DatabaseInteractor {
         }
     }
 
+    @Override
+    protected ValueBinder createValueBinder() {
+        return new SQLiteValueBinder();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The SQLite JDBC driver does not support savepoints, so they are set
+     * with SQL statements instead.
+     * </p>
+     */
+    @Override
+    protected Savepoint setSavepoint() throws SQLException {
+        final int id = ++savepointCount;
+        final String name = "sp" + id;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SAVEPOINT " + name);
+        }
+        return new Savepoint() {
+            @Override
+            public int getSavepointId() {
+                return id;
+            }
+
+            @Override
+            public String getSavepointName() {
+                return name;
+            }
+        };
+    }
+
+    @Override
+    protected void rollbackToSavepoint(Savepoint savepoint) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ROLLBACK TO SAVEPOINT " + savepoint.getSavepointName());
+        }
+    }
+
+    @Override
+    protected void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("RELEASE SAVEPOINT " + savepoint.getSavepointName());
+        }
+    }
+
+    @Override
+    public boolean hasPrivateDatabase() {
+        return databaseConfiguration.getSqliteInMemory();
+    }
+
     @Override
     public DatabaseInteractor duplicate() {
         return new SQLiteDatabaseInteractor(databaseName, databaseConfiguration, locationConfiguration);
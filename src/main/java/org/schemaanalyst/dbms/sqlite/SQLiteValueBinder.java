@@ -0,0 +1,36 @@
+package org.schemaanalyst.dbms.sqlite;
+
+import org.schemaanalyst.data.BooleanValue;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Value;
+import org.schemaanalyst.dbms.ValueBinder;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * A {@link ValueBinder} that binds {@link Value} objects to the parameters of
+ * prepared statements for the SQLite DBMS, which stores boolean literals as
+ * integers, and numeric literals that are not integers as floating point
+ * numbers.
+ * </p>
+ */
+public class SQLiteValueBinder extends ValueBinder {
+
+    @Override
+    public void bindBooleanValue(PreparedStatement statement, int index, BooleanValue booleanValue) throws SQLException {
+        statement.setInt(index, booleanValue.get() ? 1 : 0);
+    }
+
+    @Override
+    public void bindNumericValue(PreparedStatement statement, int index, NumericValue numericValue) throws SQLException {
+        BigDecimal value = numericValue.get();
+        if (isIntegral(value)) {
+            statement.setLong(index, value.longValueExact());
+        } else {
+            statement.setDouble(index, Double.parseDouble(value.toPlainString()));
+        }
+    }
+}
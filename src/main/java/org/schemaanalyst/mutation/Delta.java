@@ -0,0 +1,25 @@
+package org.schemaanalyst.mutation;
+
+/**
+ * Interface for the change that a mutation makes to an artefact, which can be
+ * made to the original artefact in place and then undone again, rather than
+ * analysing a mutated copy of the artefact. It also records which elements of
+ * the artefact a mutant changes, so that they can be found without comparing
+ * the mutant with the original artefact.
+ *
+ * @param <A> The class of the artefact being mutated.
+ */
+public interface Delta<A> {
+
+	/**
+	 * Makes the change to an artefact that is equal to the original artefact.
+	 * @param artefact The artefact to change.
+	 */
+	public void apply(A artefact);
+
+	/**
+	 * Undoes the change made to an artefact by {@link #apply(Object)}.
+	 * @param artefact The artefact to restore.
+	 */
+	public void undo(A artefact);
+}
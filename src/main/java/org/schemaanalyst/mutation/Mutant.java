@@ -24,6 +24,7 @@ public class Mutant<A> {
     private MutantProducer mutantProducer;
     private final List<MutantRemover> removersApplied;
     private MutantType mutantType;
+    private Delta<A> delta;
 
     /**
      * Constructor
@@ -142,6 +143,24 @@ public class Mutant<A> {
         this.identifier = identifier;
     }
 
+    /**
+     * Returns the change made to the original artefact by the mutation that
+     * produced this mutant. The change does not include any changes made by
+     * {@link MutantRemover}s.
+     *
+     * @return The delta, or null if the change is not known
+     */
+    public Delta<A> getDelta() {
+        return delta;
+    }
+
+    /**
+     * @param delta the delta to set
+     */
+    public void setDelta(Delta<A> delta) {
+        this.delta = delta;
+    }
+
     /**
      * @return the mutantType
      */
@@ -0,0 +1,240 @@
+package org.schemaanalyst.mutation;
+
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.constraint.Constraint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * A {@link Delta} for a mutation of a {@link Schema} that replaces, removes or
+ * adds a single constraint, which is how all of the schema mutation operators
+ * mutate a schema.
+ * </p>
+ *
+ * <p>
+ * The removed constraint is the constraint of the original schema, and the
+ * added constraint is the constraint of the mutant, so that the table and
+ * constraint changed by a mutant can be found without comparing the mutant
+ * with the original schema. A delta can also be applied in place to the
+ * original schema, or a copy of it made by {@link Schema#shallowDuplicate()}
+ * that has the same constraints, and undone again. Both constraints are found
+ * in a schema by identity, and each is put back at the position it has among
+ * the constraints of its kind on its table in the schema it came from.
+ * </p>
+ */
+public class SchemaDelta implements Delta<Schema> {
+
+    private final Constraint removedConstraint;
+    private final int removedPosition;
+    private final Constraint addedConstraint;
+    private final int addedPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param removedConstraint the constraint of the original schema that is
+     * removed or replaced, or null if a constraint is only added.
+     * @param removedPosition the position of the removed constraint among the
+     * constraints of its kind on its table in the original schema.
+     * @param addedConstraint the constraint that is added or replaces the
+     * removed constraint, or null if a constraint is only removed.
+     * @param addedPosition the position of the added constraint among the
+     * constraints of its kind on its table in the mutant.
+     */
+    public SchemaDelta(Constraint removedConstraint, int removedPosition,
+            Constraint addedConstraint, int addedPosition) {
+        if (removedConstraint == null && addedConstraint == null) {
+            throw new MutationException("A schema delta must remove or add a constraint");
+        }
+        if (removedConstraint != null && addedConstraint != null
+                && (removedConstraint.getClass() != addedConstraint.getClass()
+                || !removedConstraint.getTable().equals(addedConstraint.getTable()))) {
+            throw new MutationException("A constraint can only be replaced by a constraint of the same kind on the same table");
+        }
+        this.removedConstraint = removedConstraint;
+        this.removedPosition = removedPosition;
+        this.addedConstraint = addedConstraint;
+        this.addedPosition = addedPosition;
+    }
+
+    /**
+     * Finds the delta between a schema and a mutant of it made by
+     * {@link Schema#shallowDuplicate()}, by comparing the tables and
+     * constraints of each schema by identity.
+     *
+     * @param original The original schema
+     * @param mutant The mutant schema
+     * @return The delta, or null if the mutant does not share the tables of the
+     * original and differ from it by exactly one constraint
+     */
+    public static SchemaDelta between(Schema original, Schema mutant) {
+        List<Table> tables = original.getTables();
+        List<Table> mutantTables = mutant.getTables();
+        if (tables.size() != mutantTables.size()) {
+            return null;
+        }
+        for (int i = 0; i < tables.size(); i++) {
+            if (tables.get(i) != mutantTables.get(i)) {
+                return null;
+            }
+        }
+
+        SchemaDelta delta = null;
+        for (Table table : tables) {
+            List<Constraint> constraints = original.getConstraints(table);
+            List<Constraint> mutantConstraints = mutant.getConstraints(table);
+            List<Constraint> removed = subtract(constraints, mutantConstraints);
+            List<Constraint> added = subtract(mutantConstraints, constraints);
+
+            // the other constraints must be the same, in the same order
+            if (!sameConstraints(subtract(constraints, removed), subtract(mutantConstraints, added))) {
+                return null;
+            }
+            if (removed.isEmpty() && added.isEmpty()) {
+                continue;
+            }
+            if (delta != null || removed.size() > 1 || added.size() > 1) {
+                return null;
+            }
+
+            Constraint removedConstraint = removed.isEmpty() ? null : removed.get(0);
+            Constraint addedConstraint = added.isEmpty() ? null : added.get(0);
+            if (removedConstraint != null && addedConstraint != null
+                    && removedConstraint.getClass() != addedConstraint.getClass()) {
+                return null;
+            }
+
+            delta = new SchemaDelta(
+                    removedConstraint, removedConstraint == null ? 0 : original.getConstraintPosition(removedConstraint),
+                    addedConstraint, addedConstraint == null ? 0 : mutant.getConstraintPosition(addedConstraint));
+        }
+        return delta;
+    }
+
+    private static List<Constraint> subtract(List<Constraint> first, List<Constraint> second) {
+        Set<Constraint> secondSet = Collections.newSetFromMap(new IdentityHashMap<Constraint, Boolean>());
+        secondSet.addAll(second);
+        List<Constraint> difference = new ArrayList<>();
+        for (Constraint constraint : first) {
+            if (!secondSet.contains(constraint)) {
+                difference.add(constraint);
+            }
+        }
+        return difference;
+    }
+
+    private static boolean sameConstraints(List<Constraint> first, List<Constraint> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the constraint of the original schema that is removed or replaced.
+     *
+     * @return The constraint, or null if a constraint is only added
+     */
+    public Constraint getRemovedConstraint() {
+        return removedConstraint;
+    }
+
+    /**
+     * Gets the constraint that is added or replaces the removed constraint.
+     *
+     * @return The constraint, or null if a constraint is only removed
+     */
+    public Constraint getAddedConstraint() {
+        return addedConstraint;
+    }
+
+    /**
+     * Gets the constraint changed by the mutation, that is, the added
+     * constraint, or the removed constraint if no constraint is added.
+     *
+     * @return The constraint
+     */
+    public Constraint getChangedConstraint() {
+        return addedConstraint != null ? addedConstraint : removedConstraint;
+    }
+
+    /**
+     * Gets the table changed by the mutation.
+     *
+     * @return The table of the original schema
+     */
+    public Table getTable() {
+        return getChangedConstraint().getTable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(Schema schema) {
+        change(schema, removedConstraint, addedConstraint, addedPosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void undo(Schema schema) {
+        change(schema, addedConstraint, removedConstraint, removedPosition);
+    }
+
+    private static void change(Schema schema, Constraint from, Constraint to, int position) {
+        if (from != null && schema.removeConstraint(from) == -1) {
+            throw new MutationException("Constraint " + from + " is not in schema " + schema.getName());
+        }
+        if (to != null) {
+            schema.addConstraint(position, to);
+        }
+    }
+
+    /**
+     * Checks whether this delta still describes the difference between a
+     * schema and a mutant of it, which is not the case if the mutant was
+     * changed after the delta was recorded (e.g. by a {@link
+     * org.schemaanalyst.mutation.pipeline.MutantRemover} that removes a
+     * redundant constraint from it).
+     *
+     * @param original The original schema
+     * @param mutant The mutant schema
+     * @return Whether applying the delta to the original schema gives the
+     * constraints of the mutant
+     */
+    public boolean describes(Schema original, Schema mutant) {
+        SchemaDelta delta = between(original, mutant);
+        return delta != null
+                && delta.removedConstraint == removedConstraint
+                && delta.addedConstraint == addedConstraint
+                && delta.removedPosition == removedPosition
+                && delta.addedPosition == addedPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        if (removedConstraint == null) {
+            return "Added " + addedConstraint;
+        } else if (addedConstraint == null) {
+            return "Removed " + removedConstraint;
+        } else {
+            return "Replaced " + removedConstraint + " with " + addedConstraint;
+        }
+    }
+}
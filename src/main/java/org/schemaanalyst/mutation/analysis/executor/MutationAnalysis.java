@@ -8,21 +8,28 @@ import org.schemaanalyst.data.generation.DataGeneratorFactory;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DBMSFactory;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.ChunkedSchemataTechnique;
 import org.schemaanalyst.mutation.analysis.executor.technique.Technique;
 import org.schemaanalyst.mutation.analysis.executor.technique.TechniqueFactory;
+import org.schemaanalyst.mutation.analysis.executor.technique.VirtualPrefilterTechnique;
 import org.schemaanalyst.mutation.analysis.executor.testcase.DeletingTestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.DeletingTestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.MutantSubsumptionGraph;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestCaseScheduler;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.mutation.analysis.executor.util.MutationAnalysisJournal;
 import org.schemaanalyst.mutation.pipeline.MutationPipeline;
 import org.schemaanalyst.mutation.pipeline.MutationPipelineFactory;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlwriter.SQLWriter;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteCache;
 import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
 import org.schemaanalyst.testgeneration.TestSuiteGenerator;
 import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
@@ -116,6 +123,80 @@ public class MutationAnalysis extends Runner {
      */
     @Parameter("Whether to use transactions with this technique (if possible).")
     protected boolean useTransactions = false;
+    /**
+     * Whether to execute the INSERT statements of each test case as a JDBC
+     * batch (if not using transactions).
+     */
+    @Parameter("Whether to execute the INSERT statements of each test case as a"
+            + " JDBC batch (if not using transactions).")
+    protected boolean useBatchInserts = false;
+    /**
+     * Whether to isolate test cases by rolling back their INSERT statements,
+     * rather than deleting the rows of every table (if supported by the DBMS
+     * and not using transactions).
+     */
+    @Parameter("Whether to isolate test cases by rolling back their INSERT"
+            + " statements, rather than deleting the rows of every table (if"
+            + " supported by the DBMS and not using transactions).")
+    protected boolean useRollbackIsolation = false;
+    /**
+     * Whether to stop executing the test suite against a mutant at the first
+     * test case that kills it, executing first the test cases that have
+     * killed similar mutants (not supported by the minimal schemata
+     * technique).
+     */
+    @Parameter("Whether to stop executing the test suite against a mutant at"
+            + " the first test case that kills it, executing first the test"
+            + " cases that have killed similar mutants (not supported by the"
+            + " minimal schemata technique).")
+    protected boolean useEarlyExit = false;
+    /**
+     * Whether to build a subsumption graph of the mutants, skipping the rest
+     * of the test suite for a mutant once it is known to be subsumed, and to
+     * output the dominator mutants.
+     */
+    @Parameter("Whether to build a subsumption graph of the mutants, skipping"
+            + " the rest of the test suite for a mutant once it is known to be"
+            + " subsumed, and to output the dominator mutants.")
+    protected boolean useSubsumption = false;
+    /**
+     * The proportion of mutants with a certain virtual verdict that the
+     * virtualPrefilter technique also analyses on the DBMS, as an audit.
+     */
+    @Parameter("The proportion of mutants with a certain virtual verdict that"
+            + " the virtualPrefilter technique also analyses on the DBMS, as an"
+            + " audit.")
+    protected double auditRate = 0.05;
+    /**
+     * The cost budget, in tables and constraints, of each meta-schema created
+     * by the chunkedSchemata technique, or 0 to choose one for the DBMS and
+     * tune it from the measured latency.
+     */
+    @Parameter("The cost budget, in tables and constraints, of each meta-schema"
+            + " created by the chunkedSchemata technique, or 0 to choose one for"
+            + " the DBMS and tune it from the measured latency.")
+    protected int chunkBudget = 0;
+    /**
+     * The number of worker threads to use with parallel techniques.
+     */
+    @Parameter("The number of worker threads to use with parallel techniques.")
+    protected int threads = 4;
+    /**
+     * The number of mutants to analyse between checkpoints of their verdicts
+     * to the journal, or 0 to not keep a journal (unless resuming).
+     */
+    @Parameter("The number of mutants to analyse between checkpoints of their"
+            + " verdicts to the journal, or 0 to not keep a journal (unless"
+            + " resuming).")
+    protected int checkpointInterval = 0;
+    /**
+     * Whether to reload the journal of verdicts kept by an earlier run with
+     * the same test suite, and only analyse the mutants without a verdict.
+     */
+    @Parameter("Whether to reload the journal of verdicts kept by an earlier"
+            + " run with the same test suite, and only analyse the mutants"
+            + " without a verdict.")
+    protected boolean resume = false;
     /**
      * The location of the input test suite to load, which will be used instead
      * of generating a new test suite.
@@ -123,6 +204,15 @@ public class MutationAnalysis extends Runner {
     @Parameter("The location of the input test suite to load, which will be used"
             + " instead of generating a new test suite.")
     protected String inputTestSuite = null;
+    /**
+     * Whether to reuse a test suite previously generated with the same
+     * parameters, if one is in the test suite cache, and to store generated
+     * test suites in the cache.
+     */
+    @Parameter("Whether to reuse a test suite previously generated with the same"
+            + " parameters, if one is in the test suite cache, and to store"
+            + " generated test suites in the cache.")
+    protected boolean useTestSuiteCache = true;
     /**
      * The instantiated schema.
      */
@@ -139,11 +229,25 @@ public class MutationAnalysis extends Runner {
      * The interactor for the DBMS.
      */
     protected DatabaseInteractor databaseInteractor;
+    /**
+     * The pool that the interactor is borrowed from.
+     */
+    protected DatabaseInteractorPool databaseInteractorPool;
     /**
      * The report produced when generating the test suite.
      */
     private TestSuiteGenerationReport generationReport;
 
+    /**
+     * The entry of the test suite cache that the test suite was reused from,
+     * if any.
+     */
+    private TestSuiteCache.Entry testSuiteCacheEntry;
+    /**
+     * The subsumption graph built while analysing the mutants, if any.
+     */
+    private MutantSubsumptionGraph subsumptionGraph;
+
     private static final Logger LOGGER = Logger.getLogger(MutationAnalysis.class.getName());
 
     @Override
@@ -159,33 +263,42 @@ public class MutationAnalysis extends Runner {
         StopWatch mutationAnalysisTime = new StopWatch();
         totalTime.start();
 
-        // Generate test suite and mutants, apply mutation analysis technique
-        final TestSuite suite = Timing.timedTask(new Callable<TestSuite>() {
-            @Override
-            public TestSuite call() throws Exception {
-                return instantiateTestSuite();
-            }
-        }, testGenerationTime);
-        final List<Mutant<Schema>> mutants = Timing.timedTask(new Callable<List<Mutant<Schema>>>() {
-            @Override
-            public List<Mutant<Schema>> call() throws Exception {
-                return generateMutants();
-            }
-        }, mutantGenerationTime);
-        final TestSuiteResult originalResults = Timing.timedTask(new Callable<TestSuiteResult>() {
-            @Override
-            public TestSuiteResult call() throws Exception {
-                return executeTestSuite(schema, suite);
-            }
-        }, originalResultsTime);
+        // Generate test suite and mutants, apply mutation analysis technique,
+        // giving back the interactor even if one of them fails
+        final TestSuite suite;
+        final List<Mutant<Schema>> mutants;
+        final TestSuiteResult originalResults;
+        AnalysisResult analysisResult;
+        databaseInteractor = databaseInteractorPool.borrow();
+        try {
+            suite = Timing.timedTask(new Callable<TestSuite>() {
+                @Override
+                public TestSuite call() throws Exception {
+                    return instantiateTestSuite();
+                }
+            }, testGenerationTime);
+            mutants = Timing.timedTask(new Callable<List<Mutant<Schema>>>() {
+                @Override
+                public List<Mutant<Schema>> call() throws Exception {
+                    return generateMutants();
+                }
+            }, mutantGenerationTime);
+            originalResults = Timing.timedTask(new Callable<TestSuiteResult>() {
+                @Override
+                public TestSuiteResult call() throws Exception {
+                    return executeTestSuite(schema, suite);
+                }
+            }, originalResultsTime);
 
-        final Technique mutTechnique = instantiateTechnique(schema, mutants, suite, dbms, databaseInteractor);
-        AnalysisResult analysisResult = Timing.timedTask(new Callable<AnalysisResult>() {
-            @Override
-            public AnalysisResult call() throws Exception {
-                return mutTechnique.analyse(originalResults);
-            }
-        }, mutationAnalysisTime);
+            analysisResult = Timing.timedTask(new Callable<AnalysisResult>() {
+                @Override
+                public AnalysisResult call() throws Exception {
+                    return analyse(mutants, suite, originalResults);
+                }
+            }, mutationAnalysisTime);
+        } finally {
+            databaseInteractorPool.giveBack(databaseInteractor);
+        }
 
         // Stop timing
         totalTime.stop();
@@ -208,7 +321,9 @@ public class MutationAnalysis extends Runner {
         result.addValue("scoredenominator", mutants.size());
         result.addValue("technique", technique);
         result.addValue("transactions", useTransactions);
-        result.addValue("testgenerationtime", testGenerationTime.getTime());
+        // a reused test suite reports the time originally taken to generate it
+        result.addValue("testgenerationtime", testSuiteCacheEntry != null
+                ? testSuiteCacheEntry.getGenerationTime() : testGenerationTime.getTime());
         result.addValue("mutantgenerationtime", mutantGenerationTime.getTime());
         result.addValue("originalresultstime", originalResultsTime.getTime());
         result.addValue("mutationanalysistime", mutationAnalysisTime.getTime());
@@ -235,16 +350,20 @@ public class MutationAnalysis extends Runner {
         if (outputMutantsDetailed_v2) {
             writeDetailedMutantReport_v2(analysisResult);
         }
+
+        if (useSubsumption) {
+            writeDominatorMutantReport(subsumptionGraph);
+        }
     }
 
     /**
-     * Instantiates the DBMS class, SQL writer and interactor.
+     * Instantiates the DBMS class, SQL writer and interactor pool.
      */
     private void instantiateParameters() {
         // Get the required DBMS class, writer and interactor
         dbms = DBMSFactory.instantiate(databaseConfiguration.getDbms());
         sqlWriter = dbms.getSQLWriter();
-        databaseInteractor = dbms.getDatabaseInteractor(casestudy, databaseConfiguration, locationsConfiguration);
+        databaseInteractorPool = DatabaseInteractorPool.getPool(dbms, casestudy, databaseConfiguration, locationsConfiguration);
 
         // Get the required schema class
         try {
@@ -254,8 +373,103 @@ public class MutationAnalysis extends Runner {
         }
     }
 
+    /**
+     * Analyses the mutants with the technique. If a journal is kept, the
+     * mutants are analysed in batches of {@link #checkpointInterval} mutants,
+     * each with its own instance of the technique, and the verdicts of each
+     * batch are appended to the journal once it is analysed. When resuming,
+     * the mutants with a verdict in the journal are not analysed again.
+     *
+     * @param mutants The mutants
+     * @param suite The test suite
+     * @param originalResults The results of the test suite for the schema
+     * @return The result of analysing every mutant
+     */
+    private AnalysisResult analyse(List<Mutant<Schema>> mutants, TestSuite suite, TestSuiteResult originalResults) {
+        if (checkpointInterval == 0 && !resume) {
+            Technique mutTechnique = instantiateTechnique(schema, mutants, suite, dbms, databaseInteractor);
+            AnalysisResult result = mutTechnique.analyse(originalResults);
+            subsumptionGraph = mutTechnique.getSubsumptionGraph();
+            return result;
+        }
+
+        // Fingerprint the mutants before any technique renames their tables
+        Map<Mutant<Schema>, String> mutantKeys = new IdentityHashMap<>();
+        for (Mutant<Schema> mutant : mutants) {
+            mutantKeys.put(mutant, MutationAnalysisJournal.createMutantKey(mutant, dbms));
+        }
+        MutationAnalysisJournal journal = new MutationAnalysisJournal(new File(locationsConfiguration.getJournalDir()),
+                MutationAnalysisJournal.createTestSuiteKey(schema, dbms, suite));
+        Map<String, Boolean> verdicts;
+        if (resume) {
+            verdicts = journal.read();
+        } else {
+            journal.clear();
+            verdicts = new HashMap<>();
+        }
+
+        List<Mutant<Schema>> remainingMutants = new ArrayList<>();
+        for (Mutant<Schema> mutant : mutants) {
+            if (!verdicts.containsKey(mutantKeys.get(mutant))) {
+                remainingMutants.add(mutant);
+            }
+        }
+        if (resume) {
+            LOGGER.log(Level.INFO, "Resuming from journal {0}, with {1} of {2} mutants already analysed",
+                    new Object[]{journal.getFile(), mutants.size() - remainingMutants.size(), mutants.size()});
+        }
+
+        // Share early exit and subsumption state between the batches
+        TestCaseScheduler testCaseScheduler = useEarlyExit ? new TestCaseScheduler(suite, remainingMutants) : null;
+        subsumptionGraph = useSubsumption ? new MutantSubsumptionGraph(suite) : null;
+        int batchSize = checkpointInterval > 0 ? checkpointInterval : Math.max(1, remainingMutants.size());
+        for (int start = 0; start < remainingMutants.size(); start += batchSize) {
+            List<Mutant<Schema>> batch = new ArrayList<>(remainingMutants.subList(start, Math.min(start + batchSize, remainingMutants.size())));
+            Technique mutTechnique = instantiateTechnique(schema, batch, suite, dbms, databaseInteractor);
+            mutTechnique.setTestCaseScheduler(testCaseScheduler);
+            mutTechnique.setSubsumptionGraph(subsumptionGraph);
+            AnalysisResult batchResult = mutTechnique.analyse(originalResults);
+
+            Map<String, Boolean> batchVerdicts = new LinkedHashMap<>();
+            for (Mutant<Schema> mutant : batchResult.getKilled()) {
+                batchVerdicts.put(mutantKeys.get(mutant), true);
+            }
+            for (Mutant<Schema> mutant : batchResult.getLive()) {
+                batchVerdicts.put(mutantKeys.get(mutant), false);
+            }
+            journal.append(batchVerdicts);
+            verdicts.putAll(batchVerdicts);
+            LOGGER.log(Level.FINE, "Checkpointed verdicts of {0} of {1} mutants",
+                    new Object[]{mutants.size() - remainingMutants.size() + start + batch.size(), mutants.size()});
+        }
+
+        // Collate the verdicts in mutant order
+        AnalysisResult result = new AnalysisResult();
+        for (Mutant<Schema> mutant : mutants) {
+            if (verdicts.get(mutantKeys.get(mutant))) {
+                result.addKilled(mutant);
+            } else {
+                result.addLive(mutant);
+            }
+        }
+        return result;
+    }
+
     private Technique instantiateTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor) {
-        return TechniqueFactory.instantiate(technique, schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+        Technique mutTechnique = TechniqueFactory.instantiate(technique, schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+        mutTechnique.setUseBatchInserts(useBatchInserts);
+        mutTechnique.setUseRollbackIsolation(useRollbackIsolation);
+        mutTechnique.setUseEarlyExit(useEarlyExit);
+        mutTechnique.setUseSubsumption(useSubsumption);
+        if (mutTechnique instanceof VirtualPrefilterTechnique) {
+            ((VirtualPrefilterTechnique) mutTechnique).setAudit(auditRate, randomseed);
+        }
+        if (mutTechnique instanceof ChunkedSchemataTechnique) {
+            ((ChunkedSchemataTechnique) mutTechnique).setChunkBudget(chunkBudget);
+        }
+        mutTechnique.setThreads(threads);
+        mutTechnique.setDatabaseInteractorPool(databaseInteractorPool);
+        return mutTechnique;
     }
 
     /**
@@ -272,8 +486,27 @@ public class MutationAnalysis extends Runner {
     }
 
     private TestSuite generateTestSuite() {
+        final int maxEvaluations = 100000;
+
+        // Reuse a previously generated test suite, if possible
+        TestSuiteCache testSuiteCache = null;
+        String testSuiteCacheKey = null;
+        if (useTestSuiteCache) {
+            testSuiteCache = new TestSuiteCache(new File(locationsConfiguration.getTestSuiteCacheDir()));
+            testSuiteCacheKey = TestSuiteCache.createKey(schema, dbms, criterion, dataGenerator, randomseed, maxEvaluations);
+            testSuiteCacheEntry = testSuiteCache.get(testSuiteCacheKey);
+            if (testSuiteCacheEntry != null) {
+                LOGGER.log(Level.INFO, "Reusing test suite from the test suite cache");
+                generationReport = testSuiteCacheEntry.getTestSuiteGenerationReport();
+                return testSuiteCacheEntry.getTestSuite();
+            }
+        }
+
+        StopWatch generationTime = new StopWatch();
+        generationTime.start();
+
         // Initialise from factories
-        final DataGenerator dataGen = DataGeneratorFactory.instantiate(dataGenerator, randomseed, 100000, schema);
+        final DataGenerator dataGen = DataGeneratorFactory.instantiate(dataGenerator, randomseed, maxEvaluations, schema);
         final TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(criterion, schema, dbms).generateRequirements();
 
         // Filter and reduce test requirements
@@ -295,6 +528,11 @@ public class MutationAnalysis extends Runner {
 
         // Ensure the test suite contains no warnings
         verifyTestSuite(testSuite);
+        generationTime.stop();
+
+        if (testSuiteCache != null) {
+            testSuiteCache.put(testSuiteCacheKey, testSuite, generationReport, generationTime.getTime());
+        }
 
         return testSuite;
     }
@@ -357,6 +595,8 @@ public class MutationAnalysis extends Runner {
      */
     private TestSuiteResult executeTestSuite(Schema schema, TestSuite suite) {
         TestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+        caseExecutor.setBatchInserts(useBatchInserts);
+        caseExecutor.setRollbackIsolation(useRollbackIsolation);
         TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
         return suiteExecutor.executeTestSuite(caseExecutor, suite);
     }
@@ -507,9 +747,37 @@ public class MutationAnalysis extends Runner {
         }
     }
 
+    private void writeDominatorMutantReport(MutantSubsumptionGraph subsumptionGraph) {
+        CSVFileWriter writer = new CSVFileWriter(locationsConfiguration.getResultsDir() + File.separator + "dominatormutantreport.dat");
+        UUID identifier = UUID.randomUUID();
+
+        LOGGER.log(Level.INFO, "Found {0} dominator mutants, skipping the rest"
+                + " of the test suite for {1} subsumed mutants",
+                new Object[]{subsumptionGraph.getDominators().size(), subsumptionGraph.getNumSubsumedMutants()});
+
+        for (Mutant<Schema> mutant : subsumptionGraph.getDominators()) {
+            CSVResult mResult = new CSVResult();
+            mResult.addValue("identifier", identifier);
+            mResult.addValue("mutant", mutant.getIdentifier());
+            mResult.addValue("dbms", databaseConfiguration.getDbms());
+            mResult.addValue("casestudy", casestudy);
+            mResult.addValue("criterion", inputTestSuite == null ? criterion : "NA");
+            mResult.addValue("datagenerator", inputTestSuite == null ? dataGenerator : "NA");
+            mResult.addValue("randomseed", randomseed);
+            mResult.addValue("testsuitefile", inputTestSuite == null ? "NA" : Paths.get(inputTestSuite).getFileName());
+            mResult.addValue("technique", technique);
+            mResult.addValue("operator", mutant.getSimpleDescription());
+            mResult.addValue("killingtests", subsumptionGraph.getKillingTestCases(mutant).size());
+            mResult.addValue("equivalentmutants", subsumptionGraph.getEquivalentMutants(mutant).size());
+            writer.write(mResult);
+        }
+    }
+
     @Override
     protected void validateParameters() {
-        // Do nothing
+        check(auditRate >= 0 && auditRate <= 1, "auditRate should be between 0 and 1");
+        check(chunkBudget >= 0, "chunkBudget should not be negative");
+        check(checkpointInterval >= 0, "checkpointInterval should not be negative");
     }
 
     public static void main(String[] args) {
@@ -10,6 +10,8 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.logging.Logger;
 import org.apache.commons.lang3.time.StopWatch;
 import org.schemaanalyst.configuration.DatabaseConfiguration;
@@ -18,7 +20,9 @@ import org.schemaanalyst.data.generation.DataGenerator;
 import org.schemaanalyst.data.generation.DataGeneratorFactory;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.mutation.Delta;
 import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.SchemaDelta;
 import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
 import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualTestCaseExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.VirtualTestSuiteExecutor;
@@ -86,6 +90,11 @@ public class MutationAnalysisVirtual extends Runner {
     @Parameter("The location of the input test suite to load, which will be used"
             + " instead of generating a new test suite.")
     protected String inputTestSuite = null;
+    /**
+     * The number of threads to analyse mutants with.
+     */
+    @Parameter("The number of threads to analyse mutants with, where 1 analyses them one at a time.")
+    protected int threads = 1;
     /**
      * The instantiated schema.
      */
@@ -99,6 +108,12 @@ public class MutationAnalysisVirtual extends Runner {
      */
     private TestSuiteGenerationReport generationReport;
     
+    /**
+     * The largest number of mutants that a parallel task analyses itself,
+     * rather than splitting them between two subtasks.
+     */
+    private static final int MUTANTS_PER_TASK = 4;
+
     private static final Logger LOGGER = Logger.getLogger(MutationAnalysisVirtual.class.getName());
     
     @Override
@@ -162,6 +177,7 @@ public class MutationAnalysisVirtual extends Runner {
         result.addValue("scoredenominator", mutants.size());
         result.addValue("technique", "virtual");
         result.addValue("transactions", "false");
+        result.addValue("threads", threads);
         result.addValue("testgenerationtime", testGenerationTime.getTime());
         result.addValue("mutantgenerationtime", mutantGenerationTime.getTime());
         result.addValue("originalresultstime", originalResultsTime.getTime());
@@ -276,16 +292,37 @@ public class MutationAnalysisVirtual extends Runner {
     }
     
     protected VirtualTestSuiteResult executeTestSuite(Schema schema, TestSuite suite) {
-        VirtualTestCaseExecutor caseExecutor = new VirtualTestCaseExecutor(schema, dbms);
+        return executeTestSuite(new VirtualTestCaseExecutor(schema, dbms), suite);
+    }
+
+    private VirtualTestSuiteResult executeTestSuite(VirtualTestCaseExecutor caseExecutor, TestSuite suite) {
         VirtualTestSuiteExecutor suiteExecutor = new VirtualTestSuiteExecutor();
         return suiteExecutor.executeTestSuite(caseExecutor, suite);
     }
     
     protected AnalysisResult analyse(TestSuite suite, List<Mutant<Schema>> mutants, VirtualTestSuiteResult originalResult) {
+        // each thread applies the deltas of its mutants to a working schema of its own
+        ThreadLocal<WorkingSchema> workingSchemas = new ThreadLocal<WorkingSchema>() {
+            @Override
+            protected WorkingSchema initialValue() {
+                return new WorkingSchema();
+            }
+        };
+        if (threads > 1) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                return pool.invoke(new AnalyseTask(suite, mutants, originalResult, workingSchemas));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return analyseSerially(suite, mutants, originalResult, workingSchemas.get());
+    }
+
+    private AnalysisResult analyseSerially(TestSuite suite, List<Mutant<Schema>> mutants, VirtualTestSuiteResult originalResult, WorkingSchema workingSchema) {
         AnalysisResult result = new AnalysisResult();
         for (Mutant<Schema> mutant : mutants) {
-            Schema mutantSchema = mutant.getMutatedArtefact();
-            VirtualTestSuiteResult mutantResult = executeTestSuite(mutantSchema, suite);
+            VirtualTestSuiteResult mutantResult = workingSchema.executeTestSuite(mutant, suite);
             if (Objects.equals(originalResult, mutantResult)) {
                 result.addLive(mutant);
             } else {
@@ -294,10 +331,77 @@ public class MutationAnalysisVirtual extends Runner {
         }
         return result;
     }
+
+    /**
+     * A copy of the schema made by {@link Schema#shallowDuplicate()}, to which
+     * the {@link SchemaDelta} of each mutant is applied in place and then
+     * undone, rather than executing the test suite against the mutant's own
+     * schema. The acceptance predicates compiled for the tables that a mutant
+     * does not change are kept for the next mutant. Mutants without a delta,
+     * or whose delta no longer describes them, are executed as before.
+     */
+    private class WorkingSchema {
+
+        private Schema workingSchema = schema.shallowDuplicate();
+        private VirtualTestCaseExecutor caseExecutor = new VirtualTestCaseExecutor(workingSchema, dbms);
+
+        VirtualTestSuiteResult executeTestSuite(Mutant<Schema> mutant, TestSuite suite) {
+            Delta<Schema> delta = mutant.getDelta();
+            if (!(delta instanceof SchemaDelta)
+                    || !((SchemaDelta) delta).describes(schema, mutant.getMutatedArtefact())) {
+                return MutationAnalysisVirtual.this.executeTestSuite(mutant.getMutatedArtefact(), suite);
+            }
+
+            SchemaDelta schemaDelta = (SchemaDelta) delta;
+            schemaDelta.apply(workingSchema);
+            caseExecutor.clearAcceptancePredicate(schemaDelta.getTable());
+            try {
+                return MutationAnalysisVirtual.this.executeTestSuite(caseExecutor, suite);
+            } finally {
+                schemaDelta.undo(workingSchema);
+                caseExecutor.clearAcceptancePredicate(schemaDelta.getTable());
+            }
+        }
+    }
+
+    /**
+     * Analyses a list of mutants by splitting it in half until the parts are
+     * small, analysing each part on its own. The results of the two halves are
+     * merged in order, so the killed and live mutants are listed in the same
+     * order as when they are analysed one at a time.
+     */
+    private class AnalyseTask extends RecursiveTask<AnalysisResult> {
+
+        private TestSuite suite;
+        private List<Mutant<Schema>> mutants;
+        private VirtualTestSuiteResult originalResult;
+        private ThreadLocal<WorkingSchema> workingSchemas;
+
+        AnalyseTask(TestSuite suite, List<Mutant<Schema>> mutants, VirtualTestSuiteResult originalResult, ThreadLocal<WorkingSchema> workingSchemas) {
+            this.suite = suite;
+            this.mutants = mutants;
+            this.originalResult = originalResult;
+            this.workingSchemas = workingSchemas;
+        }
+
+        @Override
+        protected AnalysisResult compute() {
+            if (mutants.size() <= MUTANTS_PER_TASK) {
+                return analyseSerially(suite, mutants, originalResult, workingSchemas.get());
+            }
+            int middle = mutants.size() / 2;
+            AnalyseTask first = new AnalyseTask(suite, mutants.subList(0, middle), originalResult, workingSchemas);
+            AnalyseTask second = new AnalyseTask(suite, mutants.subList(middle, mutants.size()), originalResult, workingSchemas);
+            second.fork();
+            AnalysisResult result = first.compute();
+            result.addAll(second.join());
+            return result;
+        }
+    }
     
     @Override
     protected void validateParameters() {
-        // Do nothing
+        check(threads > 0, "threads should be 1 or greater");
     }
 
     public static void main(String[] args) {
@@ -34,6 +34,7 @@ public abstract class AbstractSchemataTechnique extends Technique {
     protected static void renameMutants(List<Mutant<Schema>> mutants) {
         for (int i = 0; i < mutants.size(); i++) {
             Schema mutantSchema = mutants.get(i).getMutatedArtefact();
+            mutantSchema.unshareAll();
             for (Table table : mutantSchema.getTablesInOrder()) {
                 table.setName("mutant_" + (i + 1) + "_" + table.getName());
             }
@@ -46,9 +47,16 @@ public abstract class AbstractSchemataTechnique extends Technique {
         }
     }
 
-    protected TestSuiteResult executeTestSuiteSchemata(Schema schema, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
-        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, databaseInteractor, schemataPrefix);
+    protected TestSuiteResult executeTestSuiteSchemata(Mutant<Schema> mutant, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
+        return executeTestSuiteSchemata(mutant, suite, schemataPrefix, originalResults, databaseInteractor);
+    }
+
+    protected TestSuiteResult executeTestSuiteSchemata(Mutant<Schema> mutant, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults, DatabaseInteractor interactor) {
+        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(mutant.getMutatedArtefact(), dbms, interactor, schemataPrefix);
+        caseExecutor.setBatchInserts(useBatchInserts);
+        caseExecutor.setRollbackIsolation(useRollbackIsolation);
         TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
+        enableEarlyExit(suiteExecutor, mutant, originalResults);
         if (!useTransactions || originalResults == null) {
             return suiteExecutor.executeTestSuite(caseExecutor, suite);
         } else {
@@ -29,6 +29,17 @@ public class AnalysisResult {
         live.add(mutant);
     }
 
+    /**
+     * Adds the killed and live mutants of another result, after those of
+     * this result.
+     *
+     * @param other The other result
+     */
+    public void addAll(AnalysisResult other) {
+        killed.addAll(other.killed);
+        live.addAll(other.live);
+    }
+
     public List<Mutant<Schema>> getKilled() {
         return killed;
     }
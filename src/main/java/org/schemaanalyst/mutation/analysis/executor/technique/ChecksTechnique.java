@@ -61,6 +61,8 @@ public class ChecksTechnique extends Technique {
         
         // Execute test suite
         ChecksTestCaseExecutor caseExecutor = new ChecksTestCaseExecutor(schema, dbms, databaseInteractor);
+        caseExecutor.setBatchInserts(useBatchInserts);
+        caseExecutor.setRollbackIsolation(useRollbackIsolation);
         ChecksTestSuiteExecutor suiteExecutor = new ChecksTestSuiteExecutor();
         for (int i = 0; i < mutants.size(); i++) {
 //            System.out.println("MUTANT " + i);
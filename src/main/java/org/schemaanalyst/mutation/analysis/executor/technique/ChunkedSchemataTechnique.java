@@ -0,0 +1,139 @@
+package org.schemaanalyst.mutation.analysis.executor.technique;
+
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * The 'Chunked Schemata' mutation analysis approach. Rather than creating
+ * every mutant in one meta-schema, like the 'Full Schemata' and 'Up Front
+ * Schemata' approaches, the mutants are split into chunks by a
+ * {@link SchemataChunker}, and each chunk is created as its own meta-schema,
+ * analysed and dropped. The chunks are analysed in parallel, each worker
+ * thread using its own connection.
+ * </p>
+ */
+public class ChunkedSchemataTechnique extends AbstractSchemataTechnique {
+
+    protected int chunkBudget = 0;
+
+    public ChunkedSchemataTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
+        super(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+    }
+
+    /**
+     * Sets the cost budget of each chunk, in tables and constraints.
+     *
+     * @param chunkBudget The budget, or 0 to choose one for the DBMS and tune
+     * it from the measured latency
+     * @see SchemataChunker
+     */
+    public void setChunkBudget(int chunkBudget) {
+        this.chunkBudget = chunkBudget;
+    }
+
+    @Override
+    public AnalysisResult analyse(TestSuiteResult originalResults) {
+        // Rename the mutants, but build drop and create statements per chunk
+        renameMutants(mutants);
+        SchemataChunker chunker = new SchemataChunker(mutants, dbms, chunkBudget);
+        boolean[] killed = new boolean[mutants.size()];
+
+        // Execute mutation analysis using thread pool
+        int workers = Math.max(1, Math.min(threads, mutants.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(new ChunkCallable(chunker, originalResults, killed)));
+        }
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Collate the results in mutant order
+        AnalysisResult result = new AnalysisResult();
+        for (int mutantId = 0; mutantId < mutants.size(); mutantId++) {
+            if (killed[mutantId]) {
+                result.addKilled(mutants.get(mutantId));
+            } else {
+                result.addLive(mutants.get(mutantId));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Class implementing the code for one worker thread, which analyses
+     * chunks on its own connection until there are none left.
+     */
+    private class ChunkCallable implements Callable<Void> {
+
+        private final SchemataChunker chunker;
+        private final TestSuiteResult originalResults;
+        private final boolean[] killed;
+
+        public ChunkCallable(SchemataChunker chunker, TestSuiteResult originalResults, boolean[] killed) {
+            this.chunker = chunker;
+            this.originalResults = originalResults;
+            this.killed = killed;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            DatabaseInteractor interactor = acquireInteractor();
+            try {
+                SchemataChunker.Chunk chunk;
+                while ((chunk = chunker.nextChunk()) != null) {
+                    analyseChunk(chunk, interactor);
+                }
+            } finally {
+                databaseInteractor.addInteractions(interactor);
+                releaseInteractor(interactor);
+            }
+            return null;
+        }
+
+        private void analyseChunk(SchemataChunker.Chunk chunk, DatabaseInteractor interactor) {
+            String chunkDropStmt = buildDrop(chunk.getMutants());
+            String chunkCreateStmt = buildCreate(chunk.getMutants());
+
+            long start = System.nanoTime();
+            interactor.executeUpdate(chunkDropStmt);
+            interactor.executeUpdate(chunkCreateStmt);
+            long createNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int testCases = 0;
+            for (int i = 0; i < chunk.getMutants().size(); i++) {
+                int mutantId = chunk.getStart() + i;
+                String schemataPrefix = "mutant_" + (mutantId + 1) + "_";
+                TestSuiteResult mutantResults = executeTestSuiteSchemata(chunk.getMutants().get(i), testSuite, schemataPrefix, originalResults, interactor);
+                killed[mutantId] = !originalResults.equals(mutantResults);
+                testCases += mutantResults.getResultCount();
+            }
+            long testCaseNanos = System.nanoTime() - start;
+
+            interactor.executeUpdate(chunkDropStmt);
+            chunker.recordLatency(chunk, createNanos, testCases, testCaseNanos);
+        }
+    }
+
+}
@@ -41,6 +41,8 @@ public class DummyTechnique extends Technique {
      */
     private TestSuiteResult executeTestSuite(Schema schema, TestSuite suite) {
             TestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+            caseExecutor.setBatchInserts(useBatchInserts);
+            caseExecutor.setRollbackIsolation(useRollbackIsolation);
             TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
             return suiteExecutor.executeTestSuite(caseExecutor, suite);
     }
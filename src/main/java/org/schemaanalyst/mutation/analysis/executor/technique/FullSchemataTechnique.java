@@ -33,7 +33,7 @@ public class FullSchemataTechnique extends AbstractSchemataTechnique {
         int mutantId = 0;
         for (Mutant<Schema> mutant : mutants) {
             String schemataPrefix = "mutant_" + (mutantId + 1) + "_";
-            TestSuiteResult mutantResults = executeTestSuiteSchemata(mutant.getMutatedArtefact(), testSuite, schemataPrefix, originalResults);
+            TestSuiteResult mutantResults = executeTestSuiteSchemata(mutant, testSuite, schemataPrefix, originalResults);
             if (!originalResults.equals(mutantResults)) {
                 result.addKilled(mutant);
             } else {
@@ -41,6 +41,10 @@ public class JustInTimeSchemataTechnique extends AbstractSchemataTechnique {
         Map<Mutant<Schema>, Future<MutantStatus>> callResults = startExecution(originalResults, executor);
         AnalysisResult result = collateResults(callResults);
         executor.shutdown();
+        for (DatabaseInteractor threadInteractor : threadInteractors.values()) {
+            releaseInteractor(threadInteractor);
+        }
+        threadInteractors.clear();
         
         // Return result
         return result;
@@ -119,16 +123,19 @@ public class JustInTimeSchemataTechnique extends AbstractSchemataTechnique {
 
         @Override
         public MutantStatus call() throws Exception {
-            TestSuiteResult mutantResults = executeTestSuiteSchemata(mutant.getMutatedArtefact(), testSuite, schemataPrefix, originalResults);
+            TestSuiteResult mutantResults = executeTestSuiteSchemata(mutant, testSuite, schemataPrefix, originalResults);
             return originalResults.equals(mutantResults) ? MutantStatus.ALIVE : MutantStatus.KILLED;
         }
     }
 
     @Override
-    protected TestSuiteResult executeTestSuiteSchemata(Schema schema, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
+    protected TestSuiteResult executeTestSuiteSchemata(Mutant<Schema> mutant, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
         DatabaseInteractor threadInteractor = getInteractorForThread(Thread.currentThread());
-        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, threadInteractor, schemataPrefix);
+        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(mutant.getMutatedArtefact(), dbms, threadInteractor, schemataPrefix);
+        caseExecutor.setBatchInserts(useBatchInserts);
+        caseExecutor.setRollbackIsolation(useRollbackIsolation);
         TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
+        enableEarlyExit(suiteExecutor, mutant, originalResults);
         TestSuiteResult result = suiteExecutor.executeTestSuite(caseExecutor, suite);
         databaseInteractor.addInteractions(threadInteractor);
         return result;
@@ -137,7 +144,7 @@ public class JustInTimeSchemataTechnique extends AbstractSchemataTechnique {
     protected synchronized DatabaseInteractor getInteractorForThread(Thread thread) {
         String threadName = thread.getName();
         if (!threadInteractors.containsKey(threadName)) {
-            threadInteractors.put(threadName, databaseInteractor.duplicate());
+            threadInteractors.put(threadName, acquireInteractor());
         }
         return threadInteractors.get(threadName);
     }
@@ -70,24 +70,36 @@ public class MinimalSchemataTechnique extends Technique {
             resultMap.put(i, new TestSuiteResult());
         }
 
-        // Execute test suite
+        // Execute test suite, either deleting the rows of every table before
+        // each test case or rolling back each test case's INSERTs
+        boolean isolateByRollback = useRollbackIsolation && !useTransactions && databaseInteractor.supportsIsolation();
         executeDropStmts();
         executeCreateStmts();
         for (TestCase testCase : testSuite.getTestCases()) {
-            executeDeleteStmts();
-            TestCaseResult normalTestResult = null;
-            Map<Integer, TestCaseResult> failedMutants = new HashMap<>();
-
-            Data data = testCase.getState();
-            normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
-            data = testCase.getData();
-            normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
-            if (normalTestResult == null) {
-                for (int i = 0; i < mutants.size(); i++) {
-                    if (!failedMutants.containsKey(i)) {
-                        resultMap.get(i).add(testCase, TestCaseResult.SuccessfulTestCaseResult);
+            if (isolateByRollback) {
+                databaseInteractor.beginIsolation();
+            } else {
+                executeDeleteStmts();
+            }
+            try {
+                TestCaseResult normalTestResult = null;
+                Map<Integer, TestCaseResult> failedMutants = new HashMap<>();
+
+                Data data = testCase.getState();
+                normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
+                data = testCase.getData();
+                normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
+                if (normalTestResult == null) {
+                    for (int i = 0; i < mutants.size(); i++) {
+                        if (!failedMutants.containsKey(i)) {
+                            resultMap.get(i).add(testCase, TestCaseResult.SuccessfulTestCaseResult);
+                        }
                     }
                 }
+            } finally {
+                if (isolateByRollback) {
+                    databaseInteractor.endIsolation();
+                }
             }
 
         }
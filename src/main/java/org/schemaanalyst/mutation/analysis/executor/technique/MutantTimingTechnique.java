@@ -83,6 +83,8 @@ public class MutantTimingTechnique extends OriginalTechnique {
      */
     private TestSuiteResult executeTestSuite(Schema schema, TestSuite suite, TestSuiteResult originalResults) {
         TestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+        caseExecutor.setBatchInserts(useBatchInserts);
+        caseExecutor.setRollbackIsolation(useRollbackIsolation);
         TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
         if (!useTransactions || originalResults == null) {
             return suiteExecutor.executeTestSuite(caseExecutor, suite);
@@ -29,7 +29,7 @@ public class OriginalTechnique extends Technique {
     public AnalysisResult analyse(TestSuiteResult originalResults) {
         AnalysisResult result = new AnalysisResult();
         for (Mutant<Schema> mutant : mutants) {
-            TestSuiteResult mutantResults = executeTestSuite(mutant.getMutatedArtefact(), testSuite, originalResults);
+            TestSuiteResult mutantResults = executeTestSuite(mutant, testSuite, originalResults);
             if (!originalResults.equals(mutantResults)) {
                 result.addKilled(mutant);
             } else {
@@ -41,16 +41,19 @@ public class OriginalTechnique extends Technique {
 
     /**
      * Executes all {@link TestCase}s in a {@link TestSuite} for a given
-     * {@link Schema}.
+     * {@link Mutant}.
      *
-     * @param schema The schema
+     * @param mutant The mutant
      * @param suite The test suite
      * @param originalResults The expected results, if known
      * @return The execution results
      */
-    private TestSuiteResult executeTestSuite(Schema schema, TestSuite suite, TestSuiteResult originalResults) {
-        TestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(schema, dbms, databaseInteractor);
+    private TestSuiteResult executeTestSuite(Mutant<Schema> mutant, TestSuite suite, TestSuiteResult originalResults) {
+        TestCaseExecutor caseExecutor = new DeletingTestCaseExecutor(mutant.getMutatedArtefact(), dbms, databaseInteractor);
+        caseExecutor.setBatchInserts(useBatchInserts);
+        caseExecutor.setRollbackIsolation(useRollbackIsolation);
         TestSuiteExecutor suiteExecutor = new DeletingTestSuiteExecutor();
+        enableEarlyExit(suiteExecutor, mutant, originalResults);
         if (!useTransactions || originalResults == null) {
             return suiteExecutor.executeTestSuite(caseExecutor, suite);
         } else {
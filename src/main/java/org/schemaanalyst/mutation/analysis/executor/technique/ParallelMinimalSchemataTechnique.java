@@ -16,17 +16,30 @@ import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 
 /**
  * <p>The Minimal Schemata implementation with all possible parallelisation,
  * including setup processes and INSERT statements.</p>
- * 
+ *
+ * <p>A single pool of worker threads is used for the whole analysis. Each
+ * worker owns its own {@link DatabaseInteractor}, which is only used by the
+ * thread running that worker, and the mutants of each changed table are
+ * divided between the workers. The INSERT statements for each table of a test
+ * case are executed by the original schema on the calling thread and then by
+ * the mutants on the workers, with a barrier between each step.</p>
+ *
  * @author Chris J. Wright
  */
 public class ParallelMinimalSchemataTechnique extends Technique {
@@ -38,13 +51,15 @@ public class ParallelMinimalSchemataTechnique extends Technique {
     private List<String> deleteStmts;
     private Map<Integer, TestSuiteResult> resultMap;
     private Map<String, List<Integer>> changedTableMap;
-    private Map<String, DatabaseInteractor> threadInteractors;
-    ExecutorService executor;
+    private ExecutorService executor;
+    private List<Worker> workers;
+    private CyclicBarrier barrier;
+    private WorkerStep step;
+    private boolean privateDatabases;
 
     public ParallelMinimalSchemataTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         super(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
         this.sqlWriter = dbms.getSQLWriter();
-        threadInteractors = new HashMap<>();
     }
 
     private class ChangedTableTask implements Runnable {
@@ -82,38 +97,93 @@ public class ParallelMinimalSchemataTechnique extends Technique {
 
     }
 
-    private class MutantInsertsTask implements Runnable {
+    /**
+     * A unit of work given to every worker at the same time, between two
+     * waits on the barrier.
+     */
+    private interface WorkerStep {
+
+        void execute(Worker worker);
+    }
+
+    /**
+     * A long-running task that executes the steps given to it by the calling
+     * thread, using a database interactor that no other thread uses.
+     */
+    private class Worker implements Runnable {
 
-        private final String insert;
-        private final Integer mutantId;
-        private final Map<Integer, TestCaseResult> failedMutants;
-        private final TestCase testCase;
         private final DatabaseInteractor interactor;
+        private final Map<String, List<Integer>> mutantsByTable = new HashMap<>();
+        private final Map<Integer, TestCaseResult> failures = new HashMap<>();
+        private Throwable error;
 
-        public MutantInsertsTask(String insert, Integer mutantId, Map<Integer, TestCaseResult> failedMutants, TestCase testCase) {
-            this.insert = insert;
-            this.mutantId = mutantId;
-            this.failedMutants = failedMutants;
-            this.testCase = testCase;
-            interactor = getInteractorForThread(Thread.currentThread());
+        public Worker(DatabaseInteractor interactor) {
+            this.interactor = interactor;
         }
 
         @Override
         public void run() {
-            String mutInsert = insert.replace("INSERT INTO \"", "INSERT INTO \"mutant_" + mutantId + "_");
-            Integer mutResult = interactor.executeUpdate(mutInsert);
-            if (mutResult != 1) {
-                TestCaseResult mutantResult = new TestCaseResult(new InsertStatementException("Failed, result was: " + mutResult, insert));
-                synchronized (failedMutants) {
-                    failedMutants.put(mutantId, mutantResult);
+            while (awaitBarrier()) {
+                WorkerStep current = step;
+                if (current == null) {
+                    return;
+                }
+                try {
+                    current.execute(this);
+                } catch (Throwable ex) {
+                    error = ex;
+                }
+                if (!awaitBarrier()) {
+                    return;
+                }
+            }
+        }
+
+        private void setUp() {
+            if (privateDatabases) {
+                executeDropStmts(interactor);
+                executeCreateStmts(interactor);
+            }
+        }
+
+        private void deleteRows() {
+            if (privateDatabases) {
+                executeDeleteStmts(interactor);
+            }
+        }
+
+        private void executeInserts(String table, List<String> inserts, int normalInserts, Map<Integer, TestCaseResult> failedMutants) {
+            failures.clear();
+            if (privateDatabases) {
+                for (int i = 0; i < normalInserts; i++) {
+                    interactor.executeUpdate(inserts.get(i));
                 }
-                synchronized (resultMap) {
-                    TestSuiteResult result = resultMap.get(mutantId);
-                    result.add(testCase, mutantResult);
+            }
+            List<Integer> applicableMutants = mutantsByTable.get(table);
+            if (applicableMutants == null) {
+                return;
+            }
+            for (Integer mutantId : applicableMutants) {
+                // Only insert if we haven't failed yet
+                if (failedMutants.containsKey(mutantId)) {
+                    continue;
+                }
+                for (String insert : inserts) {
+                    String mutInsert = insert.replace("INSERT INTO \"", "INSERT INTO \"mutant_" + mutantId + "_");
+                    Integer mutResult = interactor.executeUpdate(mutInsert);
+                    if (mutResult != 1) {
+                        failures.put(mutantId, new TestCaseResult(new InsertStatementException("Failed, result was: " + mutResult, insert)));
+                        break;
+                    }
                 }
             }
         }
 
+        private void tearDown() {
+            if (privateDatabases) {
+                executeDropStmts(interactor);
+            }
+        }
     }
 
     @Override
@@ -121,102 +191,222 @@ public class ParallelMinimalSchemataTechnique extends Technique {
         // Get normal results
         AnalysisResult result = new AnalysisResult();
 
-        // Build map of changed tables
-        this.changedTableMap = new HashMap<>();
-        executor = Executors.newFixedThreadPool(4);
-        for (int id = 0; id < mutants.size(); id++) {
-            Mutant<Schema> mutant = mutants.get(id);
-            executor.submit(new ChangedTableTask(changedTableMap, id, mutant));
-        }
-        executor.shutdown();
+        int numWorkers = Math.max(1, threads);
+        executor = Executors.newFixedThreadPool(numWorkers);
         try {
-            executor.awaitTermination(1, TimeUnit.DAYS);
-        } catch (InterruptedException ex) {
-            throw new RuntimeException(ex);
-        }
+            // Build map of changed tables
+            this.changedTableMap = new HashMap<>();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int id = 0; id < mutants.size(); id++) {
+                Mutant<Schema> mutant = mutants.get(id);
+                futures.add(executor.submit(new ChangedTableTask(changedTableMap, id, mutant)));
+            }
+            for (Future<?> future : futures) {
+                waitFor(future);
+            }
 
-        // Build the meta-mutant schema and SQL statements
-        Schema metamutant = MutationAnalysisUtils.mergeMutantsParallel(schema, mutants);
-        createStmts = sqlWriter.writeCreateTableStatements(metamutant);
-        dropStmts = sqlWriter.writeDropTableStatements(metamutant, true);
-        deleteStmts = sqlWriter.writeDeleteFromTableStatements(metamutant);
+            // Build the meta-mutant schema and SQL statements
+            Schema metamutant = MutationAnalysisUtils.mergeMutantsParallel(schema, mutants);
+            createStmts = sqlWriter.writeCreateTableStatements(metamutant);
+            dropStmts = sqlWriter.writeDropTableStatements(metamutant, true);
+            deleteStmts = sqlWriter.writeDeleteFromTableStatements(metamutant);
 
-        // Build map of results
-        this.resultMap = new HashMap<>();
-        for (int i = 0; i < mutants.size(); i++) {
-            resultMap.put(i, new TestSuiteResult());
-        }
+            // Build map of results
+            this.resultMap = new HashMap<>();
+            for (int i = 0; i < mutants.size(); i++) {
+                resultMap.put(i, new TestSuiteResult());
+            }
+
+            // Start the workers, each with its own share of the mutants. An
+            // in-memory database is not seen by other connections, in which
+            // case each worker needs its own copy of the tables
+            executeDropStmts(databaseInteractor);
+            executeCreateStmts(databaseInteractor);
+            privateDatabases = databaseInteractor.hasPrivateDatabase();
+            startWorkers(numWorkers);
+            runStep(new WorkerStep() {
+                @Override
+                public void execute(Worker worker) {
+                    worker.setUp();
+                }
+            });
 
-        // Execute test suite
-        executeDropStmts(databaseInteractor);
-        executeCreateStmts(databaseInteractor);
-        for (TestCase testCase : testSuite.getTestCases()) {
-            executeDeleteStmts(databaseInteractor);
-            TestCaseResult normalTestResult = null;
-            Map<Integer, TestCaseResult> failedMutants = new HashMap<>();
-
-            Data data = testCase.getState();
-            normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
-            data = testCase.getData();
-            normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
-            if (normalTestResult == null) {
-                for (int i = 0; i < mutants.size(); i++) {
-                    if (!failedMutants.containsKey(i)) {
-                        resultMap.get(i).add(testCase, TestCaseResult.SuccessfulTestCaseResult);
+            // Execute test suite
+            for (TestCase testCase : testSuite.getTestCases()) {
+                executeDeleteStmts(databaseInteractor);
+                if (privateDatabases) {
+                    runStep(new WorkerStep() {
+                        @Override
+                        public void execute(Worker worker) {
+                            worker.deleteRows();
+                        }
+                    });
+                }
+                TestCaseResult normalTestResult = null;
+                Map<Integer, TestCaseResult> failedMutants = new HashMap<>();
+
+                Data data = testCase.getState();
+                normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
+                data = testCase.getData();
+                normalTestResult = executeInserts(data, normalTestResult, failedMutants, testCase);
+                if (normalTestResult == null) {
+                    for (int i = 0; i < mutants.size(); i++) {
+                        if (!failedMutants.containsKey(i)) {
+                            resultMap.get(i).add(testCase, TestCaseResult.SuccessfulTestCaseResult);
+                        }
                     }
                 }
+
+            }
+
+            // Build the TestSuiteResult objects
+            for (int i = 0; i < mutants.size(); i++) {
+                TestSuiteResult mutantResult = resultMap.get(i);
+                if (!originalResults.equals(mutantResult)) {
+                    result.addKilled(mutants.get(i));
+                } else {
+                    result.addLive(mutants.get(i));
+                }
             }
 
+            runStep(new WorkerStep() {
+                @Override
+                public void execute(Worker worker) {
+                    worker.tearDown();
+                }
+            });
+            executeDropStmts(databaseInteractor);
+        } finally {
+            stopWorkers();
+        }
+        return result;
+    }
+
+    private void startWorkers(int numWorkers) {
+        workers = new ArrayList<>();
+        for (int i = 0; i < numWorkers; i++) {
+            workers.add(new Worker(acquireInteractor()));
         }
 
-        // Build the TestSuiteResult objects
-        for (int i = 0; i < mutants.size(); i++) {
-            TestSuiteResult mutantResult = resultMap.get(i);
-            if (!originalResults.equals(mutantResult)) {
-                result.addKilled(mutants.get(i));
-            } else {
-                result.addLive(mutants.get(i));
+        // Divide the mutants of each changed table between the workers, so
+        // that each step has work for as many workers as possible
+        for (Map.Entry<String, List<Integer>> entry : changedTableMap.entrySet()) {
+            List<Integer> ids = new ArrayList<>(entry.getValue());
+            Collections.sort(ids);
+            for (int i = 0; i < ids.size(); i++) {
+                Worker worker = workers.get(i % numWorkers);
+                List<Integer> workerIds = worker.mutantsByTable.get(entry.getKey());
+                if (workerIds == null) {
+                    workerIds = new ArrayList<>();
+                    worker.mutantsByTable.put(entry.getKey(), workerIds);
+                }
+                workerIds.add(ids.get(i));
+            }
+        }
+
+        barrier = new CyclicBarrier(numWorkers + 1);
+        for (Worker worker : workers) {
+            executor.submit(worker);
+        }
+    }
+
+    private void stopWorkers() {
+        if (workers != null && !barrier.isBroken()) {
+            step = null;
+            awaitBarrier();
+        }
+        executor.shutdownNow();
+        if (workers != null) {
+            for (Worker worker : workers) {
+                databaseInteractor.addInteractions(worker.interactor);
+                releaseInteractor(worker.interactor);
+            }
+        }
+    }
+
+    /**
+     * Has every worker execute a step, returning once all of them are done.
+     *
+     * @param workerStep The step to execute
+     */
+    private void runStep(WorkerStep workerStep) {
+        step = workerStep;
+        if (!awaitBarrier() || !awaitBarrier()) {
+            throw new RuntimeException("Mutation analysis worker was interrupted");
+        }
+        for (Worker worker : workers) {
+            if (worker.error != null) {
+                throw new RuntimeException(worker.error);
             }
         }
-        
-        executeDropStmts(databaseInteractor);
-        return result;
     }
-    
-    private TestCaseResult executeInserts(Data data, TestCaseResult normalTestResult, Map<Integer, TestCaseResult> failedMutants, TestCase testCase) {
+
+    private boolean awaitBarrier() {
+        try {
+            barrier.await();
+            return true;
+        } catch (InterruptedException | BrokenBarrierException ex) {
+            return false;
+        }
+    }
+
+    private static void waitFor(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private TestCaseResult executeInserts(Data data, TestCaseResult normalTestResult, final Map<Integer, TestCaseResult> failedMutants, TestCase testCase) {
         for (Table table : schema.getTablesInOrder()) {
             if (data.getTables().contains(table)) {
-                List<Integer> applicableMutants = changedTableMap.get(table.getIdentifier().get());
-                applicableMutants = applicableMutants == null ? new ArrayList<Integer>() : applicableMutants;
+                final String tableName = table.getIdentifier().get();
+                List<Integer> applicableMutants = changedTableMap.get(tableName);
+                final Set<Integer> applicable = applicableMutants == null ? new HashSet<Integer>() : new HashSet<>(applicableMutants);
+
+                // Only insert if we haven't failed yet, noting how many rows
+                // were left once the normal result had failed
+                final List<String> inserts = new ArrayList<>();
+                int normalInserts = 0;
+                int inheritedRows = 0;
                 for (Row row : data.getRows(table)) {
                     String insert = sqlWriter.writeInsertStatement(row);
-                    // Only insert if we haven't failed yet
+                    inserts.add(insert);
                     if (normalTestResult == null) {
+                        normalInserts++;
                         Integer normalResult = databaseInteractor.executeUpdate(insert);
                         if (normalResult != 1) {
                             normalTestResult = new TestCaseResult(new InsertStatementException("Failed, result was: " + normalResult, insert));
                         }
                     }
+                    if (normalTestResult != null) {
+                        inheritedRows++;
+                    }
+                }
 
-                    // Setup for parallel execution
-                    executor = Executors.newFixedThreadPool(4);
-                    for (Integer mutantId : applicableMutants) {
-                        // Only insert if we haven't failed yet
-                        if (!failedMutants.containsKey(mutantId)) {
-                            MutantInsertsTask task = new MutantInsertsTask(insert, mutantId, failedMutants, testCase);
-                            executor.submit(task);
+                // Insert the same rows into the tables of the mutants
+                if (!applicable.isEmpty() || privateDatabases) {
+                    final int replayedInserts = normalInserts;
+                    runStep(new WorkerStep() {
+                        @Override
+                        public void execute(Worker worker) {
+                            worker.executeInserts(tableName, inserts, replayedInserts, failedMutants);
+                        }
+                    });
+                    for (Worker worker : workers) {
+                        for (Map.Entry<Integer, TestCaseResult> failure : worker.failures.entrySet()) {
+                            failedMutants.put(failure.getKey(), failure.getValue());
+                            resultMap.get(failure.getKey()).add(testCase, failure.getValue());
                         }
                     }
-                    executor.shutdown();
-                    try {
-                        executor.awaitTermination(1, TimeUnit.DAYS);
-                    } catch (InterruptedException ex) {
-                        throw new RuntimeException(ex);
-                    }
+                }
 
-                    // If a mutant isn't applicable, then it should 'inherit' the normal result
+                // If a mutant isn't applicable, then it should 'inherit' the
+                // normal result, once for each row after it failed
+                for (int row = 0; row < inheritedRows; row++) {
                     for (int i = 0; i < mutants.size(); i++) {
-                        if (!applicableMutants.contains(i) && normalTestResult != null) {
+                        if (!applicable.contains(i)) {
                             resultMap.get(i).add(testCase, normalTestResult);
                             failedMutants.put(i, normalTestResult);
                         }
@@ -257,17 +447,4 @@ public class ParallelMinimalSchemataTechnique extends Technique {
         }
     }
 
-    protected DatabaseInteractor getInteractorForThread(Thread thread) {
-        String threadName = thread.getName();
-        if (!threadInteractors.containsKey(threadName)) {
-            DatabaseInteractor interactor = databaseInteractor.duplicate();
-            threadInteractors.put(threadName, interactor);
-            if (dbms.getName().equals("SQLite")) {
-                executeDropStmts(databaseInteractor);
-                executeCreateStmts(databaseInteractor);
-            }
-        }
-        return threadInteractors.get(threadName);
-    }
-
 }
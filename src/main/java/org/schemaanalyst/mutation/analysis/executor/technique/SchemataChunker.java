@@ -0,0 +1,230 @@
+package org.schemaanalyst.mutation.analysis.executor.technique;
+
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.sqlrepresentation.Schema;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * Splits the mutants of a schemata technique into chunks, each of which is
+ * created as one meta-schema, rather than creating every mutant in a single
+ * meta-schema. The cost of a mutant is the number of tables and constraints
+ * it creates, and the mutants of each chunk are consecutive, with a total
+ * cost within a budget (a chunk always has at least one mutant).
+ * </p>
+ *
+ * <p>
+ * Unless a budget is given, the chunker starts with a budget for the DBMS
+ * and tunes it from the latency measured for each chunk: the time taken to
+ * create it, per unit of cost, and the time taken to execute its test cases,
+ * per test case. The budget is halved when either latency degrades to more
+ * than {@value #DEGRADED_LATENCY} times the best measured so far, as the DBMS
+ * then struggles with the size of the meta-schema, and doubled (up to a
+ * limit) while both stay close to the best, to save round trips to the DBMS.
+ * The budget is only doubled once {@value #WARM_UP_CHUNKS} chunks have been
+ * measured, as the best latencies are not known until then, and never for
+ * the in-memory Java DBMSs (Derby and HyperSQL), whose memory large
+ * meta-schemas exhaust.
+ * </p>
+ *
+ * @see ChunkedSchemataTechnique
+ */
+public class SchemataChunker {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemataChunker.class.getName());
+
+    /**
+     * How many times the best latency a measured latency has to be to shrink
+     * the budget.
+     */
+    public static final double DEGRADED_LATENCY = 1.5;
+
+    /**
+     * How many times the best latency a measured latency may be to grow the
+     * budget.
+     */
+    public static final double FLAT_LATENCY = 1.1;
+
+    /**
+     * How many times the initial budget the tuned budget may grow to.
+     */
+    public static final int MAX_BUDGET_FACTOR = 4;
+
+    /**
+     * How many chunks must be measured before the budget may grow.
+     */
+    public static final int WARM_UP_CHUNKS = 3;
+
+    private final List<Mutant<Schema>> mutants;
+    private final int[] costs;
+    private final boolean tune;
+    private final int maxBudget;
+    private int budget;
+    private int next;
+    private int measuredChunks;
+    private double bestCreateLatency = Double.MAX_VALUE;
+    private double bestTestCaseLatency = Double.MAX_VALUE;
+
+    /**
+     * Constructor.
+     *
+     * @param mutants The mutants to split into chunks
+     * @param dbms The DBMS the chunks are created on
+     * @param budget The cost budget of each chunk, or 0 to start with the
+     * budget for the DBMS and tune it
+     */
+    public SchemataChunker(List<Mutant<Schema>> mutants, DBMS dbms, int budget) {
+        this.mutants = mutants;
+        costs = new int[mutants.size()];
+        for (int i = 0; i < mutants.size(); i++) {
+            costs[i] = cost(mutants.get(i).getMutatedArtefact());
+        }
+        tune = budget <= 0;
+        this.budget = tune ? defaultBudget(dbms) : budget;
+        maxBudget = isInMemory(dbms) ? this.budget : this.budget * MAX_BUDGET_FACTOR;
+    }
+
+    /**
+     * Gets the cost of creating a schema, which is the number of its tables
+     * and constraints.
+     *
+     * @param schema The schema
+     * @return The cost
+     */
+    public static int cost(Schema schema) {
+        return schema.getTables().size() + schema.getConstraints().size();
+    }
+
+    /**
+     * Gets the initial cost budget of each chunk for a DBMS. The in-memory
+     * Java DBMSs get the smallest budgets, as large meta-schemas exhaust
+     * their memory.
+     *
+     * @param dbms The DBMS
+     * @return The budget
+     */
+    public static int defaultBudget(DBMS dbms) {
+        switch (dbms.getName()) {
+            case "SQLite":
+                return 2000;
+            case "Postgres":
+            case "MySQL":
+                return 1000;
+            case "Derby":
+                return 250;
+            default:
+                return 500;
+        }
+    }
+
+    private static boolean isInMemory(DBMS dbms) {
+        return dbms.getName().equals("Derby") || dbms.getName().equals("HyperSQL");
+    }
+
+    /**
+     * Gets the next chunk of mutants, using the current budget.
+     *
+     * @return The chunk, or null if every mutant has been given out
+     */
+    public synchronized Chunk nextChunk() {
+        if (next >= mutants.size()) {
+            return null;
+        }
+        int start = next;
+        int cost = costs[next++];
+        while (next < mutants.size() && cost + costs[next] <= budget) {
+            cost += costs[next++];
+        }
+        return new Chunk(start, mutants.subList(start, next), cost);
+    }
+
+    /**
+     * Records the latency measured for a chunk, tuning the budget if it was
+     * not given.
+     *
+     * @param chunk The chunk
+     * @param createNanos The time taken to create the chunk's meta-schema
+     * @param testCases The number of test cases executed against the chunk
+     * @param testCaseNanos The time taken to execute them
+     */
+    public synchronized void recordLatency(Chunk chunk, long createNanos, int testCases, long testCaseNanos) {
+        if (!tune) {
+            return;
+        }
+        double createLatency = (double) createNanos / Math.max(1, chunk.getCost());
+        double testCaseLatency = (double) testCaseNanos / Math.max(1, testCases);
+        bestCreateLatency = Math.min(bestCreateLatency, createLatency);
+        bestTestCaseLatency = Math.min(bestTestCaseLatency, testCaseLatency);
+        measuredChunks++;
+
+        int oldBudget = budget;
+        if (createLatency > DEGRADED_LATENCY * bestCreateLatency
+                || testCaseLatency > DEGRADED_LATENCY * bestTestCaseLatency) {
+            budget = Math.max(1, budget / 2);
+        } else if (measuredChunks >= WARM_UP_CHUNKS
+                && createLatency <= FLAT_LATENCY * bestCreateLatency
+                && testCaseLatency <= FLAT_LATENCY * bestTestCaseLatency) {
+            budget = Math.min(maxBudget, budget * 2);
+        }
+        if (budget != oldBudget) {
+            LOGGER.log(Level.FINE, "Chunk budget changed from {0} to {1}", new Object[]{oldBudget, budget});
+        }
+    }
+
+    /**
+     * Gets the current cost budget of each chunk.
+     *
+     * @return The budget
+     */
+    public synchronized int getBudget() {
+        return budget;
+    }
+
+    /**
+     * A chunk of consecutive mutants.
+     */
+    public static class Chunk {
+
+        private final int start;
+        private final List<Mutant<Schema>> mutants;
+        private final int cost;
+
+        Chunk(int start, List<Mutant<Schema>> mutants, int cost) {
+            this.start = start;
+            this.mutants = mutants;
+            this.cost = cost;
+        }
+
+        /**
+         * Gets the position of the chunk's first mutant in the list of all
+         * mutants.
+         *
+         * @return The position
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * Gets the mutants of the chunk.
+         *
+         * @return The mutants
+         */
+        public List<Mutant<Schema>> getMutants() {
+            return mutants;
+        }
+
+        /**
+         * Gets the total cost of the chunk's mutants.
+         *
+         * @return The cost
+         */
+        public int getCost() {
+            return cost;
+        }
+    }
+}
@@ -3,7 +3,11 @@ package org.schemaanalyst.mutation.analysis.executor.technique;
 
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.MutantSubsumptionGraph;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestCaseScheduler;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestSuite;
@@ -23,6 +27,12 @@ public abstract class Technique {
     protected DBMS dbms;
     protected DatabaseInteractor databaseInteractor;
     protected boolean useTransactions;
+    protected boolean useBatchInserts = false;
+    protected boolean useRollbackIsolation = false;
+    protected int threads = 4;
+    protected DatabaseInteractorPool databaseInteractorPool;
+    protected TestCaseScheduler testCaseScheduler;
+    protected MutantSubsumptionGraph subsumptionGraph;
 
     public Technique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         this.schema = schema;
@@ -33,6 +43,157 @@ public abstract class Technique {
         this.useTransactions = useTransactions;
     }
     
+    /**
+     * Sets whether test cases execute their INSERT statements as a JDBC batch.
+     *
+     * @param useBatchInserts Whether to use batch INSERTs
+     * @see org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor#setBatchInserts(boolean)
+     */
+    public void setUseBatchInserts(boolean useBatchInserts) {
+        this.useBatchInserts = useBatchInserts;
+    }
+
+    /**
+     * Sets whether test cases are isolated by rolling back their INSERTs
+     * rather than by deleting the rows of every table, where the DBMS
+     * supports it.
+     *
+     * @param useRollbackIsolation Whether to use rollback isolation
+     * @see org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor#setRollbackIsolation(boolean)
+     */
+    public void setUseRollbackIsolation(boolean useRollbackIsolation) {
+        this.useRollbackIsolation = useRollbackIsolation;
+    }
+
+    /**
+     * Sets whether the execution of the test suite against a mutant stops at
+     * the first test case that kills it, executing first the test cases that
+     * killed the most similar mutants. This must be set before the mutants'
+     * tables are renamed.
+     *
+     * @param useEarlyExit Whether to use early exit
+     * @see TestSuiteExecutor#setEarlyExit(TestCaseScheduler, Mutant, TestSuiteResult)
+     */
+    public void setUseEarlyExit(boolean useEarlyExit) {
+        testCaseScheduler = useEarlyExit ? new TestCaseScheduler(testSuite, mutants) : null;
+    }
+
+    /**
+     * Sets whether to build a subsumption graph of the mutants as they are
+     * executed, skipping the rest of the test suite for a mutant once it is
+     * known to be subsumed by a dominator. This takes the place of early
+     * exit, as the graph needs the full kill vectors of the other mutants.
+     *
+     * @param useSubsumption Whether to use the subsumption graph
+     * @see TestSuiteExecutor#setSubsumption(MutantSubsumptionGraph, Mutant, TestSuiteResult)
+     */
+    public void setUseSubsumption(boolean useSubsumption) {
+        subsumptionGraph = useSubsumption ? new MutantSubsumptionGraph(testSuite) : null;
+    }
+
+    /**
+     * Sets the scheduler used for early exit, so that one scheduler can be
+     * shared by techniques that analyse different mutants against the same
+     * test suite.
+     *
+     * @param testCaseScheduler The scheduler, or null to not use early exit
+     * @see #setUseEarlyExit(boolean)
+     */
+    public void setTestCaseScheduler(TestCaseScheduler testCaseScheduler) {
+        this.testCaseScheduler = testCaseScheduler;
+    }
+
+    /**
+     * Sets the subsumption graph, so that one graph can be shared by
+     * techniques that analyse different mutants against the same test suite.
+     *
+     * @param subsumptionGraph The graph, or null to not use subsumption
+     * @see #setUseSubsumption(boolean)
+     */
+    public void setSubsumptionGraph(MutantSubsumptionGraph subsumptionGraph) {
+        this.subsumptionGraph = subsumptionGraph;
+    }
+
+    /**
+     * Gets the subsumption graph built while analysing the mutants, which is
+     * only filled by the techniques that execute the test suite against one
+     * mutant at a time.
+     *
+     * @return The graph, or null if it is not used
+     */
+    public MutantSubsumptionGraph getSubsumptionGraph() {
+        return subsumptionGraph;
+    }
+
+    /**
+     * Switches on early exit for a test suite executor that executes the
+     * test suite against a mutant, if early exit or subsumption is used and
+     * the original results are known.
+     *
+     * @param suiteExecutor The test suite executor
+     * @param mutant The mutant
+     * @param originalResults The results for the original schema, or null
+     */
+    protected void enableEarlyExit(TestSuiteExecutor suiteExecutor, Mutant<Schema> mutant, TestSuiteResult originalResults) {
+        if (originalResults == null) {
+            return;
+        }
+        if (subsumptionGraph != null) {
+            suiteExecutor.setSubsumption(subsumptionGraph, mutant, originalResults);
+        } else if (testCaseScheduler != null) {
+            suiteExecutor.setEarlyExit(testCaseScheduler, mutant, originalResults);
+        }
+    }
+
+    /**
+     * Sets the number of worker threads used by techniques that execute
+     * mutants in parallel.
+     *
+     * @param threads The number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the pool that interactors for other threads are borrowed from,
+     * rather than duplicating the interactor of this technique.
+     *
+     * @param databaseInteractorPool The pool, or null to duplicate interactors
+     */
+    public void setDatabaseInteractorPool(DatabaseInteractorPool databaseInteractorPool) {
+        this.databaseInteractorPool = databaseInteractorPool;
+    }
+
+    /**
+     * Gets an interactor for the same database as the interactor of this
+     * technique, for use by another thread. It should be released with
+     * {@link #releaseInteractor(DatabaseInteractor)} once it is finished with.
+     *
+     * @return The interactor
+     */
+    protected DatabaseInteractor acquireInteractor() {
+        if (databaseInteractorPool != null) {
+            return databaseInteractorPool.borrow();
+        } else {
+            return databaseInteractor.duplicate();
+        }
+    }
+
+    /**
+     * Releases an interactor obtained from {@link #acquireInteractor()},
+     * giving it back to the pool or, if it was duplicated, closing it.
+     *
+     * @param interactor The interactor
+     */
+    protected void releaseInteractor(DatabaseInteractor interactor) {
+        if (databaseInteractorPool != null) {
+            databaseInteractorPool.giveBack(interactor);
+        } else {
+            interactor.close();
+        }
+    }
+
     public abstract AnalysisResult analyse(TestSuiteResult originalResults);
     
 }
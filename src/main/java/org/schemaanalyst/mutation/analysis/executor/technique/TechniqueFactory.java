@@ -52,6 +52,10 @@ public class TechniqueFactory {
         return new UpFrontSchemataTechnique(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
     }
     
+    public static Technique chunkedSchemata (Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
+        return new ChunkedSchemataTechnique(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+    }
+    
     public static Technique justInTimeSchemata (Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         return new JustInTimeSchemataTechnique(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
     }
@@ -76,6 +80,10 @@ public class TechniqueFactory {
         return new MutantTimingTechnique(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
     }
     
+    public static Technique virtualPrefilter (Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
+        return new VirtualPrefilterTechnique(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+    }
+    
     public static Technique checks (Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
         return new ChecksTechnique(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
     }
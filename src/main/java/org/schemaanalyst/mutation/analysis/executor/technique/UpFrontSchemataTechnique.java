@@ -3,9 +3,6 @@ package org.schemaanalyst.mutation.analysis.executor.technique;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 import org.schemaanalyst.mutation.Mutant;
-import org.schemaanalyst.mutation.analysis.executor.testcase.FullSchemataDeletingTestCaseExecutor;
-import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
-import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
 import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestSuite;
@@ -49,6 +46,13 @@ public class UpFrontSchemataTechnique extends AbstractSchemataTechnique {
         if (!dbms.getName().equals("SQLite")) {
             databaseInteractor.executeUpdate(dropStmt);
         }
+        for (DatabaseInteractor interactor : threadInteractors.values()) {
+            if (dbms.getName().equals("SQLite")) {
+                interactor.executeUpdate(dropStmt);
+            }
+            releaseInteractor(interactor);
+        }
+        threadInteractors.clear();
         return result;
     }
 
@@ -119,27 +123,21 @@ public class UpFrontSchemataTechnique extends AbstractSchemataTechnique {
 
         @Override
         public MutantStatus call() throws Exception {
-            TestSuiteResult mutantResults = executeTestSuiteSchemata(mutant.getMutatedArtefact(), testSuite, schemataPrefix, originalResults);
+            TestSuiteResult mutantResults = executeTestSuiteSchemata(mutant, testSuite, schemataPrefix, originalResults);
             return originalResults.equals(mutantResults) ? MutantStatus.ALIVE : MutantStatus.KILLED;
         }
     }
 
     @Override
-    protected TestSuiteResult executeTestSuiteSchemata(Schema schema, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
+    protected TestSuiteResult executeTestSuiteSchemata(Mutant<Schema> mutant, TestSuite suite, String schemataPrefix, TestSuiteResult originalResults) {
         DatabaseInteractor interactor = getInteractorForThread(Thread.currentThread());
-        TestCaseExecutor caseExecutor = new FullSchemataDeletingTestCaseExecutor(schema, dbms, interactor, schemataPrefix);
-        TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
-        if (!useTransactions || originalResults == null) {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite);
-        } else {
-            return suiteExecutor.executeTestSuite(caseExecutor, suite, originalResults);
-        }
+        return executeTestSuiteSchemata(mutant, suite, schemataPrefix, originalResults, interactor);
     }
 
     protected synchronized DatabaseInteractor getInteractorForThread(Thread thread) {
         String threadName = thread.getName();
         if (!threadInteractors.containsKey(threadName)) {
-            DatabaseInteractor interactor = databaseInteractor.duplicate();
+            DatabaseInteractor interactor = acquireInteractor();
             threadInteractors.put(threadName, interactor);
             if (dbms.getName().equals("SQLite")) {
                 interactor.executeUpdate(dropStmt);
@@ -0,0 +1,414 @@
+package org.schemaanalyst.mutation.analysis.executor.technique;
+
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.StringValue;
+import org.schemaanalyst.data.Value;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.hypersql.HyperSQLDBMS;
+import org.schemaanalyst.dbms.postgres.PostgresDBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualTestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.VirtualTestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.VirtualTestSuiteResult;
+import org.schemaanalyst.mutation.analysis.executor.util.MutationAnalysisUtils;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.constraint.CheckConstraint;
+import org.schemaanalyst.sqlrepresentation.constraint.ForeignKeyConstraint;
+import org.schemaanalyst.sqlrepresentation.constraint.MultiColumnConstraint;
+import org.schemaanalyst.sqlrepresentation.constraint.PrimaryKeyConstraint;
+import org.schemaanalyst.sqlrepresentation.constraint.UniqueConstraint;
+import org.schemaanalyst.sqlrepresentation.datatype.CharDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.DataType;
+import org.schemaanalyst.sqlrepresentation.datatype.DoubleDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.FloatDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.RealDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.SingleCharDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.TextDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.VarCharDataType;
+import org.schemaanalyst.sqlrepresentation.expression.BetweenExpression;
+import org.schemaanalyst.sqlrepresentation.expression.ColumnExpression;
+import org.schemaanalyst.sqlrepresentation.expression.ConstantExpression;
+import org.schemaanalyst.sqlrepresentation.expression.DepthFirstSubExpressionVisitor;
+import org.schemaanalyst.sqlrepresentation.expression.Expression;
+import org.schemaanalyst.sqlrepresentation.expression.InExpression;
+import org.schemaanalyst.sqlrepresentation.expression.RelationalExpression;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * A hybrid technique, that first analyses every mutant virtually, with a
+ * {@link VirtualTestCaseExecutor}, and then analyses with the
+ * {@link OriginalTechnique} on the DBMS only the mutants for which the
+ * virtual verdict is uncertain, along with a random audit sample of the
+ * others. The virtual verdict is used for the rest.
+ * </p>
+ *
+ * <p>
+ * A virtual verdict is uncertain where the changed table of the mutant has
+ * a constraint whose semantics differ between DBMSs and are not modelled
+ * virtually:
+ * </p>
+ * <ul>
+ * <li>a foreign key that references columns without a PRIMARY KEY or UNIQUE
+ * constraint, which DBMSs reject either when creating the table or when
+ * inserting rows;</li>
+ * <li>a key on a column whose values are rounded or converted when they are
+ * stored (i.e. those with the NUMERIC or REAL type affinity of SQLite);</li>
+ * <li>a CHECK constraint with a NOT IN or NOT BETWEEN on a column that the
+ * test suite inserts a NULL into;</li>
+ * <li>for SQLite, a foreign key or CHECK constraint that compares values of
+ * different type affinities;</li>
+ * <li>for DBMSs other than SQLite, Postgres and HyperSQL, whose handling of
+ * NULL in UNIQUE is not modelled, a key on a column that the test suite
+ * inserts a NULL into.</li>
+ * </ul>
+ *
+ * <p>
+ * Early exit and subsumption only apply to the mutants analysed on the DBMS,
+ * so only those mutants are added to the subsumption graph.
+ * </p>
+ */
+public class VirtualPrefilterTechnique extends Technique {
+
+    private static final Logger LOGGER = Logger.getLogger(VirtualPrefilterTechnique.class.getName());
+
+    /**
+     * The type affinities of SQLite, which decide how values are converted
+     * when they are stored and compared.
+     */
+    private enum Affinity {
+        INTEGER, TEXT, REAL, NUMERIC
+    }
+
+    private double auditRate = 0;
+    private long auditSeed = 0;
+    private Map<String, Set<String>> nullColumns;
+
+    public VirtualPrefilterTechnique(Schema schema, List<Mutant<Schema>> mutants, TestSuite testSuite, DBMS dbms, DatabaseInteractor databaseInteractor, boolean useTransactions) {
+        super(schema, mutants, testSuite, dbms, databaseInteractor, useTransactions);
+    }
+
+    /**
+     * Sets the proportion of the mutants with a certain virtual verdict that
+     * are also analysed on the DBMS, to audit the virtual verdicts.
+     *
+     * @param auditRate The proportion, between 0 and 1
+     * @param auditSeed The seed for choosing the mutants to audit
+     */
+    public void setAudit(double auditRate, long auditSeed) {
+        this.auditRate = auditRate;
+        this.auditSeed = auditSeed;
+    }
+
+    @Override
+    public AnalysisResult analyse(TestSuiteResult originalResults) {
+        AnalysisResult result = new AnalysisResult();
+        VirtualTestSuiteResult originalVirtualResults = executeTestSuiteVirtually(schema);
+        Random random = new Random(auditSeed);
+
+        List<Mutant<Schema>> dbmsMutants = new ArrayList<>();
+        Map<Mutant<Schema>, Boolean> verdicts = new IdentityHashMap<>();
+        Map<Mutant<Schema>, Boolean> auditedVerdicts = new IdentityHashMap<>();
+        for (Mutant<Schema> mutant : mutants) {
+            boolean killed = !Objects.equals(originalVirtualResults, executeTestSuiteVirtually(mutant.getMutatedArtefact()));
+            if (isUncertain(mutant)) {
+                dbmsMutants.add(mutant);
+            } else if (random.nextDouble() < auditRate) {
+                dbmsMutants.add(mutant);
+                auditedVerdicts.put(mutant, killed);
+            } else {
+                verdicts.put(mutant, killed);
+            }
+        }
+        LOGGER.log(Level.INFO, "Analysing {0} of {1} mutants on the DBMS ({2} audited)",
+                new Object[]{dbmsMutants.size(), mutants.size(), auditedVerdicts.size()});
+
+        if (!dbmsMutants.isEmpty()) {
+            AnalysisResult dbmsResult = analyseOnDBMS(dbmsMutants, originalResults);
+            for (Mutant<Schema> mutant : dbmsResult.getKilled()) {
+                checkAuditedVerdict(mutant, true, auditedVerdicts);
+                verdicts.put(mutant, true);
+            }
+            for (Mutant<Schema> mutant : dbmsResult.getLive()) {
+                checkAuditedVerdict(mutant, false, auditedVerdicts);
+                verdicts.put(mutant, false);
+            }
+        }
+
+        // Collate the verdicts in mutant order
+        for (Mutant<Schema> mutant : mutants) {
+            if (verdicts.get(mutant)) {
+                result.addKilled(mutant);
+            } else {
+                result.addLive(mutant);
+            }
+        }
+        return result;
+    }
+
+    private VirtualTestSuiteResult executeTestSuiteVirtually(Schema schema) {
+        VirtualTestCaseExecutor caseExecutor = new VirtualTestCaseExecutor(schema, dbms);
+        VirtualTestSuiteExecutor suiteExecutor = new VirtualTestSuiteExecutor();
+        return suiteExecutor.executeTestSuite(caseExecutor, testSuite);
+    }
+
+    private AnalysisResult analyseOnDBMS(List<Mutant<Schema>> dbmsMutants, TestSuiteResult originalResults) {
+        Technique technique = new OriginalTechnique(schema, dbmsMutants, testSuite, dbms, databaseInteractor, useTransactions);
+        technique.setUseBatchInserts(useBatchInserts);
+        technique.setUseRollbackIsolation(useRollbackIsolation);
+        technique.setTestCaseScheduler(testCaseScheduler);
+        technique.setSubsumptionGraph(subsumptionGraph);
+        technique.setThreads(threads);
+        technique.setDatabaseInteractorPool(databaseInteractorPool);
+        return technique.analyse(originalResults);
+    }
+
+    private void checkAuditedVerdict(Mutant<Schema> mutant, boolean killed, Map<Mutant<Schema>, Boolean> auditedVerdicts) {
+        Boolean virtualKilled = auditedVerdicts.get(mutant);
+        if (virtualKilled != null && virtualKilled != killed) {
+            LOGGER.log(Level.WARNING, "Virtual verdict (killed = {0}) differs from the DBMS for mutant {1}",
+                    new Object[]{virtualKilled, mutant.getDescription()});
+        }
+    }
+
+    /**
+     * Finds the columns of each table that the test suite inserts a NULL
+     * into, by name, as the tables of mutants are copies.
+     *
+     * @return The names of the columns, by table name
+     */
+    private Map<String, Set<String>> findNullColumns() {
+        Map<String, Set<String>> nullColumns = new HashMap<>();
+        for (TestCase testCase : testSuite.getTestCases()) {
+            for (Data data : new Data[]{testCase.getState(), testCase.getData()}) {
+                for (Table table : data.getTables()) {
+                    for (Row row : data.getRows(table)) {
+                        for (Cell cell : row.getCells()) {
+                            if (cell.isNull()) {
+                                Set<String> columns = nullColumns.get(table.getName());
+                                if (columns == null) {
+                                    columns = new HashSet<>();
+                                    nullColumns.put(table.getName(), columns);
+                                }
+                                columns.add(cell.getColumn().getName());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return nullColumns;
+    }
+
+    /**
+     * Whether the virtual verdict for a mutant is uncertain, according to the
+     * rules described for this class, so that the mutant must be analysed on
+     * the DBMS.
+     *
+     * @param mutant The mutant
+     * @return Whether its virtual verdict is uncertain
+     */
+    public boolean isUncertain(Mutant<Schema> mutant) {
+        if (nullColumns == null) {
+            nullColumns = findNullColumns();
+        }
+        Schema mutantSchema = mutant.getMutatedArtefact();
+        String changedTable = MutationAnalysisUtils.computeChangedTable(schema, mutant);
+        boolean sqlite = dbms instanceof SQLiteDBMS;
+        boolean modelsNullsInKeys = sqlite || dbms instanceof PostgresDBMS || dbms instanceof HyperSQLDBMS;
+
+        for (ForeignKeyConstraint foreignKey : mutantSchema.getForeignKeyConstraints()) {
+            if (!foreignKey.getTable().getName().equals(changedTable)
+                    && !foreignKey.getReferenceTable().getName().equals(changedTable)) {
+                continue;
+            }
+            // DBMSs differ in whether they reject the CREATE TABLE or the INSERTs
+            if (!isKey(mutantSchema, foreignKey.getReferenceTable(), foreignKey.getReferenceColumns())) {
+                return true;
+            }
+            if (sqlite) {
+                for (int i = 0; i < foreignKey.getNumColumns(); i++) {
+                    DataType type = foreignKey.getColumns().get(i).getDataType();
+                    DataType referenceType = foreignKey.getReferenceColumns().get(i).getDataType();
+                    if (getAffinity(type) != getAffinity(referenceType)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        Table table = mutantSchema.getTable(changedTable);
+        if (table == null) {
+            return true;
+        }
+        Set<String> tableNullColumns = nullColumns.containsKey(changedTable)
+                ? nullColumns.get(changedTable)
+                : new HashSet<String>();
+
+        List<MultiColumnConstraint> keys = new ArrayList<>();
+        if (mutantSchema.hasPrimaryKeyConstraint(table)) {
+            keys.add(mutantSchema.getPrimaryKeyConstraint(table));
+        }
+        keys.addAll(mutantSchema.getUniqueConstraints(table));
+        for (MultiColumnConstraint key : keys) {
+            // NULLs in keys are only modelled for SQLite, Postgres and HyperSQL
+            if (!modelsNullsInKeys && involvesAny(key.getColumns(), tableNullColumns)) {
+                return true;
+            }
+            // DBMSs round or convert the values of these columns when storing them
+            for (Column column : key.getColumns()) {
+                Affinity affinity = getAffinity(column.getDataType());
+                if (affinity == Affinity.NUMERIC || affinity == Affinity.REAL) {
+                    return true;
+                }
+            }
+        }
+
+        for (CheckConstraint check : mutantSchema.getCheckConstraints(table)) {
+            Expression expression = check.getExpression();
+            // a NULL makes a NOT IN or NOT BETWEEN unknown, which is not modelled
+            if (containsNegatedListOrRange(expression) && involvesAny(expression.getColumnsInvolved(), tableNullColumns)) {
+                return true;
+            }
+            if (sqlite && comparesDifferentAffinities(expression)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isKey(Schema schema, Table table, List<Column> columns) {
+        List<MultiColumnConstraint> keys = new ArrayList<>();
+        PrimaryKeyConstraint primaryKey = schema.getPrimaryKeyConstraint(table);
+        if (primaryKey != null) {
+            keys.add(primaryKey);
+        }
+        for (UniqueConstraint unique : schema.getUniqueConstraints(table)) {
+            keys.add(unique);
+        }
+        for (MultiColumnConstraint key : keys) {
+            if (new HashSet<>(key.getColumns()).equals(new HashSet<>(columns))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsNegatedListOrRange(Expression expression) {
+        if (expression instanceof InExpression && ((InExpression) expression).isNotIn()
+                || expression instanceof BetweenExpression && ((BetweenExpression) expression).isNotBetween()) {
+            return true;
+        }
+        for (Expression subexpression : expression.getSubexpressions()) {
+            if (containsNegatedListOrRange(subexpression)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean involvesAny(List<Column> columns, Set<String> columnNames) {
+        for (Column column : columns) {
+            if (columnNames.contains(column.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the SQLite type affinity of a data type.
+     *
+     * @param type The data type
+     * @return The affinity
+     */
+    private static Affinity getAffinity(DataType type) {
+        if (type instanceof IntDataType) {
+            return Affinity.INTEGER;
+        } else if (type instanceof CharDataType || type instanceof VarCharDataType
+                || type instanceof TextDataType || type instanceof SingleCharDataType) {
+            return Affinity.TEXT;
+        } else if (type instanceof DoubleDataType || type instanceof FloatDataType
+                || type instanceof RealDataType) {
+            return Affinity.REAL;
+        } else {
+            return Affinity.NUMERIC;
+        }
+    }
+
+    /**
+     * Whether a comparison in an expression compares text with a number,
+     * which SQLite converts according to the affinity of the columns.
+     */
+    private static boolean comparesDifferentAffinities(Expression expression) {
+        final boolean[] found = {false};
+        expression.accept(new DepthFirstSubExpressionVisitor() {
+            @Override
+            public void visit(BetweenExpression expression) {
+                check(expression);
+                super.visit(expression);
+            }
+
+            @Override
+            public void visit(InExpression expression) {
+                check(expression);
+                super.visit(expression);
+            }
+
+            @Override
+            public void visit(RelationalExpression expression) {
+                check(expression);
+                super.visit(expression);
+            }
+
+            void check(Expression expression) {
+                Set<Boolean> kinds = new HashSet<>();
+                addKinds(expression, kinds);
+                if (kinds.size() > 1) {
+                    found[0] = true;
+                }
+            }
+
+            // adds whether each column or constant operand is text
+            void addKinds(Expression expression, Set<Boolean> kinds) {
+                if (expression instanceof ColumnExpression) {
+                    kinds.add(getAffinity(((ColumnExpression) expression).getColumn().getDataType()) == Affinity.TEXT);
+                } else if (expression instanceof ConstantExpression) {
+                    Value value = ((ConstantExpression) expression).getValue();
+                    if (value instanceof StringValue) {
+                        kinds.add(true);
+                    } else if (value instanceof NumericValue) {
+                        kinds.add(false);
+                    }
+                } else {
+                    for (Expression subexpression : expression.getSubexpressions()) {
+                        addKinds(subexpression, kinds);
+                    }
+                }
+            }
+        });
+        return found[0];
+    }
+}
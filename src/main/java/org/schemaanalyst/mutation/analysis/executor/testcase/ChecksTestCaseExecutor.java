@@ -39,11 +39,13 @@ public class ChecksTestCaseExecutor extends TestCaseExecutor {
 
     @Override
     public TestCaseResult executeTestCase(TestCase testCase) {
+        if (isolateByRollback()) {
+            return executeTestCaseInIsolation(testCase);
+        }
         TestCaseResult result;
         try {
             executeDeletes();
-            executeInserts(testCase.getState());
-            executeInserts(testCase.getData());
+            executeInserts(testCase);
             executeDeletes();
             result = TestCaseResult.SuccessfulTestCaseResult;
         } catch (StatementException ex) {
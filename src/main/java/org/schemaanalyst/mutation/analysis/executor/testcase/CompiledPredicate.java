@@ -0,0 +1,279 @@
+package org.schemaanalyst.mutation.analysis.executor.testcase;
+
+import org.schemaanalyst.data.IndexedData;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.RowIndex;
+import org.schemaanalyst.logic.RelationalOperator;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.AndPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.ExpressionPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.NullPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.OrPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.PredicateVisitor;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.ExpressionChecker;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.RelationalChecker;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>
+ * A predicate prepared for checking single rows against a state, as when
+ * deciding whether a DBMS would accept the INSERT of a row. Checking a row
+ * gives the same result as checking a {@link Predicate} with a
+ * {@link org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.PredicateChecker}
+ * that allows NULLs, for data consisting of just that row.
+ * </p>
+ *
+ * <p>
+ * Match predicates are decided by looking the row up in the indexes of the
+ * state, rather than by comparing it with every row of the state, wherever
+ * an index lookup is enough to decide them, i.e. for predicates with only
+ * matching columns (e.g. foreign keys) or only non-matching columns (e.g.
+ * primary keys and unique constraints).
+ * </p>
+ */
+public abstract class CompiledPredicate {
+
+    /**
+     * Checks a row against a state.
+     *
+     * @param row The row
+     * @param state The state, which the row is not part of
+     * @return Whether the row satisfies the predicate
+     */
+    public abstract boolean check(Row row, IndexedData state);
+
+    /**
+     * Compiles a predicate.
+     *
+     * @param predicate The predicate
+     * @return The compiled predicate
+     */
+    public static CompiledPredicate compile(Predicate predicate) {
+        return new PredicateVisitor() {
+            CompiledPredicate compiledPredicate;
+
+            CompiledPredicate compile(Predicate predicate) {
+                predicate.accept(this);
+                return compiledPredicate;
+            }
+
+            @Override
+            public void visit(AndPredicate predicate) {
+                compiledPredicate = new CompiledAndPredicate(compileAll(predicate.getSubPredicates()));
+            }
+
+            @Override
+            public void visit(ExpressionPredicate predicate) {
+                compiledPredicate = new CompiledExpressionPredicate(predicate);
+            }
+
+            @Override
+            public void visit(MatchPredicate predicate) {
+                compiledPredicate = new CompiledMatchPredicate(predicate);
+            }
+
+            @Override
+            public void visit(NullPredicate predicate) {
+                compiledPredicate = new CompiledNullPredicate(predicate);
+            }
+
+            @Override
+            public void visit(OrPredicate predicate) {
+                compiledPredicate = new CompiledOrPredicate(compileAll(predicate.getSubPredicates()));
+            }
+
+            List<CompiledPredicate> compileAll(List<Predicate> predicates) {
+                List<CompiledPredicate> compiledPredicates = new ArrayList<>();
+                for (Predicate predicate : predicates) {
+                    compiledPredicates.add(compile(predicate));
+                }
+                return compiledPredicates;
+            }
+        }.compile(predicate);
+    }
+
+    private static class CompiledAndPredicate extends CompiledPredicate {
+
+        private List<CompiledPredicate> subPredicates;
+
+        CompiledAndPredicate(List<CompiledPredicate> subPredicates) {
+            this.subPredicates = subPredicates;
+        }
+
+        @Override
+        public boolean check(Row row, IndexedData state) {
+            for (CompiledPredicate subPredicate : subPredicates) {
+                if (!subPredicate.check(row, state)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class CompiledOrPredicate extends CompiledPredicate {
+
+        private List<CompiledPredicate> subPredicates;
+
+        CompiledOrPredicate(List<CompiledPredicate> subPredicates) {
+            this.subPredicates = subPredicates;
+        }
+
+        @Override
+        public boolean check(Row row, IndexedData state) {
+            for (CompiledPredicate subPredicate : subPredicates) {
+                if (subPredicate.check(row, state)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class CompiledExpressionPredicate extends CompiledPredicate {
+
+        private ExpressionPredicate predicate;
+
+        CompiledExpressionPredicate(ExpressionPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean check(Row row, IndexedData state) {
+            return new ExpressionChecker(predicate.getExpression(), predicate.getTruthValue(), true, row).check();
+        }
+    }
+
+    private static class CompiledNullPredicate extends CompiledPredicate {
+
+        private Column column;
+        private boolean truthValue;
+
+        CompiledNullPredicate(NullPredicate predicate) {
+            column = predicate.getColumn();
+            truthValue = predicate.getTruthValue();
+        }
+
+        @Override
+        public boolean check(Row row, IndexedData state) {
+            return row.getCell(column).isNull() == truthValue;
+        }
+    }
+
+    private static class CompiledMatchPredicate extends CompiledPredicate {
+
+        private Table referenceTable;
+        private List<Column> matchingColumns, matchingReferenceColumns;
+        private List<Column> nonMatchingColumns, nonMatchingReferenceColumns;
+        private MatchPredicate.Mode mode;
+        private boolean compareWithSelf;
+
+        // indexed checking, for predicates that have only matching columns
+        // or only non-matching columns
+        private boolean indexed;
+        private boolean matchAny;
+        private List<Column> indexColumns, indexReferenceColumns;
+
+        CompiledMatchPredicate(MatchPredicate predicate) {
+            referenceTable = predicate.getReferenceTable();
+            matchingColumns = predicate.getMatchingColumns();
+            matchingReferenceColumns = predicate.getMatchingReferenceColumns();
+            nonMatchingColumns = predicate.getNonMatchingColumns();
+            nonMatchingReferenceColumns = predicate.getNonMatchingReferenceColumns();
+            mode = predicate.getMode();
+
+            // a row is compared with itself for an FK to the same table
+            compareWithSelf = predicate.tableIsRefTable() && !predicate.colsAreRefCols();
+
+            matchAny = nonMatchingColumns.size() == 0;
+            indexColumns = matchAny ? matchingColumns : nonMatchingColumns;
+            indexReferenceColumns = matchAny ? matchingReferenceColumns : nonMatchingReferenceColumns;
+
+            // a lookup only decides the predicate if a compare row complies
+            // exactly when all of the looked-up columns match (or do not)
+            boolean supported = matchAny
+                    ? matchingColumns.size() > 0
+                    : matchingColumns.size() == 0;
+            indexed = supported
+                    && (indexColumns.size() == 1 || mode.isAnd() == matchAny)
+                    && RowIndex.areIndexable(indexColumns, indexReferenceColumns);
+        }
+
+        @Override
+        public boolean check(Row row, IndexedData state) {
+            if (compareWithSelf && complies(row, row)) {
+                return true;
+            }
+
+            int numStateRows = state.getNumRows(referenceTable);
+            if (numStateRows == 0) {
+                // with nothing to compare the row with, it complies
+                return !compareWithSelf;
+            }
+
+            if (indexed && RowIndex.canLookUp(row, indexColumns)) {
+                List<Row> matchingRows = state.getMatchingRows(referenceTable, indexReferenceColumns, row, indexColumns);
+                List<Row> unindexedRows = state.getUnindexedRows(referenceTable, indexReferenceColumns);
+
+                if (matchAny) {
+                    // the row complies if it matches any one compare row
+                    return anyRowComplies(row, matchingRows) || anyRowComplies(row, unindexedRows);
+                }
+
+                // the row complies if any compare row is not an exact match,
+                // as every column of an exact match fails to not match
+                return anyRowComplies(row, unindexedRows)
+                        || matchingRows.size() + unindexedRows.size() < numStateRows;
+            }
+
+            return anyRowComplies(row, state.getRows(referenceTable));
+        }
+
+        private boolean anyRowComplies(Row row, List<Row> compareRows) {
+            for (Row compareRow : compareRows) {
+                if (complies(row, compareRow)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean complies(Row row, Row compareRow) {
+            return columnsComply(row, compareRow, matchingColumns, matchingReferenceColumns, RelationalOperator.EQUALS)
+                    && columnsComply(row, compareRow, nonMatchingColumns, nonMatchingReferenceColumns, RelationalOperator.NOT_EQUALS);
+        }
+
+        private boolean columnsComply(Row row, Row compareRow, List<Column> columns, List<Column> referenceColumns, RelationalOperator op) {
+            if (columns.size() == 0) {
+                return true;
+            }
+
+            boolean allPairingsSatisfied = true;
+            boolean onePairingSatisfied = false;
+
+            Iterator<Column> referenceColumnsIterator = referenceColumns.iterator();
+            for (Column column : columns) {
+                Column referenceColumn = referenceColumnsIterator.next();
+                boolean thisPairingSatisfied = new RelationalChecker(
+                        row.getCell(column).getValue(),
+                        op,
+                        compareRow.getCell(referenceColumn).getValue(),
+                        true).check();
+
+                if (thisPairingSatisfied) {
+                    onePairingSatisfied = true;
+                } else {
+                    allPairingsSatisfied = false;
+                }
+            }
+
+            return mode.isAnd() ? allPairingsSatisfied : onePairingSatisfied;
+        }
+    }
+}
@@ -27,10 +27,11 @@ public class FullSchemataDeletingTestCaseExecutor extends DeletingTestCaseExecut
             for (Table stateTable : stateTables) {
                 if (table.getIdentifier().toString().replace(schemataPrefix, "").equals(stateTable.getIdentifier().toString())) {
                     List<Row> rows = data.getRows(stateTable);
+                    String insert = getPreparedInsertStatement(stateTable);
                     for (Row row : rows) {
-                        String statement = sqlWriter.writeInsertStatement(row).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix);
-                        Integer result = databaseInteractor.executeUpdate(statement);
+                        Integer result = databaseInteractor.executeInsert(insert, row.getValues());
                         if (result != 1) {
+                            String statement = sqlWriter.writeInsertStatement(row).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix);
                             throw new InsertStatementException("Failed, result was: " + result, statement);
                         }
                     }
@@ -39,6 +40,32 @@ public class FullSchemataDeletingTestCaseExecutor extends DeletingTestCaseExecut
         }
     }
 
+    @Override
+    protected String getPreparedInsertStatement(Table table) {
+        String insert = preparedInsertStatements.get(table);
+        if (insert == null) {
+            insert = sqlWriter.writePreparedInsertStatement(table).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix);
+            preparedInsertStatements.put(table, insert);
+        }
+        return insert;
+    }
+
+    @Override
+    protected List<String> writeInsertStatements(Data data) {
+        List<String> statements = new ArrayList<>();
+        List<Table> stateTables = data.getTables();
+        for (Table table : tables) {
+            for (Table stateTable : stateTables) {
+                if (table.getIdentifier().toString().replace(schemataPrefix, "").equals(stateTable.getIdentifier().toString())) {
+                    for (Row row : data.getRows(stateTable)) {
+                        statements.add(sqlWriter.writeInsertStatement(row).replaceAll("INSERT INTO \"", "INSERT INTO \"" + schemataPrefix));
+                    }
+                }
+            }
+        }
+        return statements;
+    }
+
     @Override
     public void executeInsertsInTransaction(Data data) {
         List<Table> stateTables = data.getTables();
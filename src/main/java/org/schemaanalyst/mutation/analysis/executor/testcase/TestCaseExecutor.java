@@ -14,7 +14,9 @@ import org.schemaanalyst.sqlwriter.SQLWriter;
 import org.schemaanalyst.testgeneration.TestCase;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -30,6 +32,9 @@ public class TestCaseExecutor {
     final protected DatabaseInteractor databaseInteractor;
     final protected SQLWriter sqlWriter;
     final protected DBMS dbms;
+    final protected Map<Table, String> preparedInsertStatements = new HashMap<>();
+    protected boolean batchInserts = false;
+    protected boolean rollbackIsolation = false;
 
     /**
      * Construct an executor.
@@ -46,6 +51,42 @@ public class TestCaseExecutor {
         this.databaseInteractor = databaseInteractor;
     }
 
+    /**
+     * Sets whether the INSERT statements of each test case are executed as a
+     * single JDBC batch, rather than one at a time, which saves round trips
+     * to DBMSs that run as a server. Does not apply to test cases executed
+     * with transactions.
+     *
+     * @param batchInserts Whether to execute INSERTs as a batch
+     */
+    public void setBatchInserts(boolean batchInserts) {
+        this.batchInserts = batchInserts;
+    }
+
+    /**
+     * Sets whether test cases are isolated from each other by executing
+     * their INSERT statements in a transaction that is then rolled back,
+     * rather than by deleting the rows of every table, if the DBMS supports
+     * it. Only applies to executors that would otherwise delete rows, and
+     * not to test cases executed with transactions.
+     *
+     * @param rollbackIsolation Whether to roll back test cases
+     * @see DatabaseInteractor#supportsIsolation()
+     */
+    public void setRollbackIsolation(boolean rollbackIsolation) {
+        this.rollbackIsolation = rollbackIsolation;
+    }
+
+    /**
+     * Whether test cases are isolated by rolling back, i.e. this was chosen
+     * and the DBMS supports it.
+     *
+     * @return Whether to roll back test cases
+     */
+    protected boolean isolateByRollback() {
+        return rollbackIsolation && databaseInteractor.supportsIsolation();
+    }
+
     public void executeCreates() throws CreateStatementException {
         List<String> createStatements = sqlWriter.writeCreateTableStatements(schema);
         for (String statement : createStatements) {
@@ -87,17 +128,86 @@ public class TestCaseExecutor {
         for (Table table : tables) {
             if (stateTables.contains(table)) {
                 List<Row> rows = data.getRows(table);
+                String insert = getPreparedInsertStatement(table);
                 for (Row row : rows) {
-                    String statement = sqlWriter.writeInsertStatement(row);
-                    Integer result = databaseInteractor.executeUpdate(statement);
+                    Integer result = databaseInteractor.executeInsert(insert, row.getValues());
                     if (result != 1) {
-                        throw new InsertStatementException("Failed, result was: " + result, statement);
+                        throw new InsertStatementException("Failed, result was: " + result, sqlWriter.writeInsertStatement(row));
                     }
                 }
             }
         }
     }
 
+    /**
+     * Returns the INSERT statement with parameters for the table, which is
+     * written once and then reused.
+     *
+     * @param table The table
+     * @return The INSERT statement
+     */
+    protected String getPreparedInsertStatement(Table table) {
+        String insert = preparedInsertStatements.get(table);
+        if (insert == null) {
+            insert = sqlWriter.writePreparedInsertStatement(table);
+            preparedInsertStatements.put(table, insert);
+        }
+        return insert;
+    }
+
+    /**
+     * Executes the INSERT statements for the state and then the data of a
+     * test case, either one at a time or as a single batch.
+     *
+     * @param testCase The test case
+     */
+    protected void executeInserts(TestCase testCase) {
+        if (batchInserts) {
+            executeInsertsAsBatch(testCase.getState(), testCase.getData());
+        } else {
+            executeInserts(testCase.getState());
+            executeInserts(testCase.getData());
+        }
+    }
+
+    /**
+     * Executes the INSERT statements for each given data, in order, as a
+     * single batch, failing at the first statement that failed.
+     *
+     * @param datas The data
+     */
+    public void executeInsertsAsBatch(Data... datas) {
+        List<String> statements = new ArrayList<>();
+        for (Data data : datas) {
+            statements.addAll(writeInsertStatements(data));
+        }
+        int[] results = databaseInteractor.executeInsertsAsBatch(statements);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != 1) {
+                throw new InsertStatementException("Failed, result was: " + results[i], statements.get(i));
+            }
+        }
+    }
+
+    /**
+     * Writes the INSERT statements for data, in the order of the tables.
+     *
+     * @param data The data
+     * @return The INSERT statements
+     */
+    protected List<String> writeInsertStatements(Data data) {
+        List<String> statements = new ArrayList<>();
+        List<Table> stateTables = data.getTables();
+        for (Table table : tables) {
+            if (stateTables.contains(table)) {
+                for (Row row : data.getRows(table)) {
+                    statements.add(sqlWriter.writeInsertStatement(row));
+                }
+            }
+        }
+        return statements;
+    }
+
     public void executeInsertsInTransaction(Data data) {
         List<Table> stateTables = data.getTables();
         for (Table table : tables) {
@@ -116,6 +226,27 @@ public class TestCaseExecutor {
         }
     }
 
+    /**
+     * Executes the INSERT statements of a {@link TestCase} in a transaction
+     * that is then rolled back, leaving the tables as they were before.
+     *
+     * @param testCase The test case
+     * @return The result obtained
+     */
+    protected TestCaseResult executeTestCaseInIsolation(TestCase testCase) {
+        TestCaseResult result;
+        databaseInteractor.beginIsolation();
+        try {
+            executeInserts(testCase);
+            result = TestCaseResult.SuccessfulTestCaseResult;
+        } catch (StatementException ex) {
+            result = new TestCaseResult(ex);
+        } finally {
+            databaseInteractor.endIsolation();
+        }
+        return result;
+    }
+
     /**
      * Execute a {@link TestCase} with the {@link Schema} and {@link DBMS} given
      * in the constructor.
@@ -128,8 +259,7 @@ public class TestCaseExecutor {
         try {
             executeDrops();
             executeCreates();
-            executeInserts(testCase.getState());
-            executeInserts(testCase.getData());
+            executeInserts(testCase);
             executeDrops();
             result = TestCaseResult.SuccessfulTestCaseResult;
         } catch (StatementException ex) {
@@ -1,6 +1,7 @@
 package org.schemaanalyst.mutation.analysis.executor.testcase;
 
 import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.IndexedData;
 import org.schemaanalyst.data.Row;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.sqlrepresentation.Schema;
@@ -9,12 +10,11 @@ import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.ConstraintSupplier;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.ConstraintSupplierFactory;
 import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.PredicateGenerator;
-import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
-import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.PredicateChecker;
-import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.PredicateCheckerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by phil on 28/01/2015.
@@ -23,6 +23,7 @@ public class VirtualTestCaseExecutor {
 
     private Schema schema;
     private ConstraintSupplier constraintSupplier;
+    private Map<Table, CompiledPredicate> acceptancePredicates;
 
     /**
      * Constructor
@@ -32,6 +33,7 @@ public class VirtualTestCaseExecutor {
     public VirtualTestCaseExecutor(Schema schema, DBMS dbms) {
         this.schema = schema;
         this.constraintSupplier = ConstraintSupplierFactory.instantiateConstraintSupplier(dbms);
+        this.acceptancePredicates = new HashMap<>();
     }
 
     /**
@@ -66,7 +68,7 @@ public class VirtualTestCaseExecutor {
 
     private List<Boolean> executeInserts(Data data, Data state) {
         List<Boolean> results = new ArrayList<>();
-        Data runningState = state.duplicate();
+        IndexedData runningState = new IndexedData(state);
         for (Table table : data.getTables()) {
             for (Row row : data.getRows(table)) {
                 boolean result = executeInsert(row, runningState);
@@ -79,12 +81,27 @@ public class VirtualTestCaseExecutor {
         return results;
     }
 
-    private boolean executeInsert(Row row, Data runningState) {
-        Table table = row.getTable();
-        Data data = new Data();
-        data.addRow(table, row);
-        Predicate predicate = PredicateGenerator.generatePredicate(constraintSupplier.getConstraints(schema, table));
-        PredicateChecker predicateChecker = PredicateCheckerFactory.instantiate(predicate, true, data, runningState);
-        return predicateChecker.check();
+    private boolean executeInsert(Row row, IndexedData runningState) {
+        return getAcceptancePredicate(row.getTable()).check(row, runningState);
+    }
+
+    /**
+     * Discards the acceptance predicate compiled for a table, which must be
+     * done whenever the constraints of the table in the schema change (e.g.
+     * when a {@link org.schemaanalyst.mutation.SchemaDelta} is applied to it).
+     * @param table The table whose constraints have changed
+     */
+    public void clearAcceptancePredicate(Table table) {
+        acceptancePredicates.remove(table);
+    }
+
+    private CompiledPredicate getAcceptancePredicate(Table table) {
+        CompiledPredicate predicate = acceptancePredicates.get(table);
+        if (predicate == null) {
+            predicate = CompiledPredicate.compile(
+                    PredicateGenerator.generatePredicate(constraintSupplier.getConstraints(schema, table)));
+            acceptancePredicates.put(table, predicate);
+        }
+        return predicate;
     }
 }
@@ -0,0 +1,202 @@
+package org.schemaanalyst.mutation.analysis.executor.testsuite;
+
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A dynamic subsumption graph of mutants, built from their kill vectors (the
+ * test cases of a {@link TestSuite} that kill them) as they are executed.
+ * A killed mutant subsumes another if every test case that kills the first
+ * also kills the second. Mutants with the same kill vector form one node of
+ * the graph, and the dominator nodes are those of killed mutants that are
+ * not subsumed by the mutants of any other node.
+ * </p>
+ *
+ * <p>
+ * Once a mutant is known to be subsumed by a dominator, there is no need to
+ * execute the rest of the test suite against it: it is killed, and cannot
+ * be a dominator itself. Such mutants are added to the graph without a kill
+ * vector, so that the graph only has full kill vectors for the mutants that
+ * were executed against the whole test suite. The number of dominator nodes
+ * is the same as if every mutant had been executed in full.
+ * </p>
+ *
+ * @see TestSuiteExecutor#setSubsumption(MutantSubsumptionGraph, Mutant, TestSuiteResult)
+ */
+public class MutantSubsumptionGraph {
+
+    private final List<TestCase> testCases;
+    private final Map<TestCase, Integer> positions;
+    private final Map<BitSet, Node> nodes;
+    private final List<Node> dominators;
+    private final Map<Mutant<Schema>, Node> executedMutants;
+    private final Map<Mutant<Schema>, Mutant<Schema>> subsumedMutants;
+
+    /**
+     * Constructor.
+     *
+     * @param testSuite The test suite that the mutants are executed against
+     */
+    public MutantSubsumptionGraph(TestSuite testSuite) {
+        testCases = new ArrayList<>(testSuite.getTestCases());
+        positions = new IdentityHashMap<>();
+        for (int i = 0; i < testCases.size(); i++) {
+            positions.put(testCases.get(i), i);
+        }
+        nodes = new HashMap<>();
+        dominators = new ArrayList<>();
+        executedMutants = new IdentityHashMap<>();
+        subsumedMutants = new IdentityHashMap<>();
+    }
+
+    /**
+     * Adds a mutant that was executed against the whole test suite.
+     *
+     * @param mutant The mutant
+     * @param killingTestCases The test cases that kill the mutant
+     */
+    public synchronized void addExecuted(Mutant<Schema> mutant, List<TestCase> killingTestCases) {
+        BitSet kills = new BitSet(testCases.size());
+        for (TestCase testCase : killingTestCases) {
+            Integer position = positions.get(testCase);
+            if (position != null) {
+                kills.set(position);
+            }
+        }
+
+        Node node = nodes.get(kills);
+        if (node == null) {
+            node = new Node(kills);
+            nodes.put(kills, node);
+            updateDominators(node);
+        }
+        node.mutants.add(mutant);
+        executedMutants.put(mutant, node);
+    }
+
+    /**
+     * Adds a mutant that was found to be subsumed by a dominator, without
+     * executing it against the whole test suite.
+     *
+     * @param mutant The mutant
+     * @param dominator The dominator that subsumes it
+     */
+    public synchronized void addSubsumed(Mutant<Schema> mutant, Mutant<Schema> dominator) {
+        subsumedMutants.put(mutant, dominator);
+    }
+
+    private void updateDominators(Node node) {
+        if (node.kills.isEmpty()) {
+            // live mutants do not subsume any other mutant
+            return;
+        }
+        for (Node dominator : dominators) {
+            if (isSubset(dominator.kills, node.kills)) {
+                return;
+            }
+        }
+        Iterator<Node> iterator = dominators.iterator();
+        while (iterator.hasNext()) {
+            if (isSubset(node.kills, iterator.next().kills)) {
+                iterator.remove();
+            }
+        }
+        dominators.add(node);
+    }
+
+    private static boolean isSubset(BitSet first, BitSet second) {
+        BitSet difference = (BitSet) first.clone();
+        difference.andNot(second);
+        return difference.isEmpty();
+    }
+
+    /**
+     * Gets one mutant from each dominator node, in the order in which the
+     * nodes were found.
+     *
+     * @return The dominator mutants
+     */
+    public synchronized List<Mutant<Schema>> getDominators() {
+        List<Mutant<Schema>> dominatorMutants = new ArrayList<>(dominators.size());
+        for (Node dominator : dominators) {
+            dominatorMutants.add(dominator.mutants.get(0));
+        }
+        return dominatorMutants;
+    }
+
+    /**
+     * Gets the executed mutants that have the same kill vector as a mutant,
+     * including the mutant itself.
+     *
+     * @param mutant The executed mutant
+     * @return The mutants with the same kill vector, or an empty list if the
+     * mutant was not executed against the whole test suite
+     */
+    public synchronized List<Mutant<Schema>> getEquivalentMutants(Mutant<Schema> mutant) {
+        Node node = executedMutants.get(mutant);
+        return node == null ? new ArrayList<Mutant<Schema>>() : new ArrayList<>(node.mutants);
+    }
+
+    /**
+     * Gets the test cases that kill a mutant, in suite order.
+     *
+     * @param mutant The executed mutant
+     * @return The killing test cases, or null if the mutant was not executed
+     * against the whole test suite
+     */
+    public synchronized List<TestCase> getKillingTestCases(Mutant<Schema> mutant) {
+        Node node = executedMutants.get(mutant);
+        if (node == null) {
+            return null;
+        }
+        List<TestCase> killingTestCases = new ArrayList<>(node.kills.cardinality());
+        for (int i = node.kills.nextSetBit(0); i >= 0; i = node.kills.nextSetBit(i + 1)) {
+            killingTestCases.add(testCases.get(i));
+        }
+        return killingTestCases;
+    }
+
+    /**
+     * Gets the dominator that a mutant was found to be subsumed by, when it
+     * was added without being executed against the whole test suite. The
+     * dominator may since have been found to be subsumed by another mutant.
+     *
+     * @param mutant The mutant
+     * @return The dominator, or null if the mutant was executed in full
+     */
+    public synchronized Mutant<Schema> getSubsumingMutant(Mutant<Schema> mutant) {
+        return subsumedMutants.get(mutant);
+    }
+
+    /**
+     * Gets the number of mutants found to be subsumed without being executed
+     * against the whole test suite.
+     *
+     * @return The number of mutants
+     */
+    public synchronized int getNumSubsumedMutants() {
+        return subsumedMutants.size();
+    }
+
+    private static class Node {
+
+        BitSet kills;
+        List<Mutant<Schema>> mutants;
+
+        Node(BitSet kills) {
+            this.kills = kills;
+            mutants = new ArrayList<>();
+        }
+    }
+}
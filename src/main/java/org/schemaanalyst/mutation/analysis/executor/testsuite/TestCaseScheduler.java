@@ -0,0 +1,152 @@
+package org.schemaanalyst.mutation.analysis.executor.testsuite;
+
+import org.schemaanalyst.mutation.Delta;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.SchemaDelta;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Orders the test cases of a {@link TestSuite} for execution against a
+ * mutant, so that the test cases most likely to kill it are executed first.
+ * </p>
+ *
+ * <p>
+ * The scheduler is told which test case killed each mutant, and puts first
+ * the test cases that have killed the most mutants made by the same operator
+ * (i.e. with the same simple description), then those that have killed the
+ * most mutants of the same table, and then those that have killed the most
+ * mutants overall. Test cases that are tied keep their order in the suite.
+ * </p>
+ *
+ * <p>
+ * The operator and table of each mutant are noted when the scheduler is
+ * constructed, so that the schemata techniques can rename the tables of
+ * mutants afterwards.
+ * </p>
+ *
+ * @see TestSuiteExecutor#setEarlyExit(TestCaseScheduler, Mutant, TestSuiteResult)
+ */
+public class TestCaseScheduler {
+
+    private final List<TestCase> testCases;
+    private final Map<TestCase, Integer> positions;
+    private final Map<Mutant<Schema>, String> operators;
+    private final Map<Mutant<Schema>, String> tables;
+    private final Map<String, int[]> operatorKills;
+    private final Map<String, int[]> tableKills;
+    private final int[] totalKills;
+
+    /**
+     * Constructor.
+     *
+     * @param testSuite The test suite whose test cases are to be ordered
+     * @param mutants The mutants to order the test cases for
+     */
+    public TestCaseScheduler(TestSuite testSuite, List<Mutant<Schema>> mutants) {
+        testCases = new ArrayList<>(testSuite.getTestCases());
+        positions = new IdentityHashMap<>();
+        for (int i = 0; i < testCases.size(); i++) {
+            positions.put(testCases.get(i), i);
+        }
+
+        operators = new IdentityHashMap<>();
+        tables = new IdentityHashMap<>();
+        for (Mutant<Schema> mutant : mutants) {
+            operators.put(mutant, mutant.getSimpleDescription());
+            Delta<Schema> delta = mutant.getDelta();
+            if (delta instanceof SchemaDelta) {
+                tables.put(mutant, ((SchemaDelta) delta).getTable().getName());
+            }
+        }
+
+        operatorKills = new HashMap<>();
+        tableKills = new HashMap<>();
+        totalKills = new int[testCases.size()];
+    }
+
+    /**
+     * Gets the test cases of the suite in the order in which they should be
+     * executed against a mutant.
+     *
+     * @param mutant The mutant
+     * @return The ordered test cases
+     */
+    public synchronized List<TestCase> order(Mutant<Schema> mutant) {
+        final int[] mutantOperatorKills = getKills(operatorKills, operators.get(mutant));
+        final int[] mutantTableKills = getKills(tableKills, tables.get(mutant));
+
+        List<Integer> order = new ArrayList<>(testCases.size());
+        for (int i = 0; i < testCases.size(); i++) {
+            order.add(i);
+        }
+        Collections.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                int result = Integer.compare(mutantOperatorKills[second], mutantOperatorKills[first]);
+                if (result == 0) {
+                    result = Integer.compare(mutantTableKills[second], mutantTableKills[first]);
+                }
+                if (result == 0) {
+                    result = Integer.compare(totalKills[second], totalKills[first]);
+                }
+                if (result == 0) {
+                    result = Integer.compare(first, second);
+                }
+                return result;
+            }
+        });
+
+        List<TestCase> orderedTestCases = new ArrayList<>(testCases.size());
+        for (Integer position : order) {
+            orderedTestCases.add(testCases.get(position));
+        }
+        return orderedTestCases;
+    }
+
+    /**
+     * Records that a test case killed a mutant.
+     *
+     * @param mutant The mutant
+     * @param testCase The test case that killed it
+     */
+    public synchronized void recordKill(Mutant<Schema> mutant, TestCase testCase) {
+        Integer position = positions.get(testCase);
+        if (position == null) {
+            return;
+        }
+        String operator = operators.get(mutant);
+        if (operator != null) {
+            getOrCreateKills(operatorKills, operator)[position]++;
+        }
+        String table = tables.get(mutant);
+        if (table != null) {
+            getOrCreateKills(tableKills, table)[position]++;
+        }
+        totalKills[position]++;
+    }
+
+    private int[] getKills(Map<String, int[]> kills, String key) {
+        int[] keyKills = key == null ? null : kills.get(key);
+        return keyKills == null ? new int[testCases.size()] : keyKills;
+    }
+
+    private int[] getOrCreateKills(Map<String, int[]> kills, String key) {
+        int[] keyKills = kills.get(key);
+        if (keyKills == null) {
+            keyKills = new int[testCases.size()];
+            kills.put(key, keyKills);
+        }
+        return keyKills;
+    }
+}
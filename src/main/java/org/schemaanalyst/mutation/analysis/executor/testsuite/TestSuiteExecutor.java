@@ -1,30 +1,169 @@
 package org.schemaanalyst.mutation.analysis.executor.testsuite;
 
+import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.testgeneration.TestCase;
 import org.schemaanalyst.testgeneration.TestSuite;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * <p>Executes each {@link TestCase} of a {@link TestSuite} using a {@link TestCaseExecutor}.</p>
- * 
+ *
  * @author Chris J. Wright
  */
 public class TestSuiteExecutor {
 
+    private TestCaseScheduler scheduler;
+    private MutantSubsumptionGraph subsumptionGraph;
+    private Mutant<Schema> mutant;
+    private TestSuiteResult originalResult;
+
+    /**
+     * Switches on early exit, for executing a test suite against a mutant.
+     * The test cases are executed in the order given by a scheduler, and
+     * execution stops at the first test case whose result differs from its
+     * result for the original schema, as the mutant is then known to be
+     * killed. The scheduler is told which test case killed the mutant.
+     *
+     * The result of executing the suite then only contains the test cases
+     * executed, and so is not equal to the original result. If every test
+     * case gives the same result as for the original schema, the result of
+     * executing the suite is the same as without early exit.
+     *
+     * @param scheduler The scheduler that orders the test cases
+     * @param mutant The mutant that the test suite is executed against
+     * @param originalResult The result of the test suite for the original schema
+     */
+    public void setEarlyExit(TestCaseScheduler scheduler, Mutant<Schema> mutant, TestSuiteResult originalResult) {
+        this.scheduler = scheduler;
+        this.mutant = mutant;
+        this.originalResult = originalResult;
+    }
+
+    /**
+     * Switches on subsumption checking, for executing a test suite against a
+     * mutant. Before the rest of the test suite is executed, the test cases
+     * that kill each dominator of a subsumption graph are executed, and
+     * execution stops as soon as all of those of one dominator kill the
+     * mutant too, as the mutant is then known to be subsumed. Otherwise, the
+     * whole test suite is executed, and the mutant is added to the graph with
+     * its kill vector. Subsumption checking takes the place of early exit.
+     *
+     * The result of executing the suite against a subsumed mutant only
+     * contains the test cases executed, and so is not equal to the original
+     * result.
+     *
+     * @param subsumptionGraph The subsumption graph
+     * @param mutant The mutant that the test suite is executed against
+     * @param originalResult The result of the test suite for the original schema
+     */
+    public void setSubsumption(MutantSubsumptionGraph subsumptionGraph, Mutant<Schema> mutant, TestSuiteResult originalResult) {
+        this.subsumptionGraph = subsumptionGraph;
+        this.mutant = mutant;
+        this.originalResult = originalResult;
+    }
+
     public TestSuiteResult executeTestSuite(TestCaseExecutor executor, TestSuite suite) {
+        return executeTestCases(executor, suite, null);
+    }
+
+    public TestSuiteResult executeTestSuite(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult) {
+        return executeTestCases(executor, suite, expectedResult);
+    }
+
+    /**
+     * Executes the test cases of a test suite, stopping early if early exit
+     * or subsumption checking is switched on.
+     *
+     * @param executor The test case executor
+     * @param suite The test suite
+     * @param expectedResult The expected results to pass to the test case
+     * executor, or null to execute the test cases without them
+     * @return The result
+     */
+    protected TestSuiteResult executeTestCases(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult) {
+        if (subsumptionGraph != null) {
+            return executeTestCasesWithSubsumption(executor, suite, expectedResult);
+        }
+
         TestSuiteResult result = new TestSuiteResult();
+        if (scheduler == null) {
+            for (TestCase testCase : suite.getTestCases()) {
+                result.add(testCase, executeTestCase(executor, testCase, expectedResult));
+            }
+            return result;
+        }
+
+        Map<TestCase, TestCaseResult> testCaseResults = new IdentityHashMap<>();
+        for (TestCase testCase : scheduler.order(mutant)) {
+            TestCaseResult testCaseResult = executeTestCase(executor, testCase, expectedResult);
+            if (!Objects.equals(testCaseResult, originalResult.getResult(testCase))) {
+                scheduler.recordKill(mutant, testCase);
+                result.add(testCase, testCaseResult);
+                return result;
+            }
+            testCaseResults.put(testCase, testCaseResult);
+        }
         for (TestCase testCase : suite.getTestCases()) {
-            result.add(testCase, executor.executeTestCase(testCase));
+            result.add(testCase, testCaseResults.get(testCase));
         }
         return result;
     }
-    
-    public TestSuiteResult executeTestSuite(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult) {
+
+    private TestSuiteResult executeTestCasesWithSubsumption(TestCaseExecutor executor, TestSuite suite, TestSuiteResult expectedResult) {
+        Map<TestCase, TestCaseResult> testCaseResults = new IdentityHashMap<>();
+        List<TestCase> executedTestCases = new ArrayList<>();
+        for (Mutant<Schema> dominator : subsumptionGraph.getDominators()) {
+            boolean subsumed = true;
+            for (TestCase testCase : subsumptionGraph.getKillingTestCases(dominator)) {
+                TestCaseResult testCaseResult = testCaseResults.get(testCase);
+                if (testCaseResult == null) {
+                    testCaseResult = executeTestCase(executor, testCase, expectedResult);
+                    testCaseResults.put(testCase, testCaseResult);
+                    executedTestCases.add(testCase);
+                }
+                if (Objects.equals(testCaseResult, originalResult.getResult(testCase))) {
+                    subsumed = false;
+                    break;
+                }
+            }
+            if (subsumed) {
+                subsumptionGraph.addSubsumed(mutant, dominator);
+                TestSuiteResult result = new TestSuiteResult();
+                for (TestCase testCase : executedTestCases) {
+                    result.add(testCase, testCaseResults.get(testCase));
+                }
+                return result;
+            }
+        }
+
         TestSuiteResult result = new TestSuiteResult();
+        List<TestCase> killingTestCases = new ArrayList<>();
         for (TestCase testCase : suite.getTestCases()) {
-            result.add(testCase, executor.executeTestCase(testCase, expectedResult.getResult(testCase)));
+            TestCaseResult testCaseResult = testCaseResults.get(testCase);
+            if (testCaseResult == null) {
+                testCaseResult = executeTestCase(executor, testCase, expectedResult);
+            }
+            if (!Objects.equals(testCaseResult, originalResult.getResult(testCase))) {
+                killingTestCases.add(testCase);
+            }
+            result.add(testCase, testCaseResult);
         }
+        subsumptionGraph.addExecuted(mutant, killingTestCases);
         return result;
     }
 
+    private TestCaseResult executeTestCase(TestCaseExecutor executor, TestCase testCase, TestSuiteResult expectedResult) {
+        return expectedResult == null
+                ? executor.executeTestCase(testCase)
+                : executor.executeTestCase(testCase, expectedResult.getResult(testCase));
+    }
+
 }
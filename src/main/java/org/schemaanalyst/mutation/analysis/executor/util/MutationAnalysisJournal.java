@@ -0,0 +1,211 @@
+package org.schemaanalyst.mutation.analysis.executor.util;
+
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.MutationException;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlwriter.SQLWriter;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A journal of the verdicts (killed or live) of mutants, stored on disk as
+ * mutation analysis goes along, so that a run that is interrupted can be
+ * resumed without analysing again the mutants that already have a verdict.
+ *
+ * There is one journal file for each test suite, named by a hash of the
+ * schema, the DBMS and the INSERT statements of the test suite -- see
+ * {@link #createTestSuiteKey(Schema, DBMS, TestSuite)}. Each line of the file
+ * holds the fingerprint of a mutant, which is a hash of its CREATE TABLE
+ * statements (see {@link #createMutantKey(Mutant, DBMS)}), and its verdict.
+ * Lines are appended in checkpoints, and lines that cannot be read (e.g., the
+ * last line of a run that was killed while writing it) are ignored.
+ */
+public class MutationAnalysisJournal {
+
+    /**
+     * The version of mutation analysis, which is part of every key.
+     */
+    public static final int VERSION = 1;
+
+    private static final String FILE_EXTENSION = ".journal";
+
+    private static final int KEY_LENGTH = 32;
+
+    private static final char KILLED = 'K';
+
+    private static final char LIVE = 'L';
+
+    private static final Logger LOGGER = Logger.getLogger(MutationAnalysisJournal.class.getName());
+
+    private File file;
+
+    /**
+     * Constructor.
+     *
+     * @param directory The directory in which to store journals, which is
+     * created when the first verdicts are stored if it does not exist.
+     * @param testSuiteKey The key of the test suite, from
+     * {@link #createTestSuiteKey(Schema, DBMS, TestSuite)}.
+     */
+    public MutationAnalysisJournal(File directory, String testSuiteKey) {
+        file = new File(directory, testSuiteKey + FILE_EXTENSION);
+    }
+
+    /**
+     * Creates the key of the journal of a test suite.
+     *
+     * @param schema The schema that the test suite was generated for.
+     * @param dbms The DBMS that mutation analysis is performed with.
+     * @param testSuite The test suite.
+     * @return The key, which is a hexadecimal string.
+     */
+    public static String createTestSuiteKey(Schema schema, DBMS dbms, TestSuite testSuite) {
+        SQLWriter sqlWriter = dbms.getSQLWriter();
+        StringBuilder sb = new StringBuilder();
+        sb.append(VERSION).append("\n");
+        sb.append(schema.getName()).append("\n");
+        for (String statement : sqlWriter.writeCreateTableStatements(schema)) {
+            sb.append(statement).append("\n");
+        }
+        sb.append(dbms.getName()).append("\n");
+        for (TestCase testCase : testSuite.getTestCases()) {
+            sb.append("--\n");
+            appendInserts(sb, sqlWriter, testCase.getState());
+            sb.append("-\n");
+            appendInserts(sb, sqlWriter, testCase.getData());
+        }
+        return hash(sb.toString());
+    }
+
+    private static void appendInserts(StringBuilder sb, SQLWriter sqlWriter, Data data) {
+        for (Table table : data.getTables()) {
+            for (Row row : data.getRows(table)) {
+                sb.append(sqlWriter.writeInsertStatement(row)).append("\n");
+            }
+        }
+    }
+
+    /**
+     * Creates the fingerprint of a mutant, which must be done before the
+     * mutant is analysed, as some techniques rename the tables of mutants.
+     * Mutants with the same CREATE TABLE statements have the same
+     * fingerprint, as they also have the same verdict.
+     *
+     * @param mutant The mutant.
+     * @param dbms The DBMS that mutation analysis is performed with.
+     * @return The fingerprint, which is a hexadecimal string.
+     */
+    public static String createMutantKey(Mutant<Schema> mutant, DBMS dbms) {
+        StringBuilder sb = new StringBuilder();
+        for (String statement : dbms.getSQLWriter().writeCreateTableStatements(mutant.getMutatedArtefact())) {
+            sb.append(statement).append("\n");
+        }
+        return hash(sb.toString());
+    }
+
+    private static String hash(String string) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest(string.getBytes(StandardCharsets.UTF_8))) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.substring(0, KEY_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new MutationException(e);
+        }
+    }
+
+    /**
+     * Reads the verdicts stored in the journal.
+     *
+     * @return Whether each mutant, by fingerprint, was killed, which is empty
+     * if the journal does not exist or could not be read.
+     */
+    public Map<String, Boolean> read() {
+        Map<String, Boolean> verdicts = new HashMap<>();
+        if (!file.exists()) {
+            return verdicts;
+        }
+
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.length() != KEY_LENGTH + 2 || line.charAt(KEY_LENGTH) != ' ') {
+                    continue;
+                }
+                char verdict = line.charAt(KEY_LENGTH + 1);
+                if (verdict == KILLED || verdict == LIVE) {
+                    verdicts.put(line.substring(0, KEY_LENGTH), verdict == KILLED);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read mutation analysis journal " + file + ", ignoring it", e);
+            verdicts.clear();
+        }
+        return verdicts;
+    }
+
+    /**
+     * Appends verdicts to the journal, forcing them to disk before returning.
+     *
+     * @param verdicts Whether each mutant, by fingerprint, was killed.
+     */
+    public void append(Map<String, Boolean> verdicts) {
+        try {
+            Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            try (FileOutputStream out = new FileOutputStream(file, true)) {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                for (Map.Entry<String, Boolean> verdict : verdicts.entrySet()) {
+                    writer.write(verdict.getKey() + " " + (verdict.getValue() ? KILLED : LIVE) + "\n");
+                }
+                writer.flush();
+                out.getFD().sync();
+            }
+        } catch (IOException e) {
+            // mutation analysis can still finish, it just can't be resumed
+            LOGGER.log(Level.WARNING, "Could not write mutation analysis journal " + file, e);
+        }
+    }
+
+    /**
+     * Deletes the journal, so that a new run starts with no verdicts.
+     */
+    public void clear() {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not delete mutation analysis journal " + file, e);
+        }
+    }
+
+    /**
+     * Gets the file that the journal is stored in.
+     *
+     * @return The file.
+     */
+    public File getFile() {
+        return file;
+    }
+}
@@ -1,6 +1,8 @@
 package org.schemaanalyst.mutation.analysis.executor.util;
 
+import org.schemaanalyst.mutation.Delta;
 import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.SchemaDelta;
 import org.schemaanalyst.mutation.analysis.util.SchemaMerger;
 import org.schemaanalyst.mutation.equivalence.ChangedConstraintFinder;
 import org.schemaanalyst.mutation.equivalence.ChangedTableFinder;
@@ -27,13 +29,20 @@ import java.util.concurrent.RecursiveTask;
 public class MutationAnalysisUtils {
 
     /**
-     * Computes the name of the changed table in a schema mutant.
+     * Computes the name of the changed table in a schema mutant. If the
+     * mutant has a {@link SchemaDelta}, the table is read from it, otherwise
+     * it is found by comparing the mutant to the original schema.
      *
      * @param original The original schema
      * @param mutant The mutant schema
      * @return The name of the table
      */
     public static String computeChangedTable(Schema original, Mutant<Schema> mutant) {
+        SchemaDelta delta = getSchemaDelta(mutant);
+        if (delta != null) {
+            return delta.getTable().getName();
+        }
+
         Schema modifiedSchema = reapplyRemovers(mutant, original);
 
         // Find the changed table
@@ -45,7 +54,22 @@ public class MutationAnalysisUtils {
         }
     }
 
+    /**
+     * Computes the changed constraint in a schema mutant. If the mutant has a
+     * {@link SchemaDelta}, the constraint is read from it, otherwise it is
+     * found by comparing the mutant to the original schema.
+     *
+     * @param original The original schema
+     * @param mutant The mutant schema
+     * @return The constraint of the mutant, or of the original schema if the
+     * constraint was removed
+     */
     public static Constraint computeChangedConstraint(Schema original, Mutant<Schema> mutant) {
+        SchemaDelta delta = getSchemaDelta(mutant);
+        if (delta != null) {
+            return delta.getChangedConstraint();
+        }
+
         Schema modifiedSchema = reapplyRemovers(mutant, original);
         
         // Find the changed constraint
@@ -57,6 +81,11 @@ public class MutationAnalysisUtils {
         }
     }
     
+    private static SchemaDelta getSchemaDelta(Mutant<Schema> mutant) {
+        Delta<Schema> delta = mutant.getDelta();
+        return delta instanceof SchemaDelta ? (SchemaDelta) delta : null;
+    }
+
     private static Schema reapplyRemovers(Mutant<Schema> mutant, Schema original) throws RuntimeException {
         // Reapply removers if needed
         Schema modifiedSchema;
@@ -97,6 +126,7 @@ public class MutationAnalysisUtils {
      */
     public static void renameMutantConstraints(String prefix, Mutant<Schema> mutant) {
         Schema mutantSchema = mutant.getMutatedArtefact();
+        mutantSchema.unshareAll();
         for (Constraint constraint : mutantSchema.getConstraints()) {
             if (constraint.hasIdentifier() && constraint.getIdentifier().get() != null) {
                 String name = constraint.getIdentifier().get();
@@ -130,6 +160,7 @@ public class MutationAnalysisUtils {
      */
     public static void renameChangedTable(Mutant<Schema> mutant, int id, String changedTableName) {
         Schema mutantSchema = mutant.getMutatedArtefact();
+        mutantSchema.unshareAll();
         Table changedTable = mutantSchema.getTable(changedTableName);
         String newName = String.format("mutant_%d_%s", id, changedTableName);
         changedTable.setName(newName);
@@ -145,6 +176,7 @@ public class MutationAnalysisUtils {
      */
     public static void renameChangedTableConstraints(Mutant<Schema> mutant, int id, String changedTableName) {
         Schema mutantSchema = mutant.getMutatedArtefact();
+        mutantSchema.unshareAll();
         Table changedTable = mutantSchema.getTable(changedTableName);
         List<Constraint> constraints = mutantSchema.getConstraints(changedTable);
         for (Constraint constraint : constraints) {
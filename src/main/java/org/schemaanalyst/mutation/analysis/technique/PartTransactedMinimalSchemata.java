@@ -382,6 +382,7 @@ public class PartTransactedMinimalSchemata extends Runner {
     private static void renameConstraints(List<Mutant<Schema>> mutants) {
         for (int i = 0; i < mutants.size(); i++) {
             Schema mutantSchema = mutants.get(i).getMutatedArtefact();
+            mutantSchema.unshareAll();
             for (Constraint constraint : mutantSchema.getConstraints()) {
                 if (constraint.hasIdentifier() && constraint.getIdentifier().get() != null) {
                     String name = constraint.getIdentifier().get();
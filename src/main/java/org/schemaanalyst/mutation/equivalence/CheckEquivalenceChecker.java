@@ -55,5 +55,16 @@ public class CheckEquivalenceChecker extends EquivalenceChecker<CheckConstraint>
             return a.getExpression().equals(b.getExpression());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(CheckConstraint constraint) {
+        int result = ignoreName ? 0 : constraint.getIdentifier().hashCode();
+        result = 31 * result + constraint.getTable().getIdentifier().hashCode();
+        result = 31 * result + constraint.getExpression().hashCode();
+        return result;
+    }
     
 }
@@ -39,5 +39,13 @@ public class ColumnEquivalenceChecker extends EquivalenceChecker<Column> {
             return false;
         } else return a.getDataType().equals(b.getDataType());
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(Column column) {
+        return 31 * column.getIdentifier().hashCode() + column.getDataType().hashCode();
+    }
     
 }
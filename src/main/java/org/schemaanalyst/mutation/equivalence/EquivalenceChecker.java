@@ -3,8 +3,10 @@
 package org.schemaanalyst.mutation.equivalence;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 /**
  * <p>
@@ -42,6 +44,37 @@ public abstract class EquivalenceChecker<T> {
         return (subtract(iterableA, iterableB).isEmpty()) && (subtract(iterableB, iterableA).isEmpty());
     }
 
+    /**
+     * Returns a fingerprint for an element, which is a hash code consistent
+     * with {@link #areEquivalent(Object, Object)}: equivalent elements always
+     * have the same fingerprint, so elements with different fingerprints
+     * cannot be equivalent and need not be compared. The basic case gives
+     * every element the same fingerprint, for subclasses to refine with the
+     * properties that they compare.
+     *
+     * @param element The element
+     * @return The fingerprint
+     */
+    public int fingerprint(T element) {
+        return 0;
+    }
+
+    /**
+     * Returns a fingerprint for the elements of an iterable, consistent with
+     * {@link #areEquivalent(Iterable, Iterable)}, which disregards both the
+     * ordering of elements and how many times equivalent elements appear.
+     *
+     * @param iterable The iterable
+     * @return The fingerprint
+     */
+    public int fingerprint(Iterable<? extends T> iterable) {
+        Set<Integer> fingerprints = new HashSet<>();
+        for (T element : iterable) {
+            fingerprints.add(fingerprint(element));
+        }
+        return fingerprints.hashCode();
+    }
+
     /**
      * Returns a list of those elements in A that do not have equivalent
      * elements in B.
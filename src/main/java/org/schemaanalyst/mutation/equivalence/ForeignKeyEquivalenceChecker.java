@@ -57,5 +57,21 @@ public class ForeignKeyEquivalenceChecker extends MultiColumnEquivalenceChecker<
             return a.getReferenceColumns().containsAll(b.getReferenceColumns());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     *
+     * <p>
+     * Only the number of reference columns is part of the fingerprint, since
+     * a reference column can appear more than once.
+     * </p>
+     */
+    @Override
+    public int fingerprint(ForeignKeyConstraint constraint) {
+        int result = super.fingerprint(constraint);
+        result = 31 * result + constraint.getReferenceTable().getIdentifier().hashCode();
+        result = 31 * result + constraint.getReferenceColumns().size();
+        return result;
+    }
     
 }
@@ -4,6 +4,8 @@ package org.schemaanalyst.mutation.equivalence;
 
 import org.schemaanalyst.sqlrepresentation.constraint.MultiColumnConstraint;
 
+import java.util.HashSet;
+
 /**
  * <p>
  * An {@link EquivalenceChecker} that compares two {@link MultiColumnConstraint}
@@ -59,5 +61,24 @@ public class MultiColumnEquivalenceChecker<T extends MultiColumnConstraint> exte
             return a.getColumns().containsAll(b.getColumns());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     *
+     * <p>
+     * The order of the columns is not part of the fingerprint. Since a
+     * constraint cannot have the same column twice, two constraints with the
+     * same number of columns, where one contains all the columns of the other,
+     * have the same set of columns.
+     * </p>
+     */
+    @Override
+    public int fingerprint(T constraint) {
+        int result = ignoreName ? 0 : constraint.getIdentifier().hashCode();
+        result = 31 * result + constraint.getTable().getIdentifier().hashCode();
+        result = 31 * result + constraint.getNumColumns();
+        result = 31 * result + new HashSet<>(constraint.getColumns()).hashCode();
+        return result;
+    }
     
 }
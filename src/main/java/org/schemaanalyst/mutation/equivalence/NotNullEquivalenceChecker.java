@@ -53,5 +53,16 @@ public class NotNullEquivalenceChecker extends EquivalenceChecker<NotNullConstra
             return false;
         } else return a.getColumn().getIdentifier().equals(b.getColumn().getIdentifier());
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(NotNullConstraint constraint) {
+        int result = ignoreName ? 0 : constraint.getIdentifier().hashCode();
+        result = 31 * result + constraint.getTable().getIdentifier().hashCode();
+        result = 31 * result + constraint.getColumn().getIdentifier().hashCode();
+        return result;
+    }
     
 }
@@ -83,7 +83,7 @@ public class SchemaEquivalenceChecker extends EquivalenceChecker<Schema> {
             return false;
         } else if (a.getTables().size() != b.getTables().size()) {
             return false;
-        } else if (!tableEquivalenceChecker.areEquivalent(a.getTablesInOrder(), b.getTablesInOrder())) {
+        } else if (!tableEquivalenceChecker.areEquivalent(a.getTables(), b.getTables())) {
             return false;
         } else if (!primaryKeyEquivalenceChecker.areEquivalent(a.getPrimaryKeyConstraints(), b.getPrimaryKeyConstraints())) {
             return false;
@@ -95,4 +95,32 @@ public class SchemaEquivalenceChecker extends EquivalenceChecker<Schema> {
             return false;
         } else return notNullEquivalenceChecker.areEquivalent(a.getNotNullConstraints(), b.getNotNullConstraints());
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(Schema schema) {
+        int result = fingerprintTablesAndKeys(schema);
+        result = 31 * result + checkEquivalenceChecker.fingerprint(schema.getCheckConstraints());
+        result = 31 * result + notNullEquivalenceChecker.fingerprint(schema.getNotNullConstraints());
+        return result;
+    }
+
+    /**
+     * Returns a fingerprint for the identifier, tables, and PRIMARY KEY,
+     * FOREIGN KEY and UNIQUE constraints of a schema.
+     *
+     * @param schema The schema
+     * @return The fingerprint
+     */
+    protected int fingerprintTablesAndKeys(Schema schema) {
+        int result = schema.getIdentifier().hashCode();
+        result = 31 * result + schema.getTables().size();
+        result = 31 * result + tableEquivalenceChecker.fingerprint(schema.getTables());
+        result = 31 * result + primaryKeyEquivalenceChecker.fingerprint(schema.getPrimaryKeyConstraints());
+        result = 31 * result + foreignKeyEquivalenceChecker.fingerprint(schema.getForeignKeyConstraints());
+        result = 31 * result + uniqueEquivalenceChecker.fingerprint(schema.getUniqueConstraints());
+        return result;
+    }
 }
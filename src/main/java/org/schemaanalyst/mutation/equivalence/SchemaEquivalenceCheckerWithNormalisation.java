@@ -24,5 +24,10 @@ public class SchemaEquivalenceCheckerWithNormalisation extends SchemaEquivalence
         Schema normB = normaliser.normalise(b);
         return super.areEquivalent(normA, normB);
     }
+
+    @Override
+    public int fingerprint(Schema schema) {
+        return super.fingerprint(normaliser.normalise(schema));
+    }
     
 }
@@ -42,7 +42,7 @@ public class SchemaEquivalenceWithNotNullCheckChecker extends SchemaEquivalenceC
             return false;
         } else if (a.getTables().size() != b.getTables().size()) {
             return false;
-        } else if (!tableEquivalenceChecker.areEquivalent(a.getTablesInOrder(), b.getTablesInOrder())) {
+        } else if (!tableEquivalenceChecker.areEquivalent(a.getTables(), b.getTables())) {
             return false;
         } else if (!primaryKeyEquivalenceChecker.areEquivalent(a.getPrimaryKeyConstraints(), b.getPrimaryKeyConstraints())) {
             return false;
@@ -56,6 +56,19 @@ public class SchemaEquivalenceWithNotNullCheckChecker extends SchemaEquivalenceC
         } else return notNullEquivalenceChecker.areEquivalent(a.getNotNullConstraints(), b.getNotNullConstraints()) || hasEquivalentCheck(a, b);
     }
 
+    /**
+     * {@inheritDoc }
+     *
+     * <p>
+     * CHECK and NOT NULL constraints are not part of the fingerprint, since a
+     * CHECK constraint can be equivalent to a NOT NULL constraint.
+     * </p>
+     */
+    @Override
+    public int fingerprint(Schema schema) {
+        return fingerprintTablesAndKeys(schema);
+    }
+
     /**
      * Finds if there exists a NOT NULL that is equivalent to each excess CHECK 
      * constraint present in either schema.
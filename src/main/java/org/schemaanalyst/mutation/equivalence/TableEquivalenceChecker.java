@@ -51,5 +51,16 @@ public class TableEquivalenceChecker extends EquivalenceChecker<Table> {
             return columnEquivalenceChecker.areEquivalent(a.getColumns(), b.getColumns());
         }
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int fingerprint(Table table) {
+        int result = table.getIdentifier().hashCode();
+        result = 31 * result + table.getColumns().size();
+        result = 31 * result + columnEquivalenceChecker.fingerprint(table.getColumns());
+        return result;
+    }
     
 }
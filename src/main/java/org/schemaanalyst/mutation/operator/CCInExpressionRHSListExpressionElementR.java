@@ -26,17 +26,14 @@ import java.util.List;
  * @author Phil McMinn
  *
  */
-public class CCInExpressionRHSListExpressionElementR implements
-		MutantProducer<Schema> {
-
-	private Schema schema;
+public class CCInExpressionRHSListExpressionElementR extends SchemaMutationOperator {
 
 	public CCInExpressionRHSListExpressionElementR(Schema schema) {
-		this.schema = schema;
+		super(schema);
 	}
 
     @Override
-	public List<Mutant<Schema>> mutate() {
+	protected List<Mutant<Schema>> createMutants() {
 		List<Mutant<Schema>> mutants = new ArrayList<>();
 
 		Supplier<Schema, List<Expression>> supplier = SupplyChain.chain(
@@ -51,10 +48,6 @@ public class CCInExpressionRHSListExpressionElementR implements
 				supplier);
 		mutants.addAll(inExpressionListElementRemover.mutate());
 
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-        
 		return mutants;
 	}
 }
\ No newline at end of file
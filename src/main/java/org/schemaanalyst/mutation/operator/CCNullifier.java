@@ -23,16 +23,14 @@ import java.util.List;
  * @author Phil McMinn
  *
  */
-public class CCNullifier implements MutantProducer<Schema> {
-
-	private Schema schema;
+public class CCNullifier extends SchemaMutationOperator {
 
 	public CCNullifier(Schema schema) {
-		this.schema = schema;
+		super(schema);
 	}
 
     @Override
-	public List<Mutant<Schema>> mutate() {
+	protected List<Mutant<Schema>> createMutants() {
 		List<Mutant<Schema>> mutants = new ArrayList<>();
 
 		Supplier<Schema, Expression> supplier = SupplyChain.chain(
@@ -45,10 +43,6 @@ public class CCNullifier implements MutantProducer<Schema> {
 				supplier);
 		mutants.addAll(nullifier.mutate());
 
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-        
 		return mutants;
 	}
 }
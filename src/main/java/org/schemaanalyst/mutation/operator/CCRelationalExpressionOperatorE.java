@@ -27,16 +27,14 @@ import java.util.List;
  * 
  * @author Chris J. Wright
  */
-public class CCRelationalExpressionOperatorE implements MutantProducer<Schema> {
-
-	private Schema schema;
+public class CCRelationalExpressionOperatorE extends SchemaMutationOperator {
 
 	public CCRelationalExpressionOperatorE(Schema schema) {
-		this.schema = schema;
+		super(schema);
 	}
 
 	@Override
-	public List<Mutant<Schema>> mutate() {
+	protected List<Mutant<Schema>> createMutants() {
 		List<Mutant<Schema>> mutants = new ArrayList<>();
 
 		Supplier<Schema, RelationalOperator> supplier = SupplyChain.chain(
@@ -51,10 +49,6 @@ public class CCRelationalExpressionOperatorE implements MutantProducer<Schema> {
 				supplier);
 		mutants.addAll(exchanger.mutate());
 
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-        
 		return mutants;
 	}
 }
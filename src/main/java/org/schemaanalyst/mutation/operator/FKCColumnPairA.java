@@ -24,9 +24,8 @@ import java.util.List;
  *
  * @author Chris J. Wright
  */
-public class FKCColumnPairA implements MutantProducer<Schema> {
+public class FKCColumnPairA extends SchemaMutationOperator {
 
-    private Schema schema;
     private boolean sameColumnTypes;
 
     public FKCColumnPairA(Schema schema) {
@@ -34,12 +33,12 @@ public class FKCColumnPairA implements MutantProducer<Schema> {
     }
 
     public FKCColumnPairA(Schema schema, boolean sameColumnTypes) {
-        this.schema = schema;
+        super(schema);
         this.sameColumnTypes = sameColumnTypes;
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         List<Mutant<Schema>> mutants = new ArrayList<>();
         Supplier<Schema, Pair<List<Pair<Column>>>> supplier =
                 SupplyChain.chain(
@@ -49,11 +48,6 @@ public class FKCColumnPairA implements MutantProducer<Schema> {
         ListElementAdder<Schema, Pair<Column>> columnExchanger = new ListElementAdder<>(supplier);
         mutants.addAll(columnExchanger.mutate());
         
-        // Set the producer information in each mutant
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-        
         return mutants;
     }
 }
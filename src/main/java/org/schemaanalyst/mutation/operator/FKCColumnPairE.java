@@ -30,9 +30,8 @@ import java.util.List;
  *
  * @author Chris J. Wright
  */
-public class FKCColumnPairE implements MutantProducer<Schema> {
+public class FKCColumnPairE extends SchemaMutationOperator {
 
-    private Schema schema;
     private boolean sameColumnTypes;
 
     public FKCColumnPairE(Schema schema) {
@@ -40,12 +39,12 @@ public class FKCColumnPairE implements MutantProducer<Schema> {
     }
 
     public FKCColumnPairE(Schema schema, boolean sameColumnTypes) {
-        this.schema = schema;
+        super(schema);
         this.sameColumnTypes = sameColumnTypes;
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         List<Mutant<Schema>> mutants = new ArrayList<>();
         Supplier<Schema, Pair<List<Pair<Column>>>> supplier =
                 SupplyChain.chain(
@@ -54,9 +53,6 @@ public class FKCColumnPairE implements MutantProducer<Schema> {
         supplier.initialise(schema);
         ListElementExchanger<Schema, Pair<Column>> columnExchanger = new ListElementExchanger<>(supplier);
         mutants.addAll(columnExchanger.mutate());
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
         return mutants;
     }
 }
@@ -22,16 +22,14 @@ import java.util.List;
  * @author Phil McMinn
  *
  */
-public class FKCColumnPairR implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class FKCColumnPairR extends SchemaMutationOperator {
 
     public FKCColumnPairR(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
 
         Supplier<Schema, List<Pair<Column>>> supplier = SupplyChain.chain(
                 new ForeignKeyConstraintSupplier(),
@@ -43,10 +41,6 @@ public class FKCColumnPairR implements MutantProducer<Schema> {
         
         List<Mutant<Schema>> mutants = mutator.mutate();
         
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-        
         return mutants;
     }
 
@@ -19,16 +19,14 @@ import java.util.List;
  * @author Chris J. Wright
  *
  */
-public class NNCA implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class NNCA extends SchemaMutationOperator {
 
     public NNCA(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         List<Mutant<Schema>> mutants = new ArrayList<>();
 
         // Generate the mutants
@@ -36,7 +34,7 @@ public class NNCA implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (!schema.isNotNull(table, column)) {
                     // create a NOT NULL constraint on the column
-                    Schema dupAddSchema = schema.duplicate();
+                    Schema dupAddSchema = schema.shallowDuplicate();
                     Table dupAddTable = dupAddSchema.getTable(table.getName());
                     Column dupAddColumn = dupAddTable.getColumn(column.getName());
                     dupAddSchema.createNotNullConstraint(dupAddTable, dupAddColumn);
@@ -47,11 +45,6 @@ public class NNCA implements MutantProducer<Schema> {
             }
         }
 
-        // Set the producer information in each mutant
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-
         return mutants;
     }
 }
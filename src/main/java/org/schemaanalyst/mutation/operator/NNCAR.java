@@ -19,16 +19,14 @@ import java.util.List;
  * @author Phil McMinn
  *
  */
-public class NNCAR implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class NNCAR extends SchemaMutationOperator {
 
     public NNCAR(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         // Create the collection in which to store created mutants.
         List<Mutant<Schema>> mutants = new ArrayList<>();
 
@@ -36,7 +34,7 @@ public class NNCAR implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (!schema.isNotNull(table, column)) {
                     // create a NOT NULL constraint on the column
-                    Schema dupAddSchema = schema.duplicate();
+                    Schema dupAddSchema = schema.shallowDuplicate();
                     Table dupAddTable = dupAddSchema.getTable(table.getName());
                     Column dupAddColumn = dupAddTable.getColumn(column.getName());
                     dupAddSchema.createNotNullConstraint(dupAddTable, dupAddColumn);
@@ -45,7 +43,7 @@ public class NNCAR implements MutantProducer<Schema> {
                             + " in table " + dupAddTable));
                 } else {
                     // remove a NOT NULL constraint on the column
-                    Schema dupRemoveSchema = schema.duplicate();
+                    Schema dupRemoveSchema = schema.shallowDuplicate();
                     Table dupRemoveTable = dupRemoveSchema
                             .getTable(table.getName());
                     Column dupRemoveColumn = dupRemoveTable.getColumn(column
@@ -59,10 +57,6 @@ public class NNCAR implements MutantProducer<Schema> {
             }
         }
         
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-
         return mutants;
     }
 }
@@ -19,16 +19,14 @@ import java.util.List;
  * @author Chris J. Wright
  *
  */
-public class NNCR implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class NNCR extends SchemaMutationOperator {
 
     public NNCR(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         List<Mutant<Schema>> mutants = new ArrayList<>();
 
         // Generate the mutants
@@ -36,7 +34,7 @@ public class NNCR implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (schema.isNotNull(table, column)) {
                     // remove a NOT NULL constraint on the column
-                    Schema dupRemoveSchema = schema.duplicate();
+                    Schema dupRemoveSchema = schema.shallowDuplicate();
                     Table dupRemoveTable = dupRemoveSchema
                             .getTable(table.getName());
                     Column dupRemoveColumn = dupRemoveTable.getColumn(column
@@ -50,11 +48,6 @@ public class NNCR implements MutantProducer<Schema> {
             }
         }
 
-        // Set the producer information in each mutant
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-
         return mutants;
     }
 }
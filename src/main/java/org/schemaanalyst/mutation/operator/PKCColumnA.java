@@ -24,16 +24,14 @@ import java.util.List;
  * @author Chris J. Wright
  *
  */
-public class PKCColumnA implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class PKCColumnA extends SchemaMutationOperator {
 
     public PKCColumnA(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         List<Mutant<Schema>> mutants = new ArrayList<>();
 
         // Generate the mutants
@@ -46,11 +44,6 @@ public class PKCColumnA implements MutantProducer<Schema> {
                 columnsWithAlternativesSupplier);
         mutants.addAll(columnAdder.mutate());
 
-        // Set the producer information in each mutant
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-
         return mutants;
     }
 }
@@ -27,16 +27,14 @@ import java.util.List;
  * @author Phil McMinn
  *
  */
-public class PKCColumnARE implements MutantProducer<Schema> {
-
-	private Schema schema;
+public class PKCColumnARE extends SchemaMutationOperator {
 
 	public PKCColumnARE(Schema schema) {
-		this.schema = schema;
+		super(schema);
 	}
 
     @Override
-	public List<Mutant<Schema>> mutate() {
+	protected List<Mutant<Schema>> createMutants() {
 		List<Mutant<Schema>> mutants = new ArrayList<>();
 
 		Supplier<Schema, List<Column>> columnsSupplier = SupplyChain.chain(
@@ -63,10 +61,6 @@ public class PKCColumnARE implements MutantProducer<Schema> {
 				columnsWithAlternativesSupplier);
 		mutants.addAll(columnExchanger.mutate());
         
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-
 		return mutants;
 	}
 }
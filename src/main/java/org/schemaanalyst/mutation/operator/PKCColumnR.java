@@ -23,16 +23,14 @@ import java.util.List;
  * @author Chris J. Wright
  *
  */
-public class PKCColumnR implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class PKCColumnR extends SchemaMutationOperator {
 
     public PKCColumnR(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         List<Mutant<Schema>> mutants = new ArrayList<>();
 
         // Generate the mutants
@@ -44,11 +42,6 @@ public class PKCColumnR implements MutantProducer<Schema> {
                 columnsSupplier);
         mutants.addAll(columnRemover.mutate());
 
-        // Set the producer information in each mutant
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-
         return mutants;
     }
 }
@@ -0,0 +1,52 @@
+package org.schemaanalyst.mutation.operator;
+
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.MutantProducer;
+import org.schemaanalyst.mutation.SchemaDelta;
+import org.schemaanalyst.sqlrepresentation.Schema;
+
+import java.util.List;
+
+/**
+ * <p>
+ * A {@link MutantProducer} that mutates a {@link Schema}. Subclasses create
+ * the mutants, and this class records in each of them the operator that
+ * produced it and the {@link SchemaDelta} between the schema and the mutant.
+ * </p>
+ */
+public abstract class SchemaMutationOperator implements MutantProducer<Schema> {
+
+    /**
+     * The schema being mutated.
+     */
+    protected Schema schema;
+
+    /**
+     * Constructor.
+     *
+     * @param schema The schema to mutate
+     */
+    public SchemaMutationOperator(Schema schema) {
+        this.schema = schema;
+    }
+
+    @Override
+    public List<Mutant<Schema>> mutate() {
+        List<Mutant<Schema>> mutants = createMutants();
+
+        // Set the producer information and delta in each mutant
+        for (Mutant<Schema> mutant : mutants) {
+            mutant.setMutantProducer(this);
+            mutant.setDelta(SchemaDelta.between(schema, mutant.getMutatedArtefact()));
+        }
+
+        return mutants;
+    }
+
+    /**
+     * Creates the mutants of the schema.
+     *
+     * @return The mutants
+     */
+    protected abstract List<Mutant<Schema>> createMutants();
+}
@@ -25,16 +25,14 @@ import java.util.List;
  * @author Chris J. Wright
  *
  */
-public class UCColumnA implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class UCColumnA extends SchemaMutationOperator {
 
     public UCColumnA(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         List<Mutant<Schema>> mutants = new ArrayList<>();
 
         // Generate the mutants with new Uniques
@@ -42,7 +40,7 @@ public class UCColumnA implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (!schema.isUnique(table, column)) {
                     // create a UNIQUE constraint on the column
-                    Schema dupAddSchema = schema.duplicate();
+                    Schema dupAddSchema = schema.shallowDuplicate();
                     Table dupAddTable = dupAddSchema.getTable(table.getName());
                     Column dupAddColumn = dupAddTable.getColumn(column.getName());
                     dupAddSchema.createUniqueConstraint(dupAddTable, dupAddColumn);
@@ -63,11 +61,6 @@ public class UCColumnA implements MutantProducer<Schema> {
                 columnsWithAlternativesSupplier);
         mutants.addAll(columnAdder.mutate());
 
-        // Set the producer information in each mutant
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-
         return mutants;
     }
 }
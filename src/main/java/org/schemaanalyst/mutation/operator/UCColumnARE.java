@@ -28,16 +28,14 @@ import java.util.List;
  * @author Phil McMinn
  *
  */
-public class UCColumnARE implements MutantProducer<Schema> {
-
-    private Schema schema;
+public class UCColumnARE extends SchemaMutationOperator {
 
     public UCColumnARE(Schema schema) {
-        this.schema = schema;
+        super(schema);
     }
 
     @Override
-    public List<Mutant<Schema>> mutate() {
+    protected List<Mutant<Schema>> createMutants() {
         // Create the collection in which to store created mutants.
         List<Mutant<Schema>> mutants = new ArrayList<>();
 
@@ -45,7 +43,7 @@ public class UCColumnARE implements MutantProducer<Schema> {
             for (Column column : table.getColumns()) {
                 if (!schema.isUnique(table, column)) {
                     // create a UNIQUE constraint on the column
-                    Schema dupAddSchema = schema.duplicate();
+                    Schema dupAddSchema = schema.shallowDuplicate();
                     Table dupAddTable = dupAddSchema.getTable(table.getName());
                     Column dupAddColumn = dupAddTable.getColumn(column.getName());
                     dupAddSchema.createUniqueConstraint(dupAddTable, dupAddColumn);
@@ -80,10 +78,6 @@ public class UCColumnARE implements MutantProducer<Schema> {
                 columnsWithAlternativesSupplier);
         mutants.addAll(columnExchanger.mutate());
 
-        for (Mutant<Schema> mutant : mutants) {
-            mutant.setMutantProducer(this);
-        }
-        
         return mutants;
     }
 }
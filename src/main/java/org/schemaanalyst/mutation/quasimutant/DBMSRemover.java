@@ -6,6 +6,7 @@ import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DBMSFactory;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.pipeline.MutantRemover;
 import org.schemaanalyst.sqlrepresentation.Schema;
@@ -29,27 +30,32 @@ public class DBMSRemover extends MutantRemover<Schema> {
         LocationsConfiguration locationsConfiguration = new LocationsConfiguration();
         DBMS dbms = DBMSFactory.instantiate(databaseConfiguration.getDbms());
         SQLWriter sqlWriter = dbms.getSQLWriter();
-        DatabaseInteractor interactor = dbms.getDatabaseInteractor("DBMSRemover", databaseConfiguration, locationsConfiguration);
+        DatabaseInteractorPool pool = DatabaseInteractorPool.getPool(dbms, "DBMSRemover", databaseConfiguration, locationsConfiguration);
+        DatabaseInteractor interactor = pool.borrow();
         
-        // Test the mutants
-        for (Iterator<Mutant<Schema>> it = mutants.iterator(); it.hasNext();) {
-            Mutant<Schema> mutant = it.next();
-            Schema schema = mutant.getMutatedArtefact();
-            // Test if the CREATE works
-            for (String stmt : sqlWriter.writeCreateTableStatements(schema)) {
-                Integer result = interactor.executeUpdate(stmt);
-                if (result == -1) {
-                    it.remove();
-                    DataCapturer.capture("removedmutants", "quasimutant", schema + "-" + mutant.getSimpleDescription());
-                    break;
+        try {
+            // Test the mutants
+            for (Iterator<Mutant<Schema>> it = mutants.iterator(); it.hasNext();) {
+                Mutant<Schema> mutant = it.next();
+                Schema schema = mutant.getMutatedArtefact();
+                // Test if the CREATE works
+                for (String stmt : sqlWriter.writeCreateTableStatements(schema)) {
+                    Integer result = interactor.executeUpdate(stmt);
+                    if (result == -1) {
+                        it.remove();
+                        DataCapturer.capture("removedmutants", "quasimutant", schema + "-" + mutant.getSimpleDescription());
+                        break;
+                    }
+                }
+                // Clean up the database afterwards
+                for (String stmt : sqlWriter.writeDropTableStatements(schema, true)) {
+                    interactor.executeUpdate(stmt);
                 }
             }
-            // Clean up the database afterwards
-            for (String stmt : sqlWriter.writeDropTableStatements(schema, true)) {
-                interactor.executeUpdate(stmt);
-            }
+        } finally {
+            pool.giveBack(interactor);
         }
-        
+
         return mutants;
     }
     
@@ -5,6 +5,7 @@ import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.dbms.DBMS;
 import org.schemaanalyst.dbms.DBMSFactory;
 import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.pipeline.MutantRemover;
 import org.schemaanalyst.sqlrepresentation.Schema;
@@ -27,21 +28,26 @@ public class DBMSTransactedRemover extends MutantRemover<Schema> {
         LocationsConfiguration locationsConfiguration = new LocationsConfiguration();
         DBMS dbms = DBMSFactory.instantiate(databaseConfiguration.getDbms());
         SQLWriter sqlWriter = dbms.getSQLWriter();
-        DatabaseInteractor interactor = dbms.getDatabaseInteractor("DBMSRemover", databaseConfiguration, locationsConfiguration);
+        DatabaseInteractorPool pool = DatabaseInteractorPool.getPool(dbms, "DBMSRemover", databaseConfiguration, locationsConfiguration);
+        DatabaseInteractor interactor = pool.borrow();
 
-        // Test the mutants
-        for (Iterator<Mutant<Schema>> it = mutants.iterator(); it.hasNext();) {
-            Mutant<Schema> mutant = it.next();
-            Schema schema = mutant.getMutatedArtefact();
-            // Test if the CREATE works
-            Integer result = interactor.executeCreatesAsTransaction(sqlWriter.writeCreateTableStatements(schema), 200);
-            if (result == -1) {
-                it.remove();
-            }
-            // Clean up the database afterwards
-            for (String stmt : sqlWriter.writeDropTableStatements(schema, true)) {
-                interactor.executeUpdate(stmt);
+        try {
+            // Test the mutants
+            for (Iterator<Mutant<Schema>> it = mutants.iterator(); it.hasNext();) {
+                Mutant<Schema> mutant = it.next();
+                Schema schema = mutant.getMutatedArtefact();
+                // Test if the CREATE works
+                Integer result = interactor.executeCreatesAsTransaction(sqlWriter.writeCreateTableStatements(schema), 200);
+                if (result == -1) {
+                    it.remove();
+                }
+                // Clean up the database afterwards
+                for (String stmt : sqlWriter.writeDropTableStatements(schema, true)) {
+                    interactor.executeUpdate(stmt);
+                }
             }
+        } finally {
+            pool.giveBack(interactor);
         }
 
         return mutants;
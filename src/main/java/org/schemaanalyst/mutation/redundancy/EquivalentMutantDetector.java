@@ -43,13 +43,19 @@ public abstract class EquivalentMutantDetector<T> extends EquivalenceTesterMutan
      */
     @Override
     public List<Mutant<T>> removeMutants(List<Mutant<T>> mutants) {
+        // mutants with a different fingerprint to the original cannot be
+        // equivalent to it, see EquivalenceChecker.fingerprint
+        int originalFingerprint = checker.fingerprint(originalArtefact);
+        boolean hasDuplicateMethod = hasDuplicateMethod(originalArtefact.getClass());
         for (Iterator<Mutant<T>> it = mutants.iterator(); it.hasNext();) {
             Mutant<T> mutant = it.next();
-            if (checker.areEquivalent(originalArtefact, mutant.getMutatedArtefact())) {
+            int fingerprint = checker.fingerprint(mutant.getMutatedArtefact());
+            if (fingerprint == originalFingerprint && checker.areEquivalent(originalArtefact, mutant.getMutatedArtefact())) {
                 LOGGER.log(Level.FINE, "Equivalent mutant:\n{0}\n", new Object[]{mutant.getDescription()});
                 process(mutant, it);
-            } else if (hasDuplicateMethod(originalArtefact.getClass())) {
-                if (checker.areEquivalent(applyRemoversToOriginal(originalArtefact, mutant), mutant.getMutatedArtefact())) {
+            } else if (hasDuplicateMethod && !mutant.getRemoversApplied().isEmpty()) {
+                T modifiedOriginal = applyRemoversToOriginal(originalArtefact, mutant);
+                if (fingerprint == checker.fingerprint(modifiedOriginal) && checker.areEquivalent(modifiedOriginal, mutant.getMutatedArtefact())) {
                     LOGGER.log(Level.FINE, "Equivalent mutant:\n{0}\n", new Object[]{mutant.getDescription()});
                     process(mutant, it);
                 }
@@ -5,9 +5,11 @@ package org.schemaanalyst.mutation.redundancy;
 import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.equivalence.EquivalenceChecker;
 import org.schemaanalyst.mutation.pipeline.MutantRemover;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.schemaanalyst.mutation.MutantType;
@@ -36,20 +38,54 @@ public abstract class RedundantMutantDetector<T> extends EquivalenceTesterMutant
 
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * Each mutant is processed if it is equivalent to a later
+     * {@link MutantType#NORMAL} mutant. Mutants are first grouped by their
+     * fingerprint (see {@link EquivalenceChecker#fingerprint(Object)}), so
+     * that each mutant is only compared with the later mutants in its group.
+     * </p>
      */
     @Override    
     public List<Mutant<T>> removeMutants(List<Mutant<T>> mutants) {
-        for (ListIterator<Mutant<T>> outerIter = mutants.listIterator(); outerIter.hasNext();) {
-            Mutant<T> outer = outerIter.next();
-            for (ListIterator<Mutant<T>> innerIter = mutants.listIterator(outerIter.nextIndex()); innerIter.hasNext();) {
-                Mutant<T> inner = innerIter.next();
+        List<Mutant<T>> mutantsList = new ArrayList<>(mutants);
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        int[] fingerprints = new int[mutantsList.size()];
+        for (int i = 0; i < mutantsList.size(); i++) {
+            fingerprints[i] = checker.fingerprint(mutantsList.get(i).getMutatedArtefact());
+            List<Integer> group = groups.get(fingerprints[i]);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(fingerprints[i], group);
+            }
+            group.add(i);
+        }
+
+        // find the redundant mutants before processing any, since processing
+        // may change the type of a mutant
+        boolean[] redundant = new boolean[mutantsList.size()];
+        for (int i = 0; i < mutantsList.size(); i++) {
+            Mutant<T> outer = mutantsList.get(i);
+            for (int j : groups.get(fingerprints[i])) {
+                if (j <= i) {
+                    continue;
+                }
+                Mutant<T> inner = mutantsList.get(j);
                 if (inner.getMutantType().equals(MutantType.NORMAL) && checker.areEquivalent(outer.getMutatedArtefact(), inner.getMutatedArtefact())) {
                     LOGGER.log(Level.FINE, "Redundant mutant pair:\n{0}\n{1}\n", new Object[]{outer.getDescription(), inner.getDescription()});
-                    process(outer, outerIter);
+                    redundant[i] = true;
                     break;
                 }
             }
         }
+
+        int i = 0;
+        for (Iterator<Mutant<T>> iter = mutants.iterator(); iter.hasNext(); i++) {
+            Mutant<T> mutant = iter.next();
+            if (redundant[i]) {
+                process(mutant, iter);
+            }
+        }
         return mutants;
     }
 }
@@ -25,7 +25,8 @@ import java.util.List;
  */
 public abstract class IteratingSupplier<A, C> extends AbstractSupplier<A, C> {
 
-	private List<C> components, duplicateComponents;
+	private List<C> components;
+	private C duplicateComponent;
 	private int index;
 
 	/**
@@ -95,7 +96,8 @@ public abstract class IteratingSupplier<A, C> extends AbstractSupplier<A, C> {
 	@Override
 	public void setDuplicate(A currentDuplicate) {
 		super.setDuplicate(currentDuplicate);
-		duplicateComponents = getComponents(currentDuplicate);
+		duplicateComponent = prepareDuplicateComponent(currentDuplicate,
+				getComponents(currentDuplicate).get(index));
 	}
 
 	/**
@@ -110,7 +112,22 @@ public abstract class IteratingSupplier<A, C> extends AbstractSupplier<A, C> {
 			throw new MutationException(
 					"Cannot get duplicate component if no duplicate artefact has been made");
 		}
-		return duplicateComponents.get(index);
+		return duplicateComponent;
+	}
+
+	/**
+	 * Prepares the component of a duplicate artefact that corresponds to the
+	 * current component of the original artefact, so that it can be mutated.
+	 * By default, the component is returned unchanged.
+	 * 
+	 * @param duplicate
+	 *            the duplicate artefact
+	 * @param component
+	 *            the component of the duplicate artefact
+	 * @return the component of the duplicate artefact to be mutated
+	 */
+	protected C prepareDuplicateComponent(A duplicate, C component) {
+		return component;
 	}
 
 	/**
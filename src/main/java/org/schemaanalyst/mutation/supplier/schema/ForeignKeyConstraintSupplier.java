@@ -17,10 +17,20 @@ public class ForeignKeyConstraintSupplier extends IteratingSupplier<Schema, Fore
 
 	/**
 	 * Constructor, which instantiates its own
-	 * {@link org.schemaanalyst.sqlrepresentation.Schema.Duplicator}
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema.ShallowDuplicator}
 	 */
     public ForeignKeyConstraintSupplier() {
-        super(new Schema.Duplicator());
+        super(new Schema.ShallowDuplicator());
+    }
+
+    /**
+     * Replaces the constraint in the duplicate schema with a copy of its own,
+     * as the constraint is otherwise shared with the original schema.
+     */
+    @Override
+    protected ForeignKeyConstraint prepareDuplicateComponent(Schema duplicate,
+            ForeignKeyConstraint component) {
+        return duplicate.unshare(component);
     }
     
     /**
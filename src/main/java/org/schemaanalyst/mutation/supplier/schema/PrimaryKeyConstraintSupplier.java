@@ -21,10 +21,20 @@ public class PrimaryKeyConstraintSupplier extends
 
 	/**
 	 * Constructor, which instantiates its own
-	 * {@link org.schemaanalyst.sqlrepresentation.Schema.Duplicator}
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema.ShallowDuplicator}
 	 */
 	public PrimaryKeyConstraintSupplier() {
-		super(new Schema.Duplicator());
+		super(new Schema.ShallowDuplicator());
+	}
+
+	/**
+	 * Replaces the constraint in the duplicate schema with a copy of its own,
+	 * as the constraint is otherwise shared with the original schema.
+	 */
+	@Override
+	protected PrimaryKeyConstraint prepareDuplicateComponent(Schema duplicate,
+			PrimaryKeyConstraint component) {
+		return duplicate.unshare(component);
 	}
 
 	/**
@@ -19,10 +19,20 @@ public class UniqueConstraintSupplier extends
 
 	/**
 	 * Constructor, which instantiates its own
-	 * {@link org.schemaanalyst.sqlrepresentation.Schema.Duplicator}
+	 * {@link org.schemaanalyst.sqlrepresentation.Schema.ShallowDuplicator}
 	 */
 	public UniqueConstraintSupplier() {
-		super(new Schema.Duplicator());
+		super(new Schema.ShallowDuplicator());
+	}
+
+	/**
+	 * Replaces the constraint in the duplicate schema with a copy of its own,
+	 * as the constraint is otherwise shared with the original schema.
+	 */
+	@Override
+	protected UniqueConstraint prepareDuplicateComponent(Schema duplicate,
+			UniqueConstraint component) {
+		return duplicate.unshare(component);
 	}
 
 	/**
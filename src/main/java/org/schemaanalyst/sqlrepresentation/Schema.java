@@ -10,6 +10,25 @@ import java.util.*;
 /**
  * Represents a database schema.
  * 
+ * <p>
+ * The constraints of each table, the dependency order of the tables and the
+ * tables connected to each table are worked out when first needed and then
+ * reused until a table or constraint is added to or removed from the schema.
+ * A schema that is no longer being changed can therefore be read by several
+ * threads at once.
+ * </p>
+ * 
+ * <p>
+ * A schema made by {@link #shallowDuplicate()} shares its tables, columns and
+ * constraints with the schema it was made from, so that a mutant of a schema
+ * only needs its own copies of the parts that were mutated. Tables and
+ * constraints may be added to and removed from such a schema, but a shared
+ * table, column or constraint must not be changed: a constraint must first be
+ * replaced by a copy of its own through {@link #unshare(Constraint)}, and
+ * {@link #unshareAll()} must be called before tables or constraints are
+ * renamed.
+ * </p>
+ * 
  * @author Phil McMinn
  * 
  */
@@ -23,6 +42,14 @@ public class Schema extends IdentifiableEntity {
 		}
 	}
 
+	public static class ShallowDuplicator implements
+			org.schemaanalyst.util.Duplicator<Schema> {
+
+		public Schema duplicate(Schema schema) {
+			return schema.shallowDuplicate();
+		}
+	}
+
     private static final long serialVersionUID = -212628589124201466L;
 
 	private IdentifiableEntitySet<Table> tables;
@@ -32,6 +59,13 @@ public class Schema extends IdentifiableEntity {
 	private List<NotNullConstraint> notNullConstraints;
 	private List<UniqueConstraint> uniqueConstraints;
 
+	private boolean sharesComponents;
+	private Set<Constraint> unsharedConstraints;
+
+	private transient volatile ConstraintIndex constraintIndex;
+	private transient volatile List<Table> tablesInOrder;
+	private transient volatile Map<Table, List<Table>> connectedTables;
+
 	/**
 	 * Constructs the schema.
 	 * 
@@ -45,11 +79,11 @@ public class Schema extends IdentifiableEntity {
 		setName(name);
 		this.tables = new IdentifiableEntitySet<>();
 
-		primaryKeyConstraints = new LinkedList<>();
-		checkConstraints = new LinkedList<>();
-		foreignKeyConstraints = new LinkedList<>();
-		notNullConstraints = new LinkedList<>();
-		uniqueConstraints = new LinkedList<>();
+		primaryKeyConstraints = new ArrayList<>();
+		checkConstraints = new ArrayList<>();
+		foreignKeyConstraints = new ArrayList<>();
+		notNullConstraints = new ArrayList<>();
+		uniqueConstraints = new ArrayList<>();
 	}
 
 	/**
@@ -76,6 +110,7 @@ public class Schema extends IdentifiableEntity {
 			throw new SQLRepresentationException("Table " + table
 					+ " already exists in this schema");
 		}
+		clearCaches();
 	}
 
 	/**
@@ -116,7 +151,12 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of tables that the schema contains.
 	 */
 	public List<Table> getTablesInOrder() {
-		return new TableDependencyOrderer().order(getTables(), this);
+		List<Table> order = tablesInOrder;
+		if (order == null) {
+			order = new TableDependencyOrderer().order(getTables(), this);
+			tablesInOrder = order;
+		}
+		return new ArrayList<>(order);
 	}
 
 	/**
@@ -127,7 +167,9 @@ public class Schema extends IdentifiableEntity {
 	 *         getTablesInOrder).
 	 */
 	public List<Table> getTablesInReverseOrder() {
-		return new TableDependencyOrderer().reverseOrder(getTables(), this);
+		List<Table> order = getTablesInOrder();
+		Collections.reverse(order);
+		return order;
 	}
 
 	/**
@@ -139,6 +181,28 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of connected tables.
 	 */
 	public List<Table> getConnectedTables(Table table) {
+		if (!isOwnTable(table)) {
+			return findConnectedTables(table);
+		}
+
+		Map<Table, List<Table>> connected = connectedTables;
+		if (connected == null) {
+			connected = new IdentityHashMap<>();
+			connectedTables = connected;
+		}
+
+		List<Table> referencedTables;
+		synchronized (connected) {
+			referencedTables = connected.get(table);
+			if (referencedTables == null) {
+				referencedTables = findConnectedTables(table);
+				connected.put(table, referencedTables);
+			}
+		}
+		return new ArrayList<>(referencedTables);
+	}
+
+	private List<Table> findConnectedTables(Table table) {
 		List<Table> referencedTables = new ArrayList<>();
 
 		List<Table> toVisit = new ArrayList<>();
@@ -228,6 +292,105 @@ public class Schema extends IdentifiableEntity {
 		return duplicateSchema;
 	}
 
+	/**
+	 * Copies the schema, sharing its tables, columns and constraints with the
+	 * copy rather than duplicating them. The constraints of the copy are in
+	 * the same order as those of a copy made by {@link #duplicate()}.
+	 * 
+	 * @return a copy of the schema that shares its components.
+	 */
+	public Schema shallowDuplicate() {
+		Schema duplicateSchema = new Schema(getName());
+		duplicateSchema.tables = tables.shallowCopy();
+
+		for (Table table : tables) {
+			if (hasPrimaryKeyConstraint(table)) {
+				duplicateSchema.primaryKeyConstraints
+						.add(getPrimaryKeyConstraint(table));
+			}
+			duplicateSchema.checkConstraints.addAll(getCheckConstraints(table));
+			duplicateSchema.foreignKeyConstraints
+					.addAll(getForeignKeyConstraints(table));
+			duplicateSchema.notNullConstraints
+					.addAll(getNotNullConstraints(table));
+			duplicateSchema.uniqueConstraints
+					.addAll(getUniqueConstraints(table));
+		}
+
+		duplicateSchema.sharesComponents = true;
+		return duplicateSchema;
+	}
+
+	/**
+	 * Replaces a constraint that this schema shares with another schema (see
+	 * {@link #shallowDuplicate()}) with a copy of its own, which may then be
+	 * changed.
+	 * 
+	 * @param constraint
+	 *            the constraint of this schema.
+	 * @return the copy of the constraint that has replaced it, or the
+	 *         constraint itself if it is not shared, or not in this schema.
+	 */
+	public <C extends Constraint> C unshare(C constraint) {
+		if (!sharesComponents || (unsharedConstraints != null
+				&& unsharedConstraints.contains(constraint))) {
+			return constraint;
+		}
+
+		@SuppressWarnings("unchecked")
+		C copy = (C) constraint.duplicate();
+		if (replace(primaryKeyConstraints, constraint, copy)
+				|| replace(checkConstraints, constraint, copy)
+				|| replace(foreignKeyConstraints, constraint, copy)
+				|| replace(notNullConstraints, constraint, copy)
+				|| replace(uniqueConstraints, constraint, copy)) {
+			if (unsharedConstraints == null) {
+				unsharedConstraints = Collections
+						.newSetFromMap(new IdentityHashMap<Constraint, Boolean>());
+			}
+			unsharedConstraints.add(copy);
+			clearCaches();
+			return copy;
+		}
+		return constraint;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <C extends Constraint> boolean replace(List<C> constraints,
+			Constraint constraint, Constraint copy) {
+		ListIterator<C> iterator = constraints.listIterator();
+		while (iterator.hasNext()) {
+			if (iterator.next() == constraint) {
+				iterator.set((C) copy);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Replaces all of the tables, columns and constraints that this schema
+	 * shares with another schema (see {@link #shallowDuplicate()}) with copies
+	 * of its own, after which any part of the schema may be changed.
+	 */
+	public void unshareAll() {
+		if (!sharesComponents) {
+			return;
+		}
+
+		Schema duplicateSchema = duplicate();
+		tables = duplicateSchema.tables;
+		primaryKeyConstraints = duplicateSchema.primaryKeyConstraints;
+		checkConstraints = duplicateSchema.checkConstraints;
+		foreignKeyConstraints = duplicateSchema.foreignKeyConstraints;
+		notNullConstraints = duplicateSchema.notNullConstraints;
+		uniqueConstraints = duplicateSchema.uniqueConstraints;
+
+		sharesComponents = false;
+		unsharedConstraints = null;
+		clearCaches();
+	}
+
 	/**
 	 * Creates a <tt>CHECK</tt> constraint and adds it to the schema.
 	 * 
@@ -275,6 +438,7 @@ public class Schema extends IdentifiableEntity {
 		}
 
 		checkConstraints.add(constraint);
+		clearCaches();
 	}
 
 	/**
@@ -286,6 +450,7 @@ public class Schema extends IdentifiableEntity {
 	 *         and was successfully removed, else false.
 	 */
 	public boolean removeCheckConstraint(CheckConstraint constraint) {
+		clearCaches();
 		return checkConstraints.remove(constraint);
 	}
 
@@ -298,7 +463,8 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of the <tt>CHECK</tt> constraints on the table.
 	 */
 	public List<CheckConstraint> getCheckConstraints(Table table) {
-		return getConstraints(table, checkConstraints);
+		return getConstraints(table, checkConstraints,
+				getConstraintIndex().checkConstraints);
 	}
 
 	/**
@@ -417,6 +583,7 @@ public class Schema extends IdentifiableEntity {
                     foreignKeyConstraints.remove(constraint);
                 }
 		foreignKeyConstraints.add(constraint);
+		clearCaches();
 	}
 
 	/**
@@ -428,6 +595,7 @@ public class Schema extends IdentifiableEntity {
 	 *         successfully, else false.
 	 */
 	public boolean removeForeignKeyConstraint(ForeignKeyConstraint constraint) {
+		clearCaches();
 		return foreignKeyConstraints.remove(constraint);
 	}
 
@@ -440,7 +608,8 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of the <tt>FOREIGN KEY</tt>s defined on table.
 	 */
 	public List<ForeignKeyConstraint> getForeignKeyConstraints(Table table) {
-		return getConstraints(table, foreignKeyConstraints);
+		return getConstraints(table, foreignKeyConstraints,
+				getConstraintIndex().foreignKeyConstraints);
 	}
 
 	/**
@@ -500,6 +669,7 @@ public class Schema extends IdentifiableEntity {
 					+ "\" in this schema for constraint");
 		}
 		notNullConstraints.add(constraint);
+		clearCaches();
 	}
 
 	/**
@@ -511,6 +681,7 @@ public class Schema extends IdentifiableEntity {
 	 *         was removed, else false.
 	 */
 	public boolean removeNotNullConstraint(NotNullConstraint constraint) {
+		clearCaches();
 		return notNullConstraints.remove(constraint);
 	}
 
@@ -523,7 +694,8 @@ public class Schema extends IdentifiableEntity {
 	 * @return a list of <tt>NOT NULL</tt> constraints on the table.
 	 */
 	public List<NotNullConstraint> getNotNullConstraints(Table table) {
-		return getConstraints(table, notNullConstraints);
+		return getConstraints(table, notNullConstraints,
+				getConstraintIndex().notNullConstraints);
 	}
 
 	/**
@@ -620,6 +792,7 @@ public class Schema extends IdentifiableEntity {
 		}
 		removePrimaryKeyConstraint(table);
 		primaryKeyConstraints.add(constraint);
+		clearCaches();
 	}
 
 	/**
@@ -633,6 +806,7 @@ public class Schema extends IdentifiableEntity {
 			throw new SQLRepresentationException("No such table \"" + table
 					+ "\" in this schema for constraint");
 		}
+		clearCaches();
 		ListIterator<PrimaryKeyConstraint> iterator = primaryKeyConstraints
 				.listIterator();
 		while (iterator.hasNext()) {
@@ -654,16 +828,9 @@ public class Schema extends IdentifiableEntity {
 	 *         is set).
 	 */
 	public PrimaryKeyConstraint getPrimaryKeyConstraint(Table table) {
-		if (!tables.contains(table)) {
-			throw new SQLRepresentationException("No such table \"" + table
-					+ "\" in this schema for constraint");
-		}
-		for (PrimaryKeyConstraint constraint : primaryKeyConstraints) {
-			if (table.equals(constraint.getTable())) {
-				return constraint;
-			}
-		}
-		return null;
+		List<PrimaryKeyConstraint> constraints = getConstraints(table,
+				primaryKeyConstraints, getConstraintIndex().primaryKeyConstraints);
+		return constraints.isEmpty() ? null : constraints.get(0);
 	}
 
 	/**
@@ -685,16 +852,7 @@ public class Schema extends IdentifiableEntity {
 	 * @return true if a <tt>PRIMARY KEY</tt> is set, else false.
 	 */
 	public boolean hasPrimaryKeyConstraint(Table table) {
-		if (!tables.contains(table)) {
-			throw new SQLRepresentationException("No such table \"" + table
-					+ "\" in this schema for constraint");
-		}
-		for (PrimaryKeyConstraint primaryKeyConstraint : primaryKeyConstraints) {
-			if (table.equals(primaryKeyConstraint.getTable())) {
-				return true;
-			}
-		}
-		return false;
+		return getPrimaryKeyConstraint(table) != null;
 	}
 
 	/**
@@ -781,6 +939,7 @@ public class Schema extends IdentifiableEntity {
 		}
 
 		uniqueConstraints.add(constraint);
+		clearCaches();
 	}
 
 	/**
@@ -792,6 +951,7 @@ public class Schema extends IdentifiableEntity {
 	 *         successfully removed, else false.
 	 */
 	public boolean removeUniqueConstraint(UniqueConstraint constraint) {
+		clearCaches();
 		boolean found = false;
 		for (Iterator<UniqueConstraint> iter = uniqueConstraints.iterator(); iter
 				.hasNext();) {
@@ -813,7 +973,8 @@ public class Schema extends IdentifiableEntity {
 	 * @return The list of <tt>UNIQUE</tt> constraints on the table.
 	 */
 	public List<UniqueConstraint> getUniqueConstraints(Table table) {
-		return getConstraints(table, uniqueConstraints);
+		return getConstraints(table, uniqueConstraints,
+				getConstraintIndex().uniqueConstraints);
 	}
 
 	/**
@@ -868,6 +1029,118 @@ public class Schema extends IdentifiableEntity {
 		return constraints;
 	}
 
+	/**
+	 * Removes a constraint of any kind from the schema. Unlike the methods
+	 * that remove a constraint of a particular kind, the constraint is found
+	 * by identity rather than by equality.
+	 * 
+	 * @param constraint
+	 *            the constraint to remove.
+	 * @return the position that the constraint had among the constraints of
+	 *         its kind on its table, or -1 if it is not in the schema.
+	 */
+	public int removeConstraint(Constraint constraint) {
+		List<Constraint> constraints = getConstraintList(constraint);
+		Table table = constraint.getTable();
+		int position = 0;
+		ListIterator<Constraint> iterator = constraints.listIterator();
+		while (iterator.hasNext()) {
+			Constraint next = iterator.next();
+			if (next == constraint) {
+				iterator.remove();
+				clearCaches();
+				return position;
+			}
+			if (next.getTable().equals(table)) {
+				position++;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds a constraint of any kind to the schema, at a position among the
+	 * constraints of its kind on its table, such as one returned by
+	 * {@link #removeConstraint(Constraint)}.
+	 * 
+	 * @param position
+	 *            the position of the constraint among the constraints of its
+	 *            kind on its table. If there are not that many constraints, it
+	 *            is added after the last of them.
+	 * @param constraint
+	 *            the constraint to be added.
+	 */
+	public void addConstraint(int position, Constraint constraint) {
+		Table table = constraint.getTable();
+		if (!tables.contains(table)) {
+			throw new SQLRepresentationException("No such table \"" + table
+					+ "\" in this schema for constraint");
+		}
+		if (constraint instanceof PrimaryKeyConstraint
+				&& hasPrimaryKeyConstraint(table)) {
+			throw new SQLRepresentationException("Table \"" + table
+					+ "\" already has a PRIMARY KEY");
+		}
+
+		List<Constraint> constraints = getConstraintList(constraint);
+		int index = constraints.size();
+		int count = 0;
+		for (int i = 0; i < constraints.size(); i++) {
+			if (constraints.get(i).getTable().equals(table)) {
+				if (count == position) {
+					index = i;
+					break;
+				}
+				count++;
+				index = i + 1;
+			}
+		}
+		constraints.add(index, constraint);
+		clearCaches();
+	}
+
+	/**
+	 * Returns the position of a constraint among the constraints of its kind
+	 * on its table, finding it by identity.
+	 * 
+	 * @param constraint
+	 *            the constraint.
+	 * @return the position, or -1 if the constraint is not in the schema.
+	 */
+	public int getConstraintPosition(Constraint constraint) {
+		Table table = constraint.getTable();
+		int position = 0;
+		for (Constraint other : getConstraintList(constraint)) {
+			if (other == constraint) {
+				return position;
+			}
+			if (other.getTable().equals(table)) {
+				position++;
+			}
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Constraint> getConstraintList(Constraint constraint) {
+		List<? extends Constraint> constraints;
+		if (constraint instanceof PrimaryKeyConstraint) {
+			constraints = primaryKeyConstraints;
+		} else if (constraint instanceof CheckConstraint) {
+			constraints = checkConstraints;
+		} else if (constraint instanceof ForeignKeyConstraint) {
+			constraints = foreignKeyConstraints;
+		} else if (constraint instanceof NotNullConstraint) {
+			constraints = notNullConstraints;
+		} else if (constraint instanceof UniqueConstraint) {
+			constraints = uniqueConstraints;
+		} else {
+			throw new SQLRepresentationException("Unknown kind of constraint \""
+					+ constraint + "\"");
+		}
+		return (List<Constraint>) constraints;
+	}
+
 	/**
 	 * Returns a list of constraints on a table, in order of creation, from a
 	 * set.
@@ -876,15 +1149,26 @@ public class Schema extends IdentifiableEntity {
 	 *            the table for which the constraints are required.
 	 * @param constraintSet
 	 *            the set from which to take the constraints from for the table.
+	 * @param index
+	 *            the constraints of the set for each table of the schema, or
+	 *            null if the set must be searched.
 	 * @return a list of constraints defined on the table.
 	 */
 	private <C extends Constraint> List<C> getConstraints(Table table,
-			List<C> constraintSet) {
+			List<C> constraintSet, Map<Table, List<C>> index) {
 		if (!tables.contains(table)) {
 			throw new SQLRepresentationException("No such table \"" + table
 					+ "\" in this schema for constraint");
 		}
 
+		if (index != null && isOwnTable(table)) {
+			List<C> constraintsForTable = index.get(table);
+			if (constraintsForTable == null) {
+				return new ArrayList<>();
+			}
+			return new ArrayList<>(constraintsForTable);
+		}
+
 		List<C> constraintsForTable = new ArrayList<>();
 		for (C constraint : constraintSet) {
 			if (constraint.getTable().equals(table)) {
@@ -894,6 +1178,71 @@ public class Schema extends IdentifiableEntity {
 		return constraintsForTable;
 	}
 
+	/**
+	 * Checks whether a table is the very table of that name in this schema,
+	 * rather than, for example, the same table in a duplicate of the schema.
+	 */
+	private boolean isOwnTable(Table table) {
+		return table.hasIdentifier() && tables.get(table.getIdentifier()) == table;
+	}
+
+	private ConstraintIndex getConstraintIndex() {
+		ConstraintIndex index = constraintIndex;
+		if (index == null) {
+			index = new ConstraintIndex();
+			constraintIndex = index;
+		}
+		return index;
+	}
+
+	private void clearCaches() {
+		constraintIndex = null;
+		tablesInOrder = null;
+		connectedTables = null;
+	}
+
+	/**
+	 * The constraints of the schema for each of its tables. Tables are
+	 * compared by identity, so that the index remains valid when tables are
+	 * renamed or their columns are changed. If a constraint is on a table that
+	 * is not one of the schema's own tables, each index is null, and the
+	 * constraints of a table are found by searching all of the constraints.
+	 */
+	private class ConstraintIndex {
+
+		private Map<Table, List<PrimaryKeyConstraint>> primaryKeyConstraints;
+		private Map<Table, List<CheckConstraint>> checkConstraints;
+		private Map<Table, List<ForeignKeyConstraint>> foreignKeyConstraints;
+		private Map<Table, List<NotNullConstraint>> notNullConstraints;
+		private Map<Table, List<UniqueConstraint>> uniqueConstraints;
+
+		private ConstraintIndex() {
+			for (Constraint constraint : getConstraints()) {
+				if (!isOwnTable(constraint.getTable())) {
+					return;
+				}
+			}
+			primaryKeyConstraints = index(Schema.this.primaryKeyConstraints);
+			checkConstraints = index(Schema.this.checkConstraints);
+			foreignKeyConstraints = index(Schema.this.foreignKeyConstraints);
+			notNullConstraints = index(Schema.this.notNullConstraints);
+			uniqueConstraints = index(Schema.this.uniqueConstraints);
+		}
+
+		private <C extends Constraint> Map<Table, List<C>> index(List<C> constraints) {
+			Map<Table, List<C>> index = new IdentityHashMap<>();
+			for (C constraint : constraints) {
+				List<C> constraintsForTable = index.get(constraint.getTable());
+				if (constraintsForTable == null) {
+					constraintsForTable = new ArrayList<>();
+					index.put(constraint.getTable(), constraintsForTable);
+				}
+				constraintsForTable.add(constraint);
+			}
+			return index;
+		}
+	}
+
 	/**
 	 * Tests whether the provided set of columns are currently part of a UNIQUE
 	 * constraint in the given table
@@ -183,6 +183,22 @@ public class SQLWriter {
         return writeInsertStatement(table, columns, valueStrings);
     }
 
+    /**
+     * Writes an INSERT statement for all the columns of a table with a
+     * parameter in place of each value, for use as a prepared statement.
+     *
+     * @param table The table
+     * @return The INSERT statement
+     */
+    public String writePreparedInsertStatement(Table table) {
+        List<Column> columns = table.getColumns();
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            parameters.add("?");
+        }
+        return writeInsertStatement(table, columns, parameters);
+    }
+
     public List<String> writeInsertStatements(Schema schema, Data data) {
         List<String> statements = new ArrayList<>();
 
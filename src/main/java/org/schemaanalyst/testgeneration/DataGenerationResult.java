@@ -3,10 +3,14 @@ package org.schemaanalyst.testgeneration;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.generation.DataGenerationReport;
 
+import java.io.Serializable;
+
 /**
  * Created by phil on 24/07/2014.
  */
-public class DataGenerationResult {
+public class DataGenerationResult implements Serializable {
+
+    private static final long serialVersionUID = -2911574519880349367L;
 
     private Data data, state;
     private DataGenerationReport report;
@@ -13,7 +13,9 @@ import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.sqlwriter.SQLWriter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by phil on 03/02/2014.
@@ -24,6 +26,9 @@ public class TestCaseExecutor {
     private List<Table> tables;
     private DatabaseInteractor databaseInteractor;
     private SQLWriter sqlWriter;
+    private Map<Table, String> preparedInsertStatements = new HashMap<>();
+    private boolean batchInserts = false;
+    private boolean rollbackIsolation = false;
 
     public TestCaseExecutor(Schema schema,
                             DBMS dbms,
@@ -36,6 +41,29 @@ public class TestCaseExecutor {
         sqlWriter = dbms.getSQLWriter();
     }
 
+    /**
+     * Sets whether the INSERT statements of each test case are executed as a
+     * single JDBC batch, rather than one at a time, which saves round trips
+     * to DBMSs that run as a server.
+     *
+     * @param batchInserts Whether to execute INSERTs as a batch
+     */
+    public void setBatchInserts(boolean batchInserts) {
+        this.batchInserts = batchInserts;
+    }
+
+    /**
+     * Sets whether test cases are isolated from each other by executing
+     * their INSERT statements in a transaction that is then rolled back,
+     * rather than by deleting the rows of every table beforehand, if the DBMS
+     * supports it.
+     *
+     * @param rollbackIsolation Whether to roll back test cases
+     */
+    public void setRollbackIsolation(boolean rollbackIsolation) {
+        this.rollbackIsolation = rollbackIsolation;
+    }
+
     private void dropTablesIfExist() {
         List<String> dropTableStatements = sqlWriter.writeDropTableStatements(schema, true);
         for (String statement : dropTableStatements) {
@@ -58,6 +86,15 @@ public class TestCaseExecutor {
         }
     }
 
+    private String getPreparedInsertStatement(Table table) {
+        String insert = preparedInsertStatements.get(table);
+        if (insert == null) {
+            insert = sqlWriter.writePreparedInsertStatement(table);
+            preparedInsertStatements.put(table, insert);
+        }
+        return insert;
+    }
+
     public void execute(TestSuite testSuite) {
         dropTablesIfExist(); // tables may still be hanging around in the case of a previous crash
         createTables();
@@ -68,8 +105,20 @@ public class TestCaseExecutor {
     }
 
     public void execute(TestCase testCase) {
+        if (rollbackIsolation && databaseInteractor.supportsIsolation()) {
+            databaseInteractor.beginIsolation();
+            try {
+                executeInserts(testCase);
+            } finally {
+                databaseInteractor.endIsolation();
+            }
+        } else {
+            deleteFromTables();
+            executeInserts(testCase);
+        }
+    }
 
-        // clear tables
+    private void deleteFromTables() {
         List<String> deleteFromTableStatements = sqlWriter.writeDeleteFromTableStatements(schema);
         for (String statement : deleteFromTableStatements) {
             Integer result = databaseInteractor.executeUpdate(statement);
@@ -78,6 +127,13 @@ public class TestCaseExecutor {
                         "Could not execute DELETE FROM TABLE statement \"" + statement + "\" while executing test case, result was " + result);
             }
         }
+    }
+
+    private void executeInserts(TestCase testCase) {
+        if (batchInserts) {
+            executeInsertsAsBatch(testCase);
+            return;
+        }
 
         // insert state rows
         Data state = testCase.getState();
@@ -85,12 +141,12 @@ public class TestCaseExecutor {
         for (Table table : tables) {
             if (stateTables.contains(table)) {
                 List<Row> rows = state.getRows(table);
+                String insert = getPreparedInsertStatement(table);
                 for (Row row : rows) {
-                    String statement = sqlWriter.writeInsertStatement(row);
-                    Integer result = databaseInteractor.executeUpdate(statement);
+                    Integer result = databaseInteractor.executeInsert(insert, row.getValues());
                     if (result != 1) {
                         throw new TestCaseExecutionException(
-                                "INSERT statement for setting database state \"" + statement + "\" should affect exactly one row, was " + result);
+                                "INSERT statement for setting database state \"" + sqlWriter.writeInsertStatement(row) + "\" should affect exactly one row, was " + result);
                     }
                 }
             }
@@ -104,12 +160,12 @@ public class TestCaseExecutor {
         for (Table table : tables) {
             if (dataTables.contains(table)) {
                 List<Row> rows = data.getRows(table);
+                String insert = getPreparedInsertStatement(table);
                 for (Row row : rows) {
-                    String statement = sqlWriter.writeInsertStatement(row);
-                    Integer result = databaseInteractor.executeUpdate(statement);
+                    Integer result = databaseInteractor.executeInsert(insert, row.getValues());
                     if (result < 0) {
                         throw new TestCaseExecutionException(
-                                "Could not execute INSERT statement \"" + statement + "\" while executing test case - result was " + result);
+                                "Could not execute INSERT statement \"" + sqlWriter.writeInsertStatement(row) + "\" while executing test case - result was " + result);
                     }
                     boolean success = (result == 1);
                     results.add(success);
@@ -119,4 +175,42 @@ public class TestCaseExecutor {
 
         testCase.setDBMSResults(results);
     }
+
+    private void executeInsertsAsBatch(TestCase testCase) {
+        List<String> statements = new ArrayList<>();
+        List<String> stateStatements = writeInsertStatements(testCase.getState());
+        statements.addAll(stateStatements);
+        statements.addAll(writeInsertStatements(testCase.getData()));
+
+        int[] batchResults = databaseInteractor.executeInsertsAsBatch(statements);
+
+        // state rows
+        for (int i = 0; i < stateStatements.size(); i++) {
+            if (batchResults[i] != 1) {
+                throw new TestCaseExecutionException(
+                        "INSERT statement for setting database state \"" + statements.get(i) + "\" should affect exactly one row, was " + batchResults[i]);
+            }
+        }
+
+        // test case (data) rows
+        List<Boolean> results = new ArrayList<>();
+        for (int i = stateStatements.size(); i < statements.size(); i++) {
+            results.add(batchResults[i] == 1);
+        }
+
+        testCase.setDBMSResults(results);
+    }
+
+    private List<String> writeInsertStatements(Data data) {
+        List<String> statements = new ArrayList<>();
+        List<Table> dataTables = data.getTables();
+        for (Table table : tables) {
+            if (dataTables.contains(table)) {
+                for (Row row : data.getRows(table)) {
+                    statements.add(sqlWriter.writeInsertStatement(row));
+                }
+            }
+        }
+        return statements;
+    }
 }
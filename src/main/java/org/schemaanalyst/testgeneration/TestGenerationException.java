@@ -8,4 +8,8 @@ public class TestGenerationException extends RuntimeException {
     public TestGenerationException(String message) {
         super(message);
     }
+
+    public TestGenerationException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,218 @@
+package org.schemaanalyst.testgeneration;
+
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlwriter.SQLWriter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A cache of generated test suites, stored on disk, so that a test suite
+ * generated for a schema, coverage criterion, data generator, random seed and
+ * evaluation budget can be reused by later runs rather than generated again.
+ *
+ * Each test suite is stored, along with the report and time of its generation, in a
+ * file named by a hash of the structure of the schema (its CREATE TABLE
+ * statements), the DBMS and the generation parameters -- see
+ * {@link #createKey(Schema, DBMS, String, String, long, int, boolean)}. Files that can
+ * no longer be read (e.g., because the classes of the test suite have since
+ * changed) are treated as absent. Since test suites are only reused if they
+ * were generated with the same parameters, {@link #VERSION} should be changed
+ * whenever a change to test generation means that the same parameters would
+ * no longer produce the same test suite.
+ */
+public class TestSuiteCache {
+
+    /**
+     * The version of test generation, which is part of every key.
+     */
+    public static final int VERSION = 2;
+
+    private static final String FILE_EXTENSION = ".testsuite";
+
+    private static final Logger LOGGER = Logger.getLogger(TestSuiteCache.class.getName());
+
+    private File directory;
+
+    /**
+     * Constructor.
+     *
+     * @param directory The directory in which to store test suites, which is
+     * created when the first test suite is stored if it does not exist.
+     */
+    public TestSuiteCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the key under which the test suite generated with the given
+     * parameters is stored.
+     *
+     * @param schema The schema that test suites are generated for.
+     * @param dbms The DBMS that test suites are generated for.
+     * @param criterionName The name of the coverage criterion.
+     * @param dataGeneratorName The name of the data generator.
+     * @param randomSeed The random seed of the data generator.
+     * @param maxEvaluations The maximum evaluations of the data generator.
+     * @return The key, which is a hexadecimal string.
+     */
+    public static String createKey(Schema schema, DBMS dbms, String criterionName, String dataGeneratorName,
+                                   long randomSeed, int maxEvaluations) {
+        return createKey(schema, dbms, criterionName, dataGeneratorName, randomSeed, maxEvaluations, false);
+    }
+
+    /**
+     * Creates the key under which the test suite generated with the given
+     * parameters is stored.
+     *
+     * @param schema The schema that test suites are generated for.
+     * @param dbms The DBMS that test suites are generated for.
+     * @param criterionName The name of the coverage criterion.
+     * @param dataGeneratorName The name of the data generator.
+     * @param randomSeed The random seed of the data generator.
+     * @param maxEvaluations The maximum evaluations of the data generator.
+     * @param seedPerTestRequirement Whether each test requirement has its own
+     * data generator, with a seed derived from the random seed (see
+     * {@link TestSuiteGenerator#setParallelGeneration(String, long, int, int)}),
+     * rather than one data generator being used for all of them.
+     * @return The key, which is a hexadecimal string.
+     */
+    public static String createKey(Schema schema, DBMS dbms, String criterionName, String dataGeneratorName,
+                                   long randomSeed, int maxEvaluations, boolean seedPerTestRequirement) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(VERSION).append("\n");
+        sb.append(schema.getName()).append("\n");
+        for (String statement : new SQLWriter().writeCreateTableStatements(schema)) {
+            sb.append(statement).append("\n");
+        }
+        sb.append(dbms.getName()).append("\n");
+        sb.append(criterionName).append("\n");
+        sb.append(dataGeneratorName).append("\n");
+        sb.append(randomSeed).append("\n");
+        sb.append(maxEvaluations);
+        if (seedPerTestRequirement) {
+            sb.append("\nseedPerTestRequirement");
+        }
+        return hash(sb.toString());
+    }
+
+    private static String hash(String string) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest(string.getBytes(StandardCharsets.UTF_8))) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new TestGenerationException("Cannot create test suite cache key", e);
+        }
+    }
+
+    /**
+     * Returns the test suite stored under the given key.
+     *
+     * @param key The key.
+     * @return The test suite and the report of its generation, or null if no
+     * test suite is stored under the key, or it could not be read.
+     */
+    public Entry get(String key) {
+        File file = getFile(key);
+        if (!file.exists()) {
+            return null;
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+            return (Entry) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOGGER.log(Level.WARNING, "Could not read cached test suite " + file + ", ignoring it", e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores a test suite under the given key, replacing any test suite that
+     * is already stored under it.
+     *
+     * @param key The key.
+     * @param testSuite The test suite.
+     * @param report The report of the generation of the test suite.
+     * @param generationTime The time taken to generate the test suite, in
+     * milliseconds, which is reported in place of the time taken to reuse it.
+     */
+    public void put(String key, TestSuite testSuite, TestSuiteGenerationReport report, long generationTime) {
+        File file = getFile(key);
+        try {
+            Files.createDirectories(directory.toPath());
+
+            // write to a temporary file first, so that other processes
+            // sharing the cache never read a partially written file
+            File tempFile = File.createTempFile(key, ".tmp", directory);
+            try {
+                try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(tempFile))) {
+                    out.writeObject(new Entry(testSuite, report, generationTime));
+                }
+                Files.move(tempFile.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        } catch (IOException e) {
+            // the test suite can still be used, it just won't be reused
+            LOGGER.log(Level.WARNING, "Could not write cached test suite " + file, e);
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(directory, key + FILE_EXTENSION);
+    }
+
+    /**
+     * A test suite stored in the cache, with the report and time of its
+     * generation.
+     */
+    public static class Entry implements Serializable {
+
+        private static final long serialVersionUID = -2364097914375620118L;
+
+        private TestSuite testSuite;
+        private TestSuiteGenerationReport report;
+        private long generationTime;
+
+        public Entry(TestSuite testSuite, TestSuiteGenerationReport report, long generationTime) {
+            this.testSuite = testSuite;
+            this.report = report;
+            this.generationTime = generationTime;
+        }
+
+        public TestSuite getTestSuite() {
+            return testSuite;
+        }
+
+        public TestSuiteGenerationReport getTestSuiteGenerationReport() {
+            return report;
+        }
+
+        /**
+         * Gets the time taken to generate the test suite when it was stored.
+         *
+         * @return The time, in milliseconds.
+         */
+        public long getGenerationTime() {
+            return generationTime;
+        }
+    }
+}
@@ -4,12 +4,15 @@ import org.schemaanalyst.data.Data;
 import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
 
+import java.io.Serializable;
 import java.util.*;
 
 /**
  * Created by phil on 24/07/2014.
  */
-public class TestSuiteGenerationReport {
+public class TestSuiteGenerationReport implements Serializable {
+
+    private static final long serialVersionUID = 5342196843417402276L;
 
     private Map<Table, DataGenerationResult> initialTableDataResults;
     private Map<TestRequirement, DataGenerationResult> testRequirementResults;
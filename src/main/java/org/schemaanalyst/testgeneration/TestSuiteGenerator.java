@@ -4,6 +4,7 @@ import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.ValueFactory;
 import org.schemaanalyst.data.generation.DataGenerationReport;
 import org.schemaanalyst.data.generation.DataGenerator;
+import org.schemaanalyst.data.generation.DataGeneratorFactory;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
@@ -20,6 +21,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 /**
@@ -37,6 +43,12 @@ public class TestSuiteGenerator {
     private TestSuite testSuite;
     private TestSuiteGenerationReport testSuiteGenerationReport;
 
+    // parallel test case generation -- see setParallelGeneration
+    private String parallelDataGeneratorName;
+    private long parallelRandomSeed;
+    private int parallelMaxEvaluations;
+    private int numThreads;
+
     public TestSuiteGenerator(Schema schema,
                               TestRequirements testRequirements,
                               ValueFactory valueFactory,
@@ -49,6 +61,35 @@ public class TestSuiteGenerator {
         initialTableData = new HashMap<>();
     }
 
+    /**
+     * Switches on generation of test cases with a data generator per test
+     * requirement, using a pool of threads (which may have only one thread).
+     * Each test requirement is given its own data generator, instantiated
+     * through {@link DataGeneratorFactory} with a seed derived from
+     * <tt>randomSeed</tt> and the position of the test requirement. The test
+     * suite generated for a given seed is therefore the same regardless of the
+     * number of threads (but differs from the test suite generated without
+     * calling this method, where the data generator passed to the constructor
+     * is used for all the test requirements). The initial table data is still
+     * generated serially, using the data generator passed to the constructor.
+     *
+     * @param dataGeneratorName The name of the data generator to instantiate
+     * for each test requirement.
+     * @param randomSeed The seed from which each data generator's seed is derived.
+     * @param maxEvaluations The maximum number of evaluations for each data generator.
+     * @param numThreads The number of threads to generate test cases with.
+     */
+    public void setParallelGeneration(String dataGeneratorName, long randomSeed, int maxEvaluations, int numThreads) {
+        if (numThreads < 1) {
+            throw new TestGenerationException("The number of threads must be at least 1, not " + numThreads);
+        }
+
+        this.parallelDataGeneratorName = dataGeneratorName;
+        this.parallelRandomSeed = randomSeed;
+        this.parallelMaxEvaluations = maxEvaluations;
+        this.numThreads = numThreads;
+    }
+
     public TestSuite generate() {
         LOGGER.fine("Generating test suite for " + schema);
 
@@ -121,46 +162,99 @@ public class TestSuiteGenerator {
     }
 
     protected void generateTestCases() {
-        for (TestRequirement testRequirement : testRequirements.getTestRequirements()) {
+        if (parallelDataGeneratorName != null) {
+            generateTestCasesInParallel();
+        } else {
+            for (TestRequirement testRequirement : testRequirements.getTestRequirements()) {
+                addTestCase(testRequirement, generateTestCase(testRequirement, dataGenerator));
+            }
+        }
+    }
 
-            Predicate predicate = testRequirement.getPredicate();
-            Table table = getTestRequirementTable(testRequirement);
+    protected void generateTestCasesInParallel() {
+        List<TestRequirement> testRequirementsList = testRequirements.getTestRequirements();
+        List<Future<DataGenerationResult>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+
+        try {
+            for (int i = 0; i < testRequirementsList.size(); i++) {
+                final TestRequirement testRequirement = testRequirementsList.get(i);
+                final long randomSeed = deriveRandomSeed(parallelRandomSeed, i);
+
+                results.add(executor.submit(new Callable<DataGenerationResult>() {
+                    @Override
+                    public DataGenerationResult call() {
+                        DataGenerator testRequirementDataGenerator = DataGeneratorFactory.instantiate(
+                                parallelDataGeneratorName, randomSeed, parallelMaxEvaluations, schema);
+                        return generateTestCase(testRequirement, testRequirementDataGenerator);
+                    }
+                }));
+            }
 
-            LOGGER.fine("\nGENERATING TEST CASE");
-            for (TestRequirementDescriptor testRequirementDescriptor : testRequirement.getDescriptors()) {
-                LOGGER.fine(testRequirementDescriptor.toString());
+            // add the test cases in the order of the test requirements
+            for (int i = 0; i < testRequirementsList.size(); i++) {
+                addTestCase(testRequirementsList.get(i), results.get(i).get());
             }
-            LOGGER.fine("--- Predicate is " + predicate);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TestGenerationException("Interrupted while generating test cases", e);
+        } catch (ExecutionException e) {
+            throw new TestGenerationException("Could not generate test case", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            Data state = new Data();
-            Data data = new Data();
-            predicate = addAdditionalRows(state, data, predicate, table, testRequirement.getRequiresComparisonRow());
+    protected static long deriveRandomSeed(long randomSeed, int index) {
+        // SplitMix64, so that seeds of neighbouring test requirements are unrelated
+        long seed = randomSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        return seed ^ (seed >>> 31);
+    }
 
-            if (predicate != null) {
-                data.addRow(table, valueFactory);
+    protected DataGenerationResult generateTestCase(TestRequirement testRequirement, DataGenerator dataGenerator) {
+        Predicate predicate = testRequirement.getPredicate();
+        Table table = getTestRequirementTable(testRequirement);
 
-                LOGGER.fine("--- Pre-reduced predicate is " + predicate);
-                predicate = predicate.reduce();
-                LOGGER.fine("--- Reduced predicate is " + predicate);
+        LOGGER.fine("\nGENERATING TEST CASE");
+        for (TestRequirementDescriptor testRequirementDescriptor : testRequirement.getDescriptors()) {
+            LOGGER.fine(testRequirementDescriptor.toString());
+        }
+        LOGGER.fine("--- Predicate is " + predicate);
 
-                DataGenerationReport dataGenerationReport = dataGenerator.generateData(data, state, predicate);
-                if (dataGenerationReport.isSuccess()) {
-                    TestCase testCase = new TestCase(testRequirement, data, state);
-                    testSuite.addTestCase(testCase);
+        Data state = new Data();
+        Data data = new Data();
+        predicate = addAdditionalRows(state, data, predicate, table, testRequirement.getRequiresComparisonRow());
 
-                    LOGGER.fine("--- SUCCESS, generated in " + dataGenerationReport.getNumEvaluations() + " evaluations");
-                    LOGGER.fine("--- Data is \n" + data);
-                } else {
-                    LOGGER.fine("--- FAILED");
-                }
+        if (predicate != null) {
+            data.addRow(table, valueFactory);
+
+            LOGGER.fine("--- Pre-reduced predicate is " + predicate);
+            predicate = predicate.reduce();
+            LOGGER.fine("--- Reduced predicate is " + predicate);
 
-                testSuiteGenerationReport.addTestRequirementResult(
-                        testRequirement, new DataGenerationResult(data, state, dataGenerationReport));
-            } else  {
-                testSuiteGenerationReport.addTestRequirementResult(
-                        testRequirement, null);
+            DataGenerationReport dataGenerationReport = dataGenerator.generateData(data, state, predicate);
+            if (dataGenerationReport.isSuccess()) {
+                LOGGER.fine("--- SUCCESS, generated in " + dataGenerationReport.getNumEvaluations() + " evaluations");
+                LOGGER.fine("--- Data is \n" + data);
+            } else {
+                LOGGER.fine("--- FAILED");
             }
+
+            return new DataGenerationResult(data, state, dataGenerationReport);
         }
+
+        return null;
+    }
+
+    protected void addTestCase(TestRequirement testRequirement, DataGenerationResult result) {
+        if (result != null && result.getReport().isSuccess()) {
+            TestCase testCase = new TestCase(testRequirement, result.getData(), result.getState());
+            testSuite.addTestCase(testCase);
+        }
+
+        testSuiteGenerationReport.addTestRequirementResult(testRequirement, result);
     }
 
     protected Table getTestRequirementTable(TestRequirement testRequirement) {
@@ -3,6 +3,8 @@ package org.schemaanalyst.testgeneration.coveragecriterion;
 import org.schemaanalyst.sqlrepresentation.Table;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.*;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.*;
 
@@ -54,6 +56,14 @@ public class TestRequirement implements Comparable<TestRequirement>, Serializabl
         return result;
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // results are compared by identity, so must be the canonical instances
+        if (result != null) {
+            result = Boolean.valueOf(result);
+        }
+    }
+
     public void setRequiresComparisonRow(boolean requiresComparisonRow) {
         this.requiresComparisonRow = requiresComparisonRow;
     }
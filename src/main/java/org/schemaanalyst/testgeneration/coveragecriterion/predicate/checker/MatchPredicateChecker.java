@@ -3,6 +3,7 @@ package org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker;
 import org.schemaanalyst.data.Cell;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.RowIndex;
 import org.schemaanalyst.logic.RelationalOperator;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
@@ -23,11 +24,49 @@ public class MatchPredicateChecker extends PredicateChecker {
     private List<MatchRecord> nonMatchingCells;
     private List<MatchRecord> matchingCells;
 
+    // indexed checking -- see setIndexed
+    private boolean indexed;
+    private boolean matchAny;
+    private List<Column> indexColumns, indexReferenceColumns;
+    private RowIndex dataIndex, stateIndex;
+    private List<Row> unindexedDataRows, unindexedStateRows;
+    private int numDataRowsIndexed;
+
     public MatchPredicateChecker(MatchPredicate matchPredicate, boolean allowNull, Data data, Data state) {
         this.matchPredicate = matchPredicate;
         this.allowNull = allowNull;
         this.data = data;
         this.state = state;
+        setIndexed(true);
+    }
+
+    /**
+     * Sets whether rows should first be looked up in hash indexes of the
+     * compare rows, to avoid checking them pairwise against every compare row
+     * where the lookup already decides that a row complies with the predicate.
+     * The result of checking is the same either way. Lookups are only used for
+     * predicates that only have matching columns, or that only have
+     * non-matching columns (any of which may not match) and allow NULLs.
+     * It is switched on by default.
+     *
+     * @param indexed Whether to use indexed checking, where possible.
+     */
+    public void setIndexed(boolean indexed) {
+        List<Column> matchingColumns = matchPredicate.getMatchingColumns();
+        List<Column> nonMatchingColumns = matchPredicate.getNonMatchingColumns();
+
+        matchAny = nonMatchingColumns.size() == 0;
+        indexColumns = matchAny ? matchingColumns : nonMatchingColumns;
+        indexReferenceColumns = matchAny
+                ? matchPredicate.getMatchingReferenceColumns()
+                : matchPredicate.getNonMatchingReferenceColumns();
+
+        boolean supported = matchAny
+                ? matchingColumns.size() > 0
+                : matchingColumns.size() == 0 && allowNull &&
+                  (matchPredicate.getMode().isOr() || nonMatchingColumns.size() == 1);
+
+        this.indexed = indexed && supported && RowIndex.areIndexable(indexColumns, indexReferenceColumns);
     }
 
     @Override
@@ -69,6 +108,10 @@ public class MatchPredicateChecker extends PredicateChecker {
         if (rows.size() > 0) {
             ListIterator<Row> rowsIterator = rows.listIterator();
 
+            if (indexed) {
+                startIndexes(stateRows);
+            }
+
             while (rowsIterator.hasNext()) {
                 Row row = rowsIterator.next();
 
@@ -77,7 +120,9 @@ public class MatchPredicateChecker extends PredicateChecker {
 
                 int numCompareRows = dataRows.size() + stateRows.size();
                 if (numCompareRows > 0) {
-                    checkRow(row, stateRows, dataRows);
+                    if (!indexed || !checkRowIndexed(row, dataRows, numCompareRows)) {
+                        checkRow(row, stateRows, dataRows);
+                    }
                 }
             }
 
@@ -88,6 +133,62 @@ public class MatchPredicateChecker extends PredicateChecker {
         return false;
     }
 
+    private void startIndexes(List<Row> stateRows) {
+        dataIndex = new RowIndex(indexReferenceColumns);
+        unindexedDataRows = new ArrayList<>();
+        numDataRowsIndexed = 0;
+
+        stateIndex = new RowIndex(indexReferenceColumns);
+        unindexedStateRows = new ArrayList<>();
+        for (Row stateRow : stateRows) {
+            if (!stateIndex.add(stateRow)) {
+                unindexedStateRows.add(stateRow);
+            }
+        }
+    }
+
+    // returns true if the row was found to comply with the predicate using
+    // the indexes, and so does not need to be checked against every compare row
+    private boolean checkRowIndexed(Row row, List<Row> dataRows, int numCompareRows) {
+        // data rows are a growing prefix of the reference table's rows
+        while (numDataRowsIndexed < dataRows.size()) {
+            Row dataRow = dataRows.get(numDataRowsIndexed);
+            if (!dataIndex.add(dataRow)) {
+                unindexedDataRows.add(dataRow);
+            }
+            numDataRowsIndexed ++;
+        }
+
+        List<Row> dataMatches = dataIndex.get(row, indexColumns);
+        List<Row> stateMatches = stateIndex.get(row, indexColumns);
+
+        if (matchAny) {
+            // the row complies if it matches any one compare row
+            return anyRowMatches(row, dataMatches) || anyRowMatches(row, stateMatches);
+        }
+
+        // the row complies if any compare row is not an exact (or unindexable)
+        // match, as the non-matching columns of such a row cannot all match
+        int numPossiblyNonCompliant = dataMatches.size() + unindexedDataRows.size()
+                + stateMatches.size() + unindexedStateRows.size();
+        return numPossiblyNonCompliant < numCompareRows;
+    }
+
+    private boolean anyRowMatches(Row row, List<Row> compareRows) {
+        for (Row compareRow : compareRows) {
+            boolean matches = checkColumnLists(
+                    row,
+                    compareRow,
+                    matchPredicate.getMatchingColumns(),
+                    matchPredicate.getMatchingReferenceColumns(),
+                    true);
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void checkRow(Row row, List<Row> stateRows, List<Row> dataRows) {
 
         int numNonCompliantRows = 0;
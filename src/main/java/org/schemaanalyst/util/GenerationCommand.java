@@ -23,4 +23,10 @@ public class GenerationCommand {
   // select to boot visualisation tool
   @Parameter(names = {"--visualise", "-v"}, description = "Visualise generated test data using visualisation tool")
   protected boolean visualise = false;
+
+  @Parameter(names = {"--threads"}, description = "Number of threads for generating test cases in parallel (more than one implies --seedPerRequirement)")
+  protected int threads = 1;
+
+  @Parameter(names = {"--seedPerRequirement"}, description = "Generate each test case with a seed derived for its test requirement, as parallel generation does, so that the same test suite is generated for any number of threads (otherwise one data generator is used for every test requirement)")
+  protected boolean seedPerRequirement = false;
 }
@@ -6,6 +6,7 @@
 package org.schemaanalyst.util;
 
 import com.beust.jcommander.JCommander;
+import org.apache.commons.lang3.time.StopWatch;
 import org.schemaanalyst.data.Data;
 import org.schemaanalyst.configuration.*;
 import org.schemaanalyst.data.generation.*;
@@ -74,7 +75,17 @@ public class Go {
                 "--randomseed="+mc.seed, 		
                 "--mutationPipeline="+ mc.pipeline,
                 "--technique="+mc.technique,
-                "--useTransactions="+	mc.transactions};
+                "--useTransactions="+	mc.transactions,
+                "--useBatchInserts="+ mc.batchInserts,
+                "--useRollbackIsolation="+ mc.rollbackIsolation,
+                "--useEarlyExit="+ mc.earlyExit,
+                "--useSubsumption="+ mc.subsumption,
+                "--auditRate="+ mc.auditRate,
+                "--chunkBudget="+ mc.chunkBudget,
+                "--checkpointInterval="+ mc.checkpointInterval,
+                "--resume="+ mc.resume,
+                "--threads="+ mc.threads,
+                "--useTestSuiteCache="+ !jcp.noTestSuiteCache};
                    
             MutationAnalysis.main(pargs);
 
@@ -97,7 +108,9 @@ public class Go {
         Schema schemaObject = instantiateSchema(schema);
         DBMS dbmsObject = DBMSFactory.instantiate(dbms);
         TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(criterion, schemaObject, dbmsObject).generateRequirements();
-        DataGenerator dataGeneratorObject = DataGeneratorFactory.instantiate(datagenerator, -0L, 100000, schemaObject);
+        long randomSeed = -0L;
+        int maxEvaluations = 100000;
+        DataGenerator dataGeneratorObject = DataGeneratorFactory.instantiate(datagenerator, randomSeed, maxEvaluations, schemaObject);
         
         // filter and reduce test requirements
         testRequirements.filterInfeasible();
@@ -109,8 +122,33 @@ public class Go {
                 testRequirements,
                 dbmsObject.getValueFactory(),
                 dataGeneratorObject);
-        TestSuite testSuite = testSuiteGenerator.generate();
-        
+        // parallel generation gives each test requirement a seed derived from the
+        // random seed, so generates a different test suite to a single data generator
+        boolean seedPerRequirement = gc.seedPerRequirement || gc.threads > 1;
+        if (seedPerRequirement) {
+            testSuiteGenerator.setParallelGeneration(datagenerator, randomSeed, maxEvaluations, gc.threads);
+        }
+
+        // reuse a test suite previously generated with the same parameters, if possible
+        TestSuite testSuite;
+        TestSuiteGenerationReport report;
+        TestSuiteCache testSuiteCache = new TestSuiteCache(new File(new LocationsConfiguration().getTestSuiteCacheDir()));
+        String testSuiteCacheKey = TestSuiteCache.createKey(schemaObject, dbmsObject, criterion,
+                datagenerator, randomSeed, maxEvaluations, seedPerRequirement);
+        TestSuiteCache.Entry cacheEntry = jcp.noTestSuiteCache ? null : testSuiteCache.get(testSuiteCacheKey);
+        StopWatch generationTime = new StopWatch();
+
+        if (cacheEntry != null) {
+            testSuite = cacheEntry.getTestSuite();
+            report = cacheEntry.getTestSuiteGenerationReport();
+            System.out.println("Test suite reused from the test suite cache");
+        } else {
+            generationTime.start();
+            testSuite = testSuiteGenerator.generate();
+            report = testSuiteGenerator.getTestSuiteGenerationReport();
+            generationTime.stop();
+        }
+
 
         // if desired, write the INSERTs to a file for inspection
         if (sql){
@@ -122,7 +160,6 @@ public class Go {
         }
 
         // print some stats
-        TestSuiteGenerationReport report = testSuiteGenerator.getTestSuiteGenerationReport();
         System.out.println("Test requirements covered: " + report.getNumTestRequirementsCovered() + "/" + report.getNumTestRequirementsAttempted());
         System.out.println("Coverage: " + report.coverage() + "%");
         System.out.println("Num Evaluations (test cases only): " + report.getNumDataEvaluations(true));
@@ -159,10 +196,12 @@ public class Go {
         executor.execute(testSuite);
 
         // check the results
+        int numWarnings = 0;
         for (TestCase testCase : testSuite.getTestCases()) {
             Boolean result = testCase.getTestRequirement().getResult();
             Boolean dbmsResult = testCase.getLastDBMSResult();
             if (result != null && result != dbmsResult) {
+                numWarnings++;
                 TestRequirement testRequirement = testCase.getTestRequirement();
                 System.out.println("WARNING--test requirement result (" + result + ") differs from DBMS result (" + dbmsResult + "):");
                 System.out.println(testRequirement);
@@ -188,6 +227,15 @@ public class Go {
                 }
             }
         }
+
+        // only cache a newly generated test suite once the DBMS has confirmed its results
+        if (cacheEntry == null && !jcp.noTestSuiteCache) {
+            if (numWarnings == 0) {
+                testSuiteCache.put(testSuiteCacheKey, testSuite, report, generationTime.getTime());
+            } else {
+                System.out.println("Test suite not stored in the test suite cache, as it has " + numWarnings + " warnings");
+            }
+        }
         
         if (gc.visualise) {
         		//create view and controller objects
@@ -0,0 +1,19 @@
+package org.schemaanalyst.util;
+
+/**
+ * A duplicator that can also copy an object into an existing duplicate of
+ * it, e.g. to avoid allocating a new duplicate every time.
+ */
+public interface InPlaceDuplicator<T> extends Duplicator<T> {
+
+    /**
+     * Copies an object into an existing object.
+     *
+     * @param source The object to be copied.
+     * @param target The object to copy into.
+     * @return True if the object was copied, false if it could not be (e.g.,
+     * because the objects are not of the same shape), in which case the target
+     * is unchanged.
+     */
+    public boolean copyInPlace(T source, T target);
+}
@@ -21,6 +21,9 @@ public class JCommanderParams {
   @Parameter(names = {"--dbms","-d","--database"}, description = "Database Management System")
   protected String dbms = "SQLite";
 
+  @Parameter(names = {"--noTestSuiteCache"}, description = "Always generate a new test suite, rather than reusing one from the test suite cache")
+  protected boolean noTestSuiteCache = false;
+
   /* @Parameter(names = {"--help","-h"}, description = "Print the help menu") */
   /* protected boolean help = false; */
 
@@ -25,4 +25,31 @@ public class MutationCommand {
   @Parameter(names = "--transactions", description = "Whether to use transactions with this technique (if possible).")
   public boolean transactions = false;
 
+  @Parameter(names = "--batchInserts", description = "Whether to execute the INSERT statements of each test case as a JDBC batch (if not using transactions).")
+  public boolean batchInserts = false;
+
+  @Parameter(names = "--rollbackIsolation", description = "Whether to isolate test cases by rolling back their INSERT statements, rather than deleting the rows of every table (if supported by the DBMS and not using transactions).")
+  public boolean rollbackIsolation = false;
+
+  @Parameter(names = "--earlyExit", description = "Whether to stop executing the test suite against a mutant at the first test case that kills it, executing first the test cases that have killed similar mutants (not supported by the minimal schemata technique).")
+  public boolean earlyExit = false;
+
+  @Parameter(names = "--subsumption", description = "Whether to build a subsumption graph of the mutants, skipping the rest of the test suite for a mutant once it is known to be subsumed, and to output the dominator mutants.")
+  public boolean subsumption = false;
+
+  @Parameter(names = "--auditRate", description = "The proportion of mutants with a certain virtual verdict that the virtualPrefilter technique also analyses on the DBMS, as an audit.")
+  public double auditRate = 0.05;
+
+  @Parameter(names = "--chunkBudget", description = "The cost budget, in tables and constraints, of each meta-schema created by the chunkedSchemata technique, or 0 to choose one for the DBMS and tune it from the measured latency.")
+  public int chunkBudget = 0;
+
+  @Parameter(names = "--checkpointInterval", description = "The number of mutants to analyse between checkpoints of their verdicts to the journal, or 0 to not keep a journal (unless resuming).")
+  public int checkpointInterval = 0;
+
+  @Parameter(names = "--resume", description = "Whether to reload the journal of verdicts kept by an earlier run with the same test suite, and only analyse the mutants without a verdict.")
+  public boolean resume = false;
+
+  @Parameter(names = "--threads", description = "The number of worker threads to use with parallel techniques.")
+  public int threads = 4;
+
 }
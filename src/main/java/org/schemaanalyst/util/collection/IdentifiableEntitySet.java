@@ -41,6 +41,20 @@ public class IdentifiableEntitySet<E extends IdentifiableEntity> implements Set<
         return true;
     }
 
+    /**
+     * Returns a copy of the set that holds the same elements. The elements
+     * still belong to this set and not the copy, so an element renamed while
+     * in the copy can no longer be found in the copy by its name.
+     *
+     * @return The copy of the set.
+     */
+    public IdentifiableEntitySet<E> shallowCopy() {
+        IdentifiableEntitySet<E> copy = new IdentifiableEntitySet<>();
+        copy.identifiers.putAll(identifiers);
+        copy.elements.addAll(elements);
+        return copy;
+    }
+
     public E get(String string) {
         return get(new Identifier(string));
     }
@@ -1,5 +1,6 @@
 package paper.datagenerationjv;
 
+import org.apache.commons.lang3.time.StopWatch;
 import org.schemaanalyst.configuration.DatabaseConfiguration;
 import org.schemaanalyst.configuration.LocationsConfiguration;
 import org.schemaanalyst.data.generation.DataGenerator;
@@ -23,6 +24,7 @@ public class RunCoverageExptCluster {
 
     protected String resultsDir;
     protected int maxEvaluations = 100000;
+    protected TestSuiteCache testSuiteCache;
 
     protected long[] seeds = {
             -1116206204814428231L, 7985954954880731531L, 3611094813579055564L, 4060776535588632553L, -6282041857351115261L, -7753126579393043552L, 7301670248648733814L, 1415212444129790595L, 2056109940551094279L, -2200648009882847974L, 2083899252996892155L, -8446221986149258676L, 6487470329507455693L, -3188839645469611430L, 1107647187144990782L, -7172454676826905329L, -6350374941054523216L, 7238962508293136181L, -6118606874157917260L, -4279319149851968693L, 1152127634058037217L, 4977817611943876980L, 343476588327669223L, -2889233434285636943L, -6496068917548900125L, 5599934909352710994L, 5938267508396193780L, -6267000089346451287L, -257943939492821747L, -2185319758834608639L
@@ -30,7 +32,9 @@ public class RunCoverageExptCluster {
 
 
     public RunCoverageExptCluster() {
-        resultsDir = new LocationsConfiguration().getResultsDir();
+        LocationsConfiguration locationsConfiguration = new LocationsConfiguration();
+        resultsDir = locationsConfiguration.getResultsDir();
+        testSuiteCache = new TestSuiteCache(new File(locationsConfiguration.getTestSuiteCacheDir()));
     }
 
     public void runExpt(String schemaName,
@@ -58,23 +62,41 @@ public class RunCoverageExptCluster {
 
         long seed = seeds[runNo-1];
 
-        TestRequirements testRequirements = coverageCriterion.generateRequirements();
+        TestSuite testSuite;
+        TestSuiteGenerationReport report;
 
-        DataGenerator dataGeneratorObject = DataGeneratorFactory.instantiate(
-                dataGeneratorName, seed, maxEvaluations, schema);
+        // reuse the test suite if it has already been generated
+        String testSuiteCacheKey = TestSuiteCache.createKey(
+                schema, dbms, coverageCriterionName, dataGeneratorName, seed, maxEvaluations);
+        TestSuiteCache.Entry cacheEntry = testSuiteCache.get(testSuiteCacheKey);
 
-        // filter and reduce test requirements
-        testRequirements.filterInfeasible();
-        testRequirements.reduce();
-
-        // generate the test suite
-        TestSuiteGenerator testSuiteGenerator = new TestSuiteGenerator(
-                schema,
-                testRequirements,
-                dbms.getValueFactory(),
-                dataGeneratorObject);
-
-        TestSuite testSuite = testSuiteGenerator.generate();
+        if (cacheEntry != null) {
+            testSuite = cacheEntry.getTestSuite();
+            report = cacheEntry.getTestSuiteGenerationReport();
+        } else {
+            StopWatch generationTime = new StopWatch();
+            generationTime.start();
+            TestRequirements testRequirements = coverageCriterion.generateRequirements();
+
+            DataGenerator dataGeneratorObject = DataGeneratorFactory.instantiate(
+                    dataGeneratorName, seed, maxEvaluations, schema);
+
+            // filter and reduce test requirements
+            testRequirements.filterInfeasible();
+            testRequirements.reduce();
+
+            // generate the test suite
+            TestSuiteGenerator testSuiteGenerator = new TestSuiteGenerator(
+                    schema,
+                    testRequirements,
+                    dbms.getValueFactory(),
+                    dataGeneratorObject);
+
+            testSuite = testSuiteGenerator.generate();
+            report = testSuiteGenerator.getTestSuiteGenerationReport();
+            generationTime.stop();
+            testSuiteCache.put(testSuiteCacheKey, testSuite, report, generationTime.getTime());
+        }
 
         // execute each test case to see what the DBMS result is for each row generated (accept / row)
         TestCaseExecutor executor = new TestCaseExecutor(
@@ -95,8 +117,6 @@ public class RunCoverageExptCluster {
         }
 
         // get the stats
-        TestSuiteGenerationReport report = testSuiteGenerator.getTestSuiteGenerationReport();
-
         int numReqsCovered = report.getNumTestRequirementsCovered();
         int numReqs = numReqsCovered + report.getNumTestRequirementsFailed();
         int successfulEvaluations = report.getNumEvaluations(true);
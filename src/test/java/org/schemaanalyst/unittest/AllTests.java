@@ -5,6 +5,7 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+	org.schemaanalyst.unittest.data.TestCopyValuesInPlace.class,
 	org.schemaanalyst.unittest.data.TestStringValue.class,
 	org.schemaanalyst.unittest.data.TestValueEquality.class,
 	org.schemaanalyst.unittest.data.generation.TestCellValueGenerator.class,
@@ -13,9 +14,13 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.data.generation.concentro.TestMatchPredicateFixer.class,
 	org.schemaanalyst.unittest.data.generation.concentro.TestNullPredicateFixer.class,
 	org.schemaanalyst.unittest.data.generation.search.TestAlternatingValueSearch.class,
+	org.schemaanalyst.unittest.data.generation.search.TestEvaluationCache.class,
+	org.schemaanalyst.unittest.data.generation.search.TestIncrementalEvaluation.class,
+	org.schemaanalyst.unittest.data.generation.search.TestParallelAlternatingValueSearch.class,
 	org.schemaanalyst.unittest.data.generation.search.TestSearchEvaluation.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.TestDistanceObjectiveValue.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.TestObjectiveValue.class,
+	org.schemaanalyst.unittest.data.generation.search.objective.predicate.TestMatchPredicateObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.TestAndExpressionRowObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.TestBetweenExpressionRowObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.TestInExpressionRowObjectiveFunction.class,
@@ -27,6 +32,8 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.data.generation.search.objective.row.value.TestRelationalBooleanValueObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.value.TestRelationalCompoundValueObjectiveFunction.class,
 	org.schemaanalyst.unittest.data.generation.search.objective.row.value.TestRelationalNumericValueObjectiveFunction.class,
+	org.schemaanalyst.unittest.dbms.TestDatabaseInteractorIsolation.class,
+	org.schemaanalyst.unittest.dbms.TestDatabaseInteractorPool.class,
 	org.schemaanalyst.unittest.dbms.TestHyperSQL.class,
 	org.schemaanalyst.unittest.dbms.TestPostgres.class,
 	org.schemaanalyst.unittest.dbms.TestSQLite.class,
@@ -34,6 +41,16 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.faultlocalization.TestCalculator.class,
 	org.schemaanalyst.unittest.faultlocalization.TestProcessMatrix.class,
 	org.schemaanalyst.unittest.logic.TestRelationalOperator.class,
+	org.schemaanalyst.unittest.mutation.TestSchemaDelta.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.TestMutationAnalysisVirtual.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.technique.TestParallelMinimalSchemataTechnique.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.technique.TestSchemataChunker.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.technique.TestVirtualPrefilterTechnique.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.testcase.TestVirtualTestCaseExecutor.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.testsuite.TestMutantSubsumptionGraph.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.testsuite.TestTestCaseScheduler.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.testsuite.TestTestSuiteExecutor.class,
+	org.schemaanalyst.unittest.mutation.analysis.executor.util.TestMutationAnalysisJournal.class,
 	org.schemaanalyst.unittest.mutation.analysis.util.TestSchemaMerger.class,
 	org.schemaanalyst.unittest.mutation.equivalence.TestChangedConstraintFinder.class,
 	org.schemaanalyst.unittest.mutation.equivalence.TestChangedTableFinder.class,
@@ -81,7 +98,9 @@ import org.junit.runners.Suite;
 	org.schemaanalyst.unittest.sqlrepresentation.expression.TestExpressionTreeWithExpressionPath.class,
 	org.schemaanalyst.unittest.sqlrepresentation.expression.TestExpressions.class,
 	org.schemaanalyst.unittest.sqlwriter.TestDateWriter.class,
+	org.schemaanalyst.unittest.testgeneration.TestTestSuiteCache.class,
 	org.schemaanalyst.unittest.testgeneration.TestTestSuiteGenerator.class,
+	org.schemaanalyst.unittest.testgeneration.TestParallelTestSuiteGeneration.class,
 	org.schemaanalyst.unittest.testgeneration.coveragecriterion.TestTestRequirementIDGenerator.class,
 	org.schemaanalyst.unittest.testgeneration.coveragecriterion.predicate.TestAndPredicate.class,
 	org.schemaanalyst.unittest.testgeneration.coveragecriterion.predicate.TestComposedPredicate.class,
@@ -0,0 +1,142 @@
+package org.schemaanalyst.unittest.data;
+
+import org.junit.Test;
+import org.schemaanalyst.data.*;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.*;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestCopyValuesInPlace {
+
+    private Schema schema;
+    private Table table, otherTable;
+    private Column intColumn, varcharColumn, booleanColumn, dateColumn, dateTimeColumn, timeColumn, timestampColumn;
+    private ValueFactory valueFactory = new ValueFactory();
+
+    public TestCopyValuesInPlace() {
+        schema = new Schema("schema");
+        table = schema.createTable("table");
+        intColumn = table.createColumn("int_column", new IntDataType());
+        varcharColumn = table.createColumn("varchar_column", new VarCharDataType(10));
+        booleanColumn = table.createColumn("boolean_column", new BooleanDataType());
+        dateColumn = table.createColumn("date_column", new DateDataType());
+        dateTimeColumn = table.createColumn("datetime_column", new DateTimeDataType());
+        timeColumn = table.createColumn("time_column", new TimeDataType());
+        timestampColumn = table.createColumn("timestamp_column", new TimestampDataType());
+        otherTable = schema.createTable("other_table");
+        otherTable.createColumn("column", new IntDataType());
+    }
+
+    private Data makeData(int numRows) {
+        Data data = new Data();
+        data.addRows(table, numRows, valueFactory);
+        return data;
+    }
+
+    private void setValues(Data data, int seed) {
+        List<Row> rows = data.getRows(table);
+        for (Row row : rows) {
+            ((NumericValue) row.getCell(intColumn).getValue()).set(seed);
+            ((StringValue) row.getCell(varcharColumn).getValue()).set("abcdefghij".substring(0, seed % 10));
+            ((BooleanValue) row.getCell(booleanColumn).getValue()).set(seed % 2 == 0);
+            ((DateValue) row.getCell(dateColumn).getValue()).setDay(seed % 28 + 1);
+            ((DateTimeValue) row.getCell(dateTimeColumn).getValue()).setSecond(seed % 60);
+            ((TimeValue) row.getCell(timeColumn).getValue()).setMinute(seed % 60);
+            ((NumericValue) row.getCell(timestampColumn).getValue()).set(seed * 1000);
+            seed++;
+        }
+    }
+
+    @Test
+    public void testCopiesValues() {
+        Data source = makeData(3);
+        Data target = makeData(3);
+        setValues(source, 7);
+        setValues(target, 2);
+
+        Cell targetCell = target.getRows(table).get(0).getCell(varcharColumn);
+        Value targetValue = targetCell.getValue();
+
+        assertTrue(target.copyValuesInPlace(source));
+        assertEquals(source.toString(), target.toString());
+
+        // the value objects of the target are reused...
+        assertSame(targetValue, targetCell.getValue());
+
+        // ... and are not shared with the source
+        setValues(source, 4);
+        assertFalse(source.toString().equals(target.toString()));
+        setValues(source, 7);
+        assertEquals(source.toString(), target.toString());
+    }
+
+    @Test
+    public void testCopiesStringsOfDifferentLengths() {
+        StringValue target = new StringValue("abc");
+        assertTrue(target.copyValueInPlace(new StringValue("defgh")));
+        assertEquals("defgh", target.get());
+        assertTrue(target.copyValueInPlace(new StringValue("i")));
+        assertEquals("i", target.get());
+        assertTrue(target.copyValueInPlace(new StringValue("")));
+        assertEquals("", target.get());
+    }
+
+    @Test
+    public void testCopiesNulls() {
+        Data source = makeData(1);
+        Data target = makeData(1);
+        setValues(source, 3);
+        setValues(target, 5);
+
+        Cell sourceCell = source.getRows(table).get(0).getCell(intColumn);
+        Cell targetCell = target.getRows(table).get(0).getCell(intColumn);
+        Value targetValue = targetCell.getValue();
+
+        sourceCell.setNull(true);
+        assertTrue(target.copyValuesInPlace(source));
+        assertTrue(targetCell.isNull());
+        assertTrue(target.copyValuesInPlace(source));
+        assertTrue(targetCell.isNull());
+
+        // the value the target cell had before being NULL is reused
+        sourceCell.setNull(false);
+        assertTrue(target.copyValuesInPlace(source));
+        assertSame(targetValue, targetCell.getValue());
+        assertEquals(sourceCell.getValue(), targetCell.getValue());
+        assertNotSame(sourceCell.getValue(), targetCell.getValue());
+    }
+
+    @Test
+    public void testDifferentRowsNotCopied() {
+        Data source = makeData(2);
+        Data target = makeData(3);
+        setValues(source, 1);
+        setValues(target, 2);
+        String targetString = target.toString();
+
+        assertFalse(target.copyValuesInPlace(source));
+        assertEquals(targetString, target.toString());
+
+        source.addRow(otherTable, valueFactory);
+        source.addRow(table, valueFactory);
+        assertFalse(target.copyValuesInPlace(source));
+        assertEquals(targetString, target.toString());
+    }
+
+    @Test
+    public void testDifferentValueTypesNotCopied() {
+        NumericValue target = new NumericValue(5);
+        assertFalse(target.copyValueInPlace(new BooleanValue(true)));
+        assertFalse(target.copyValueInPlace(new TimestampValue()));
+        assertEquals(new NumericValue(5), target);
+    }
+}
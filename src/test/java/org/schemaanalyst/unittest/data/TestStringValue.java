@@ -3,8 +3,14 @@ package org.schemaanalyst.unittest.data;
 import org.junit.Test;
 import org.schemaanalyst.data.NumericValue;
 import org.schemaanalyst.data.StringValue;
+import org.schemaanalyst.data.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
 public class TestStringValue {
 
@@ -88,4 +94,81 @@ public class TestStringValue {
                 expectedString,
                 stringValue.get());
     }
+
+    @Test
+    public void characterViewsWriteThrough() {
+        StringValue stringValue = new StringValue("abc");
+        NumericValue character = stringValue.getCharacter(1);
+        assertEquals(new BigDecimal(98), character.get());
+
+        character.set(100);
+        assertEquals("adc", stringValue.get());
+        assertSame(character, stringValue.getCharacter(1));
+
+        List<Value> elements = stringValue.getElements();
+        assertEquals(3, elements.size());
+        ((NumericValue) elements.get(2)).set(StringValue.UPPER_A_CHAR);
+        assertEquals("adA", stringValue.get());
+    }
+
+    @Test
+    public void characterViewsBounded() {
+        StringValue stringValue = new StringValue("abc");
+        stringValue.getCharacter(0).set(StringValue.UPPER_A_CHAR - 1);
+        stringValue.getCharacter(1).set(StringValue.LOWER_Z_CHAR + 1000);
+        assertEquals("Azc", stringValue.get());
+    }
+
+    @Test
+    public void setBounded() {
+        StringValue stringValue = new StringValue("North America 1");
+        assertEquals("Characters set out of range should be bounded by the character range",
+                "NorthAAmericaAA", stringValue.get());
+
+        stringValue.set("a{~");
+        assertEquals("azz", stringValue.get());
+    }
+
+    @Test
+    public void addCharacterBounded() {
+        StringValue stringValue = new StringValue();
+        stringValue.addCharacter(new NumericValue(' '));
+        stringValue.addCharacter(new NumericValue(StringValue.LOWER_Z_CHAR + 1000));
+        assertEquals("Characters added out of range should be bounded by the character range",
+                "Az", stringValue.get());
+    }
+
+    @Test
+    public void longString() {
+        StringValue stringValue = new StringValue();
+        StringBuilder expectedString = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            stringValue.addCharacter();
+            expectedString.append("a");
+        }
+        assertEquals(expectedString.toString(), stringValue.get());
+        assertEquals(100, stringValue.getLength());
+    }
+
+    @Test
+    public void duplicateIndependent() {
+        StringValue stringValue = new StringValue("abc");
+        StringValue duplicate = stringValue.duplicate();
+        assertEquals(stringValue, duplicate);
+        assertEquals(stringValue.hashCode(), duplicate.hashCode());
+
+        duplicate.getCharacter(0).set(122);
+        duplicate.addCharacter();
+        assertEquals("abc", stringValue.get());
+        assertEquals("zbca", duplicate.get());
+        assertFalse(stringValue.equals(duplicate));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void removedCharacterNotAccessible() {
+        StringValue stringValue = new StringValue("ab");
+        NumericValue character = stringValue.getCharacter(1);
+        stringValue.removeCharacter();
+        character.get();
+    }
 }
@@ -12,6 +12,8 @@ import org.schemaanalyst.data.generation.search.termination.TerminationCriterion
 import org.schemaanalyst.unittest.testutil.mock.MockDatabase;
 import org.schemaanalyst.unittest.testutil.mock.TwoColumnMockDatabase;
 
+import java.math.BigDecimal;
+
 import static org.junit.Assert.assertEquals;
 
 public class TestAlternatingValueSearch {
@@ -55,6 +57,40 @@ public class TestAlternatingValueSearch {
         }
     }
 
+    class NumericMoveAlternatingValueSearch extends AlternatingValueSearch {
+
+        public NumericMoveAlternatingValueSearch() {
+            super(null, new DefaultCellInitializer(), null);
+        }
+
+        @Override
+        public BigDecimal calculateNewNumericValue(int direction, int step, BigDecimal originalValue) {
+            return super.calculateNewNumericValue(direction, step, originalValue);
+        }
+    }
+
+    protected void testNumericMove(int direction, int step, String originalValue) {
+        BigDecimal value = new BigDecimal(originalValue);
+        BigDecimal expected = value.add(new BigDecimal(direction).multiply(
+                new BigDecimal(2).pow(step).scaleByPowerOfTen(-value.scale())));
+        BigDecimal actual = new NumericMoveAlternatingValueSearch().calculateNewNumericValue(direction, step, value);
+        // the scale should be the same, as well as the value
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void numericMoves() {
+        int[] steps = {0, 1, 10, 58, 59, 60, 100};
+        String[] values = {"0", "1", "-1", "123", "999999999999999999", "-999999999999999999",
+                "1000000000000000000", "1.5", "-0.25", "1E+3", "12345678901234567890"};
+        for (int step : steps) {
+            for (String value : values) {
+                testNumericMove(1, step, value);
+                testNumericMove(-1, step, value);
+            }
+        }
+    }
+
     protected void testMaxEvalsTermination(int maxEvals, int expected) {
         MockDatabase database = new TwoColumnMockDatabase();
         Data data = database.createData(1);
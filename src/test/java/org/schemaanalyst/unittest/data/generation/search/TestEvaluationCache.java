@@ -0,0 +1,125 @@
+package org.schemaanalyst.unittest.data.generation.search;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.ValueLibrary;
+import org.schemaanalyst.data.generation.cellinitialization.RandomCellInitializer;
+import org.schemaanalyst.data.generation.cellvaluegeneration.RandomCellValueGenerator;
+import org.schemaanalyst.data.generation.cellvaluegeneration.ValueInitializationProfile;
+import org.schemaanalyst.data.generation.search.AlternatingValueSearch;
+import org.schemaanalyst.data.generation.search.DataEvaluationCache;
+import org.schemaanalyst.data.generation.search.EvaluationCache;
+import org.schemaanalyst.data.generation.search.SearchBasedDataGenerationReport;
+import org.schemaanalyst.data.generation.search.SearchBasedDataGenerator;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.termination.CombinedTerminationCriterion;
+import org.schemaanalyst.data.generation.search.termination.CounterTerminationCriterion;
+import org.schemaanalyst.data.generation.search.termination.OptimumTerminationCriterion;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.DataGenerationResult;
+import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import org.schemaanalyst.util.random.SimpleRandom;
+import parsedcasestudy.BookTown;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestEvaluationCache {
+
+    private static final int MAX_EVALUATIONS = 10000;
+
+    class MockEvaluationCache extends EvaluationCache<Integer> {
+
+        MockEvaluationCache(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        public Object createKey(Integer candidateSolution) {
+            return candidateSolution;
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        MockEvaluationCache cache = new MockEvaluationCache(2);
+        cache.put(1, ObjectiveValue.optimalObjectiveValue());
+        cache.put(2, ObjectiveValue.optimalObjectiveValue());
+        assertNotNull(cache.get(1));
+        cache.put(3, ObjectiveValue.optimalObjectiveValue());
+
+        assertEquals(2, cache.getSize());
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(1));
+        assertNotNull(cache.get(3));
+        assertEquals(3, cache.getNumHits());
+        assertEquals(1, cache.getNumMisses());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getNumHits());
+        assertEquals(0, cache.getNumMisses());
+    }
+
+    private TestSuiteGenerationReport generate(Schema schema, DBMS dbms,
+                                               TestRequirements testRequirements, boolean cached) {
+        SimpleRandom random = new SimpleRandom(0);
+        RandomCellInitializer initializer = new RandomCellInitializer(
+                new RandomCellValueGenerator(random, ValueInitializationProfile.SMALL, 0.1, new ValueLibrary(), 0.25));
+
+        AlternatingValueSearch avs = new AlternatingValueSearch(random, initializer, initializer);
+        if (cached) {
+            avs.setEvaluationCache(new DataEvaluationCache(100));
+        }
+        avs.setTerminationCriterion(new CombinedTerminationCriterion(
+                new CounterTerminationCriterion(avs.getEvaluationsCounter(), MAX_EVALUATIONS),
+                new OptimumTerminationCriterion<>(avs)));
+
+        TestSuiteGenerator generator = new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(), new SearchBasedDataGenerator(avs));
+        generator.generate();
+        return generator.getTestSuiteGenerationReport();
+    }
+
+    @Test
+    public void testSameSearchTrajectories() {
+        Schema schema = new BookTown();
+        DBMS dbms = new SQLiteDBMS();
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "ClauseAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+
+        TestSuiteGenerationReport uncachedReport = generate(schema, dbms, testRequirements, false);
+        TestSuiteGenerationReport cachedReport = generate(schema, dbms, testRequirements, true);
+
+        int numHits = 0;
+        for (TestRequirement testRequirement : testRequirements.getTestRequirements()) {
+            DataGenerationResult uncachedResult = uncachedReport.getDataGenerationResult(testRequirement);
+            DataGenerationResult cachedResult = cachedReport.getDataGenerationResult(testRequirement);
+
+            if (uncachedResult == null) {
+                assertNull(cachedResult);
+            } else {
+                assertEquals(uncachedResult.getReport().isSuccess(), cachedResult.getReport().isSuccess());
+                assertEquals(uncachedResult.getReport().getNumEvaluations(), cachedResult.getReport().getNumEvaluations());
+                assertEquals(uncachedResult.getData().toString(), cachedResult.getData().toString());
+
+                SearchBasedDataGenerationReport cachedSearchReport =
+                        (SearchBasedDataGenerationReport) cachedResult.getReport();
+                assertEquals(cachedSearchReport.getNumEvaluations(),
+                        cachedSearchReport.getNumCacheHits() + cachedSearchReport.getNumCacheMisses());
+                numHits += cachedSearchReport.getNumCacheHits();
+            }
+        }
+        assertTrue(numHits > 0);
+    }
+}
@@ -0,0 +1,77 @@
+package org.schemaanalyst.unittest.data.generation.search;
+
+import org.junit.Test;
+import org.schemaanalyst.data.generation.cellinitialization.RandomCellInitializer;
+import org.schemaanalyst.data.generation.cellvaluegeneration.RandomCellValueGenerator;
+import org.schemaanalyst.data.generation.cellvaluegeneration.ValueInitializationProfile;
+import org.schemaanalyst.data.generation.search.AlternatingValueSearch;
+import org.schemaanalyst.data.generation.search.SearchBasedDataGenerator;
+import org.schemaanalyst.data.generation.search.termination.CombinedTerminationCriterion;
+import org.schemaanalyst.data.generation.search.termination.CounterTerminationCriterion;
+import org.schemaanalyst.data.generation.search.termination.OptimumTerminationCriterion;
+import org.schemaanalyst.data.ValueLibrary;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.DataGenerationResult;
+import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import org.schemaanalyst.util.random.SimpleRandom;
+import parsedcasestudy.BookTown;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestIncrementalEvaluation {
+
+    private static final int MAX_EVALUATIONS = 10000;
+
+    private TestSuiteGenerationReport generate(Schema schema, DBMS dbms,
+                                               TestRequirements testRequirements, boolean incremental) {
+        SimpleRandom random = new SimpleRandom(0);
+        RandomCellInitializer initializer = new RandomCellInitializer(
+                new RandomCellValueGenerator(random, ValueInitializationProfile.SMALL, 0.1, new ValueLibrary(), 0.25));
+
+        AlternatingValueSearch avs = new AlternatingValueSearch(random, initializer, initializer);
+        avs.setIncrementalEvaluation(incremental);
+        avs.setTerminationCriterion(new CombinedTerminationCriterion(
+                new CounterTerminationCriterion(avs.getEvaluationsCounter(), MAX_EVALUATIONS),
+                new OptimumTerminationCriterion<>(avs)));
+
+        TestSuiteGenerator generator = new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(), new SearchBasedDataGenerator(avs));
+        generator.generate();
+        return generator.getTestSuiteGenerationReport();
+    }
+
+    @Test
+    public void testSameSearchTrajectories() {
+        Schema schema = new BookTown();
+        DBMS dbms = new SQLiteDBMS();
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "ClauseAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+
+        TestSuiteGenerationReport fullReport = generate(schema, dbms, testRequirements, false);
+        TestSuiteGenerationReport incrementalReport = generate(schema, dbms, testRequirements, true);
+
+        List<TestRequirement> requirements = testRequirements.getTestRequirements();
+        for (TestRequirement testRequirement : requirements) {
+            DataGenerationResult fullResult = fullReport.getDataGenerationResult(testRequirement);
+            DataGenerationResult incrementalResult = incrementalReport.getDataGenerationResult(testRequirement);
+
+            if (fullResult == null) {
+                assertEquals(null, incrementalResult);
+            } else {
+                assertEquals(fullResult.getReport().isSuccess(), incrementalResult.getReport().isSuccess());
+                assertEquals(fullResult.getReport().getNumEvaluations(), incrementalResult.getReport().getNumEvaluations());
+                assertEquals(fullResult.getData().toString(), incrementalResult.getData().toString());
+            }
+        }
+    }
+}
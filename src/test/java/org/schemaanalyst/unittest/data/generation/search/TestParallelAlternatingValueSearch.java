@@ -0,0 +1,168 @@
+package org.schemaanalyst.unittest.data.generation.search;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.ValueLibrary;
+import org.schemaanalyst.data.generation.DataGeneratorFactory;
+import org.schemaanalyst.data.generation.cellinitialization.RandomCellInitializer;
+import org.schemaanalyst.data.generation.cellvaluegeneration.RandomCellValueGenerator;
+import org.schemaanalyst.data.generation.cellvaluegeneration.ValueInitializationProfile;
+import org.schemaanalyst.data.generation.search.AlternatingValueSearch;
+import org.schemaanalyst.data.generation.search.ParallelAlternatingValueSearch;
+import org.schemaanalyst.data.generation.search.ParallelSearchBasedDataGenerator;
+import org.schemaanalyst.data.generation.search.SearchException;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveFunction;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.predicate.PredicateObjectiveFunctionFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.DataGenerationResult;
+import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import org.schemaanalyst.util.random.SimpleRandom;
+import parsedcasestudy.BookTown;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestParallelAlternatingValueSearch {
+
+    private static final int NUM_CHAINS = 4;
+    private static final int MAX_EVALUATIONS = 10000;
+
+    class ConstantObjectiveFunction extends ObjectiveFunction<Data> {
+
+        double value;
+
+        ConstantObjectiveFunction(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public ObjectiveValue evaluate(Data data) {
+            ObjectiveValue objVal = new ObjectiveValue();
+            objVal.setValue(value);
+            return objVal;
+        }
+    }
+
+    private ParallelAlternatingValueSearch makeSearch(int numChains, int maxEvaluations) {
+        List<AlternatingValueSearch> chains = new ArrayList<>();
+        for (int i = 0; i < numChains; i++) {
+            SimpleRandom random = new SimpleRandom(i);
+            RandomCellInitializer initializer = new RandomCellInitializer(
+                    new RandomCellValueGenerator(random, ValueInitializationProfile.SMALL, 0.1, new ValueLibrary(), 0.25));
+            chains.add(new AlternatingValueSearch(random, initializer, initializer));
+        }
+        return new ParallelAlternatingValueSearch(chains, maxEvaluations);
+    }
+
+    private List<ObjectiveFunction<Data>> makeConstantObjectiveFunctions(int numChains, double value) {
+        List<ObjectiveFunction<Data>> objFuns = new ArrayList<>();
+        for (int i = 0; i < numChains; i++) {
+            objFuns.add(new ConstantObjectiveFunction(value));
+        }
+        return objFuns;
+    }
+
+    private Data makeData(Schema schema) {
+        Data data = new Data();
+        data.addRow(schema.getTable("books"), new SQLiteDBMS().getValueFactory());
+        return data;
+    }
+
+    @Test
+    public void testSharedEvaluationBudget() {
+        ParallelAlternatingValueSearch search = makeSearch(NUM_CHAINS, 1000);
+        search.setObjectiveFunctions(makeConstantObjectiveFunctions(NUM_CHAINS, 0.5));
+        search.initialize();
+        search.search(makeData(new BookTown()));
+
+        // each chain may overshoot the budget by its last evaluation
+        assertTrue(search.getNumEvaluations() >= 1000);
+        assertTrue(search.getNumEvaluations() < 1000 + NUM_CHAINS);
+        assertFalse(search.getBestObjectiveValue().isOptimal());
+    }
+
+    @Test
+    public void testStopsAtFirstOptimum() {
+        ParallelAlternatingValueSearch search = makeSearch(NUM_CHAINS, 1000);
+        search.setObjectiveFunctions(makeConstantObjectiveFunctions(NUM_CHAINS, 0));
+        search.initialize();
+        search.search(makeData(new BookTown()));
+
+        // every chain stops after at most its first evaluation
+        assertTrue(search.getNumEvaluations() <= NUM_CHAINS);
+        assertTrue(search.getBestObjectiveValue().isOptimal());
+    }
+
+    @Test
+    public void testMoreChainsThanThreads() {
+        // queued chains should stop at once when a chain has found an optimum
+        int numChains = Runtime.getRuntime().availableProcessors() + 2;
+        ParallelAlternatingValueSearch search = makeSearch(numChains, 1000);
+        search.setObjectiveFunctions(makeConstantObjectiveFunctions(numChains, 0));
+        search.initialize();
+        search.search(makeData(new BookTown()));
+
+        assertTrue(search.getNumEvaluations() <= numChains);
+        assertTrue(search.getBestObjectiveValue().isOptimal());
+    }
+
+    @Test
+    public void testFactoryNumChains() {
+        ParallelSearchBasedDataGenerator generator = (ParallelSearchBasedDataGenerator)
+                DataGeneratorFactory.instantiate("parallelAvs", 0, MAX_EVALUATIONS, new BookTown());
+        assertEquals("The number of chains should not depend on the machine",
+                DataGeneratorFactory.PARALLEL_AVS_CHAINS,
+                ((ParallelAlternatingValueSearch) generator.getSearch()).getNumChains());
+
+        generator = DataGeneratorFactory.makeParallelAlternatingValueSearch(0, MAX_EVALUATIONS, new BookTown(), 2);
+        assertEquals(2, ((ParallelAlternatingValueSearch) generator.getSearch()).getNumChains());
+    }
+
+    @Test(expected = SearchException.class)
+    public void testOneObjectiveFunctionPerChain() {
+        ParallelAlternatingValueSearch search = makeSearch(NUM_CHAINS, 1000);
+        search.setObjectiveFunction(new ConstantObjectiveFunction(0));
+    }
+
+    @Test
+    public void testGeneratedDataIsOptimal() {
+        Schema schema = new BookTown();
+        DBMS dbms = new SQLiteDBMS();
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "ClauseAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+
+        TestSuiteGenerator generator = new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(),
+                new ParallelSearchBasedDataGenerator(makeSearch(NUM_CHAINS, MAX_EVALUATIONS)));
+        generator.generate();
+        TestSuiteGenerationReport report = generator.getTestSuiteGenerationReport();
+
+        assertTrue(report.getNumTestRequirementsCovered() > 0);
+        for (TestRequirement testRequirement : testRequirements.getTestRequirements()) {
+            DataGenerationResult result = report.getDataGenerationResult(testRequirement);
+            if (result != null) {
+                assertTrue(result.getReport().getNumEvaluations() < MAX_EVALUATIONS + NUM_CHAINS);
+
+                // the data returned is the optimal solution found by a chain
+                if (result.getReport().isSuccess()) {
+                    ObjectiveFunction<Data> objFun = PredicateObjectiveFunctionFactory.createObjectiveFunction(
+                            testRequirement.getPredicate().reduce(), result.getState());
+                    assertTrue(objFun.evaluate(result.getData()).isOptimal());
+                }
+            }
+        }
+    }
+}
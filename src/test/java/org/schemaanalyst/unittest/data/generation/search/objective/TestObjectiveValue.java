@@ -3,6 +3,9 @@ package org.schemaanalyst.unittest.data.generation.search.objective;
 import org.junit.Test;
 import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
 
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -77,4 +80,24 @@ public class TestObjectiveValue {
         assertFalse(objVal2.betterThan(objVal1));
         assertFalse(objVal1.betterThan(objVal2));
     }
+
+    @Test
+    public void normalizedIntegers() {
+        BigDecimal one = BigDecimal.ONE;
+        for (int i = 0; i <= 2000; i++) {
+            BigDecimal value = BigDecimal.valueOf(i);
+            ObjectiveValue objVal = new ObjectiveValue("");
+            objVal.normalizeAndSetValue(value);
+            assertEquals(one.subtract(one.divide(one.add(value), 20, BigDecimal.ROUND_FLOOR)), objVal.getValue());
+        }
+    }
+
+    @Test
+    public void normalizedNonIntegers() {
+        ObjectiveValue objVal = new ObjectiveValue("");
+        objVal.normalizeAndSetValue(new BigDecimal("1.0"));
+        assertEquals(new BigDecimal("0.50000000000000000000"), objVal.getValue());
+        objVal.normalizeAndSetValue(new BigDecimal("-0.5"));
+        assertEquals(new BigDecimal("-1.00000000000000000000"), objVal.getValue());
+    }
 }
@@ -0,0 +1,93 @@
+package org.schemaanalyst.unittest.data.generation.search.objective.predicate;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.generation.search.objective.ObjectiveValue;
+import org.schemaanalyst.data.generation.search.objective.predicate.MatchPredicateObjectiveFunction;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.MatchPredicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.MatchPredicateChecker;
+import org.schemaanalyst.unittest.testutil.mock.TwoColumnMockDatabase;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestMatchPredicateObjectiveFunction {
+
+    private static final int NUM_TRIALS = 500;
+
+    private Integer[] randomValues(Random random, int numValues) {
+        Integer[] values = new Integer[numValues];
+        for (int i = 0; i < numValues; i++) {
+            int value = random.nextInt(4);
+            values[i] = (value == 3) ? null : value;
+        }
+        return values;
+    }
+
+    private void testIndexedSameAsPairwise(boolean matching, MatchPredicate.Mode mode) {
+        Random random = new Random(0);
+
+        for (int i = 0; i < NUM_TRIALS; i++) {
+            TwoColumnMockDatabase database = new TwoColumnMockDatabase();
+            database.createData(1 + random.nextInt(3));
+            database.createState(random.nextInt(4));
+            database.setDataValues(randomValues(random, database.data.getNumRows() * 2));
+            database.setStateValues(randomValues(random, database.state.getNumRows() * 2));
+
+            List<Column> columns = Arrays.asList(database.column1, database.column2);
+            MatchPredicate predicate = new MatchPredicate(
+                    database.table,
+                    matching ? columns : MatchPredicate.EMPTY_COLUMN_LIST,
+                    matching ? MatchPredicate.EMPTY_COLUMN_LIST : columns,
+                    mode);
+
+            testObjectiveFunction(predicate, database.data, database.state);
+            testChecker(predicate, database.data, database.state);
+        }
+    }
+
+    private void testObjectiveFunction(MatchPredicate predicate, Data data, Data state) {
+        MatchPredicateObjectiveFunction pairwise = new MatchPredicateObjectiveFunction(predicate, state);
+        pairwise.setIndexed(false);
+        MatchPredicateObjectiveFunction indexed = new MatchPredicateObjectiveFunction(predicate, state);
+
+        ObjectiveValue pairwiseObjVal = pairwise.evaluate(data);
+        ObjectiveValue indexedObjVal = indexed.evaluate(data);
+        assertEquals("Objective values should be the same for data \n" + data + "\nand state \n" + state,
+                0, pairwiseObjVal.compareTo(indexedObjVal));
+    }
+
+    private void testChecker(MatchPredicate predicate, Data data, Data state) {
+        MatchPredicateChecker pairwise = new MatchPredicateChecker(predicate, true, data, state);
+        pairwise.setIndexed(false);
+        MatchPredicateChecker indexed = new MatchPredicateChecker(predicate, true, data, state);
+
+        assertEquals(pairwise.check(), indexed.check());
+        assertEquals(pairwise.getMatchingCells().size(), indexed.getMatchingCells().size());
+        assertEquals(pairwise.getNonMatchingCells().size(), indexed.getNonMatchingCells().size());
+    }
+
+    @Test
+    public void testMatchingAndMode() {
+        testIndexedSameAsPairwise(true, MatchPredicate.Mode.AND);
+    }
+
+    @Test
+    public void testMatchingOrMode() {
+        testIndexedSameAsPairwise(true, MatchPredicate.Mode.OR);
+    }
+
+    @Test
+    public void testNonMatchingAndMode() {
+        testIndexedSameAsPairwise(false, MatchPredicate.Mode.AND);
+    }
+
+    @Test
+    public void testNonMatchingOrMode() {
+        testIndexedSameAsPairwise(false, MatchPredicate.Mode.OR);
+    }
+}
@@ -44,7 +44,14 @@ public class TestRelationalNumericValueObjectiveFunction {
                   
                 $("600.1", GREATER_OR_EQUALS, "600", ZERO),
                 $("500", GREATER_OR_EQUALS, "500", ZERO),
-                $("600", GREATER_OR_EQUALS, "600.1", new BigDecimal("0.1").add(K))
+                $("600", GREATER_OR_EQUALS, "600.1", new BigDecimal("0.1").add(K)),
+
+                $("-5", EQUALS, "7", new BigDecimal("12").add(K)),
+                $("7", EQUALS, "-5", new BigDecimal("12").add(K)),
+                $("-999999999999999999", LESS, "-999999999999999999", K),
+                $("999999999999999999", GREATER, "-999999999999999999", ZERO),
+                $("-999999999999999999", GREATER, "999999999999999999", new BigDecimal("1999999999999999998").add(K)),
+                $("12345678901234567890", LESS_OR_EQUALS, "1", new BigDecimal("12345678901234567889").add(K))
                 );
     }     
     
@@ -1,7 +1,15 @@
 package org.schemaanalyst.unittest.dbms;
 
+import org.schemaanalyst.data.BooleanValue;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.StringValue;
+import org.schemaanalyst.data.Value;
 import org.schemaanalyst.dbms.DatabaseInteractor;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -111,6 +119,65 @@ public abstract class AbstractTestDBMS {
         executeTest("Multi-column FOREIGN KEY test", setupStatements, testStatements, expectedResults);
     }
 
+    public void preparedInsertTest(boolean[] expectedResults) {
+        DatabaseInteractor databaseInteractor = getDatabaseInteractor();
+        databaseInteractor.execute("DROP TABLE IF EXISTS t");
+        databaseInteractor.execute("CREATE TABLE t(c1 INT UNIQUE, c2 VARCHAR(10), c3 BOOLEAN, CHECK(c1 > 0))");
+
+        String insert = "INSERT INTO t(c1, c2, c3) VALUES(?, ?, ?)";
+        List<List<Value>> testValues = Arrays.asList(
+                Arrays.<Value>asList(new NumericValue(1), new StringValue("a"), new BooleanValue(true)),
+                Arrays.<Value>asList(new NumericValue(1), new StringValue("b"), new BooleanValue(false)),
+                Arrays.<Value>asList(new NumericValue(0), new StringValue("c"), new BooleanValue(false)),
+                Arrays.<Value>asList(new NumericValue(2), null, null),
+                Arrays.<Value>asList(null, new StringValue("it's"), new BooleanValue(false))
+        );
+
+        if (expectedResults.length != testValues.size()) {
+            throw new RuntimeException("expectedResults array not same size as testValues");
+        }
+
+        for (int i = 0; i < testValues.size(); i++) {
+            Integer returnValue = databaseInteractor.executeInsert(insert, testValues.get(i));
+            String messageForTest = "Prepared INSERT " + i + " with values " + testValues.get(i)
+                    + " (return value was " + returnValue + ", expected result was " + expectedResults[i] + ")";
+            assertEquals(messageForTest, expectedResults[i], returnValue == 1);
+        }
+    }
+
+    public void batchInsertTest() {
+        DatabaseInteractor databaseInteractor = getDatabaseInteractor();
+        databaseInteractor.execute("DROP TABLE IF EXISTS t");
+        databaseInteractor.execute("CREATE TABLE t(c1 INT UNIQUE, c2 INT, CHECK(c2 > 0))");
+
+        List<String> inserts = Arrays.asList(
+                "INSERT INTO t(c1, c2) VALUES(1, 1)",
+                "INSERT INTO t(c1, c2) VALUES(2, 1)",
+                "INSERT INTO t(c1, c2) VALUES(1, 1)",  // violates UNIQUE
+                "INSERT INTO t(c1, c2) VALUES(3, 1)",
+                "INSERT INTO t(c1, c2) VALUES(4, 0)",  // violates CHECK
+                "INSERT INTO t(c1, c2) VALUES(4, 0)",  // violates CHECK
+                "INSERT INTO t(c1, c2) VALUES(3, 1)",  // violates UNIQUE, with a row inserted after a failure
+                "INSERT INTO t(c1, c2) VALUES(4, 1)"
+        );
+        int[] expectedResults = {1, 1, 0, 1, 0, 0, 0, 1};
+
+        int[] results = databaseInteractor.executeInsertsAsBatch(inserts);
+        assertEquals(Arrays.toString(expectedResults), Arrays.toString(results));
+        assertEquals(0, databaseInteractor.executeInsertsAsBatch(Arrays.<String>asList()).length);
+
+        // the rows of successful statements remain, so the batch has
+        // the same effect as executing the statements in turn
+        results = databaseInteractor.executeInsertsAsBatch(Arrays.asList(
+                "INSERT INTO t(c1, c2) VALUES(1, 1)",
+                "INSERT INTO t(c1, c2) VALUES(2, 1)",
+                "INSERT INTO t(c1, c2) VALUES(3, 1)",
+                "INSERT INTO t(c1, c2) VALUES(4, 1)",
+                "INSERT INTO t(c1, c2) VALUES(5, 1)"
+        ));
+        assertEquals(Arrays.toString(new int[]{0, 0, 0, 0, 1}), Arrays.toString(results));
+    }
+
     public void executeTest(String message, String[] setupStatements, String[] testStatements, boolean[] expectedResults) {
         DatabaseInteractor databaseInteractor = getDatabaseInteractor();
 
@@ -0,0 +1,100 @@
+package org.schemaanalyst.unittest.dbms;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.dbms.DBMSException;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class TestDatabaseInteractorIsolation {
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> dbmses() {
+        return Arrays.asList(new Object[][]{{"SQLite"}, {"HyperSQL"}});
+    }
+
+    private final String dbms;
+    private DatabaseInteractor interactor;
+
+    public TestDatabaseInteractorIsolation(String dbms) {
+        this.dbms = dbms;
+    }
+
+    @Before
+    public void setUp() {
+        interactor = DBMSFactory.instantiate(dbms).getDatabaseInteractor(
+                "test", new DatabaseConfiguration(), new LocationsConfiguration()).duplicate();
+        interactor.executeUpdate("DROP TABLE IF EXISTS t");
+        interactor.executeUpdate("CREATE TABLE t(c1 INT PRIMARY KEY)");
+    }
+
+    @After
+    public void tearDown() {
+        interactor.executeUpdate("DROP TABLE IF EXISTS t");
+        interactor.close();
+    }
+
+    @Test
+    public void testIsolatedInsertsAreRolledBack() {
+        assertTrue(interactor.supportsIsolation());
+        interactor.beginIsolation();
+        assertEquals(1, interactor.executeUpdate("INSERT INTO t VALUES(1)").intValue());
+        assertEquals("A failed INSERT should not affect the transaction",
+                0, interactor.executeUpdate("INSERT INTO t VALUES(1)").intValue());
+        assertEquals(1, interactor.executeUpdate("INSERT INTO t VALUES(2)").intValue());
+        interactor.endIsolation();
+
+        assertEquals("The row should have been rolled back",
+                1, interactor.executeUpdate("INSERT INTO t VALUES(1)").intValue());
+        assertEquals("The row should have been rolled back",
+                1, interactor.executeUpdate("INSERT INTO t VALUES(2)").intValue());
+    }
+
+    @Test
+    public void testRowsBeforeIsolationAreKept() {
+        interactor.executeUpdate("INSERT INTO t VALUES(1)");
+        interactor.beginIsolation();
+        assertEquals(0, interactor.executeUpdate("INSERT INTO t VALUES(1)").intValue());
+        interactor.endIsolation();
+        assertEquals(0, interactor.executeUpdate("INSERT INTO t VALUES(1)").intValue());
+    }
+
+    @Test
+    public void testIsolatedBatchIsRolledBack() {
+        interactor.beginIsolation();
+        int[] results = interactor.executeInsertsAsBatch(Arrays.asList(
+                "INSERT INTO t VALUES(1)",
+                "INSERT INTO t VALUES(2)",
+                "INSERT INTO t VALUES(1)",
+                "INSERT INTO t VALUES(3)"));
+        assertArrayEquals(new int[]{1, 1, 0, 1}, results);
+        assertEquals(0, interactor.executeUpdate("INSERT INTO t VALUES(3)").intValue());
+        interactor.endIsolation();
+
+        for (int i = 1; i <= 3; i++) {
+            assertEquals("The row should have been rolled back",
+                    1, interactor.executeUpdate("INSERT INTO t VALUES(" + i + ")").intValue());
+        }
+    }
+
+    @Test(expected = DBMSException.class)
+    public void testNestedIsolation() {
+        interactor.beginIsolation();
+        try {
+            interactor.beginIsolation();
+        } finally {
+            interactor.endIsolation();
+        }
+    }
+}
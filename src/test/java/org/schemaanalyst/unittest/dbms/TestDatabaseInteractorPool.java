@@ -0,0 +1,155 @@
+package org.schemaanalyst.unittest.dbms;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSException;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.DatabaseInteractorPool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestDatabaseInteractorPool {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DatabaseInteractorPool pool;
+
+    @Before
+    public void setUp() {
+        DBMS dbms = DBMSFactory.instantiate("SQLite");
+        DatabaseInteractor prototype = dbms.getDatabaseInteractor("test", new DatabaseConfiguration(), new LocationsConfiguration());
+        pool = new DatabaseInteractorPool(prototype, 1);
+    }
+
+    @Test
+    public void testBorrowedInteractorsAreDistinct() {
+        DatabaseInteractor first = pool.borrow();
+        DatabaseInteractor second = pool.borrow();
+        assertNotSame(first, second);
+        assertEquals(2, pool.getBorrowedCount());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testGivenBackInteractorIsReused() {
+        DatabaseInteractor first = pool.borrow();
+        first.executeUpdate("CREATE TABLE t (c INT)");
+        pool.giveBack(first);
+        assertEquals(1, pool.getIdleCount());
+
+        DatabaseInteractor second = pool.borrow();
+        assertSame(first, second);
+        assertEquals("The connection should be kept while the interactor is idle",
+                1, second.executeUpdate("INSERT INTO t VALUES (1)").intValue());
+        second.executeUpdate("DROP TABLE t");
+    }
+
+    @Test
+    public void testIdleInteractorsAreLimitedToSize() {
+        DatabaseInteractor first = pool.borrow();
+        DatabaseInteractor second = pool.borrow();
+        pool.giveBack(first);
+        pool.giveBack(second);
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(0, pool.getBorrowedCount());
+        assertSame(first, pool.borrow());
+    }
+
+    @Test
+    public void testBrokenInteractorIsReplaced() {
+        DatabaseInteractorPool stubPool = new DatabaseInteractorPool(new StubInteractor(), 1);
+        StubInteractor first = (StubInteractor) stubPool.borrow();
+        stubPool.giveBack(first);
+        first.breakConnection();
+        assertFalse(first.isConnectionValid());
+
+        DatabaseInteractor second = stubPool.borrow();
+        assertNotSame(first, second);
+        assertEquals(0, stubPool.getIdleCount());
+    }
+
+    @Test
+    public void testUnconnectedInteractorIsValid() {
+        DatabaseInteractor interactor = pool.borrow();
+        assertTrue(interactor.isConnectionValid());
+        interactor.close();
+        assertTrue("A closed interactor connects again when used", interactor.isConnectionValid());
+    }
+
+    @Test(expected = DBMSException.class)
+    public void testGiveBackUnknownInteractor() {
+        DatabaseInteractorPool other = new DatabaseInteractorPool(pool.borrow(), 1);
+        pool.giveBack(other.borrow());
+    }
+
+    @Test
+    public void testSharedPool() {
+        DBMS dbms = DBMSFactory.instantiate("SQLite");
+        DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration();
+        LocationsConfiguration locationsConfiguration = new LocationsConfiguration();
+        DatabaseInteractorPool shared = DatabaseInteractorPool.getPool(dbms, "TestDatabaseInteractorPool", databaseConfiguration, locationsConfiguration);
+        assertSame(shared, DatabaseInteractorPool.getPool(DBMSFactory.instantiate("SQLite"), "TestDatabaseInteractorPool", databaseConfiguration, locationsConfiguration));
+        assertNotSame(shared, DatabaseInteractorPool.getPool(dbms, "TestDatabaseInteractorPool2", databaseConfiguration, locationsConfiguration));
+        assertEquals(databaseConfiguration.getPoolSize(), shared.getSize());
+    }
+
+    @Test
+    public void testSharedPoolPerConnectionSettings() throws IOException {
+        DBMS dbms = DBMSFactory.instantiate("SQLite");
+        DatabaseConfiguration inMemory = new DatabaseConfiguration();
+        DatabaseConfiguration onDisk = configurationWith("sqlite_in_memory", inMemory.getSqliteInMemory() ? "false" : "true");
+        LocationsConfiguration locationsConfiguration = new LocationsConfiguration();
+        DatabaseInteractorPool shared = DatabaseInteractorPool.getPool(dbms, "TestDatabaseInteractorPool", inMemory, locationsConfiguration);
+        assertNotSame("Databases connected to with other settings should not share a pool",
+                shared, DatabaseInteractorPool.getPool(dbms, "TestDatabaseInteractorPool", onDisk, locationsConfiguration));
+        assertSame(shared, DatabaseInteractorPool.getPool(dbms, "TestDatabaseInteractorPool", new DatabaseConfiguration(), locationsConfiguration));
+    }
+
+    // the default database configuration, with one property changed
+    private DatabaseConfiguration configurationWith(String property, String value) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get("config/database.properties"), StandardCharsets.UTF_8)) {
+            lines.add(line.startsWith(property + "=") ? property + "=" + value : line);
+        }
+        File file = folder.newFile("database.properties");
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        return new DatabaseConfiguration(file.getPath());
+    }
+
+    private static class StubInteractor extends DatabaseInteractor {
+
+        StubInteractor() {
+            super(null, null);
+        }
+
+        @Override
+        public void initializeDatabaseConnection() {
+            initialized = true;
+        }
+
+        @Override
+        public DatabaseInteractor duplicate() {
+            return new StubInteractor();
+        }
+
+        void breakConnection() {
+            initialized = true;
+            connection = null;
+        }
+    }
+}
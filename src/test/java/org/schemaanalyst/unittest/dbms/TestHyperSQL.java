@@ -91,4 +91,21 @@ public class TestHyperSQL extends AbstractTestDBMS {
         multiColumnForeignKeyConstraintTest(results);
     }
 
+
+    @Test
+    public void preparedInsertTest() {
+        boolean[] results = {
+                true,  // 0. (1, 'a', TRUE)
+                false, // 1. (1, 'b', FALSE) -- violates UNIQUE
+                false, // 2. (0, 'c', FALSE) -- violates CHECK
+                true,  // 3. (2, NULL, NULL) -- statement is reused after failures
+                true   // 4. (NULL, 'it''s', FALSE)
+        };
+        preparedInsertTest(results);
+    }
+
+    @Test
+    public void batchInsertTest() {
+        super.batchInsertTest();
+    }
 }
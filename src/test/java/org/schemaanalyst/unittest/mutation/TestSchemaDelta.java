@@ -0,0 +1,208 @@
+package org.schemaanalyst.unittest.mutation;
+
+import org.junit.Test;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.MutationException;
+import org.schemaanalyst.mutation.SchemaDelta;
+import org.schemaanalyst.mutation.operator.FKCColumnPairR;
+import org.schemaanalyst.mutation.operator.NNCAR;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.constraint.Constraint;
+import org.schemaanalyst.sqlrepresentation.constraint.NotNullConstraint;
+import org.schemaanalyst.sqlrepresentation.constraint.UniqueConstraint;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestSchemaDelta {
+
+    private Schema schema = new Schema("s");
+    private Table t1 = schema.createTable("t1");
+    private Column a = t1.createColumn("a", new IntDataType());
+    private Column b = t1.createColumn("b", new IntDataType());
+    private Table t2 = schema.createTable("t2");
+    private Column c = t2.createColumn("c", new IntDataType());
+    private Column d = t2.createColumn("d", new IntDataType());
+
+    private void assertDescribesMutant(Mutant<Schema> mutant) {
+        SchemaDelta delta = (SchemaDelta) mutant.getDelta();
+        assertNotNull("Mutant " + mutant + " should have a delta", delta);
+        Schema mutantSchema = mutant.getMutatedArtefact();
+        Constraint removed = delta.getRemovedConstraint();
+        Constraint added = delta.getAddedConstraint();
+        if (removed != null) {
+            assertTrue(containsIdentical(schema.getConstraints(), removed));
+            assertFalse(containsIdentical(mutantSchema.getConstraints(), removed));
+        }
+        if (added != null) {
+            assertFalse(containsIdentical(schema.getConstraints(), added));
+            assertTrue(containsIdentical(mutantSchema.getConstraints(), added));
+        }
+        assertEquals(schema.getConstraints().size() - (removed == null ? 0 : 1) + (added == null ? 0 : 1),
+                mutantSchema.getConstraints().size());
+        assertTrue(delta.describes(schema, mutantSchema));
+
+        // applying the delta to a copy of the original gives the mutant, and undoing it the original
+        Schema working = schema.shallowDuplicate();
+        delta.apply(working);
+        assertSameConstraints(mutantSchema, working);
+        delta.undo(working);
+        assertSameConstraints(schema, working);
+    }
+
+    private void assertSameConstraints(Schema expected, Schema actual) {
+        for (Table table : expected.getTables()) {
+            List<Constraint> expectedConstraints = expected.getConstraints(table);
+            List<Constraint> actualConstraints = actual.getConstraints(table);
+            assertEquals(expectedConstraints.size(), actualConstraints.size());
+            for (int i = 0; i < expectedConstraints.size(); i++) {
+                assertSame(expectedConstraints.get(i), actualConstraints.get(i));
+            }
+        }
+    }
+
+    private boolean containsIdentical(List<Constraint> constraints, Constraint constraint) {
+        for (Constraint other : constraints) {
+            if (other == constraint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testOperatorDeltas() {
+        schema.createNotNullConstraint(t1, a);
+        schema.createNotNullConstraint(t2, d);
+        schema.createForeignKeyConstraint(t2, c, t1, a);
+        schema.createForeignKeyConstraint(t2, d, t1, b);
+
+        NNCAR nncar = new NNCAR(schema);
+        List<Mutant<Schema>> mutants = nncar.mutate();
+        assertEquals(4, mutants.size());
+        for (Mutant<Schema> mutant : mutants) {
+            assertSame(nncar, mutant.getMutantProducer());
+            assertDescribesMutant(mutant);
+        }
+
+        FKCColumnPairR fkcColumnPairR = new FKCColumnPairR(schema);
+        mutants = fkcColumnPairR.mutate();
+        assertEquals(2, mutants.size());
+        for (Mutant<Schema> mutant : mutants) {
+            assertSame(fkcColumnPairR, mutant.getMutantProducer());
+            assertDescribesMutant(mutant);
+        }
+    }
+
+    @Test
+    public void testReplacement() {
+        UniqueConstraint first = schema.createUniqueConstraint(t1, a);
+        UniqueConstraint second = schema.createUniqueConstraint(t1, b);
+        Schema mutant = schema.shallowDuplicate();
+        UniqueConstraint mutated = mutant.unshare(first);
+        mutated.setColumns(Arrays.asList(a, b));
+
+        SchemaDelta delta = SchemaDelta.between(schema, mutant);
+        assertSame(first, delta.getRemovedConstraint());
+        assertSame(mutated, delta.getAddedConstraint());
+        assertSame(mutated, delta.getChangedConstraint());
+        assertSame(t1, delta.getTable());
+        assertEquals(Arrays.asList(first, second), schema.getUniqueConstraints(t1));
+    }
+
+    @Test
+    public void testRemovalAndAddition() {
+        UniqueConstraint first = schema.createUniqueConstraint(t1, a);
+        UniqueConstraint second = schema.createUniqueConstraint(t1, b);
+
+        Schema removed = schema.shallowDuplicate();
+        removed.removeUniqueConstraint(first);
+        SchemaDelta removal = SchemaDelta.between(schema, removed);
+        assertSame(first, removal.getRemovedConstraint());
+        assertNull(removal.getAddedConstraint());
+        assertSame(first, removal.getChangedConstraint());
+        assertSame(t1, removal.getTable());
+
+        Schema added = schema.shallowDuplicate();
+        UniqueConstraint third = added.createUniqueConstraint(t2, c);
+        SchemaDelta addition = SchemaDelta.between(schema, added);
+        assertNull(addition.getRemovedConstraint());
+        assertSame(third, addition.getAddedConstraint());
+        assertSame(t2, addition.getTable());
+    }
+
+    @Test
+    public void testMovedConstraint() {
+        UniqueConstraint first = schema.createUniqueConstraint(t1, a);
+        UniqueConstraint second = schema.createUniqueConstraint(t1, b);
+        Schema mutant = schema.shallowDuplicate();
+        UniqueConstraint mutated = mutant.unshare(first);
+        mutant.removeUniqueConstraint(mutated);
+        mutated.setColumns(Arrays.asList(a, b));
+        mutant.addUniqueConstraint(mutated);
+
+        SchemaDelta delta = SchemaDelta.between(schema, mutant);
+        assertSame(first, delta.getRemovedConstraint());
+        assertSame(mutated, delta.getAddedConstraint());
+        assertEquals(Arrays.asList(second, mutated), mutant.getUniqueConstraints(t1));
+
+        delta.apply(schema);
+        assertSameConstraints(mutant, schema);
+        delta.undo(schema);
+        assertSame(first, schema.getUniqueConstraints(t1).get(0));
+        assertSame(second, schema.getUniqueConstraints(t1).get(1));
+    }
+
+    @Test
+    public void testChangedMutantNotDescribed() {
+        UniqueConstraint first = schema.createUniqueConstraint(t1, a);
+        schema.createNotNullConstraint(t2, c);
+        Schema mutant = schema.shallowDuplicate();
+        mutant.removeUniqueConstraint(first);
+        SchemaDelta delta = SchemaDelta.between(schema, mutant);
+        assertTrue(delta.describes(schema, mutant));
+
+        // e.g. a remover takes out another constraint after the delta is recorded
+        mutant.removeNotNullConstraint(new NotNullConstraint(t2, c));
+        assertFalse("A delta should not describe a mutant changed after it was recorded",
+                delta.describes(schema, mutant));
+    }
+
+    @Test(expected = MutationException.class)
+    public void testUndoWithoutApply() {
+        UniqueConstraint first = schema.createUniqueConstraint(t1, a);
+        Schema mutant = schema.shallowDuplicate();
+        mutant.unshare(first).setColumns(Arrays.asList(a, b));
+        SchemaDelta.between(schema, mutant).undo(schema.shallowDuplicate());
+    }
+
+    @Test
+    public void testNoDelta() {
+        UniqueConstraint first = schema.createUniqueConstraint(t1, a);
+        assertNull("A schema does not differ from itself",
+                SchemaDelta.between(schema, schema.shallowDuplicate()));
+        assertNull("A deep copy does not share the tables of the original",
+                SchemaDelta.between(schema, schema.duplicate()));
+
+        Schema mutant = schema.shallowDuplicate();
+        mutant.removeUniqueConstraint(first);
+        mutant.createNotNullConstraint(t2, c);
+        assertNull("A delta only changes one constraint",
+                SchemaDelta.between(schema, mutant));
+    }
+
+    @Test(expected = MutationException.class)
+    public void testNoConstraint() {
+        new SchemaDelta(null, 0, null, 0);
+    }
+
+    @Test(expected = MutationException.class)
+    public void testReplacementByOtherKind() {
+        new SchemaDelta(new UniqueConstraint(t1, a), 0, new NotNullConstraint(t1, a), 0);
+    }
+}
@@ -0,0 +1,69 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor;
+
+import org.junit.Test;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.MutationAnalysisVirtual;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.VirtualTestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TestMutationAnalysisVirtual {
+
+    // runs the steps of the analysis of a case study, without the timing and
+    // the results file
+    private static class Analysis extends MutationAnalysisVirtual {
+
+        private final List<Integer> killed = new ArrayList<>();
+        private final List<Integer> live = new ArrayList<>();
+
+        public Analysis(String casestudy, int threads) {
+            this.casestudy = casestudy;
+            this.threads = threads;
+            this.databaseConfiguration = new DatabaseConfiguration();
+        }
+
+        public void run() {
+            instantiateParameters();
+            TestSuite suite = instantiateTestSuite();
+            List<Mutant<Schema>> mutants = generateMutants();
+            VirtualTestSuiteResult originalResult = executeTestSuite(schema, suite);
+            AnalysisResult result = analyse(suite, mutants, originalResult);
+
+            Map<Mutant<Schema>, Integer> positions = new IdentityHashMap<>();
+            for (int i = 0; i < mutants.size(); i++) {
+                positions.put(mutants.get(i), i);
+            }
+            for (Mutant<Schema> mutant : result.getKilled()) {
+                killed.add(positions.get(mutant));
+            }
+            for (Mutant<Schema> mutant : result.getLive()) {
+                live.add(positions.get(mutant));
+            }
+        }
+    }
+
+    @Test
+    public void testSameResultsWithThreads() {
+        Analysis serial = new Analysis("parsedcasestudy.BookTown", 1);
+        serial.run();
+        assertFalse("Some mutants of the schema should be killed", serial.killed.isEmpty());
+        assertFalse("Some mutants of the schema should be live", serial.live.isEmpty());
+
+        Analysis parallel = new Analysis("parsedcasestudy.BookTown", 4);
+        parallel.run();
+        assertEquals("The killed mutants should be the same, in the same order, with 4 threads",
+                serial.killed, parallel.killed);
+        assertEquals("The live mutants should be the same, in the same order, with 4 threads",
+                serial.live, parallel.live);
+    }
+}
@@ -0,0 +1,120 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.technique;
+
+import org.junit.Test;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.data.generation.DataGenerator;
+import org.schemaanalyst.data.generation.DataGeneratorFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.MinimalSchemataTechnique;
+import org.schemaanalyst.mutation.analysis.executor.technique.ParallelMinimalSchemataTechnique;
+import org.schemaanalyst.mutation.analysis.executor.technique.Technique;
+import org.schemaanalyst.mutation.analysis.executor.testcase.DeletingTestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.DeletingTestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.mutation.pipeline.MutationPipeline;
+import org.schemaanalyst.mutation.pipeline.MutationPipelineFactory;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import parsedcasestudy.Flights;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TestParallelMinimalSchemataTechnique {
+
+    private final Schema schema = new Flights();
+
+    // the positions of the killed and live mutants in the list of mutants
+    private static class Verdicts {
+
+        private final List<Integer> killed = new ArrayList<>();
+        private final List<Integer> live = new ArrayList<>();
+
+        public Verdicts(List<Mutant<Schema>> mutants, AnalysisResult result) {
+            Map<Mutant<Schema>, Integer> positions = new IdentityHashMap<>();
+            for (int i = 0; i < mutants.size(); i++) {
+                positions.put(mutants.get(i), i);
+            }
+            for (Mutant<Schema> mutant : result.getKilled()) {
+                killed.add(positions.get(mutant));
+            }
+            for (Mutant<Schema> mutant : result.getLive()) {
+                live.add(positions.get(mutant));
+            }
+        }
+    }
+
+    private TestSuite generateTestSuite(DBMS dbms) {
+        DataGenerator dataGenerator = DataGeneratorFactory.instantiate("avsDefaults", 0L, 100000, schema);
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion("CondAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+        return new TestSuiteGenerator(schema, testRequirements, dbms.getValueFactory(), dataGenerator).generate();
+    }
+
+    private List<Mutant<Schema>> generateMutants(String dbmsName) throws Exception {
+        MutationPipeline<Schema> pipeline = MutationPipelineFactory.<Schema>instantiate("AllOperatorsWithRemovers", schema, dbmsName);
+        return pipeline.mutate();
+    }
+
+    // analyses a fresh set of mutants, as the techniques rename their tables
+    private Verdicts analyse(DBMS dbms, TestSuite testSuite, TestSuiteResult originalResults, boolean parallel, int threads) throws Exception {
+        List<Mutant<Schema>> mutants = generateMutants(dbms.getName());
+        DatabaseInteractor interactor = dbms.getDatabaseInteractor("testparallel", new DatabaseConfiguration(), new LocationsConfiguration());
+        try {
+            Technique technique = parallel
+                    ? new ParallelMinimalSchemataTechnique(schema, mutants, testSuite, dbms, interactor, false)
+                    : new MinimalSchemataTechnique(schema, mutants, testSuite, dbms, interactor, false);
+            technique.setThreads(threads);
+            return new Verdicts(mutants, technique.analyse(originalResults));
+        } finally {
+            interactor.close();
+        }
+    }
+
+    private void assertSameAsMinimalSchemata(String dbmsName) throws Exception {
+        DBMS dbms = DBMSFactory.instantiate(dbmsName);
+        TestSuite testSuite = generateTestSuite(dbms);
+        DatabaseInteractor interactor = dbms.getDatabaseInteractor("testparallel", new DatabaseConfiguration(), new LocationsConfiguration());
+        TestSuiteResult originalResults;
+        try {
+            originalResults = new DeletingTestSuiteExecutor().executeTestSuite(new DeletingTestCaseExecutor(schema, dbms, interactor), testSuite);
+        } finally {
+            interactor.close();
+        }
+
+        Verdicts expected = analyse(dbms, testSuite, originalResults, false, 1);
+        assertFalse("Some mutants of the schema should be killed", expected.killed.isEmpty());
+        assertFalse("Some mutants of the schema should be live", expected.live.isEmpty());
+        for (int threads : new int[]{1, 4}) {
+            Verdicts actual = analyse(dbms, testSuite, originalResults, true, threads);
+            assertEquals("The killed mutants with " + threads + " threads should be those of minimal schemata",
+                    expected.killed, actual.killed);
+            assertEquals("The live mutants with " + threads + " threads should be those of minimal schemata",
+                    expected.live, actual.live);
+        }
+    }
+
+    @Test
+    public void testSameResultsSQLite() throws Exception {
+        assertSameAsMinimalSchemata("SQLite");
+    }
+
+    @Test
+    public void testSameResultsHyperSQL() throws Exception {
+        assertSameAsMinimalSchemata("HyperSQL");
+    }
+}
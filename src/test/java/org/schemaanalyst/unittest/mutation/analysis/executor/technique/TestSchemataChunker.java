@@ -0,0 +1,140 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.technique;
+
+import org.junit.Test;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.technique.SchemataChunker;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TestSchemataChunker {
+
+    private final DBMS dbms = DBMSFactory.instantiate("SQLite");
+
+    // a schema with the given number of tables, each with a primary key
+    private Mutant<Schema> mutant(int numTables) {
+        Schema schema = new Schema("s");
+        for (int i = 0; i < numTables; i++) {
+            Table table = schema.createTable("t" + i);
+            Column column = table.createColumn("id", new IntDataType());
+            schema.createPrimaryKeyConstraint(table, column);
+        }
+        return new Mutant<>(schema, "");
+    }
+
+    private List<SchemataChunker.Chunk> chunks(SchemataChunker chunker) {
+        List<SchemataChunker.Chunk> chunks = new ArrayList<>();
+        SchemataChunker.Chunk chunk;
+        while ((chunk = chunker.nextChunk()) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    @Test
+    public void testCost() {
+        assertEquals("The cost should be the number of tables and constraints",
+                6, SchemataChunker.cost(mutant(3).getMutatedArtefact()));
+    }
+
+    @Test
+    public void testChunksWithinBudget() {
+        List<Mutant<Schema>> mutants = Arrays.asList(mutant(1), mutant(2), mutant(1), mutant(3), mutant(1));
+        List<SchemataChunker.Chunk> chunks = chunks(new SchemataChunker(mutants, dbms, 6));
+
+        assertEquals("There should be four chunks", 4, chunks.size());
+        assertEquals(0, chunks.get(0).getStart());
+        assertEquals(6, chunks.get(0).getCost());
+        assertEquals(2, chunks.get(1).getStart());
+        assertEquals(2, chunks.get(1).getCost());
+        assertEquals(3, chunks.get(2).getStart());
+        assertEquals(6, chunks.get(2).getCost());
+        assertEquals(4, chunks.get(3).getStart());
+        assertEquals(2, chunks.get(3).getCost());
+
+        int position = 0;
+        for (SchemataChunker.Chunk chunk : chunks) {
+            for (Mutant<Schema> mutant : chunk.getMutants()) {
+                assertSame("The chunks should hold the mutants in order", mutants.get(position++), mutant);
+            }
+        }
+        assertEquals("Every mutant should be in a chunk", mutants.size(), position);
+    }
+
+    @Test
+    public void testMutantOverBudgetGetsOwnChunk() {
+        List<Mutant<Schema>> mutants = Arrays.asList(mutant(1), mutant(5), mutant(1));
+        List<SchemataChunker.Chunk> chunks = chunks(new SchemataChunker(mutants, dbms, 4));
+
+        assertEquals("A mutant over the budget should be a chunk by itself", 3, chunks.size());
+        assertEquals(1, chunks.get(1).getMutants().size());
+        assertEquals(10, chunks.get(1).getCost());
+    }
+
+    @Test
+    public void testGivenBudgetNotTuned() {
+        List<Mutant<Schema>> mutants = Arrays.asList(mutant(1), mutant(1), mutant(1));
+        SchemataChunker chunker = new SchemataChunker(mutants, dbms, 4);
+        SchemataChunker.Chunk chunk = chunker.nextChunk();
+        chunker.recordLatency(chunk, 100, 10, 100);
+        chunker.recordLatency(chunk, 1000, 10, 1000);
+        assertEquals("A given budget should not be tuned", 4, chunker.getBudget());
+    }
+
+    @Test
+    public void testBudgetTuned() {
+        List<Mutant<Schema>> mutants = Arrays.asList(mutant(1), mutant(1), mutant(1));
+        SchemataChunker chunker = new SchemataChunker(mutants, dbms, 0);
+        int budget = SchemataChunker.defaultBudget(dbms);
+        assertEquals("The budget should start as the budget for the DBMS", budget, chunker.getBudget());
+
+        SchemataChunker.Chunk chunk = chunker.nextChunk();
+        for (int i = 1; i < SchemataChunker.WARM_UP_CHUNKS; i++) {
+            chunker.recordLatency(chunk, 100, 10, 100);
+        }
+        assertEquals("The budget should not grow during the warm-up", budget, chunker.getBudget());
+
+        chunker.recordLatency(chunk, 100, 10, 100);
+        assertEquals("The budget should grow while latency is flat", budget * 2, chunker.getBudget());
+
+        chunker.recordLatency(chunk, 100, 10, 1000);
+        assertEquals("The budget should shrink when test case latency degrades", budget, chunker.getBudget());
+
+        chunker.recordLatency(chunk, 1000, 10, 100);
+        assertEquals("The budget should shrink when create latency degrades", budget / 2, chunker.getBudget());
+
+        for (int i = 0; i < 10; i++) {
+            chunker.recordLatency(chunk, 100, 10, 100);
+        }
+        assertEquals("The budget should not grow past its limit",
+                budget * SchemataChunker.MAX_BUDGET_FACTOR, chunker.getBudget());
+        assertNull("There should only be one chunk", chunker.nextChunk());
+    }
+
+    @Test
+    public void testInMemoryBudgetNotGrown() {
+        DBMS hyperSQL = DBMSFactory.instantiate("HyperSQL");
+        SchemataChunker chunker = new SchemataChunker(Arrays.asList(mutant(1)), hyperSQL, 0);
+        SchemataChunker.Chunk chunk = chunker.nextChunk();
+        for (int i = 0; i < 10; i++) {
+            chunker.recordLatency(chunk, 100, 10, 100);
+        }
+        assertEquals("The budget should not grow for an in-memory DBMS",
+                SchemataChunker.defaultBudget(hyperSQL), chunker.getBudget());
+
+        chunker.recordLatency(chunk, 1000, 10, 100);
+        assertEquals("The budget should still shrink for an in-memory DBMS",
+                SchemataChunker.defaultBudget(hyperSQL) / 2, chunker.getBudget());
+    }
+}
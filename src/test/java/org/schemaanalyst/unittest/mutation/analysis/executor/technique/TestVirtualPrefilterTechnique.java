@@ -0,0 +1,291 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.technique;
+
+import org.junit.After;
+import org.junit.Test;
+import org.schemaanalyst.configuration.DatabaseConfiguration;
+import org.schemaanalyst.configuration.LocationsConfiguration;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DatabaseInteractor;
+import org.schemaanalyst.dbms.postgres.PostgresDBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.logic.RelationalOperator;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.SchemaDelta;
+import org.schemaanalyst.mutation.analysis.executor.technique.AnalysisResult;
+import org.schemaanalyst.mutation.analysis.executor.technique.VirtualPrefilterTechnique;
+import org.schemaanalyst.mutation.analysis.executor.testcase.DeletingTestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.DeletingTestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.MutantSubsumptionGraph;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.DecimalDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.RealDataType;
+import org.schemaanalyst.sqlrepresentation.datatype.VarCharDataType;
+import org.schemaanalyst.sqlrepresentation.expression.BetweenExpression;
+import org.schemaanalyst.sqlrepresentation.expression.ColumnExpression;
+import org.schemaanalyst.sqlrepresentation.expression.ConstantExpression;
+import org.schemaanalyst.sqlrepresentation.expression.Expression;
+import org.schemaanalyst.sqlrepresentation.expression.InExpression;
+import org.schemaanalyst.sqlrepresentation.expression.ListExpression;
+import org.schemaanalyst.sqlrepresentation.expression.RelationalExpression;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestVirtualPrefilterTechnique {
+
+    private Schema schema = new Schema("s");
+    private Table parent = schema.createTable("vp_parent");
+    private Column parentId = parent.createColumn("id", new IntDataType());
+    private Column parentA = parent.createColumn("a", new IntDataType());
+    private Column parentName = parent.createColumn("name", new VarCharDataType(10));
+    private Column parentPrice = parent.createColumn("price", new DecimalDataType(5, 2));
+    private Column parentRatio = parent.createColumn("ratio", new RealDataType());
+    private Table child = schema.createTable("vp_child");
+    private Column childId = child.createColumn("id", new IntDataType());
+    private Column childParent = child.createColumn("parent", new IntDataType());
+    private Column childCode = child.createColumn("code", new VarCharDataType(10));
+
+    private TestSuite testSuite = new TestSuite();
+    private DatabaseInteractor databaseInteractor;
+
+    public TestVirtualPrefilterTechnique() {
+        schema.createPrimaryKeyConstraint(parent, parentId);
+        schema.createPrimaryKeyConstraint(child, childId);
+
+        // the test suite inserts a NULL into parent.a, and two rows with the same a
+        Data data = new Data();
+        addRow(data, parent, 1, null);
+        addRow(data, child, 1, 1);
+        testSuite.addTestCase(new TestCase(null, data, new Data()));
+        data = new Data();
+        addRow(data, parent, 2, 5);
+        addRow(data, parent, 3, 5);
+        testSuite.addTestCase(new TestCase(null, data, new Data()));
+    }
+
+    @After
+    public void tearDown() {
+        if (databaseInteractor != null) {
+            databaseInteractor.close();
+        }
+    }
+
+    private void addRow(Data data, Table table, int id, Integer value) {
+        Row row = data.addRow(table, new ValueFactory());
+        ((NumericValue) row.getCells().get(0).getValue()).set(id);
+        if (value == null) {
+            row.getCells().get(1).setNull(true);
+        } else {
+            ((NumericValue) row.getCells().get(1).getValue()).set(value);
+        }
+    }
+
+    private Mutant<Schema> mutant(Schema mutantSchema) {
+        Mutant<Schema> mutant = new Mutant<>(mutantSchema, "");
+        mutant.setDelta(SchemaDelta.between(schema, mutantSchema));
+        return mutant;
+    }
+
+    private Mutant<Schema> foreignKeyMutant(Column column, Column referenceColumn) {
+        Schema mutantSchema = schema.shallowDuplicate();
+        mutantSchema.createForeignKeyConstraint(child, column, parent, referenceColumn);
+        return mutant(mutantSchema);
+    }
+
+    private Mutant<Schema> uniqueMutant(Column column) {
+        Schema mutantSchema = schema.shallowDuplicate();
+        mutantSchema.createUniqueConstraint(parent, column);
+        return mutant(mutantSchema);
+    }
+
+    private Mutant<Schema> checkMutant(Expression expression) {
+        Schema mutantSchema = schema.shallowDuplicate();
+        mutantSchema.createCheckConstraint(parent, expression);
+        return mutant(mutantSchema);
+    }
+
+    private Expression in(Column column, boolean notIn) {
+        return new InExpression(new ColumnExpression(parent, column),
+                new ListExpression(constant(1), constant(2), constant(3)), notIn);
+    }
+
+    private Expression between(Column column, boolean notBetween) {
+        return new BetweenExpression(new ColumnExpression(parent, column),
+                constant(1), constant(2), notBetween, false);
+    }
+
+    private ConstantExpression constant(int value) {
+        return new ConstantExpression(new NumericValue(value));
+    }
+
+    private VirtualPrefilterTechnique technique(DBMS dbms, List<Mutant<Schema>> mutants) {
+        return new VirtualPrefilterTechnique(schema, mutants, testSuite, dbms, databaseInteractor, false);
+    }
+
+    private VirtualPrefilterTechnique technique(Mutant<Schema> mutant) {
+        return technique(new SQLiteDBMS(), Arrays.asList(mutant));
+    }
+
+    private TestSuiteResult createInteractorAndExecuteOriginal() {
+        databaseInteractor = new SQLiteDBMS().getDatabaseInteractor(
+                "test", new DatabaseConfiguration(), new LocationsConfiguration()).duplicate();
+        return new DeletingTestSuiteExecutor().executeTestSuite(
+                new DeletingTestCaseExecutor(schema, new SQLiteDBMS(), databaseInteractor), testSuite);
+    }
+
+    private void assertSameMutants(List<Mutant<Schema>> expected, List<Mutant<Schema>> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    private List<Mutant<Schema>> certainMutants() {
+        return new ArrayList<>(Arrays.asList(
+                uniqueMutant(parentA),
+                uniqueMutant(parentId),
+                checkMutant(in(parentId, false))));
+    }
+
+    @Test
+    public void testForeignKeyToNonKeyColumn() {
+        assertTrue("A foreign key to a column that is not a key is uncertain",
+                technique(foreignKeyMutant(childParent, parentA)).isUncertain(foreignKeyMutant(childParent, parentA)));
+        assertFalse("A foreign key to a key is certain",
+                technique(foreignKeyMutant(childParent, parentId)).isUncertain(foreignKeyMutant(childParent, parentId)));
+    }
+
+    @Test
+    public void testRoundedKeys() {
+        Mutant<Schema> numericKey = uniqueMutant(parentPrice);
+        assertTrue("A key on a NUMERIC column is uncertain", technique(numericKey).isUncertain(numericKey));
+        Mutant<Schema> realKey = uniqueMutant(parentRatio);
+        assertTrue("A key on a REAL column is uncertain", technique(realKey).isUncertain(realKey));
+        Mutant<Schema> integerKey = uniqueMutant(parentA);
+        assertFalse("A key on an INTEGER column is certain", technique(integerKey).isUncertain(integerKey));
+    }
+
+    @Test
+    public void testNegatedListOrRangeWithNull() {
+        Mutant<Schema> notIn = checkMutant(in(parentA, true));
+        assertTrue("A NOT IN on a column with a NULL is uncertain", technique(notIn).isUncertain(notIn));
+        Mutant<Schema> notBetween = checkMutant(between(parentA, true));
+        assertTrue("A NOT BETWEEN on a column with a NULL is uncertain", technique(notBetween).isUncertain(notBetween));
+
+        Mutant<Schema> in = checkMutant(in(parentA, false));
+        assertFalse("An IN on a column with a NULL is certain", technique(in).isUncertain(in));
+        Mutant<Schema> notInWithoutNull = checkMutant(in(parentId, true));
+        assertFalse("A NOT IN on a column without a NULL is certain",
+                technique(notInWithoutNull).isUncertain(notInWithoutNull));
+        Mutant<Schema> notBetweenWithoutNull = checkMutant(between(parentId, true));
+        assertFalse("A NOT BETWEEN on a column without a NULL is certain",
+                technique(notBetweenWithoutNull).isUncertain(notBetweenWithoutNull));
+    }
+
+    @Test
+    public void testSQLiteAffinityMismatch() {
+        Mutant<Schema> foreignKey = foreignKeyMutant(childCode, parentId);
+        assertTrue("A foreign key from TEXT to INTEGER is uncertain for SQLite",
+                technique(foreignKey).isUncertain(foreignKey));
+        assertFalse("A foreign key from TEXT to INTEGER is certain for Postgres",
+                technique(new PostgresDBMS(), Arrays.asList(foreignKey)).isUncertain(foreignKey));
+
+        Mutant<Schema> check = checkMutant(new RelationalExpression(
+                new ColumnExpression(parent, parentName), RelationalOperator.GREATER, constant(5)));
+        assertTrue("A CHECK comparing TEXT with a number is uncertain for SQLite",
+                technique(check).isUncertain(check));
+        assertFalse("A CHECK comparing TEXT with a number is certain for Postgres",
+                technique(new PostgresDBMS(), Arrays.asList(check)).isUncertain(check));
+    }
+
+    @Test
+    public void testCertainMutantsSkipDBMS() {
+        TestSuiteResult originalResults = createInteractorAndExecuteOriginal();
+        List<Mutant<Schema>> mutants = certainMutants();
+        VirtualPrefilterTechnique technique = technique(new SQLiteDBMS(), mutants);
+        for (Mutant<Schema> mutant : mutants) {
+            assertFalse(technique.isUncertain(mutant));
+        }
+
+        long interactions = databaseInteractor.getTotalInteractions();
+        AnalysisResult result = technique.analyse(originalResults);
+        assertEquals("Certain mutants should not be analysed on the DBMS",
+                interactions, databaseInteractor.getTotalInteractions());
+        assertSameMutants(Arrays.asList(mutants.get(0)), result.getKilled());
+        assertSameMutants(Arrays.asList(mutants.get(1), mutants.get(2)), result.getLive());
+
+        Mutant<Schema> uncertain = uniqueMutant(parentPrice);
+        technique(uncertain).analyse(originalResults);
+        assertTrue("Uncertain mutants should be analysed on the DBMS",
+                databaseInteractor.getTotalInteractions() > interactions);
+    }
+
+    @Test
+    public void testVerdictsInMutantOrder() {
+        TestSuiteResult originalResults = createInteractorAndExecuteOriginal();
+        List<Mutant<Schema>> mutants = certainMutants();
+        Mutant<Schema> uncertain = foreignKeyMutant(childParent, parentA);
+        mutants.add(0, uncertain);
+        VirtualPrefilterTechnique technique = technique(new SQLiteDBMS(), mutants);
+        assertTrue(technique.isUncertain(uncertain));
+
+        AnalysisResult result = technique.analyse(originalResults);
+        assertSameMutants(Arrays.asList(uncertain, mutants.get(1)), result.getKilled());
+        assertSameMutants(Arrays.asList(mutants.get(2), mutants.get(3)), result.getLive());
+    }
+
+    @Test
+    public void testAuditRate() {
+        TestSuiteResult originalResults = createInteractorAndExecuteOriginal();
+        List<Mutant<Schema>> mutants = certainMutants();
+
+        VirtualPrefilterTechnique technique = technique(new SQLiteDBMS(), mutants);
+        technique.setAudit(0, 0);
+        long interactions = databaseInteractor.getTotalInteractions();
+        AnalysisResult virtualResult = technique.analyse(originalResults);
+        assertEquals("No mutants should be audited with a rate of 0",
+                interactions, databaseInteractor.getTotalInteractions());
+
+        technique = technique(new SQLiteDBMS(), mutants);
+        technique.setAudit(1, 0);
+        AnalysisResult auditedResult = technique.analyse(originalResults);
+        assertTrue("Every mutant should be audited with a rate of 1",
+                databaseInteractor.getTotalInteractions() > interactions);
+        assertSameMutants(virtualResult.getKilled(), auditedResult.getKilled());
+        assertSameMutants(virtualResult.getLive(), auditedResult.getLive());
+    }
+
+    @Test
+    public void testSubsumptionGraphForwarded() {
+        TestSuiteResult originalResults = createInteractorAndExecuteOriginal();
+        List<Mutant<Schema>> mutants = certainMutants();
+        VirtualPrefilterTechnique technique = technique(new SQLiteDBMS(), mutants);
+        technique.setAudit(1, 0);
+        technique.setUseSubsumption(true);
+        technique.analyse(originalResults);
+
+        MutantSubsumptionGraph graph = technique.getSubsumptionGraph();
+        for (Mutant<Schema> mutant : mutants) {
+            assertTrue("Mutants analysed on the DBMS should be added to the subsumption graph",
+                    graph.getKillingTestCases(mutant) != null || graph.getSubsumingMutant(mutant) != null);
+        }
+        assertNotNull(graph.getKillingTestCases(mutants.get(0)));
+    }
+}
@@ -0,0 +1,136 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.testcase;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Cell;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.logic.RelationalOperator;
+import org.schemaanalyst.mutation.analysis.executor.testcase.VirtualTestCaseExecutor;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.sqlrepresentation.expression.ColumnExpression;
+import org.schemaanalyst.sqlrepresentation.expression.ConstantExpression;
+import org.schemaanalyst.sqlrepresentation.expression.RelationalExpression;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.ConstraintSupplier;
+import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.ConstraintSupplierFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.integrityconstraint.PredicateGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.Predicate;
+import org.schemaanalyst.testgeneration.coveragecriterion.predicate.checker.PredicateCheckerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestVirtualTestCaseExecutor {
+
+    private static final int NUM_TRIALS = 500;
+
+    private static class ParentChildSchema extends Schema {
+
+        Table parent, child;
+
+        ParentChildSchema() {
+            super("ParentChildSchema");
+
+            parent = createTable("parent");
+            Column parentId = parent.createColumn("id", new IntDataType());
+            Column a = parent.createColumn("a", new IntDataType());
+            Column b = parent.createColumn("b", new IntDataType());
+            createPrimaryKeyConstraint(parent, parentId);
+            createUniqueConstraint(parent, a, b);
+            createNotNullConstraint(parent, b);
+            createCheckConstraint(parent, new RelationalExpression(
+                    new ColumnExpression(parent, a),
+                    RelationalOperator.GREATER,
+                    new ConstantExpression(new NumericValue(0))));
+
+            child = createTable("child");
+            Column childId = child.createColumn("id", new IntDataType());
+            Column parentRef = child.createColumn("parent", new IntDataType());
+            Column next = child.createColumn("next", new IntDataType());
+            createPrimaryKeyConstraint(child, childId);
+            createForeignKeyConstraint(child, parentRef, parent, parentId);
+            createForeignKeyConstraint(child, next, child, childId);
+        }
+    }
+
+    private Data randomData(Random random, ParentChildSchema schema, int maxRows) {
+        ValueFactory valueFactory = new ValueFactory();
+        Data data = new Data();
+        for (Table table : Arrays.asList(schema.parent, schema.child)) {
+            int numRows = random.nextInt(maxRows + 1);
+            for (int i = 0; i < numRows; i++) {
+                Row row = data.addRow(table, valueFactory);
+                for (Cell cell : row.getCells()) {
+                    int value = random.nextInt(5);
+                    if (value == 4) {
+                        cell.setNull(true);
+                    } else {
+                        ((NumericValue) cell.getValue()).set(value);
+                    }
+                }
+            }
+        }
+        return data;
+    }
+
+    // checks each row against the whole acceptance predicate for its table,
+    // as rows were checked before predicates were compiled and indexed
+    private List<Boolean> executeInsertsPairwise(Schema schema, ConstraintSupplier constraintSupplier, Data data, Data state) {
+        List<Boolean> results = new ArrayList<>();
+        Data runningState = state.duplicate();
+        for (Table table : data.getTables()) {
+            for (Row row : data.getRows(table)) {
+                Data rowData = new Data();
+                rowData.addRow(table, row);
+                Predicate predicate = PredicateGenerator.generatePredicate(constraintSupplier.getConstraints(schema, table));
+                boolean result = PredicateCheckerFactory.instantiate(predicate, true, rowData, runningState).check();
+                if (result) {
+                    runningState.addRow(table, row);
+                }
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private void testSameAsPairwise(String dbmsName) {
+        Random random = new Random(0);
+        ParentChildSchema schema = new ParentChildSchema();
+        DBMS dbms = DBMSFactory.instantiate(dbmsName);
+        ConstraintSupplier constraintSupplier = ConstraintSupplierFactory.instantiateConstraintSupplier(dbms);
+        VirtualTestCaseExecutor executor = new VirtualTestCaseExecutor(schema, dbms);
+
+        for (int i = 0; i < NUM_TRIALS; i++) {
+            Data state = randomData(random, schema, 3);
+            Data data = randomData(random, schema, 4);
+            TestCase testCase = new TestCase(null, data, state);
+
+            List<Boolean> expected = executeInsertsPairwise(schema, constraintSupplier, state, new Data());
+            expected.addAll(executeInsertsPairwise(schema, constraintSupplier, data, state));
+
+            assertEquals("Results should be the same for data \n" + data + "\nand state \n" + state,
+                    expected, executor.executeTestCaseBoolean(testCase));
+        }
+    }
+
+    @Test
+    public void testSameAsPairwisePostgres() {
+        testSameAsPairwise("Postgres");
+    }
+
+    @Test
+    public void testSameAsPairwiseSQLite() {
+        testSameAsPairwise("SQLite");
+    }
+}
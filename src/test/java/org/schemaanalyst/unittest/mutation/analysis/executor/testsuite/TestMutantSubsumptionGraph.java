@@ -0,0 +1,152 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.testsuite;
+
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.dbms.DBMSFactory;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.exceptions.InsertStatementException;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseResult;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.MutantSubsumptionGraph;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TestMutantSubsumptionGraph {
+
+    private static final int NUM_TRIALS = 200;
+
+    // "executes" test cases by looking up whether they kill a mutant
+    private static class KillVectorTestCaseExecutor extends TestCaseExecutor {
+
+        List<TestCase> testCases;
+        boolean[] kills;
+
+        KillVectorTestCaseExecutor(List<TestCase> testCases, boolean[] kills) {
+            super(new Schema("s"), DBMSFactory.instantiate("SQLite"), null);
+            this.testCases = testCases;
+            this.kills = kills;
+        }
+
+        @Override
+        public TestCaseResult executeTestCase(TestCase testCase) {
+            return kills[testCases.indexOf(testCase)]
+                    ? new TestCaseResult(new InsertStatementException("Killed", ""))
+                    : TestCaseResult.SuccessfulTestCaseResult;
+        }
+    }
+
+    private static Set<Integer> killSet(boolean[] kills) {
+        Set<Integer> killSet = new HashSet<>();
+        for (int i = 0; i < kills.length; i++) {
+            if (kills[i]) {
+                killSet.add(i);
+            }
+        }
+        return killSet;
+    }
+
+    private static int countDominators(boolean[][] killMatrix) {
+        Set<Set<Integer>> dominators = new HashSet<>();
+        for (boolean[] kills : killMatrix) {
+            Set<Integer> killSet = killSet(kills);
+            if (killSet.isEmpty()) {
+                continue;
+            }
+            boolean dominator = true;
+            for (boolean[] otherKills : killMatrix) {
+                Set<Integer> otherKillSet = killSet(otherKills);
+                if (!otherKillSet.isEmpty() && killSet.containsAll(otherKillSet) && !killSet.equals(otherKillSet)) {
+                    dominator = false;
+                }
+            }
+            if (dominator) {
+                dominators.add(killSet);
+            }
+        }
+        return dominators.size();
+    }
+
+    @Test
+    public void testSameAsFullKillMatrix() {
+        Random random = new Random(0);
+        for (int trial = 0; trial < NUM_TRIALS; trial++) {
+            TestSuite suite = new TestSuite();
+            List<TestCase> testCases = new ArrayList<>();
+            int numTestCases = 1 + random.nextInt(6);
+            TestSuiteResult originalResult = new TestSuiteResult();
+            for (int i = 0; i < numTestCases; i++) {
+                TestCase testCase = new TestCase(null, new Data(), new Data());
+                suite.addTestCase(testCase);
+                testCases.add(testCase);
+                originalResult.add(testCase, TestCaseResult.SuccessfulTestCaseResult);
+            }
+
+            boolean[][] killMatrix = new boolean[random.nextInt(12)][numTestCases];
+            MutantSubsumptionGraph graph = new MutantSubsumptionGraph(suite);
+            for (boolean[] kills : killMatrix) {
+                for (int i = 0; i < numTestCases; i++) {
+                    kills[i] = random.nextInt(3) == 0;
+                }
+                Mutant<Schema> mutant = new Mutant<>(new Schema("s"), "");
+                TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
+                suiteExecutor.setSubsumption(graph, mutant, originalResult);
+                TestSuiteResult result = suiteExecutor.executeTestSuite(new KillVectorTestCaseExecutor(testCases, kills), suite);
+
+                assertEquals("A mutant should be killed exactly when a test case kills it, for kills "
+                        + Arrays.toString(kills), !killSet(kills).isEmpty(), !originalResult.equals(result));
+                if (graph.getSubsumingMutant(mutant) == null) {
+                    assertEquals("An executed mutant should have its full kill vector",
+                            killSet(kills).size(), graph.getKillingTestCases(mutant).size());
+                } else {
+                    assertNull("A subsumed mutant should not have a kill vector",
+                            graph.getKillingTestCases(mutant));
+                }
+            }
+
+            assertEquals("The number of dominators should be the same as from the full kill matrix "
+                    + Arrays.deepToString(killMatrix), countDominators(killMatrix), graph.getDominators().size());
+        }
+    }
+
+    @Test
+    public void testEquivalentMutantsShareANode() {
+        TestCase t1 = new TestCase(null, new Data(), new Data());
+        TestCase t2 = new TestCase(null, new Data(), new Data());
+        TestSuite suite = new TestSuite();
+        suite.addTestCase(t1);
+        suite.addTestCase(t2);
+        Mutant<Schema> m1 = new Mutant<>(new Schema("s"), "m1");
+        Mutant<Schema> m2 = new Mutant<>(new Schema("s"), "m2");
+        Mutant<Schema> m3 = new Mutant<>(new Schema("s"), "m3");
+
+        MutantSubsumptionGraph graph = new MutantSubsumptionGraph(suite);
+        graph.addExecuted(m1, Arrays.asList(t1, t2));
+        graph.addExecuted(m2, Arrays.asList(t1, t2));
+        // Mutant.equals compares the artefacts, so the mutants are compared by identity
+        assertEquals(1, graph.getDominators().size());
+        assertSame(m1, graph.getDominators().get(0));
+        List<Mutant<Schema>> equivalentMutants = graph.getEquivalentMutants(m2);
+        assertEquals(2, equivalentMutants.size());
+        assertSame(m1, equivalentMutants.get(0));
+        assertSame(m2, equivalentMutants.get(1));
+
+        graph.addExecuted(m3, Arrays.asList(t2));
+        assertEquals(1, graph.getDominators().size());
+        assertSame("A mutant killed by fewer test cases should replace the dominator",
+                m3, graph.getDominators().get(0));
+    }
+}
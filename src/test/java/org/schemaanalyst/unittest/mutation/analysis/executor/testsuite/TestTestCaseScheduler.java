@@ -0,0 +1,104 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.testsuite;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.SchemaDelta;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestCaseScheduler;
+import org.schemaanalyst.sqlrepresentation.Column;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.sqlrepresentation.constraint.NotNullConstraint;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestTestCaseScheduler {
+
+    private TestCase t1, t2, t3;
+    private Mutant<Schema> m1, m2, m3;
+    private TestSuite suite;
+    private TestCaseScheduler scheduler;
+
+    private Mutant<Schema> mutant(String operator) {
+        Mutant<Schema> mutant = new Mutant<>(new Schema("s"), operator);
+        mutant.setSimpleDescription(operator);
+        return mutant;
+    }
+
+    // a mutant that adds a NOT NULL to a table
+    private Mutant<Schema> mutant(String operator, Table table) {
+        Mutant<Schema> mutant = mutant(operator);
+        Column column = table.getColumns().get(0);
+        mutant.setDelta(new SchemaDelta(null, 0, new NotNullConstraint(table, column), 0));
+        return mutant;
+    }
+
+    @Before
+    public void setUp() {
+        t1 = new TestCase(null, new Data(), new Data());
+        t2 = new TestCase(null, new Data(), new Data());
+        t3 = new TestCase(null, new Data(), new Data());
+        suite = new TestSuite();
+        suite.addTestCase(t1);
+        suite.addTestCase(t2);
+        suite.addTestCase(t3);
+
+        m1 = mutant("PKCColumnA");
+        m2 = mutant("PKCColumnA");
+        m3 = mutant("NNCA");
+        scheduler = new TestCaseScheduler(suite, Arrays.asList(m1, m2, m3));
+    }
+
+    @Test
+    public void testSuiteOrderWithoutKills() {
+        assertEquals("Test cases should be in suite order when nothing has been killed",
+                Arrays.asList(t1, t2, t3), scheduler.order(m1));
+    }
+
+    @Test
+    public void testKillsOfSameOperatorFirst() {
+        scheduler.recordKill(m3, t2);
+        scheduler.recordKill(m3, t2);
+        scheduler.recordKill(m1, t3);
+        assertEquals("The test case that killed a mutant of the same operator should be first",
+                Arrays.asList(t3, t2, t1), scheduler.order(m2));
+        assertEquals("The test case that killed most mutants of the same operator should be first",
+                Arrays.asList(t2, t3, t1), scheduler.order(m3));
+    }
+
+    @Test
+    public void testTotalKillsBreakTies() {
+        scheduler.recordKill(m3, t3);
+        assertEquals("Test cases should be ordered by total kills for an operator without kills",
+                Arrays.asList(t3, t1, t2), scheduler.order(m1));
+    }
+
+    @Test
+    public void testKillsOfSameTableBeforeTotalKills() {
+        Schema schema = new Schema("s");
+        Table a = schema.createTable("a");
+        a.createColumn("id", new IntDataType());
+        Table b = schema.createTable("b");
+        b.createColumn("id", new IntDataType());
+
+        Mutant<Schema> a1 = mutant("NNCA", a);
+        Mutant<Schema> a2 = mutant("UCColumnA", a);
+        Mutant<Schema> b1 = mutant("PKCColumnA", b);
+        Mutant<Schema> b2 = mutant("UCColumnA", b);
+        scheduler = new TestCaseScheduler(suite, Arrays.asList(a1, a2, b1, b2));
+        scheduler.recordKill(b1, t2);
+        scheduler.recordKill(b1, t2);
+        scheduler.recordKill(a1, t3);
+
+        assertEquals("The test case that killed a mutant of the same table should be first",
+                Arrays.asList(t3, t2, t1), scheduler.order(a2));
+        assertEquals("The test case that killed most mutants of the same table should be first",
+                Arrays.asList(t2, t3, t1), scheduler.order(b2));
+    }
+}
@@ -0,0 +1,111 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.testsuite;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.exceptions.InsertStatementException;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testcase.TestCaseResult;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestCaseScheduler;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteExecutor;
+import org.schemaanalyst.mutation.analysis.executor.testsuite.TestSuiteResult;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.util.tuple.MixedPair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class TestTestSuiteExecutor {
+
+    private TestCase t1, t2, t3;
+    private TestSuite suite;
+    private TestSuiteResult originalResult;
+    private Mutant<Schema> m1, m2;
+    private TestCaseScheduler scheduler;
+
+    // an executor that gives set results, noting the test cases executed
+    private static class StubTestCaseExecutor extends TestCaseExecutor {
+
+        private final Map<TestCase, TestCaseResult> results = new IdentityHashMap<>();
+        private final List<TestCase> executed = new ArrayList<>();
+
+        public StubTestCaseExecutor() {
+            super(new Schema("s"), new SQLiteDBMS(), null);
+        }
+
+        @Override
+        public TestCaseResult executeTestCase(TestCase testCase) {
+            executed.add(testCase);
+            TestCaseResult result = results.get(testCase);
+            return result == null ? TestCaseResult.SuccessfulTestCaseResult : result;
+        }
+    }
+
+    private Mutant<Schema> mutant(String operator) {
+        Mutant<Schema> mutant = new Mutant<>(new Schema("s"), operator);
+        mutant.setSimpleDescription(operator);
+        return mutant;
+    }
+
+    @Before
+    public void setUp() {
+        t1 = new TestCase(null, new Data(), new Data());
+        t2 = new TestCase(null, new Data(), new Data());
+        t3 = new TestCase(null, new Data(), new Data());
+        suite = new TestSuite();
+        suite.addTestCase(t1);
+        suite.addTestCase(t2);
+        suite.addTestCase(t3);
+
+        originalResult = new TestSuiteExecutor().executeTestSuite(new StubTestCaseExecutor(), suite);
+        m1 = mutant("PKCColumnA");
+        m2 = mutant("PKCColumnA");
+        scheduler = new TestCaseScheduler(suite, Arrays.asList(m1, m2));
+    }
+
+    @Test
+    public void testKilledMutantExitsEarly() {
+        StubTestCaseExecutor executor = new StubTestCaseExecutor();
+        executor.results.put(t2, new TestCaseResult(new InsertStatementException("Failed", "INSERT")));
+        TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
+        suiteExecutor.setEarlyExit(scheduler, m1, originalResult);
+        TestSuiteResult result = suiteExecutor.executeTestSuite(executor, suite);
+
+        assertEquals("Execution should stop at the test case that killed the mutant",
+                Arrays.asList(t1, t2), executor.executed);
+        assertEquals("The result should only hold the killing test case", 1, result.getResultCount());
+        assertNotEquals("The result of a killed mutant should not equal the original result",
+                originalResult, result);
+        assertEquals("The scheduler should be told which test case killed the mutant",
+                Arrays.asList(t2, t1, t3), scheduler.order(m2));
+    }
+
+    @Test
+    public void testLiveMutantResultsInSuiteOrder() {
+        scheduler.recordKill(m1, t3);
+        StubTestCaseExecutor executor = new StubTestCaseExecutor();
+        TestSuiteExecutor suiteExecutor = new TestSuiteExecutor();
+        suiteExecutor.setEarlyExit(scheduler, m2, originalResult);
+        TestSuiteResult result = suiteExecutor.executeTestSuite(executor, suite);
+
+        assertEquals("Test cases should be executed in the order of the scheduler",
+                Arrays.asList(t3, t1, t2), executor.executed);
+        assertEquals("The result of a live mutant should equal the original result", originalResult, result);
+        List<MixedPair<TestCase, TestCaseResult>> results = result.getResults();
+        assertEquals(3, results.size());
+        assertSame("The results should be in suite order", t1, results.get(0).getFirst());
+        assertSame(t2, results.get(1).getFirst());
+        assertSame(t3, results.get(2).getFirst());
+    }
+}
@@ -0,0 +1,112 @@
+package org.schemaanalyst.unittest.mutation.analysis.executor.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.schemaanalyst.data.Data;
+import org.schemaanalyst.data.NumericValue;
+import org.schemaanalyst.data.Row;
+import org.schemaanalyst.data.ValueFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.postgres.PostgresDBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.mutation.Mutant;
+import org.schemaanalyst.mutation.analysis.executor.util.MutationAnalysisJournal;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.Table;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import parsedcasestudy.BookTown;
+import parsedcasestudy.Flights;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestMutationAnalysisJournal {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DBMS dbms = new SQLiteDBMS();
+
+    private TestSuite testSuite(Schema schema, int value) {
+        Table table = schema.getTablesInOrder().get(0);
+        Data data = new Data();
+        Row row = data.addRow(table, new ValueFactory());
+        if (row.getCells().get(0).getValue() instanceof NumericValue) {
+            ((NumericValue) row.getCells().get(0).getValue()).set(value);
+        }
+        TestSuite suite = new TestSuite();
+        suite.addTestCase(new TestCase(null, data, new Data()));
+        return suite;
+    }
+
+    private Map<String, Boolean> verdicts(Object... keysAndVerdicts) {
+        Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndVerdicts.length; i += 2) {
+            verdicts.put((String) keysAndVerdicts[i], (Boolean) keysAndVerdicts[i + 1]);
+        }
+        return verdicts;
+    }
+
+    @Test
+    public void testTestSuiteKeys() {
+        String key = MutationAnalysisJournal.createTestSuiteKey(new BookTown(), dbms, testSuite(new BookTown(), 1));
+        assertEquals(key, MutationAnalysisJournal.createTestSuiteKey(new BookTown(), dbms, testSuite(new BookTown(), 1)));
+
+        assertNotEquals(key, MutationAnalysisJournal.createTestSuiteKey(new Flights(), dbms, testSuite(new BookTown(), 1)));
+        assertNotEquals(key, MutationAnalysisJournal.createTestSuiteKey(new BookTown(), new PostgresDBMS(), testSuite(new BookTown(), 1)));
+        assertNotEquals(key, MutationAnalysisJournal.createTestSuiteKey(new BookTown(), dbms, testSuite(new BookTown(), 2)));
+        assertNotEquals(key, MutationAnalysisJournal.createTestSuiteKey(new BookTown(), dbms, new TestSuite()));
+    }
+
+    @Test
+    public void testMutantKeys() {
+        Mutant<Schema> mutant = new Mutant<Schema>(new BookTown(), "");
+        assertEquals("Mutants with the same schema should have the same fingerprint",
+                MutationAnalysisJournal.createMutantKey(mutant, dbms),
+                MutationAnalysisJournal.createMutantKey(new Mutant<Schema>(new BookTown(), ""), dbms));
+        assertNotEquals("Mutants with different schemas should have different fingerprints",
+                MutationAnalysisJournal.createMutantKey(mutant, dbms),
+                MutationAnalysisJournal.createMutantKey(new Mutant<Schema>(new Flights(), ""), dbms));
+    }
+
+    @Test
+    public void testAppendAndRead() {
+        String m1 = MutationAnalysisJournal.createMutantKey(new Mutant<Schema>(new BookTown(), ""), dbms);
+        String m2 = MutationAnalysisJournal.createMutantKey(new Mutant<Schema>(new Flights(), ""), dbms);
+        File directory = new File(folder.getRoot(), "journal");
+        MutationAnalysisJournal journal = new MutationAnalysisJournal(directory, "key");
+        assertTrue("A journal that does not exist should have no verdicts", journal.read().isEmpty());
+
+        journal.append(verdicts(m1, true));
+        journal.append(verdicts(m2, false));
+        assertEquals(verdicts(m1, true, m2, false), journal.read());
+        assertEquals("A journal with another key should have no verdicts",
+                0, new MutationAnalysisJournal(directory, "otherkey").read().size());
+
+        journal.clear();
+        assertFalse(journal.getFile().exists());
+        assertTrue("A cleared journal should have no verdicts", journal.read().isEmpty());
+    }
+
+    @Test
+    public void testPartialLineIgnored() throws IOException {
+        String m1 = MutationAnalysisJournal.createMutantKey(new Mutant<Schema>(new BookTown(), ""), dbms);
+        String m2 = MutationAnalysisJournal.createMutantKey(new Mutant<Schema>(new Flights(), ""), dbms);
+        MutationAnalysisJournal journal = new MutationAnalysisJournal(folder.getRoot(), "key");
+        journal.append(verdicts(m1, false));
+        try (FileWriter writer = new FileWriter(journal.getFile(), true)) {
+            writer.write(m2.substring(0, 10));
+        }
+        assertEquals("A partially written line should be ignored", verdicts(m1, false), journal.read());
+    }
+}
@@ -5,7 +5,9 @@ package org.schemaanalyst.unittest.mutation.equivalence;
 import org.junit.Test;
 import org.schemaanalyst.data.NumericValue;
 import org.schemaanalyst.logic.RelationalOperator;
+import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.equivalence.*;
+import org.schemaanalyst.mutation.pipeline.ICST2013NoRemoversPipeline;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
@@ -15,6 +17,14 @@ import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
 import org.schemaanalyst.sqlrepresentation.expression.ColumnExpression;
 import org.schemaanalyst.sqlrepresentation.expression.ConstantExpression;
 import org.schemaanalyst.sqlrepresentation.expression.RelationalExpression;
+import parsedcasestudy.BookTown;
+import parsedcasestudy.NistWeather;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.*;
 
@@ -343,4 +353,36 @@ public class TestSchemaEquivalenceChecker {
         assertTrue("Adding a not null should be able to make two otherwise "
                 + "identical schemas equivalent", tester.areEquivalent(s1, s2));
     }
+
+    @Test
+    public void testFingerprintsOfEquivalentSchemasAreEqual() {
+        SchemaEquivalenceChecker tester = new SchemaEquivalenceChecker();
+        for (Schema schema : Arrays.<Schema>asList(new BookTown(), new NistWeather())) {
+            List<Schema> schemas = new ArrayList<>();
+            schemas.add(schema);
+            for (Mutant<Schema> mutant : new ICST2013NoRemoversPipeline(schema).mutate()) {
+                schemas.add(mutant.getMutatedArtefact());
+            }
+            // copies are equivalent but share no objects with the originals
+            for (Schema mutatedSchema : new ArrayList<>(schemas)) {
+                schemas.add(mutatedSchema.duplicate());
+            }
+
+            Set<Integer> fingerprints = new HashSet<>();
+            int numEquivalentPairs = 0;
+            for (Schema a : schemas) {
+                fingerprints.add(tester.fingerprint(a));
+                for (Schema b : schemas) {
+                    if (a != b && tester.areEquivalent(a, b)) {
+                        numEquivalentPairs++;
+                        assertEquals("Equivalent schemas should have the same fingerprint:\n" + a + "\n" + b,
+                                tester.fingerprint(a), tester.fingerprint(b));
+                    }
+                }
+            }
+            assertTrue("Each schema should be equivalent to its copy", numEquivalentPairs >= schemas.size());
+            assertTrue("Most of the mutants of " + schema.getName() + " should have different fingerprints",
+                    fingerprints.size() > schemas.size() / 4);
+        }
+    }
 }
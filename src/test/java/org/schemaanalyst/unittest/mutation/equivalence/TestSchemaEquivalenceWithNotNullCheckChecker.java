@@ -6,7 +6,9 @@ import org.junit.Test;
 import org.schemaanalyst.data.BooleanValue;
 import org.schemaanalyst.data.NumericValue;
 import org.schemaanalyst.logic.RelationalOperator;
+import org.schemaanalyst.mutation.Mutant;
 import org.schemaanalyst.mutation.equivalence.*;
+import org.schemaanalyst.mutation.pipeline.ICST2013NoRemoversPipeline;
 import org.schemaanalyst.sqlrepresentation.Column;
 import org.schemaanalyst.sqlrepresentation.Schema;
 import org.schemaanalyst.sqlrepresentation.Table;
@@ -14,6 +16,14 @@ import org.schemaanalyst.sqlrepresentation.constraint.*;
 import org.schemaanalyst.sqlrepresentation.datatype.CharDataType;
 import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
 import org.schemaanalyst.sqlrepresentation.expression.*;
+import parsedcasestudy.BookTown;
+import parsedcasestudy.NistWeather;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.*;
 
@@ -514,4 +524,36 @@ public class TestSchemaEquivalenceWithNotNullCheckChecker {
         assertEquals(2, tester.flatten(expr6).size());
         assertEquals(2, tester.flatten(expr7).size());
     }
+
+    @Test
+    public void testFingerprintsOfEquivalentSchemasAreEqual() {
+        SchemaEquivalenceChecker tester = new SchemaEquivalenceWithNotNullCheckChecker();
+        for (Schema schema : Arrays.<Schema>asList(new BookTown(), new NistWeather())) {
+            List<Schema> schemas = new ArrayList<>();
+            schemas.add(schema);
+            for (Mutant<Schema> mutant : new ICST2013NoRemoversPipeline(schema).mutate()) {
+                schemas.add(mutant.getMutatedArtefact());
+            }
+            // copies are equivalent but share no objects with the originals
+            for (Schema mutatedSchema : new ArrayList<>(schemas)) {
+                schemas.add(mutatedSchema.duplicate());
+            }
+
+            Set<Integer> fingerprints = new HashSet<>();
+            int numEquivalentPairs = 0;
+            for (Schema a : schemas) {
+                fingerprints.add(tester.fingerprint(a));
+                for (Schema b : schemas) {
+                    if (a != b && tester.areEquivalent(a, b)) {
+                        numEquivalentPairs++;
+                        assertEquals("Equivalent schemas should have the same fingerprint:\n" + a + "\n" + b,
+                                tester.fingerprint(a), tester.fingerprint(b));
+                    }
+                }
+            }
+            assertTrue("Each schema should be equivalent to its copy", numEquivalentPairs >= schemas.size());
+            assertTrue("Most of the mutants of " + schema.getName() + " should have different fingerprints",
+                    fingerprints.size() > schemas.size() / 4);
+        }
+    }
 }
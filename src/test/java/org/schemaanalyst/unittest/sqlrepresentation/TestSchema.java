@@ -15,6 +15,7 @@ import org.schemaanalyst.util.java.JavaUtils;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -384,6 +385,105 @@ public class TestSchema {
         		s2.getUniqueConstraints().get(1).getTable(), t2);           
     }
     
+    @Test
+    public void testShallowDuplication() {
+        Schema s = new Schema("s");
+        Table t1 = s.createTable("t1");
+        Column c1 = t1.createColumn("c1", new IntDataType());
+        Column c2 = t1.createColumn("c2", new IntDataType());
+        PrimaryKeyConstraint pk = s.createPrimaryKeyConstraint(t1, c1);
+        NotNullConstraint nn = s.createNotNullConstraint(t1, c2);
+
+        Schema duplicate = s.shallowDuplicate();
+        assertEquals(s, duplicate);
+        assertEquals(s.duplicate().getConstraints(), duplicate.getConstraints());
+        assertSame(t1, duplicate.getTable("t1"));
+        assertSame(pk, duplicate.getPrimaryKeyConstraint(t1));
+
+        // adding and removing constraints does not affect the original
+        duplicate.removeNotNullConstraint(nn);
+        duplicate.createNotNullConstraint(t1, c1);
+        assertEquals(Arrays.asList(nn), s.getNotNullConstraints(t1));
+
+        // an unshared constraint can be changed without affecting the original
+        PrimaryKeyConstraint duplicatePk = duplicate.unshare(duplicate.getPrimaryKeyConstraint(t1));
+        assertNotSame(pk, duplicatePk);
+        assertSame(duplicatePk, duplicate.getPrimaryKeyConstraint(t1));
+        assertSame(duplicatePk, duplicate.unshare(duplicatePk));
+        duplicatePk.setColumns(Arrays.asList(c2));
+        assertEquals(Arrays.asList(c1), s.getPrimaryKeyConstraint(t1).getColumns());
+        assertEquals(Arrays.asList(c2), duplicate.getPrimaryKeyConstraint(t1).getColumns());
+
+        // constraints of a schema that does not share its components are not copied
+        assertSame(pk, s.unshare(pk));
+    }
+
+    @Test
+    public void testUnshareAll() {
+        Schema s = new Schema("s");
+        Table t1 = s.createTable("t1");
+        Column c1 = t1.createColumn("c1", new IntDataType());
+        Table t2 = s.createTable("t2");
+        Column c2 = t2.createColumn("c2", new IntDataType());
+        s.createPrimaryKeyConstraint("pk", t2, c2);
+        s.createForeignKeyConstraint("fk", t1, c1, t2, c2);
+
+        Schema duplicate = s.shallowDuplicate();
+        duplicate.unshareAll();
+        assertEquals(s, duplicate);
+        assertNotSame(t1, duplicate.getTable("t1"));
+        assertEquals(Arrays.asList(duplicate.getTable("t2"), duplicate.getTable("t1")),
+                duplicate.getTablesInOrder());
+
+        // tables and constraints can now be renamed without affecting the original
+        duplicate.getTable("t1").setName("mutant_t1");
+        for (Constraint constraint : duplicate.getConstraints()) {
+            constraint.setName("mutant_" + constraint.getName());
+        }
+        assertTrue(duplicate.hasTable("mutant_t1"));
+        assertTrue(s.hasTable("t1"));
+        assertEquals("t1", t1.getName());
+        assertEquals("pk", s.getPrimaryKeyConstraint(t2).getName());
+        assertEquals("fk", s.getForeignKeyConstraints(t1).get(0).getName());
+    }
+
+    @Test
+    public void testRemoveAndAddConstraintAtPosition() {
+        Schema s = new Schema("s");
+        Table t1 = s.createTable("t1");
+        Column c1 = t1.createColumn("c1", new IntDataType());
+        Table t2 = s.createTable("t2");
+        Column c2 = t2.createColumn("c2", new IntDataType());
+        UniqueConstraint u1 = s.createUniqueConstraint(t1, c1);
+        UniqueConstraint u2 = s.createUniqueConstraint(t2, c2);
+        UniqueConstraint u3 = s.createUniqueConstraint(t1, c1);
+        PrimaryKeyConstraint pk = s.createPrimaryKeyConstraint(t1, c1);
+
+        // constraints are found by identity, and positioned within their table
+        assertEquals(-1, s.removeConstraint(new UniqueConstraint(t1, c1)));
+        assertEquals(1, s.getConstraintPosition(u3));
+        assertEquals(1, s.removeConstraint(u3));
+        assertEquals(-1, s.getConstraintPosition(u3));
+        assertEquals(0, s.removeConstraint(u1));
+        assertEquals(Arrays.asList(u2), s.getUniqueConstraints());
+        s.addConstraint(0, u3);
+        s.addConstraint(0, u1);
+        assertEquals(Arrays.asList(u1, u3), s.getUniqueConstraints(t1));
+        s.addConstraint(5, new UniqueConstraint(t2, c2));
+        assertEquals(2, s.getUniqueConstraints(t2).size());
+
+        assertEquals(0, s.removeConstraint(pk));
+        assertFalse(s.hasPrimaryKeyConstraint(t1));
+        s.addConstraint(0, pk);
+        assertSame(pk, s.getPrimaryKeyConstraint(t1));
+        try {
+            s.addConstraint(0, new PrimaryKeyConstraint(t1, c1));
+            fail("A table cannot have two PRIMARY KEYs");
+        } catch (SQLRepresentationException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testConnectedTablesNoConnections() { 
     	Schema s = new Schema("s");    	
@@ -431,6 +531,85 @@ public class TestSchema {
     			tables.contains(t4));    
     }
 
+    @Test
+    public void testConstraintsAfterChanges() {
+        Schema s = new Schema("s");
+        Table t1 = s.createTable("t1");
+        Column c1 = t1.createColumn("c1", new IntDataType());
+        Table t2 = s.createTable("t2");
+        Column c2 = t2.createColumn("c2", new IntDataType());
+
+        assertFalse(s.hasPrimaryKeyConstraint(t1));
+        assertEquals(0, s.getNotNullConstraints(t1).size());
+
+        PrimaryKeyConstraint pk = s.createPrimaryKeyConstraint(t1, c1);
+        NotNullConstraint nn1 = s.createNotNullConstraint(t1, c1);
+        NotNullConstraint nn2 = s.createNotNullConstraint(t2, c2);
+        assertSame(pk, s.getPrimaryKeyConstraint(t1));
+        assertNull(s.getPrimaryKeyConstraint(t2));
+        assertEquals(1, s.getNotNullConstraints(t1).size());
+        assertSame(nn1, s.getNotNullConstraints(t1).get(0));
+        assertSame(nn2, s.getNotNullConstraints(t2).get(0));
+
+        // renaming a table or changing its columns must not lose its constraints
+        t1.setName("t1_renamed");
+        t1.createColumn("c3", new IntDataType());
+        assertSame(pk, s.getPrimaryKeyConstraint(t1));
+        assertSame(nn1, s.getNotNullConstraints(t1).get(0));
+
+        s.removePrimaryKeyConstraint(t1);
+        s.removeNotNullConstraint(nn1);
+        assertFalse(s.hasPrimaryKeyConstraint(t1));
+        assertEquals(0, s.getNotNullConstraints(t1).size());
+        assertSame(nn2, s.getNotNullConstraints(t2).get(0));
+
+        // the constraints returned are copies that can be changed freely
+        s.getNotNullConstraints(t2).clear();
+        assertEquals(1, s.getNotNullConstraints(t2).size());
+    }
+
+    @Test
+    public void testConstraintsOfTableOfDuplicate() {
+        Schema s = new Schema("s");
+        Table t = s.createTable("t");
+        Column c = t.createColumn("c", new IntDataType());
+        UniqueConstraint uc = s.createUniqueConstraint(t, c);
+
+        Schema duplicate = s.duplicate();
+        Table duplicateTable = duplicate.getTable("t");
+        assertNotSame(t, duplicateTable);
+        assertEquals(1, s.getUniqueConstraints(duplicateTable).size());
+        assertSame(uc, s.getUniqueConstraints(duplicateTable).get(0));
+    }
+
+    @Test
+    public void testTablesInOrderAfterChanges() {
+        Schema s = new Schema("s");
+        Table t1 = s.createTable("t1");
+        Column c1 = t1.createColumn("c1", new IntDataType());
+        Table t2 = s.createTable("t2");
+        Column c2 = t2.createColumn("c2", new IntDataType());
+
+        assertEquals(Arrays.asList(t1, t2), s.getTablesInOrder());
+        assertEquals(Arrays.asList(t2, t1), s.getTablesInReverseOrder());
+        assertTrue(s.getConnectedTables(t1).isEmpty());
+
+        ForeignKeyConstraint fk = s.createForeignKeyConstraint(t1, c1, t2, c2);
+        assertEquals(Arrays.asList(t2, t1), s.getTablesInOrder());
+        assertEquals(Arrays.asList(t1, t2), s.getTablesInReverseOrder());
+        assertEquals(Arrays.asList(t2), s.getConnectedTables(t1));
+
+        Table t3 = s.createTable("t3");
+        Column c3 = t3.createColumn("c3", new IntDataType());
+        s.createForeignKeyConstraint(t2, c2, t3, c3);
+        assertEquals(Arrays.asList(t3, t2, t1), s.getTablesInOrder());
+        assertEquals(Arrays.asList(t2, t3), s.getConnectedTables(t1));
+
+        s.removeForeignKeyConstraint(fk);
+        assertEquals(Arrays.asList(t1, t3, t2), s.getTablesInOrder());
+        assertTrue(s.getConnectedTables(t1).isEmpty());
+    }
+
     @Test
     public void testParsedCaseStudies() throws InstantiationException,
             IllegalAccessException, ClassNotFoundException {
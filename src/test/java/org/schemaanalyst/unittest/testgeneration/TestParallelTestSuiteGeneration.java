@@ -0,0 +1,88 @@
+package org.schemaanalyst.unittest.testgeneration;
+
+import org.junit.Test;
+import org.schemaanalyst.data.generation.DataGeneratorFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.testgeneration.DataGenerationResult;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestGenerationException;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirement;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import parsedcasestudy.BookTown;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestParallelTestSuiteGeneration {
+
+    private static final String DATA_GENERATOR = "avsDefaults";
+    private static final long RANDOM_SEED = 0;
+    private static final int MAX_EVALUATIONS = 10000;
+
+    private Schema schema = new BookTown();
+    private DBMS dbms = new SQLiteDBMS();
+
+    private TestRequirements generateTestRequirements() {
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                "ClauseAICC", schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+        return testRequirements;
+    }
+
+    private TestSuiteGenerator makeGenerator(TestRequirements testRequirements, int numThreads) {
+        TestSuiteGenerator generator = new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(),
+                DataGeneratorFactory.instantiate(DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS, schema));
+        generator.setParallelGeneration(DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS, numThreads);
+        return generator;
+    }
+
+    @Test
+    public void testSameTestSuiteForDifferentNumbersOfThreads() {
+        TestRequirements testRequirements = generateTestRequirements();
+
+        TestSuiteGenerator oneThreadGenerator = makeGenerator(testRequirements, 1);
+        TestSuite oneThreadTestSuite = oneThreadGenerator.generate();
+        TestSuiteGenerator fourThreadsGenerator = makeGenerator(testRequirements, 4);
+        TestSuite fourThreadsTestSuite = fourThreadsGenerator.generate();
+
+        List<TestCase> oneThreadTestCases = oneThreadTestSuite.getTestCases();
+        List<TestCase> fourThreadsTestCases = fourThreadsTestSuite.getTestCases();
+        assertEquals(oneThreadTestCases.size(), fourThreadsTestCases.size());
+        for (int i = 0; i < oneThreadTestCases.size(); i++) {
+            TestCase oneThreadTestCase = oneThreadTestCases.get(i);
+            TestCase fourThreadsTestCase = fourThreadsTestCases.get(i);
+            assertEquals(oneThreadTestCase.getTestRequirement(), fourThreadsTestCase.getTestRequirement());
+            assertEquals(oneThreadTestCase.getState().toString(), fourThreadsTestCase.getState().toString());
+            assertEquals(oneThreadTestCase.getData().toString(), fourThreadsTestCase.getData().toString());
+        }
+
+        TestSuiteGenerationReport oneThreadReport = oneThreadGenerator.getTestSuiteGenerationReport();
+        TestSuiteGenerationReport fourThreadsReport = fourThreadsGenerator.getTestSuiteGenerationReport();
+        for (TestRequirement testRequirement : testRequirements.getTestRequirements()) {
+            DataGenerationResult oneThreadResult = oneThreadReport.getDataGenerationResult(testRequirement);
+            DataGenerationResult fourThreadsResult = fourThreadsReport.getDataGenerationResult(testRequirement);
+
+            if (oneThreadResult == null) {
+                assertEquals(null, fourThreadsResult);
+            } else {
+                assertEquals(oneThreadResult.getReport().isSuccess(), fourThreadsResult.getReport().isSuccess());
+                assertEquals(oneThreadResult.getReport().getNumEvaluations(), fourThreadsResult.getReport().getNumEvaluations());
+            }
+        }
+        assertEquals(oneThreadReport.getNumTestRequirementsCovered(), fourThreadsReport.getNumTestRequirementsCovered());
+    }
+
+    @Test(expected = TestGenerationException.class)
+    public void testInvalidNumberOfThreads() {
+        makeGenerator(generateTestRequirements(), 0);
+    }
+}
@@ -0,0 +1,122 @@
+package org.schemaanalyst.unittest.testgeneration;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.schemaanalyst.data.generation.DataGeneratorFactory;
+import org.schemaanalyst.dbms.DBMS;
+import org.schemaanalyst.dbms.postgres.PostgresDBMS;
+import org.schemaanalyst.dbms.sqlite.SQLiteDBMS;
+import org.schemaanalyst.sqlrepresentation.Schema;
+import org.schemaanalyst.sqlrepresentation.datatype.IntDataType;
+import org.schemaanalyst.testgeneration.TestCase;
+import org.schemaanalyst.testgeneration.TestSuite;
+import org.schemaanalyst.testgeneration.TestSuiteCache;
+import org.schemaanalyst.testgeneration.TestSuiteGenerationReport;
+import org.schemaanalyst.testgeneration.TestSuiteGenerator;
+import org.schemaanalyst.testgeneration.coveragecriterion.CoverageCriterionFactory;
+import org.schemaanalyst.testgeneration.coveragecriterion.TestRequirements;
+import parsedcasestudy.BookTown;
+import parsedcasestudy.Flights;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TestTestSuiteCache {
+
+    private static final String CRITERION = "ClauseAICC";
+    private static final String DATA_GENERATOR = "avsDefaults";
+    private static final long RANDOM_SEED = 0;
+    private static final int MAX_EVALUATIONS = 10000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Schema schema = new BookTown();
+    private DBMS dbms = new SQLiteDBMS();
+
+    private String createKey() {
+        return TestSuiteCache.createKey(schema, dbms, CRITERION, DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS);
+    }
+
+    @Test
+    public void testKeys() {
+        String key = createKey();
+        assertEquals(key, createKey());
+        assertEquals(key, TestSuiteCache.createKey(new BookTown(), dbms, CRITERION, DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS));
+
+        assertNotEquals(key, TestSuiteCache.createKey(new Flights(), dbms, CRITERION, DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS));
+        assertNotEquals(key, TestSuiteCache.createKey(schema, new PostgresDBMS(), CRITERION, DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS));
+        assertNotEquals(key, TestSuiteCache.createKey(schema, dbms, "CondAICC", DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS));
+        assertNotEquals(key, TestSuiteCache.createKey(schema, dbms, CRITERION, "random", RANDOM_SEED, MAX_EVALUATIONS));
+        assertNotEquals(key, TestSuiteCache.createKey(schema, dbms, CRITERION, DATA_GENERATOR, RANDOM_SEED + 1, MAX_EVALUATIONS));
+        assertNotEquals(key, TestSuiteCache.createKey(schema, dbms, CRITERION, DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS + 1));
+        assertEquals(key, TestSuiteCache.createKey(schema, dbms, CRITERION, DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS, false));
+        assertNotEquals(key, TestSuiteCache.createKey(schema, dbms, CRITERION, DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS, true));
+    }
+
+    @Test
+    public void testKeyChangesWithSchemaStructure() {
+        String key = createKey();
+        schema.getTable("books").getColumn("title").setDataType(new IntDataType());
+        assertNotEquals(key, createKey());
+    }
+
+    @Test
+    public void testPutAndGet() throws IOException {
+        TestRequirements testRequirements = CoverageCriterionFactory.instantiateSchemaCriterion(
+                CRITERION, schema, dbms).generateRequirements();
+        testRequirements.filterInfeasible();
+        testRequirements.reduce();
+
+        TestSuiteGenerator generator = new TestSuiteGenerator(
+                schema, testRequirements, dbms.getValueFactory(),
+                DataGeneratorFactory.instantiate(DATA_GENERATOR, RANDOM_SEED, MAX_EVALUATIONS, schema));
+        TestSuite testSuite = generator.generate();
+        TestSuiteGenerationReport report = generator.getTestSuiteGenerationReport();
+
+        TestSuiteCache cache = new TestSuiteCache(new File(folder.getRoot(), "cache"));
+        String key = createKey();
+        assertNull(cache.get(key));
+
+        cache.put(key, testSuite, report, 1234);
+        TestSuiteCache.Entry entry = new TestSuiteCache(new File(folder.getRoot(), "cache")).get(key);
+        assertNotNull(entry);
+
+        List<TestCase> testCases = testSuite.getTestCases();
+        List<TestCase> cachedTestCases = entry.getTestSuite().getTestCases();
+        assertEquals(testCases.size(), cachedTestCases.size());
+        for (int i = 0; i < testCases.size(); i++) {
+            assertEquals(testCases.get(i).getTestRequirement().toString(), cachedTestCases.get(i).getTestRequirement().toString());
+            assertSame("Results should be the canonical Boolean instances, as they are compared by identity",
+                    testCases.get(i).getTestRequirement().getResult(), cachedTestCases.get(i).getTestRequirement().getResult());
+            assertEquals(testCases.get(i).getState().toString(), cachedTestCases.get(i).getState().toString());
+            assertEquals(testCases.get(i).getData().toString(), cachedTestCases.get(i).getData().toString());
+        }
+
+        TestSuiteGenerationReport cachedReport = entry.getTestSuiteGenerationReport();
+        assertEquals(report.getNumTestRequirementsAttempted(), cachedReport.getNumTestRequirementsAttempted());
+        assertEquals(report.getNumTestRequirementsCovered(), cachedReport.getNumTestRequirementsCovered());
+        assertEquals(report.getNumEvaluations(false), cachedReport.getNumEvaluations(false));
+        assertEquals(report.getNumEvaluations(true), cachedReport.getNumEvaluations(true));
+        assertEquals("The generation time should be stored", 1234, entry.getGenerationTime());
+    }
+
+    @Test
+    public void testUnreadableEntryIgnored() throws IOException {
+        TestSuiteCache cache = new TestSuiteCache(folder.getRoot());
+        String key = createKey();
+        try (FileWriter writer = new FileWriter(new File(folder.getRoot(), key + ".testsuite"))) {
+            writer.write("not a test suite");
+        }
+        assertNull(cache.get(key));
+    }
+}